@@ -33,6 +33,7 @@ import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.smarthome.core.thing.Thing;
+import org.openhab.binding.amazonechocontrol.internal.RefreshScheduler.EndpointStatistics;
 import org.openhab.binding.amazonechocontrol.internal.handler.AccountHandler;
 import org.openhab.binding.amazonechocontrol.internal.jsons.JsonBluetoothStates;
 import org.openhab.binding.amazonechocontrol.internal.jsons.JsonBluetoothStates.BluetoothState;
@@ -288,6 +289,10 @@ public class AccountServlet extends HttpServlet {
                     handleDevices(resp, connection);
                     return;
                 }
+                if (baseUrl.equals("/statistics") || baseUrl.equals("/statistics/")) {
+                    handleStatistics(resp);
+                    return;
+                }
                 if (baseUrl.equals("/changeDomain") || baseUrl.equals("/changeDomain/")) {
                     handleChangeDomain(resp, connection);
                     return;
@@ -380,6 +385,10 @@ public class AccountServlet extends HttpServlet {
         html.append(" <a href='");
         html.append(servletUrl);
         html.append("/changeDomain'>Change</a>");
+        // request statistics
+        html.append("<br><a href='" + servletUrl + "/statistics' >");
+        html.append(StringEscapeUtils.escapeHtml("Request statistics"));
+        html.append("</a>");
 
         // paper ui link
         html.append("<br><a href='/paperui/index.html#/configuration/things/view/" + BINDING_ID + ":"
@@ -418,6 +427,32 @@ public class AccountServlet extends HttpServlet {
         createPageEndAndSent(resp, html);
     }
 
+    private void handleStatistics(HttpServletResponse resp) {
+        StringBuilder html = createPageStart("Request Statistics");
+        html.append(
+                "<table><tr><th align='left'>Endpoint</th><th align='right'>Requests</th><th align='right'>Errors</th><th align='right'>Cache Hits</th><th align='right'>Merged</th><th align='right'>Avg. Latency (ms)</th><th align='right'>Max. Latency (ms)</th></tr>");
+        for (Map.Entry<String, EndpointStatistics> entry : account.getRefreshStatistics().entrySet()) {
+            EndpointStatistics statistics = entry.getValue();
+            html.append("<tr><td>");
+            html.append(StringEscapeUtils.escapeHtml(entry.getKey()));
+            html.append("</td><td align='right'>");
+            html.append(statistics.getRequests());
+            html.append("</td><td align='right'>");
+            html.append(statistics.getErrors());
+            html.append("</td><td align='right'>");
+            html.append(statistics.getCacheHits());
+            html.append("</td><td align='right'>");
+            html.append(statistics.getMergedRequests());
+            html.append("</td><td align='right'>");
+            html.append(statistics.getAverageLatency());
+            html.append("</td><td align='right'>");
+            html.append(statistics.getMaxLatency());
+            html.append("</td></tr>");
+        }
+        html.append("</table>");
+        createPageEndAndSent(resp, html);
+    }
+
     private void handleDevices(HttpServletResponse resp, Connection connection) throws IOException, URISyntaxException {
         returnHtml(connection, resp,
                 "<html>" + StringEscapeUtils.escapeHtml(connection.getDeviceListJson()) + "</html>");
@@ -0,0 +1,215 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.amazonechocontrol.internal;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link RefreshScheduler} executes the requests of an account refresh on a bounded pool of worker threads.
+ * Results are cached with a time to live per resource, identical requests running at the same time are merged into
+ * one server call and latency and error counters are collected per endpoint.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RefreshScheduler {
+
+    /**
+     * Loads a resource from the amazon server
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws IOException, URISyntaxException;
+    }
+
+    /**
+     * Request counters of one endpoint
+     */
+    public static class EndpointStatistics {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong cacheHits = new AtomicLong();
+        private final AtomicLong mergedRequests = new AtomicLong();
+        private final AtomicLong totalLatency = new AtomicLong();
+        private final AtomicLong maxLatency = new AtomicLong();
+
+        void recordRequest(long latency, boolean failed) {
+            requests.incrementAndGet();
+            if (failed) {
+                errors.incrementAndGet();
+            }
+            totalLatency.addAndGet(latency);
+            maxLatency.accumulateAndGet(latency, Math::max);
+        }
+
+        public long getRequests() {
+            return requests.get();
+        }
+
+        public long getErrors() {
+            return errors.get();
+        }
+
+        public long getCacheHits() {
+            return cacheHits.get();
+        }
+
+        public long getMergedRequests() {
+            return mergedRequests.get();
+        }
+
+        public long getAverageLatency() {
+            long count = requests.get();
+            return count == 0 ? 0 : totalLatency.get() / count;
+        }
+
+        public long getMaxLatency() {
+            return maxLatency.get();
+        }
+    }
+
+    private static class CacheEntry {
+        final Object value;
+        final long expires;
+
+        CacheEntry(Object value, long expires) {
+            this.value = value;
+            this.expires = expires;
+        }
+    }
+
+    private final ExecutorService executor;
+    private final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Object>> pendingRequests = new ConcurrentHashMap<>();
+    private final Map<String, EndpointStatistics> statistics = new ConcurrentHashMap<>();
+
+    public RefreshScheduler(int maxParallelRequests) {
+        this.executor = Executors.newFixedThreadPool(maxParallelRequests);
+    }
+
+    /**
+     * Requests a resource. A cached value is returned if it is younger than the time to live, otherwise the loader is
+     * executed on the worker pool. If the same resource is already requested, the running request is shared.
+     *
+     * @param endpoint name of the endpoint, used for the statistics
+     * @param key identifies the resource within the endpoint, e.g. the serial number of a device
+     * @param timeToLive time in milliseconds the result is cached, 0 disables caching
+     * @param loader loads the resource from the server
+     * @return the future result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> request(String endpoint, String key, long timeToLive, Loader<T> loader) {
+        String cacheKey = endpoint + "/" + key;
+        EndpointStatistics endpointStatistics = statistics.computeIfAbsent(endpoint, e -> new EndpointStatistics());
+
+        CacheEntry entry = cache.get(cacheKey);
+        if (entry != null && entry.expires > System.currentTimeMillis()) {
+            endpointStatistics.cacheHits.incrementAndGet();
+            return CompletableFuture.completedFuture((T) entry.value);
+        }
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> runningRequest = pendingRequests.putIfAbsent(cacheKey, future);
+        if (runningRequest != null) {
+            endpointStatistics.mergedRequests.incrementAndGet();
+            return (CompletableFuture<T>) runningRequest;
+        }
+        try {
+            executor.execute(() -> {
+                long start = System.nanoTime();
+                try {
+                    T value = loader.load();
+                    endpointStatistics.recordRequest(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), false);
+                    if (timeToLive > 0 && value != null) {
+                        cache.put(cacheKey, new CacheEntry(value, System.currentTimeMillis() + timeToLive));
+                    }
+                    pendingRequests.remove(cacheKey, future);
+                    future.complete(value);
+                } catch (Exception e) {
+                    endpointStatistics.recordRequest(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), true);
+                    pendingRequests.remove(cacheKey, future);
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingRequests.remove(cacheKey, future);
+            future.completeExceptionally(e);
+        }
+        return (CompletableFuture<T>) future;
+    }
+
+    /**
+     * Waits for the result of a request.
+     *
+     * @param future the future returned by {@link #request(String, String, long, Loader)}
+     * @param deadline time in milliseconds since the epoch, until the result must be available
+     * @return the result
+     * @throws IOException if the request failed, timed out or the wait was interrupted
+     * @throws URISyntaxException if the request failed because of an invalid url
+     */
+    public <T> T getResult(CompletableFuture<T> future, long deadline) throws IOException, URISyntaxException {
+        try {
+            return future.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the request");
+        } catch (TimeoutException e) {
+            throw new IOException("Request timed out", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof URISyntaxException) {
+                throw (URISyntaxException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Request failed", cause);
+        }
+    }
+
+    /**
+     * Removes all cached values of an endpoint, the next request loads them from the server.
+     */
+    public void invalidate(String endpoint) {
+        String prefix = endpoint + "/";
+        cache.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    public Map<String, EndpointStatistics> getStatistics() {
+        return new TreeMap<>(statistics);
+    }
+
+    public void dispose() {
+        executor.shutdownNow();
+        cache.clear();
+        pendingRequests.clear();
+    }
+}
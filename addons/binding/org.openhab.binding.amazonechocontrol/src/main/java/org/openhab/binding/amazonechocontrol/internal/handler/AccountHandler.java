@@ -18,6 +18,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -40,6 +41,8 @@ import org.openhab.binding.amazonechocontrol.internal.Connection;
 import org.openhab.binding.amazonechocontrol.internal.ConnectionException;
 import org.openhab.binding.amazonechocontrol.internal.HttpException;
 import org.openhab.binding.amazonechocontrol.internal.IWebSocketCommandHandler;
+import org.openhab.binding.amazonechocontrol.internal.RefreshScheduler;
+import org.openhab.binding.amazonechocontrol.internal.RefreshScheduler.EndpointStatistics;
 import org.openhab.binding.amazonechocontrol.internal.WebSocketConnection;
 import org.openhab.binding.amazonechocontrol.internal.jsons.JsonActivities.Activity;
 import org.openhab.binding.amazonechocontrol.internal.jsons.JsonActivities.Activity.SourceDeviceId;
@@ -73,6 +76,14 @@ import com.google.gson.JsonSyntaxException;
 @NonNullByDefault
 public class AccountHandler extends BaseBridgeHandler implements IWebSocketCommandHandler {
 
+    // time to live of the cached server resources, the player state is always requested
+    private static final long NOTIFICATION_STATES_TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(5);
+    private static final long MUSIC_PROVIDERS_TIME_TO_LIVE = TimeUnit.HOURS.toMillis(1);
+    private static final long NOTIFICATION_SOUNDS_TIME_TO_LIVE = TimeUnit.HOURS.toMillis(1);
+    private static final long PLAYLISTS_TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(30);
+    private static final int MAX_PARALLEL_REQUESTS = 4;
+    private static final long REFRESH_TIMEOUT = TimeUnit.SECONDS.toMillis(60);
+
     private final Logger logger = LoggerFactory.getLogger(AccountHandler.class);
     private Storage<String> stateStorage;
     private @Nullable Connection connection;
@@ -89,6 +100,7 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
     private final HttpService httpService;
     private @Nullable AccountServlet accountServlet;
     private final Gson gson = new Gson();
+    private @Nullable RefreshScheduler refreshScheduler;
     int checkDataCounter;
 
     public AccountHandler(Bridge bridge, HttpService httpService, Storage<String> stateStorage) {
@@ -110,6 +122,9 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
         if (this.accountServlet == null) {
             this.accountServlet = new AccountServlet(httpService, this.getThing().getUID().getId(), this);
         }
+        if (this.refreshScheduler == null) {
+            this.refreshScheduler = new RefreshScheduler(MAX_PARALLEL_REQUESTS);
+        }
 
         updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_PENDING, "Wait for login");
 
@@ -123,6 +138,10 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
     public void handleCommand(ChannelUID channelUID, Command command) {
         logger.trace("Command '{}' received for channel '{}'", command, channelUID);
         if (command instanceof RefreshType) {
+            RefreshScheduler refreshScheduler = this.refreshScheduler;
+            if (refreshScheduler != null) {
+                refreshScheduler.invalidateAll();
+            }
             refreshData();
         }
     }
@@ -150,6 +169,17 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
         }
     }
 
+    /**
+     * Removes the cached notification states and ascending alarms, so the next check reads the values just changed.
+     */
+    void invalidateNotificationStates() {
+        RefreshScheduler refreshScheduler = this.refreshScheduler;
+        if (refreshScheduler != null) {
+            refreshScheduler.invalidate("notificationStates");
+            refreshScheduler.invalidate("ascendingAlarms");
+        }
+    }
+
     void forceCheckDataHandler() {
         this.checkData();
     }
@@ -217,6 +247,11 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
         }
         this.accountServlet = null;
         cleanup();
+        RefreshScheduler refreshScheduler = this.refreshScheduler;
+        if (refreshScheduler != null) {
+            refreshScheduler.dispose();
+        }
+        this.refreshScheduler = null;
         super.dispose();
     }
 
@@ -307,6 +342,10 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
     // used to set a valid connection from the web proxy login
     public void setConnection(@Nullable Connection connection) {
         this.connection = connection;
+        RefreshScheduler refreshScheduler = this.refreshScheduler;
+        if (refreshScheduler != null) {
+            refreshScheduler.invalidateAll();
+        }
         if (connection != null) {
             String serializedStorage = connection.serializeLoginData();
             this.stateStorage.put("sessionStorage", serializedStorage);
@@ -393,29 +432,55 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
                 updateDeviceList();
                 updateFlashBriefingHandlers();
 
-                DeviceNotificationState[] deviceNotificationStates = null;
-                AscendingAlarmModel[] ascendingAlarmModels = null;
-                JsonBluetoothStates states = null;
-                List<JsonMusicProvider> musicProviders = null;
-                if (currentConnection.getIsLoggedIn()) {
-                    // update notification states
-                    deviceNotificationStates = currentConnection.getDeviceNotificationStates();
-
-                    // update ascending alarm
-                    ascendingAlarmModels = currentConnection.getAscendingAlarm();
-
-                    // update bluetooth states
-                    states = currentConnection.getBluetoothConnectionStates();
-
-                    // update music providers
-                    if (currentConnection.getIsLoggedIn()) {
-                        try {
-                            musicProviders = currentConnection.getMusicProviders();
-                        } catch (HttpException | JsonSyntaxException | ConnectionException e) {
-                            logger.debug("Update music provider failed {}", e);
-                        }
+                RefreshScheduler refreshScheduler = this.refreshScheduler;
+                if (!currentConnection.getIsLoggedIn() || refreshScheduler == null) {
+                    return;
+                }
+                final Connection requestConnection = currentConnection;
+                long deadline = System.currentTimeMillis() + REFRESH_TIMEOUT;
+
+                // start all requests in parallel, cached results are returned immediately
+                CompletableFuture<DeviceNotificationState[]> deviceNotificationStatesRequest = refreshScheduler
+                        .request("notificationStates", "", NOTIFICATION_STATES_TIME_TO_LIVE,
+                                requestConnection::getDeviceNotificationStates);
+                CompletableFuture<AscendingAlarmModel[]> ascendingAlarmModelsRequest = refreshScheduler.request(
+                        "ascendingAlarms", "", NOTIFICATION_STATES_TIME_TO_LIVE, requestConnection::getAscendingAlarm);
+                CompletableFuture<JsonBluetoothStates> statesRequest = refreshScheduler.request("bluetoothStates", "",
+                        0, requestConnection::getBluetoothConnectionStates);
+                CompletableFuture<List<JsonMusicProvider>> musicProvidersRequest = refreshScheduler.request(
+                        "musicProviders", "", MUSIC_PROVIDERS_TIME_TO_LIVE, requestConnection::getMusicProviders);
+
+                List<EchoHandler> echoHandlers;
+                synchronized (this.echoHandlers) {
+                    echoHandlers = new ArrayList<>(this.echoHandlers);
+                }
+                Map<EchoHandler, CompletableFuture<JsonNotificationSound[]>> notificationSoundsRequests = new HashMap<>();
+                Map<EchoHandler, CompletableFuture<JsonPlaylists>> playlistsRequests = new HashMap<>();
+                for (EchoHandler child : echoHandlers) {
+                    Device device = findDeviceJson(child);
+                    String serialNumber = device != null ? device.serialNumber : null;
+                    if (device != null && serialNumber != null) {
+                        notificationSoundsRequests.put(child, refreshScheduler.request("notificationSounds",
+                                serialNumber, NOTIFICATION_SOUNDS_TIME_TO_LIVE,
+                                () -> requestConnection.getNotificationSounds(device)));
+                        playlistsRequests.put(child, refreshScheduler.request("playlists", serialNumber,
+                                PLAYLISTS_TIME_TO_LIVE, () -> requestConnection.getPlaylists(device)));
                     }
                 }
+
+                DeviceNotificationState[] deviceNotificationStates = refreshScheduler
+                        .getResult(deviceNotificationStatesRequest, deadline);
+                AscendingAlarmModel[] ascendingAlarmModels = refreshScheduler.getResult(ascendingAlarmModelsRequest,
+                        deadline);
+                JsonBluetoothStates states = refreshScheduler.getResult(statesRequest, deadline);
+                List<JsonMusicProvider> musicProviders = null;
+                try {
+                    musicProviders = refreshScheduler.getResult(musicProvidersRequest, deadline);
+                } catch (IOException | URISyntaxException | HttpException | JsonSyntaxException
+                        | ConnectionException e) {
+                    logger.debug("Update music provider failed {}", e);
+                }
+
                 // forward device information to echo handler
                 for (EchoHandler child : echoHandlers) {
                     Device device = findDeviceJson(child);
@@ -423,17 +488,22 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
                     @Nullable
                     JsonNotificationSound[] notificationSounds = null;
                     JsonPlaylists playlists = null;
-                    if (device != null && currentConnection.getIsLoggedIn()) {
-                        // update notification sounds
+                    CompletableFuture<JsonNotificationSound[]> notificationSoundsRequest = notificationSoundsRequests
+                            .get(child);
+                    if (notificationSoundsRequest != null) {
                         try {
-                            notificationSounds = currentConnection.getNotificationSounds(device);
-                        } catch (IOException | HttpException | JsonSyntaxException | ConnectionException e) {
+                            notificationSounds = refreshScheduler.getResult(notificationSoundsRequest, deadline);
+                        } catch (IOException | URISyntaxException | HttpException | JsonSyntaxException
+                                | ConnectionException e) {
                             logger.debug("Update notification sounds failed {}", e);
                         }
-                        // update playlists
+                    }
+                    CompletableFuture<JsonPlaylists> playlistsRequest = playlistsRequests.get(child);
+                    if (playlistsRequest != null) {
                         try {
-                            playlists = currentConnection.getPlaylists(device);
-                        } catch (IOException | HttpException | JsonSyntaxException | ConnectionException e) {
+                            playlists = refreshScheduler.getResult(playlistsRequest, deadline);
+                        } catch (IOException | URISyntaxException | HttpException | JsonSyntaxException
+                                | ConnectionException e) {
                             logger.debug("Update playlist failed {}", e);
                         }
                     }
@@ -471,7 +541,7 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
                 updateStatus(ThingStatus.ONLINE);
 
                 logger.debug("refresh data {} finished", getThing().getUID().getAsString());
-            } catch (HttpException | JsonSyntaxException | ConnectionException e) {
+            } catch (IOException | URISyntaxException | HttpException | JsonSyntaxException | ConnectionException e) {
                 logger.debug("refresh data fails {}", e);
             } catch (Exception e) { // this handler can be removed later, if we know that nothing else can fail.
                 logger.error("refresh data fails with unexpected error {}", e);
@@ -600,6 +670,14 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
         }
     }
 
+    public Map<String, EndpointStatistics> getRefreshStatistics() {
+        RefreshScheduler refreshScheduler = this.refreshScheduler;
+        if (refreshScheduler == null) {
+            return new HashMap<>();
+        }
+        return refreshScheduler.getStatistics();
+    }
+
     public @Nullable Connection findConnection() {
         return this.connection;
     }
@@ -650,6 +728,9 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
                 case "PUSH_ACTIVITY":
                     handlePushActivity(pushCommand.payload);
                     return;
+                case "PUSH_NOTIFICATION_CHANGE":
+                    invalidateNotificationStates();
+                    break;
                 case "PUSH_DOPPLER_CONNECTION_CHANGE":
                 case "PUSH_BLUETOOTH_STATE_CHANGE":
                     // refresh data 200ms after last command
@@ -661,9 +742,6 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
                     this.refreshAfterCommandJob = scheduler.schedule(this::refreshAfterCommand, 700,
                             TimeUnit.MILLISECONDS);
                     break;
-                case "PUSH_NOTIFICATION_CHANGE":
-                    // Currently ignored
-                    break;
                 default:
                     String payload = pushCommand.payload;
                     if (payload != null && StringUtils.isNotEmpty(payload) && payload.startsWith("{")
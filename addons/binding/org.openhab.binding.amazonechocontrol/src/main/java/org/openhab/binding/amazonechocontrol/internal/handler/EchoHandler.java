@@ -267,6 +267,7 @@ public class EchoHandler extends BaseThingHandler {
                     connection.notificationVolume(device, volume);
                     this.noticationVolumeLevel = volume;
                     waitForUpdate = -1;
+                    account.invalidateNotificationStates();
                     account.forceCheckData();
                 }
             }
@@ -275,12 +276,14 @@ public class EchoHandler extends BaseThingHandler {
                     connection.ascendingAlarm(device, false);
                     this.ascendingAlarm = false;
                     waitForUpdate = -1;
+                    account.invalidateNotificationStates();
                     account.forceCheckData();
                 }
                 if (command == OnOffType.ON) {
                     connection.ascendingAlarm(device, true);
                     this.ascendingAlarm = true;
                     waitForUpdate = -1;
+                    account.invalidateNotificationStates();
                     account.forceCheckData();
                 }
             }
@@ -0,0 +1,215 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.avmfritz.internal.util;
+
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.avmfritz.internal.ahamodel.AVMFritzBaseModel;
+import org.openhab.binding.avmfritz.internal.ahamodel.DeviceListModel;
+import org.openhab.binding.avmfritz.internal.ahamodel.DeviceModel;
+import org.openhab.binding.avmfritz.internal.ahamodel.GroupModel;
+import org.openhab.binding.avmfritz.internal.util.DeviceListDecoder.DeviceList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tests for {@link DeviceListDecoder}.
+ *
+ * @author agent - Initial contribution
+ */
+public class DeviceListDecoderTest {
+
+    private static final int BENCHMARK_REFRESHES = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(DeviceListDecoderTest.class);
+
+    //@formatter:off
+    private static final String GROUP =
+            "<group identifier=\"F0:A3:7F-900\" id=\"20000\" functionbitmask=\"6784\" fwversion=\"1.0\" manufacturer=\"AVM\" productname=\"\"><present>1</present><name>Schlafzimmer</name><switch><state>1</state><mode>manuell</mode><lock>0</lock><devicelock>0</devicelock></switch><powermeter><voltage>230051</voltage><power>0</power><energy>2087</energy></powermeter><groupinfo><masterdeviceid>17</masterdeviceid><members>17,18</members></groupinfo></group>";
+    private static final String DECT_200 =
+            "<device identifier=\"08761 0000434\" id=\"17\" functionbitmask=\"2944\" fwversion=\"03.83\" manufacturer=\"AVM\" productname=\"FRITZ!DECT 200\"><present>1</present><name>FRITZ!DECT 200 #1</name><switch><state>1</state><mode>manuell</mode><lock>0</lock><devicelock>0</devicelock></switch><powermeter><voltage>230051</voltage><power>%d</power><energy>2087</energy></powermeter><temperature><celsius>255</celsius><offset>0</offset></temperature></device>";
+    private static final String DECT_301 =
+            "<device identifier=\"08761 0000436\" id=\"21\" functionbitmask=\"320\" fwversion=\"03.50\" manufacturer=\"AVM\" productname=\"FRITZ!DECT 301\"><present>1</present><name>FRITZ!DECT 301 #1</name><temperature><celsius>220</celsius><offset>-10</offset></temperature><hkr><tist>44</tist><tsoll>42</tsoll><absenk>28</absenk><komfort>42</komfort><lock>1</lock><devicelock>1</devicelock><errorcode>0</errorcode><batterylow>0</batterylow><battery>100</battery><nextchange><endperiod>1484341200</endperiod><tchange>28</tchange></nextchange></hkr></device>";
+    private static final String DEVICE_LIST =
+            "<devicelist version=\"1\">" +
+                "<group identifier=\"F0:A3:7F-900\" id=\"20000\" functionbitmask=\"6784\" fwversion=\"1.0\" manufacturer=\"AVM\" productname=\"\"><present>1</present><name>Schlafzimmer</name><switch><state>1</state><mode>manuell</mode><lock>0</lock><devicelock>0</devicelock></switch><powermeter><voltage>230051</voltage><power>0</power><energy>2087</energy></powermeter><groupinfo><masterdeviceid>17</masterdeviceid><members>17,18</members></groupinfo></group>" +
+                "<group identifier=\"F0:A3:7F-901\" id=\"20001\" functionbitmask=\"4160\" fwversion=\"1.0\" manufacturer=\"AVM\" productname=\"\"><present>1</present><name>Schlafzimmer</name><temperature><celsius>220</celsius><offset>-10</offset></temperature><hkr><tist>44</tist><tsoll>42</tsoll><absenk>28</absenk><komfort>42</komfort><lock>1</lock><devicelock>1</devicelock><errorcode>0</errorcode><batterylow>0</batterylow><battery>100</battery><nextchange><endperiod>1484341200</endperiod><tchange>28</tchange></nextchange></hkr><groupinfo><masterdeviceid>0</masterdeviceid><members>20,21,22</members></groupinfo></group>" +
+                "<device identifier=\"08761 0000434\" id=\"17\" functionbitmask=\"2944\" fwversion=\"03.83\" manufacturer=\"AVM\" productname=\"FRITZ!DECT 200\"><present>1</present><name>FRITZ!DECT 200 #1</name><switch><state>1</state><mode>manuell</mode><lock>0</lock><devicelock>0</devicelock></switch><powermeter><voltage>230051</voltage><power>0</power><energy>2087</energy></powermeter><temperature><celsius>255</celsius><offset>0</offset></temperature></device>" +
+                "<device identifier=\"08761 0000438\" id=\"18\" functionbitmask=\"2944\" fwversion=\"03.83\" manufacturer=\"AVM\" productname=\"FRITZ!DECT 210\"><present>1</present><name>FRITZ!DECT 210 #8</name><switch><state>1</state><mode>manuell</mode><lock>0</lock><devicelock>0</devicelock></switch><powermeter><voltage>230051</voltage><power>0</power><energy>2087</energy></powermeter><temperature><celsius>255</celsius><offset>0</offset></temperature></device>" +
+                "<device identifier=\"08761 0000437\" id=\"20\" functionbitmask=\"320\" fwversion=\"03.50\" manufacturer=\"AVM\" productname=\"FRITZ!DECT 300\"><present>0</present><name>FRITZ!DECT 300 #1</name><temperature><celsius>220</celsius><offset>-10</offset></temperature><hkr><tist>44</tist><tsoll>42</tsoll><absenk>28</absenk><komfort>42</komfort><lock>1</lock><devicelock>1</devicelock><errorcode>0</errorcode><batterylow>0</batterylow><battery>100</battery><nextchange><endperiod>1484341200</endperiod><tchange>28</tchange></nextchange></hkr></device>" +
+                "<device identifier=\"08761 0000436\" id=\"21\" functionbitmask=\"320\" fwversion=\"03.50\" manufacturer=\"AVM\" productname=\"FRITZ!DECT 301\"><present>0</present><name>FRITZ!DECT 301 #1</name><temperature><celsius>220</celsius><offset>-10</offset></temperature><hkr><tist>44</tist><tsoll>42</tsoll><absenk>28</absenk><komfort>42</komfort><lock>1</lock><devicelock>1</devicelock><errorcode>0</errorcode><batterylow>0</batterylow><battery>100</battery><nextchange><endperiod>1484341200</endperiod><tchange>28</tchange></nextchange></hkr></device>" +
+                "<device identifier=\"08761 0000435\" id=\"22\" functionbitmask=\"320\" fwversion=\"03.50\" manufacturer=\"AVM\" productname=\"Comet DECT\"><present>0</present><name>Comet DECT #1</name><temperature><celsius>220</celsius><offset>-10</offset></temperature><hkr><tist>44</tist><tsoll>42</tsoll><absenk>28</absenk><komfort>42</komfort><lock>1</lock><devicelock>1</devicelock><errorcode>0</errorcode><batterylow>0</batterylow><battery>100</battery><nextchange><endperiod>1484341200</endperiod><tchange>28</tchange></nextchange></hkr></device>" +
+                "<device identifier=\"5C:49:79:F0:A3:84\" id=\"30\" functionbitmask=\"640\" fwversion=\"06.92\" manufacturer=\"AVM\" productname=\"FRITZ!Powerline 546E\"><present>1</present><name>FRITZ!Powerline 546E #1</name><switch><state>0</state><mode>manuell</mode><lock>0</lock><devicelock>1</devicelock></switch><powermeter><voltage>230051</voltage><power>0</power><energy>2087</energy></powermeter></device>" +
+                "<device identifier=\"08761 0000439\" id=\"40\" functionbitmask=\"1280\" fwversion=\"03.86\" manufacturer=\"AVM\" productname=\"FRITZ!DECT Repeater 100\"><present>1</present><name>FRITZ!DECT Repeater 100 #5</name><temperature><celsius>230</celsius><offset>0</offset></temperature></device>" +
+                "<device identifier=\"11934 0059978-1\" id=\"2000\" functionbitmask=\"8208\" fwversion=\"0.0\" manufacturer=\"0x0feb\" productname=\"HAN-FUN\"><present>0</present><name>HAN-FUN #2: Unit #2</name><etsiunitinfo><etsideviceid>406</etsideviceid><unittype>514</unittype><interfaces>256</interfaces></etsiunitinfo><alert><state>1</state></alert></device>" +
+                "<device identifier=\"11934 0059979-1\" id=\"2001\" functionbitmask=\"8200\" fwversion=\"0.0\" manufacturer=\"0x0feb\" productname=\"HAN-FUN\"><present>0</present><name>HAN-FUN #2: Unit #2</name><etsiunitinfo><etsideviceid>412</etsideviceid><unittype>273</unittype><interfaces>772</interfaces></etsiunitinfo><button><lastpressedtimestamp>1529590797</lastpressedtimestamp></button></device>" +
+            "</devicelist>";
+    //@formatter:on
+
+    private DeviceListDecoder decoder;
+
+    @Before
+    public void setUp() {
+        decoder = new DeviceListDecoder();
+    }
+
+    private String createDeviceList(int power, boolean withThermostat) {
+        return "<devicelist version=\"1\">" + GROUP + String.format(DECT_200, power) + (withThermostat ? DECT_301 : "")
+                + "</devicelist>";
+    }
+
+    @Test
+    public void decodesAllDevicesAsChangedInitially() throws JAXBException, XMLStreamException {
+        DeviceList deviceList = decoder.decode(createDeviceList(0, true));
+
+        assertEquals(3, deviceList.getDevices().size());
+        assertTrue(deviceList.getDevices().get(0) instanceof GroupModel);
+        assertTrue(deviceList.getDevices().get(1) instanceof DeviceModel);
+        assertTrue(deviceList.getDevices().get(2) instanceof DeviceModel);
+        assertEquals(new HashSet<>(Arrays.asList("F0:A3:7F-900", "087610000434", "087610000436")),
+                deviceList.getChangedIdentifiers());
+
+        AVMFritzBaseModel device = deviceList.getDevices().get(1);
+        assertEquals("FRITZ!DECT 200 #1", device.getName());
+        assertEquals(1, device.getPresent());
+        assertNotNull(device.getPowermeter());
+    }
+
+    @Test
+    public void reportsNoChangesForIdenticalDeviceList() throws JAXBException, XMLStreamException {
+        decoder.decode(createDeviceList(0, true));
+        DeviceList deviceList = decoder.decode(createDeviceList(0, true));
+
+        assertEquals(3, deviceList.getDevices().size());
+        assertTrue(deviceList.getChangedIdentifiers().isEmpty());
+        assertEquals(0, decoder.getLastChangedDevices());
+        assertEquals(2, decoder.getRefreshes());
+    }
+
+    @Test
+    public void reportsOnlyChangedDevice() throws JAXBException, XMLStreamException {
+        decoder.decode(createDeviceList(0, true));
+        DeviceList deviceList = decoder.decode(createDeviceList(1500, true));
+
+        assertEquals(3, deviceList.getDevices().size());
+        assertEquals(new HashSet<>(Arrays.asList("087610000434")), deviceList.getChangedIdentifiers());
+    }
+
+    @Test
+    public void reportsReappearingDeviceAsChanged() throws JAXBException, XMLStreamException {
+        decoder.decode(createDeviceList(0, true));
+        DeviceList deviceList = decoder.decode(createDeviceList(0, false));
+        assertEquals(2, deviceList.getDevices().size());
+        assertTrue(deviceList.getChangedIdentifiers().isEmpty());
+
+        deviceList = decoder.decode(createDeviceList(0, true));
+        assertEquals(new HashSet<>(Arrays.asList("087610000436")), deviceList.getChangedIdentifiers());
+    }
+
+    @Test
+    public void reportsNoChangesForNeighboursOfRemovedDevice() throws JAXBException, XMLStreamException {
+        decoder.decode(DEVICE_LIST);
+        DeviceList deviceList = decoder.decode(removeDevice(DEVICE_LIST, "08761 0000438"));
+
+        assertEquals(10, deviceList.getDevices().size());
+        assertTrue(deviceList.getChangedIdentifiers().isEmpty());
+    }
+
+    @Test
+    public void reportsOnlyAddedDeviceAsChanged() throws JAXBException, XMLStreamException {
+        decoder.decode(removeDevice(DEVICE_LIST, "08761 0000438"));
+        DeviceList deviceList = decoder.decode(DEVICE_LIST);
+
+        assertEquals(11, deviceList.getDevices().size());
+        assertEquals(new HashSet<>(Arrays.asList("087610000438")), deviceList.getChangedIdentifiers());
+    }
+
+    @Test
+    public void reportsNoChangesForReorderedDevices() throws JAXBException, XMLStreamException {
+        decoder.decode("<devicelist version=\"1\">" + GROUP + String.format(DECT_200, 0) + DECT_301 + "</devicelist>");
+        DeviceList deviceList = decoder
+                .decode("<devicelist version=\"1\">" + DECT_301 + String.format(DECT_200, 0) + GROUP + "</devicelist>");
+
+        assertEquals(3, deviceList.getDevices().size());
+        assertTrue(deviceList.getChangedIdentifiers().isEmpty());
+    }
+
+    @Test
+    public void reportsInvalidatedDeviceAsChanged() throws JAXBException, XMLStreamException {
+        decoder.decode(createDeviceList(0, true));
+        decoder.invalidate("087610000434");
+        DeviceList deviceList = decoder.decode(createDeviceList(0, true));
+
+        assertEquals(new HashSet<>(Arrays.asList("087610000434")), deviceList.getChangedIdentifiers());
+    }
+
+    @Test
+    public void decodesSameDevicesAsDeviceListModel() throws JAXBException, XMLStreamException {
+        Unmarshaller u = JAXBUtils.JAXBCONTEXT_DEVICES.createUnmarshaller();
+        List<AVMFritzBaseModel> expected = ((DeviceListModel) u.unmarshal(new StringReader(DEVICE_LIST)))
+                .getDevicelist();
+
+        DeviceList deviceList = decoder.decode(DEVICE_LIST);
+
+        assertEquals(11, deviceList.getDevices().size());
+        assertEquals(expected.size(), deviceList.getDevices().size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(describe(expected.get(i)), describe(deviceList.getDevices().get(i)));
+        }
+        assertEquals(expected.stream().map(AVMFritzBaseModel::getIdentifier).collect(Collectors.toSet()),
+                deviceList.getChangedIdentifiers());
+    }
+
+    @Test
+    public void benchmarkRecordedDeviceList() throws JAXBException, XMLStreamException {
+        Unmarshaller u = JAXBUtils.JAXBCONTEXT_DEVICES.createUnmarshaller();
+        decoder.decode(DEVICE_LIST);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_REFRESHES; i++) {
+            assertEquals(11, ((DeviceListModel) u.unmarshal(new StringReader(DEVICE_LIST))).getDevicelist().size());
+        }
+        long modelTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_REFRESHES; i++) {
+            DeviceList deviceList = decoder.decode(DEVICE_LIST);
+            assertEquals(11, deviceList.getDevices().size());
+            assertTrue(deviceList.getChangedIdentifiers().isEmpty());
+        }
+        long decoderTime = System.nanoTime() - start;
+
+        logger.info("Decoded recorded device list {} times: {} us per refresh with DeviceListModel, {} us per refresh "
+                + "with DeviceListDecoder", BENCHMARK_REFRESHES, modelTime / BENCHMARK_REFRESHES / 1000,
+                decoderTime / BENCHMARK_REFRESHES / 1000);
+    }
+
+    private String removeDevice(String deviceList, String identifier) {
+        int start = deviceList.indexOf("<device identifier=\"" + identifier + "\"");
+        int end = deviceList.indexOf("</device>", start) + "</device>".length();
+        return deviceList.substring(0, start) + deviceList.substring(end);
+    }
+
+    private String describe(AVMFritzBaseModel model) {
+        // ToStringBuilder includes the identity hash codes of the model objects
+        return model.toString().replaceAll("@[0-9a-f]+", "");
+    }
+}
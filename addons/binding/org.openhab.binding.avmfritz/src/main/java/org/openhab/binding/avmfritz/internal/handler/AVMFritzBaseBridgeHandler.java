@@ -24,6 +24,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -65,6 +66,7 @@ import org.openhab.binding.avmfritz.internal.hardware.FritzAhaWebInterface;
 import org.openhab.binding.avmfritz.internal.hardware.callbacks.FritzAhaApplyTemplateCallback;
 import org.openhab.binding.avmfritz.internal.hardware.callbacks.FritzAhaUpdateCallback;
 import org.openhab.binding.avmfritz.internal.hardware.callbacks.FritzAhaUpdateTemplatesCallback;
+import org.openhab.binding.avmfritz.internal.util.DeviceListDecoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -108,6 +110,11 @@ public abstract class AVMFritzBaseBridgeHandler extends BaseBridgeHandler {
      */
     private final ChannelUID applyTemplateChannelUID;
 
+    /**
+     * Decodes the device lists and keeps track of the devices whose values changed
+     */
+    private final DeviceListDecoder deviceListDecoder = new DeviceListDecoder();
+
     /**
      * Constructor
      *
@@ -217,11 +224,46 @@ public abstract class AVMFritzBaseBridgeHandler extends BaseBridgeHandler {
     }
 
     /**
-     * Called from {@link FritzAhaUpdateCallback} to provide new values for things.
+     * Provides the decoder for the device lists of this bridge.
+     *
+     * @return the device list decoder
+     */
+    public DeviceListDecoder getDeviceListDecoder() {
+        return deviceListDecoder;
+    }
+
+    /**
+     * Makes sure the next device list is passed to the thing of the given device, even if its values did not change.
+     * Called after a command changed the local state of a thing.
+     *
+     * @param ain AIN of the device
+     */
+    public void invalidateDevice(String ain) {
+        deviceListDecoder.invalidate(ain);
+    }
+
+    /**
+     * Checks if a device model has to be passed to a thing.
+     *
+     * @param thing the thing
+     * @param device the device model of the thing
+     * @param changedIdentifiers AINs of the devices whose values changed
+     * @return true if the values of the device changed or the thing did not receive them yet
+     */
+    protected boolean needsUpdate(Thing thing, AVMFritzBaseModel device, Set<String> changedIdentifiers) {
+        return changedIdentifiers.contains(device.getIdentifier()) || thing.getStatus() != ThingStatus.ONLINE
+                || (thing.getHandler() instanceof AVMFritzBaseThingHandler
+                        && ((AVMFritzBaseThingHandler) thing.getHandler()).getState() == null);
+    }
+
+    /**
+     * Called from {@link FritzAhaUpdateCallback} to provide new values for things. Only things whose device values
+     * changed are updated.
      *
      * @param deviceList list of device models
+     * @param changedIdentifiers AINs of the devices whose values changed since the last device list
      */
-    public void addDeviceList(List<AVMFritzBaseModel> deviceList) {
+    public void addDeviceList(List<AVMFritzBaseModel> deviceList, Set<String> changedIdentifiers) {
         for (Thing thing : getThing().getThings()) {
             AVMFritzBaseThingHandler handler = (AVMFritzBaseThingHandler) thing.getHandler();
             if (handler != null) {
@@ -229,6 +271,10 @@ public abstract class AVMFritzBaseBridgeHandler extends BaseBridgeHandler {
                         .filter(it -> it.getIdentifier().equals(handler.getIdentifier())).findFirst();
                 if (optionalDevice.isPresent()) {
                     AVMFritzBaseModel device = optionalDevice.get();
+                    if (!needsUpdate(thing, device, changedIdentifiers)) {
+                        logger.trace("device model of thing '{}' did not change", thing.getUID());
+                        continue;
+                    }
                     logger.debug("update thing '{}' with device model: {}", thing.getUID(), device);
                     handler.setState(device);
                     if (device.getPresent() == 1) {
@@ -497,6 +543,8 @@ public abstract class AVMFritzBaseBridgeHandler extends BaseBridgeHandler {
     }
 
     public void handleRefreshCommand() {
+        // update all things with the next device list
+        deviceListDecoder.invalidateAll();
         scheduler.submit(this::poll);
     }
 }
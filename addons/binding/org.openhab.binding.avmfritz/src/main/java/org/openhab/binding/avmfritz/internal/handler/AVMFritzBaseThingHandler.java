@@ -204,6 +204,22 @@ public abstract class AVMFritzBaseThingHandler extends BaseThingHandler {
                 logger.debug("Received unknown channel {}", channelId);
                 break;
         }
+        invalidateDevice(ain);
+    }
+
+    /**
+     * Makes sure the next device list updates this thing, even if the FRITZ!Box did not apply the command.
+     *
+     * @param ain AIN of the device
+     */
+    private void invalidateDevice(String ain) {
+        Bridge bridge = getBridge();
+        if (bridge != null) {
+            BridgeHandler handler = bridge.getHandler();
+            if (handler instanceof AVMFritzBaseBridgeHandler) {
+                ((AVMFritzBaseBridgeHandler) handler).invalidateDevice(ain);
+            }
+        }
     }
 
     /**
@@ -12,6 +12,7 @@ import static org.openhab.binding.avmfritz.internal.BindingConstants.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -69,12 +70,16 @@ public class Powerline546EHandler extends AVMFritzBaseBridgeHandler {
     }
 
     @Override
-    public void addDeviceList(List<AVMFritzBaseModel> devicelist) {
+    public void addDeviceList(List<AVMFritzBaseModel> devicelist, Set<String> changedIdentifiers) {
         Optional<AVMFritzBaseModel> optionalDevice = devicelist.stream()
                 .filter(it -> it.getIdentifier().equals(getIdentifier())).findFirst();
         if (optionalDevice.isPresent()) {
             AVMFritzBaseModel device = optionalDevice.get();
             devicelist.remove(device);
+            if (!needsUpdate(getThing(), device, changedIdentifiers) && getState() != null) {
+                super.addDeviceList(devicelist, changedIdentifiers);
+                return;
+            }
             logger.debug("update self '{}' with device model: {}", getThing().getUID(), device);
             setState(device);
             if (device.getPresent() == 1) {
@@ -86,7 +91,7 @@ public class Powerline546EHandler extends AVMFritzBaseBridgeHandler {
         } else {
             setStatusInfo(ThingStatus.OFFLINE, ThingStatusDetail.GONE, "Device not present in response");
         }
-        super.addDeviceList(devicelist);
+        super.addDeviceList(devicelist, changedIdentifiers);
     }
 
     /**
@@ -171,6 +176,7 @@ public class Powerline546EHandler extends AVMFritzBaseBridgeHandler {
                 super.handleCommand(channelUID, command);
                 break;
         }
+        invalidateDevice(ain);
     }
 
     /**
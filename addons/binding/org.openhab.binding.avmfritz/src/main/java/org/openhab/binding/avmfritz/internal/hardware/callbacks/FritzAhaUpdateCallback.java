@@ -10,17 +10,14 @@ package org.openhab.binding.avmfritz.internal.hardware.callbacks;
 
 import static org.eclipse.jetty.http.HttpMethod.GET;
 
-import java.io.StringReader;
-
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamException;
 
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
-import org.openhab.binding.avmfritz.internal.ahamodel.DeviceListModel;
 import org.openhab.binding.avmfritz.internal.handler.AVMFritzBaseBridgeHandler;
 import org.openhab.binding.avmfritz.internal.hardware.FritzAhaWebInterface;
-import org.openhab.binding.avmfritz.internal.util.JAXBUtils;
+import org.openhab.binding.avmfritz.internal.util.DeviceListDecoder.DeviceList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,16 +54,11 @@ public class FritzAhaUpdateCallback extends FritzAhaReauthCallback {
         logger.trace("Received State response {}", response);
         if (isValidRequest()) {
             try {
-                Unmarshaller u = JAXBUtils.JAXBCONTEXT_DEVICES.createUnmarshaller();
-                DeviceListModel model = (DeviceListModel) u.unmarshal(new StringReader(response));
-                if (model != null) {
-                    handler.addDeviceList(model.getDevicelist());
-                } else {
-                    logger.debug("no model in response");
-                }
+                DeviceList deviceList = handler.getDeviceListDecoder().decode(response);
+                handler.addDeviceList(deviceList.getDevices(), deviceList.getChangedIdentifiers());
                 handler.setStatusInfo(ThingStatus.ONLINE, ThingStatusDetail.NONE, null);
-            } catch (JAXBException e) {
-                logger.error("Exception creating Unmarshaller: {}", e.getLocalizedMessage(), e);
+            } catch (JAXBException | XMLStreamException e) {
+                logger.error("Exception decoding device list: {}", e.getLocalizedMessage(), e);
                 handler.setStatusInfo(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
                         e.getLocalizedMessage());
             }
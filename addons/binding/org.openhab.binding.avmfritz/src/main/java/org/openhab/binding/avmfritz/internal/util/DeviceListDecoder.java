@@ -0,0 +1,353 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.avmfritz.internal.util;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.avmfritz.internal.ahamodel.AVMFritzBaseModel;
+import org.openhab.binding.avmfritz.internal.ahamodel.DeviceModel;
+import org.openhab.binding.avmfritz.internal.ahamodel.GroupModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Streaming decoder for the response to a <b>getdevicelistinfos</b> command. The device list is read with StAX and
+ * every device or group is unmarshalled on its own by a reused {@link Unmarshaller}. While a device is read, a
+ * fingerprint of its XML content is computed, which is compared with the one of the previous response to find the
+ * devices whose values changed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class DeviceListDecoder {
+
+    private static final String ELEMENT_DEVICE = "device";
+    private static final String ELEMENT_GROUP = "group";
+
+    private final Logger logger = LoggerFactory.getLogger(DeviceListDecoder.class);
+
+    private final XMLInputFactory inputFactory;
+
+    private @Nullable Unmarshaller unmarshaller;
+
+    /**
+     * Fingerprints of the devices of the last response by AIN
+     */
+    private Map<String, Long> fingerprints = new HashMap<>();
+
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong totalParseTime = new AtomicLong();
+    private final AtomicLong maxParseTime = new AtomicLong();
+    private final AtomicLong decodedDevices = new AtomicLong();
+    private final AtomicLong changedDevices = new AtomicLong();
+    private volatile long lastParseTime;
+    private volatile int lastChangedDevices;
+
+    public DeviceListDecoder() {
+        inputFactory = XMLInputFactory.newInstance();
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    }
+
+    /**
+     * Result of decoding a device list.
+     */
+    public static class DeviceList {
+        private final List<AVMFritzBaseModel> devices;
+        private final Set<String> changedIdentifiers;
+
+        DeviceList(List<AVMFritzBaseModel> devices, Set<String> changedIdentifiers) {
+            this.devices = devices;
+            this.changedIdentifiers = changedIdentifiers;
+        }
+
+        /**
+         * @return all devices and groups of the response
+         */
+        public List<AVMFritzBaseModel> getDevices() {
+            return devices;
+        }
+
+        /**
+         * @return the AINs of the devices and groups which are new or whose values changed
+         */
+        public Set<String> getChangedIdentifiers() {
+            return changedIdentifiers;
+        }
+    }
+
+    /**
+     * Decodes a device list and compares it with the previously decoded one.
+     *
+     * @param xml response to a <b>getdevicelistinfos</b> command
+     * @return the decoded device list
+     * @throws JAXBException if a device can not be unmarshalled
+     * @throws XMLStreamException if the response is not well-formed
+     */
+    public synchronized DeviceList decode(String xml) throws JAXBException, XMLStreamException {
+        long start = System.nanoTime();
+        Unmarshaller u = getUnmarshaller();
+        List<AVMFritzBaseModel> devices = new ArrayList<>();
+        Set<String> changed = new HashSet<>();
+        Map<String, Long> current = new HashMap<>();
+
+        FingerprintingStreamReader reader = new FingerprintingStreamReader(
+                inputFactory.createXMLStreamReader(new StringReader(xml)));
+        try {
+            int event = reader.getEventType();
+            while (true) {
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    Class<? extends AVMFritzBaseModel> type = getModelType(reader.getLocalName());
+                    if (type != null) {
+                        // the unmarshaller leaves the reader on the event following the end of the device, which is
+                        // not part of the fingerprint, since it ends with the end element of the device
+                        reader.startFingerprint();
+                        AVMFritzBaseModel device = u.unmarshal(reader, type).getValue();
+                        String ain = device.getIdentifier();
+                        if (ain != null) {
+                            long fingerprint = reader.getFingerprint();
+                            current.put(ain, fingerprint);
+                            Long previous = fingerprints.get(ain);
+                            if (previous == null || previous.longValue() != fingerprint) {
+                                changed.add(ain);
+                            }
+                        }
+                        devices.add(device);
+                        event = reader.getEventType();
+                        continue;
+                    }
+                }
+                if (!reader.hasNext()) {
+                    break;
+                }
+                event = reader.next();
+            }
+        } finally {
+            reader.close();
+        }
+        fingerprints = current;
+
+        long parseTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long count = refreshes.incrementAndGet();
+        totalParseTime.addAndGet(parseTime);
+        maxParseTime.accumulateAndGet(parseTime, Math::max);
+        decodedDevices.addAndGet(devices.size());
+        changedDevices.addAndGet(changed.size());
+        lastParseTime = parseTime;
+        lastChangedDevices = changed.size();
+        logger.debug("Decoded {} devices in {} ms, {} changed (average parse time {} ms, max {} ms, {} of {} changed)",
+                devices.size(), parseTime, changed.size(), totalParseTime.get() / count, maxParseTime.get(),
+                changedDevices.get(), decodedDevices.get());
+
+        return new DeviceList(devices, Collections.unmodifiableSet(changed));
+    }
+
+    /**
+     * Forgets the fingerprint of a device, so it is reported as changed in the next device list. Used after a command
+     * changed the local state of a device.
+     *
+     * @param ain AIN of the device
+     */
+    public synchronized void invalidate(String ain) {
+        fingerprints.remove(ain);
+    }
+
+    /**
+     * Forgets all fingerprints.
+     */
+    public synchronized void invalidateAll() {
+        fingerprints.clear();
+    }
+
+    public long getRefreshes() {
+        return refreshes.get();
+    }
+
+    public long getLastParseTime() {
+        return lastParseTime;
+    }
+
+    public int getLastChangedDevices() {
+        return lastChangedDevices;
+    }
+
+    public long getAverageParseTime() {
+        long count = refreshes.get();
+        return count == 0 ? 0 : totalParseTime.get() / count;
+    }
+
+    public long getMaxParseTime() {
+        return maxParseTime.get();
+    }
+
+    public long getChangedDevices() {
+        return changedDevices.get();
+    }
+
+    public long getDecodedDevices() {
+        return decodedDevices.get();
+    }
+
+    private Unmarshaller getUnmarshaller() throws JAXBException {
+        Unmarshaller u = unmarshaller;
+        if (u == null) {
+            JAXBContext context = JAXBUtils.JAXBCONTEXT_DEVICES;
+            if (context == null) {
+                throw new JAXBException("JAXBContext for devices is not available");
+            }
+            u = context.createUnmarshaller();
+            unmarshaller = u;
+        }
+        return u;
+    }
+
+    private static @Nullable Class<? extends AVMFritzBaseModel> getModelType(String elementName) {
+        switch (elementName) {
+            case ELEMENT_DEVICE:
+                return DeviceModel.class;
+            case ELEMENT_GROUP:
+                return GroupModel.class;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * {@link XMLStreamReader} computing a FNV-1a hash of the element names, attributes and texts of the element it
+     * reads, from its start element to its end element.
+     */
+    private static class FingerprintingStreamReader extends StreamReaderDelegate {
+        private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+        private static final long FNV_PRIME = 0x100000001b3L;
+
+        private long fingerprint;
+
+        /**
+         * Whether the fingerprinted element is still read, and the depth of the current event within it
+         */
+        private boolean active;
+        private int depth;
+
+        FingerprintingStreamReader(XMLStreamReader reader) {
+            super(reader);
+        }
+
+        /**
+         * Starts a new fingerprint with the current start element.
+         */
+        void startFingerprint() {
+            fingerprint = FNV_OFFSET_BASIS;
+            active = true;
+            depth = 0;
+            update(XMLStreamConstants.START_ELEMENT);
+        }
+
+        long getFingerprint() {
+            return fingerprint;
+        }
+
+        @Override
+        public int next() throws XMLStreamException {
+            int event = super.next();
+            update(event);
+            return event;
+        }
+
+        @Override
+        public int nextTag() throws XMLStreamException {
+            // must not bypass next(), otherwise the skipped events would be missing in the fingerprint
+            int event = next();
+            while (event == XMLStreamConstants.CHARACTERS && isWhiteSpace() || event == XMLStreamConstants.SPACE
+                    || event == XMLStreamConstants.COMMENT || event == XMLStreamConstants.PROCESSING_INSTRUCTION) {
+                event = next();
+            }
+            if (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+                throw new XMLStreamException("expected start or end tag", getLocation());
+            }
+            return event;
+        }
+
+        @Override
+        public String getElementText() throws XMLStreamException {
+            StringBuilder text = new StringBuilder();
+            int event = next();
+            while (event != XMLStreamConstants.END_ELEMENT) {
+                if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                        || event == XMLStreamConstants.SPACE || event == XMLStreamConstants.ENTITY_REFERENCE) {
+                    text.append(getText());
+                } else if (event == XMLStreamConstants.START_ELEMENT || event == XMLStreamConstants.END_DOCUMENT) {
+                    throw new XMLStreamException("unexpected event in element text", getLocation());
+                }
+                event = next();
+            }
+            return text.toString();
+        }
+
+        private void update(int event) {
+            if (!active) {
+                return;
+            }
+            hash(event);
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    hash(getLocalName());
+                    for (int i = 0; i < getAttributeCount(); i++) {
+                        hash(getAttributeLocalName(i));
+                        hash(getAttributeValue(i));
+                    }
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    hash(getLocalName());
+                    // the events following the end of the fingerprinted element are not part of it
+                    depth--;
+                    active = depth > 0;
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    hash(getText());
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void hash(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                hash(value.charAt(i));
+            }
+            hash(0);
+        }
+
+        private void hash(int value) {
+            fingerprint = (fingerprint ^ value) * FNV_PRIME;
+        }
+    }
+}
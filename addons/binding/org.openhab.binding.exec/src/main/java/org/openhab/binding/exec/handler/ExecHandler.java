@@ -10,14 +10,12 @@ package org.openhab.binding.exec.handler;
 
 import static org.openhab.binding.exec.ExecBindingConstants.*;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
 import java.math.BigDecimal;
 import java.util.Calendar;
 import java.util.IllegalFormatException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -35,6 +33,7 @@ import org.eclipse.smarthome.core.transform.TransformationHelper;
 import org.eclipse.smarthome.core.transform.TransformationService;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
+import org.openhab.binding.exec.internal.ProcessSupervisor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,10 +60,19 @@ public class ExecHandler extends BaseThingHandler {
     private ScheduledFuture<?> executionJob;
     private String lastInput;
 
-    private static Runtime rt = Runtime.getRuntime();
+    private final ProcessSupervisor supervisor;
 
-    public ExecHandler(Thing thing) {
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong sharedExecutions = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong totalQueueTime = new AtomicLong();
+    private final AtomicLong maxQueueTime = new AtomicLong();
+    private final AtomicLong totalRunTime = new AtomicLong();
+    private final AtomicLong maxRunTime = new AtomicLong();
+
+    public ExecHandler(Thing thing, ProcessSupervisor supervisor) {
         super(thing);
+        this.supervisor = supervisor;
     }
 
     @Override
@@ -134,14 +142,9 @@ public class ExecHandler extends BaseThingHandler {
 
                 updateState(RUN, OnOffType.ON);
 
-                // For some obscure reason, when using Apache Common Exec, or using a straight implementation of
-                // Runtime.Exec(), on Mac OS X (Yosemite and El Capitan), there seems to be a lock race condition
-                // randomly appearing (on UNIXProcess) *when* one tries to gobble up the stdout and sterr output of the
-                // subprocess in separate threads. It seems to be common "wisdom" to do that in separate threads, but
-                // only when keeping everything between .exec() and .waitfor() in the same thread, this lock race
-                // condition seems to go away. This approach of not reading the outputs in separate threads *might* be a
-                // problem for external commands that generate a lot of output, but this will be dependent on the limits
-                // of the underlying operating system.
+                // The command is executed by the process supervisor on its own threads, so the scheduler thread
+                // returns right away. The supervisor drains stdout and stderr in parallel, a process filling up the
+                // stderr pipe can't block the execution anymore.
 
                 try {
                     if (lastInput != null) {
@@ -159,84 +162,57 @@ public class ExecHandler extends BaseThingHandler {
 
                 logger.trace("The command to be executed will be '{}'", commandLine);
 
-                Process proc = null;
-                try {
-                    proc = rt.exec(commandLine.toString());
-                } catch (Exception e) {
-                    logger.error("An exception occurred while executing '{}' : '{}'",
-                            new Object[] { commandLine.toString(), e.getMessage() });
-                    updateState(RUN, OnOffType.OFF);
-                    updateState(OUTPUT, new StringType(e.getMessage()));
-                    return;
-                }
-
-                StringBuilder outputBuilder = new StringBuilder();
-                StringBuilder errorBuilder = new StringBuilder();
-
-                try (InputStreamReader isr = new InputStreamReader(proc.getInputStream());
-                        BufferedReader br = new BufferedReader(isr);) {
-                    String line = null;
-                    while ((line = br.readLine()) != null) {
-                        outputBuilder.append(line).append("\n");
-                        logger.debug("Exec [{}]: '{}'", "OUTPUT", line);
-                    }
-                    isr.close();
-                } catch (IOException e) {
-                    logger.error("An exception occurred while reading the stdout when executing '{}' : '{}'",
-                            new Object[] { commandLine.toString(), e.getMessage() });
-                }
-
-                try (InputStreamReader isr = new InputStreamReader(proc.getErrorStream());
-                        BufferedReader br = new BufferedReader(isr);) {
-                    String line = null;
-                    while ((line = br.readLine()) != null) {
-                        errorBuilder.append(line).append("\n");
-                        logger.debug("Exec [{}]: '{}'", "ERROR", line);
+                String executedCommandLine = commandLine;
+                supervisor.execute(commandLine, timeOut).whenComplete((result, exception) -> {
+                    if (result != null) {
+                        processResult(executedCommandLine, result);
+                    } else {
+                        logger.error("An exception occurred while executing '{}' : '{}'", executedCommandLine,
+                                exception.getMessage());
+                        updateState(RUN, OnOffType.OFF);
                     }
-                    isr.close();
-                } catch (IOException e) {
-                    logger.error("An exception occurred while reading the stderr when executing '{}' : '{}'",
-                            new Object[] { commandLine.toString(), e.getMessage() });
-                }
-
-                boolean exitVal = false;
-                try {
-                    exitVal = proc.waitFor(timeOut, TimeUnit.MILLISECONDS);
-                } catch (InterruptedException e) {
-                    logger.error("An exception occurred while waiting for the process ('{}') to finish : '{}'",
-                            new Object[] { commandLine.toString(), e.getMessage() });
-                }
-
-                if (!exitVal) {
-                    logger.warn("Forcibly termininating the process ('{}') after a timeout of {} ms",
-                            new Object[] { commandLine.toString(), timeOut });
-                    proc.destroyForcibly();
-                }
-
-                updateState(RUN, OnOffType.OFF);
-                updateState(EXIT, new DecimalType(proc.exitValue()));
-
-                outputBuilder.append(errorBuilder.toString());
-
-                outputBuilder.append(errorBuilder.toString());
-
-                String transformedResponse = StringUtils.chomp(outputBuilder.toString());
-                String transformation = (String) getConfig().get(TRANSFORM);
-
-                if (transformation != null && transformation.length() > 0) {
-                    transformedResponse = transformResponse(transformedResponse, transformation);
-                }
-
-                updateState(OUTPUT, new StringType(transformedResponse));
-
-                DateTimeType stampType = new DateTimeType(Calendar.getInstance());
-                updateState(LAST_EXECUTION, stampType);
-
+                });
             }
         }
 
     };
 
+    private void processResult(String commandLine, ProcessSupervisor.Result result) {
+        executions.incrementAndGet();
+        if (result.isShared()) {
+            sharedExecutions.incrementAndGet();
+        }
+        if (result.isTimedOut()) {
+            timeouts.incrementAndGet();
+        }
+        totalQueueTime.addAndGet(result.getQueueTime());
+        maxQueueTime.accumulateAndGet(result.getQueueTime(), Math::max);
+        totalRunTime.addAndGet(result.getRunTime());
+        maxRunTime.accumulateAndGet(result.getRunTime(), Math::max);
+
+        long count = executions.get();
+        logger.debug(
+                "Executed '{}' (waited {} ms, ran {} ms). Executions: {}, shared: {}, timeouts: {}, queue wait avg/max: {}/{} ms, run time avg/max: {}/{} ms",
+                commandLine, result.getQueueTime(), result.getRunTime(), count, sharedExecutions.get(),
+                timeouts.get(), totalQueueTime.get() / count, maxQueueTime.get(), totalRunTime.get() / count,
+                maxRunTime.get());
+
+        updateState(RUN, OnOffType.OFF);
+        updateState(EXIT, new DecimalType(result.getExitValue()));
+
+        String transformedResponse = StringUtils.chomp(result.getOutput() + result.getError());
+        String transformation = (String) getConfig().get(TRANSFORM);
+
+        if (transformation != null && transformation.length() > 0) {
+            transformedResponse = transformResponse(transformedResponse, transformation);
+        }
+
+        updateState(OUTPUT, new StringType(transformedResponse));
+
+        DateTimeType stampType = new DateTimeType(Calendar.getInstance());
+        updateState(LAST_EXECUTION, stampType);
+    }
+
     protected String transformResponse(String response, String transformation) {
         String transformedResponse;
 
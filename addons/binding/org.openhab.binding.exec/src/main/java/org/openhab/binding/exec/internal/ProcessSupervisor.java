@@ -0,0 +1,261 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.exec.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ProcessSupervisor} runs the commands of all exec things on its own bounded pool of threads, so long
+ * running commands can't exhaust the thread pool shared by the thing handlers. The output and error streams of a
+ * process are drained in parallel (and capped in size) while the supervisor waits for the process to end. Concurrent
+ * requests for the same command line share one execution.
+ *
+ * @author agent - Initial contribution
+ */
+public class ProcessSupervisor {
+
+    private static final int MAX_CONCURRENT_PROCESSES = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int MAX_OUTPUT_LENGTH = 1024 * 1024;
+    private static final long DRAIN_TIMEOUT = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(ProcessSupervisor.class);
+
+    private final ExecutorService processExecutor = Executors.newFixedThreadPool(MAX_CONCURRENT_PROCESSES);
+    private final ExecutorService streamExecutor = Executors.newCachedThreadPool();
+    private final Map<String, CompletableFuture<Result>> runningCommands = new ConcurrentHashMap<>();
+
+    private static Runtime rt = Runtime.getRuntime();
+
+    /**
+     * The result of an execution
+     */
+    public static class Result {
+        private final int exitValue;
+        private final String output;
+        private final String error;
+        private final boolean timedOut;
+        private final boolean truncated;
+        private final boolean shared;
+        private final long queueTime;
+        private final long runTime;
+
+        private Result(int exitValue, String output, String error, boolean timedOut, boolean truncated,
+                boolean shared, long queueTime, long runTime) {
+            this.exitValue = exitValue;
+            this.output = output;
+            this.error = error;
+            this.timedOut = timedOut;
+            this.truncated = truncated;
+            this.shared = shared;
+            this.queueTime = queueTime;
+            this.runTime = runTime;
+        }
+
+        private Result asShared() {
+            return new Result(exitValue, output, error, timedOut, truncated, true, queueTime, runTime);
+        }
+
+        public int getExitValue() {
+            return exitValue;
+        }
+
+        public String getOutput() {
+            return output;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public boolean isTimedOut() {
+            return timedOut;
+        }
+
+        public boolean isTruncated() {
+            return truncated;
+        }
+
+        /**
+         * @return true if the result was produced by the execution requested by another caller
+         */
+        public boolean isShared() {
+            return shared;
+        }
+
+        /**
+         * @return time in milliseconds the command waited for a free process slot
+         */
+        public long getQueueTime() {
+            return queueTime;
+        }
+
+        /**
+         * @return time in milliseconds the command ran
+         */
+        public long getRunTime() {
+            return runTime;
+        }
+    }
+
+    /**
+     * Executes a command line. If the same command line is already queued or running, its result is shared and the
+     * timeout of the first request applies.
+     *
+     * @param commandLine the command line to execute
+     * @param timeOut time in milliseconds after which the process is terminated
+     * @return the future result
+     */
+    public CompletableFuture<Result> execute(String commandLine, int timeOut) {
+        CompletableFuture<Result> future = new CompletableFuture<>();
+        CompletableFuture<Result> running = runningCommands.putIfAbsent(commandLine, future);
+        if (running != null) {
+            logger.debug("Command '{}' is already running, sharing its result", commandLine);
+            return running.thenApply(Result::asShared);
+        }
+
+        long queued = System.nanoTime();
+        try {
+            processExecutor.execute(() -> {
+                Result result = null;
+                try {
+                    result = run(commandLine, timeOut, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - queued));
+                } finally {
+                    runningCommands.remove(commandLine, future);
+                    if (result != null) {
+                        future.complete(result);
+                    } else {
+                        future.completeExceptionally(new IllegalStateException("Execution aborted"));
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            runningCommands.remove(commandLine, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    public void shutdown() {
+        processExecutor.shutdownNow();
+        streamExecutor.shutdownNow();
+        runningCommands.clear();
+    }
+
+    private Result run(String commandLine, int timeOut, long queueTime) {
+        long started = System.nanoTime();
+
+        Process proc;
+        try {
+            proc = rt.exec(commandLine);
+        } catch (Exception e) {
+            logger.error("An exception occurred while executing '{}' : '{}'", commandLine, e.getMessage());
+            return new Result(-1, "", String.valueOf(e.getMessage()), false, false, false, queueTime, 0);
+        }
+
+        StreamDrainer outputDrainer = new StreamDrainer(proc.getInputStream(), "OUTPUT");
+        StreamDrainer errorDrainer = new StreamDrainer(proc.getErrorStream(), "ERROR");
+        Future<String> output = streamExecutor.submit(outputDrainer::drain);
+        Future<String> error = streamExecutor.submit(errorDrainer::drain);
+
+        boolean finished = false;
+        try {
+            finished = proc.waitFor(timeOut, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            logger.error("An exception occurred while waiting for the process ('{}') to finish : '{}'", commandLine,
+                    e.getMessage());
+            Thread.currentThread().interrupt();
+        }
+
+        if (!finished) {
+            logger.warn("Forcibly termininating the process ('{}') after a timeout of {} ms", commandLine, timeOut);
+            proc.destroyForcibly();
+            try {
+                proc.waitFor(DRAIN_TIMEOUT, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        String outputText = collect(output, proc.getInputStream());
+        String errorText = collect(error, proc.getErrorStream());
+        int exitValue = proc.isAlive() ? -1 : proc.exitValue();
+
+        return new Result(exitValue, outputText, errorText, !finished,
+                outputDrainer.truncated || errorDrainer.truncated, false, queueTime,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private String collect(Future<String> drain, InputStream stream) {
+        try {
+            return drain.get(DRAIN_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // a child process may still hold the stream open, stop reading it
+            try {
+                stream.close();
+            } catch (IOException ex) {
+                logger.debug("Closing the process stream failed: {}", ex.getMessage());
+            }
+            drain.cancel(true);
+        } catch (ExecutionException e) {
+            logger.debug("Reading the process stream failed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "";
+    }
+
+    /**
+     * Reads a process stream up to its end. Text beyond the maximum output length is discarded, but the stream is still
+     * read so the process doesn't block on a full pipe.
+     */
+    private class StreamDrainer {
+        private final InputStream stream;
+        private final String name;
+        private volatile boolean truncated;
+
+        StreamDrainer(InputStream stream, String name) {
+            this.stream = stream;
+            this.name = name;
+        }
+
+        String drain() throws IOException {
+            StringBuilder builder = new StringBuilder();
+            try (BufferedReader br = new BufferedReader(new InputStreamReader(stream))) {
+                String line = null;
+                while ((line = br.readLine()) != null) {
+                    if (builder.length() + line.length() < MAX_OUTPUT_LENGTH) {
+                        builder.append(line).append("\n");
+                        logger.debug("Exec [{}]: '{}'", name, line);
+                    } else if (!truncated) {
+                        truncated = true;
+                        logger.debug("Exec [{}]: output exceeds {} characters, discarding the rest", name,
+                                MAX_OUTPUT_LENGTH);
+                    }
+                }
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -46,6 +46,7 @@ public class FtpUploadHandlerFactory extends BaseThingHandlerFactory {
 
     private final int DEFAULT_PORT = 2121;
     private final int DEFAULT_IDLE_TIMEOUT = 60;
+    private final int DEFAULT_MEMORY_LIMIT = 0;
 
     private FtpServer ftpServer;
 
@@ -90,6 +91,7 @@ public class FtpUploadHandlerFactory extends BaseThingHandlerFactory {
 
         int port = DEFAULT_PORT;
         int idleTimeout = DEFAULT_IDLE_TIMEOUT;
+        int memoryLimit = DEFAULT_MEMORY_LIMIT;
 
         if (properties.get("port") != null) {
             String strPort = properties.get("port").toString();
@@ -113,9 +115,21 @@ public class FtpUploadHandlerFactory extends BaseThingHandlerFactory {
             }
         }
 
+        if (properties.get("memoryLimit") != null) {
+            String strMemoryLimit = properties.get("memoryLimit").toString();
+            if (StringUtils.isNotEmpty(strMemoryLimit)) {
+                try {
+                    memoryLimit = Integer.valueOf(strMemoryLimit);
+                } catch (NumberFormatException e) {
+                    logger.warn("Invalid memory limit '{}', using default limit {}", strMemoryLimit, memoryLimit);
+                }
+            }
+        }
+
         try {
-            logger.info("Starting FTP server, port={}, idleTimeout={}", port, idleTimeout);
-            ftpServer.startServer(port, idleTimeout);
+            logger.info("Starting FTP server, port={}, idleTimeout={}, memoryLimit={}", port, idleTimeout,
+                    memoryLimit);
+            ftpServer.startServer(port, idleTimeout, Math.max(0, memoryLimit) * 1024);
         } catch (FtpException | FtpServerConfigurationException e) {
             logger.warn("FTP server starting failed, reason: {}", e.getMessage());
         }
@@ -14,6 +14,8 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.ftpserver.FtpServerConfigurationException;
 import org.apache.ftpserver.FtpServerFactory;
@@ -45,6 +47,14 @@ public class FtpServer {
 
     private int port;
     int idleTimeout;
+    private int memoryLimit;
+
+    private final UploadBufferPool bufferPool = new UploadBufferPool();
+    private final AtomicLong uploads = new AtomicLong();
+    private final AtomicLong spooledUploads = new AtomicLong();
+    private final AtomicLong uploadedBytes = new AtomicLong();
+    private final AtomicLong totalUploadTime = new AtomicLong();
+    private final AtomicLong maxUploadTime = new AtomicLong();
 
     private org.apache.ftpserver.FtpServer server;
     private List<FtpServerEventListener> listeners;
@@ -57,10 +67,15 @@ public class FtpServer {
         FTPUserManager = new FTPUserManager();
     }
 
-    public void startServer(int port, int idleTimeout) throws FtpException {
+    /**
+     * @param memoryLimit maximum size in bytes of an upload kept in memory, larger uploads are spooled to a temporary
+     *            file. 0 keeps all uploads in memory.
+     */
+    public void startServer(int port, int idleTimeout, int memoryLimit) throws FtpException {
         stopServer();
         this.port = port;
         this.idleTimeout = idleTimeout;
+        this.memoryLimit = memoryLimit;
         FTPUserManager.setIdleTimeout(idleTimeout);
         initServer();
     }
@@ -69,6 +84,7 @@ public class FtpServer {
         if (server != null) {
             server.stop();
         }
+        bufferPool.clear();
     }
 
     public String getStartUpErrorReason() {
@@ -95,12 +111,12 @@ public class FtpServer {
         listeners.remove(listener);
     }
 
-    private void sendMsgToListeners(String userName, String filename, byte[] data) {
+    private void sendMsgToListeners(String userName, String filename, UploadedFile file) {
         Iterator<FtpServerEventListener> iterator = listeners.iterator();
 
         while (iterator.hasNext()) {
             try {
-                iterator.next().fileReceived(userName, filename, data);
+                iterator.next().fileReceived(userName, filename, file);
             } catch (Exception e) {
                 // catch all exceptions give all handlers a fair chance of handling the messages
                 logger.debug("Event listener invoking error: {}", e.getMessage());
@@ -119,6 +135,26 @@ public class FtpServer {
 
         logger.debug("CurrentConnectionNumber: {}", ftpStats.getCurrentConnectionNumber());
         logger.debug("CurrentLoginNumber: {}", ftpStats.getCurrentLoginNumber());
+
+        long count = uploads.get();
+        long time = totalUploadTime.get();
+        logger.debug("ReceivedFiles: {}", count);
+        logger.debug("SpooledFiles: {}", spooledUploads.get());
+        logger.debug("ReceivedBytes: {}", uploadedBytes.get());
+        logger.debug("AverageUploadTime: {} ms", count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(time / count));
+        logger.debug("MaxUploadTime: {} ms", TimeUnit.NANOSECONDS.toMillis(maxUploadTime.get()));
+        logger.debug("UploadThroughput: {} kB/s",
+                time == 0 ? 0 : uploadedBytes.get() * TimeUnit.SECONDS.toNanos(1) / time / 1024);
+    }
+
+    private void recordUpload(UploadedFile file) {
+        uploads.incrementAndGet();
+        if (file.isSpooled()) {
+            spooledUploads.incrementAndGet();
+        }
+        uploadedBytes.addAndGet(file.getSize());
+        totalUploadTime.addAndGet(file.getDuration());
+        maxUploadTime.accumulateAndGet(file.getDuration(), Math::max);
     }
 
     private void initServer() throws FtpException {
@@ -141,7 +177,7 @@ public class FtpServer {
             @Override
             public FileSystemView createFileSystemView(User user) throws FtpException {
                 logger.debug("createFileSystemView: {}", user.getName());
-                return new SimpleFileSystemView();
+                return new SimpleFileSystemView(bufferPool, memoryLimit);
             }
         });
 
@@ -195,9 +231,15 @@ public class FtpServer {
             logger.debug("File {} upload to FTP server", userRoot + currDir + "/" + fileName);
 
             SimpleFtpFile file = (SimpleFtpFile) session.getFileSystemView().getFile(fileName);
-            byte[] data = file.getData();
-
-            sendMsgToListeners(session.getUser().getName(), fileName, data);
+            UploadedFile upload = file.takeUpload();
+            if (upload != null) {
+                recordUpload(upload);
+                try {
+                    sendMsgToListeners(session.getUser().getName(), fileName, upload);
+                } finally {
+                    upload.release();
+                }
+            }
             return FtpletResult.SKIP;
         }
     }
@@ -22,8 +22,8 @@ public interface FtpServerEventListener {
      *
      * @param userName User name.
      * @param filename Received filename.
-     * @param data Received raw data.
+     * @param file Received file, the data is read on demand.
      */
-    void fileReceived(@NonNull String userName, @NonNull String filename, byte[] data);
+    void fileReceived(@NonNull String userName, @NonNull String filename, @NonNull UploadedFile file);
 
 }
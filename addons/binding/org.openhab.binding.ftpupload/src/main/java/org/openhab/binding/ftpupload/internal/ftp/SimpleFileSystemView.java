@@ -23,7 +23,15 @@ import org.slf4j.LoggerFactory;
 public class SimpleFileSystemView implements FileSystemView {
     private Logger logger = LoggerFactory.getLogger(SimpleFileSystemView.class);
 
-    SimpleFtpFile file = new SimpleFtpFile();
+    private final UploadBufferPool bufferPool;
+    private final int memoryLimit;
+    private final SimpleFtpFile file;
+
+    public SimpleFileSystemView(UploadBufferPool bufferPool, int memoryLimit) {
+        this.bufferPool = bufferPool;
+        this.memoryLimit = memoryLimit;
+        this.file = new SimpleFtpFile(bufferPool, memoryLimit);
+    }
 
     @Override
     public boolean changeWorkingDirectory(String arg0) throws FtpException {
@@ -34,6 +42,7 @@ public class SimpleFileSystemView implements FileSystemView {
     @Override
     public void dispose() {
         logger.trace("dispose");
+        file.release();
     }
 
     @Override
@@ -45,13 +54,13 @@ public class SimpleFileSystemView implements FileSystemView {
     @Override
     public FtpFile getHomeDirectory() throws FtpException {
         logger.trace("getHomeDirectory");
-        return new SimpleFtpFile();
+        return new SimpleFtpFile(bufferPool, memoryLimit);
     }
 
     @Override
     public FtpFile getWorkingDirectory() throws FtpException {
         logger.trace("getWorkingDirectory");
-        return new SimpleFtpFile();
+        return new SimpleFtpFile(bufferPool, memoryLimit);
     }
 
     @Override
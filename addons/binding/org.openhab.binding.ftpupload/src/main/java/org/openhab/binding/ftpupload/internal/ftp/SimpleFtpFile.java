@@ -13,8 +13,6 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.List;
 
-import javax.xml.bind.DatatypeConverter;
-
 import org.apache.ftpserver.ftplet.FtpFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,10 +26,36 @@ import org.slf4j.LoggerFactory;
 public class SimpleFtpFile implements FtpFile {
     private Logger logger = LoggerFactory.getLogger(SimpleFtpFile.class);
 
-    MyOutputStream file;
+    private final UploadBufferPool bufferPool;
+    private final int memoryLimit;
+
+    private UploadOutputStream file;
+
+    public SimpleFtpFile(UploadBufferPool bufferPool, int memoryLimit) {
+        this.bufferPool = bufferPool;
+        this.memoryLimit = memoryLimit;
+    }
+
+    /**
+     * Hands over the last uploaded file.
+     *
+     * @return the uploaded file or null if nothing was uploaded
+     */
+    public synchronized UploadedFile takeUpload() throws IOException {
+        if (file == null) {
+            return null;
+        }
+        UploadedFile upload = file.toUploadedFile();
+        logger.debug("File len: {}", upload.getSize());
+        file = null;
+        return upload;
+    }
 
-    public byte[] getData() {
-        return file.getData();
+    synchronized void release() {
+        if (file != null) {
+            file.release();
+            file = null;
+        }
     }
 
     @Override
@@ -41,9 +65,11 @@ public class SimpleFtpFile implements FtpFile {
     }
 
     @Override
-    public OutputStream createOutputStream(long arg0) throws IOException {
+    public synchronized OutputStream createOutputStream(long arg0) throws IOException {
         logger.trace("createOutputStream: {}", arg0);
-        file = new MyOutputStream();
+        // an unfinished previous upload is dropped
+        release();
+        file = new UploadOutputStream(bufferPool, memoryLimit);
         return file;
     }
 
@@ -166,24 +192,4 @@ public class SimpleFtpFile implements FtpFile {
         logger.trace("getPhysicalFile");
         return null;
     }
-
-    private class MyOutputStream extends OutputStream {
-        private StringBuilder data = new StringBuilder();
-
-        @Override
-        public void write(int b) throws IOException {
-            data.append(String.format("%02X", (byte) b));
-        }
-
-        public byte[] getData() {
-            try {
-                byte[] d = DatatypeConverter.parseHexBinary(data.toString());
-                logger.debug("File len: {}", d.length);
-                return d;
-            } catch (IllegalArgumentException e) {
-                logger.debug("Exception occured during data conversion: {}", e.getMessage());
-            }
-            return null;
-        }
-    }
 }
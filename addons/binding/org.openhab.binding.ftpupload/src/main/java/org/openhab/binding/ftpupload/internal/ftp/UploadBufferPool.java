@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ftpupload.internal.ftp;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Pool of upload buffers. Buffers grow with the uploaded files and are reused by the following uploads, so regular
+ * snapshot uploads don't allocate a new buffer every time.
+ *
+ * @author agent - Initial contribution
+ */
+public class UploadBufferPool {
+    static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_POOLED_BUFFERS = 8;
+    private static final int MAX_POOLED_BUFFER_SIZE = 8 * 1024 * 1024;
+
+    private final BlockingQueue<byte[]> buffers = new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
+
+    public byte[] acquire() {
+        byte[] buffer = buffers.poll();
+        return buffer != null ? buffer : new byte[INITIAL_BUFFER_SIZE];
+    }
+
+    public void release(byte[] buffer) {
+        if (buffer != null && buffer.length <= MAX_POOLED_BUFFER_SIZE) {
+            buffers.offer(buffer);
+        }
+    }
+
+    public void clear() {
+        buffers.clear();
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ftpupload.internal.ftp;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Output stream for an uploaded file. Data is collected in a pooled buffer. When a memory limit is set and the upload
+ * exceeds it, the data is moved to a temporary spool file instead.
+ *
+ * @author agent - Initial contribution
+ */
+class UploadOutputStream extends OutputStream {
+    private final Logger logger = LoggerFactory.getLogger(UploadOutputStream.class);
+
+    private final UploadBufferPool pool;
+    private final int memoryLimit;
+    private final long startTime = System.nanoTime();
+
+    private byte[] buffer;
+    private int count;
+    private File spoolFile;
+    private OutputStream spoolStream;
+    private long size;
+    private long duration = -1;
+
+    /**
+     * @param pool buffer pool
+     * @param memoryLimit maximum number of bytes kept in memory, 0 for no limit
+     */
+    UploadOutputStream(UploadBufferPool pool, int memoryLimit) {
+        this.pool = pool;
+        this.memoryLimit = memoryLimit;
+        this.buffer = pool.acquire();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (buffer != null && spoolStream == null && count < buffer.length) {
+            buffer[count++] = (byte) b;
+            size++;
+        } else {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (buffer == null && spoolStream == null) {
+            throw new IOException("Stream closed");
+        }
+        if (spoolStream == null) {
+            int required = count + len;
+            if (memoryLimit > 0 && required > memoryLimit) {
+                startSpooling();
+            } else {
+                ensureCapacity(required);
+                System.arraycopy(b, off, buffer, count, len);
+                count += len;
+                size += len;
+                return;
+            }
+        }
+        spoolStream.write(b, off, len);
+        size += len;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (duration < 0) {
+            duration = System.nanoTime() - startTime;
+        }
+        if (spoolStream != null) {
+            spoolStream.close();
+        }
+    }
+
+    /**
+     * Hands the received data over as {@link UploadedFile} and returns the buffer to the pool.
+     */
+    UploadedFile toUploadedFile() throws IOException {
+        close();
+        UploadedFile file;
+        if (spoolFile != null) {
+            file = new UploadedFile(spoolFile, size, duration);
+            spoolFile = null;
+            spoolStream = null;
+        } else {
+            file = new UploadedFile(Arrays.copyOf(buffer, count), duration);
+        }
+        release();
+        return file;
+    }
+
+    /**
+     * Releases the buffer and removes the spool file of an upload that is not handed over.
+     */
+    void release() {
+        if (buffer != null) {
+            pool.release(buffer);
+            buffer = null;
+            count = 0;
+        }
+        if (spoolStream != null) {
+            try {
+                spoolStream.close();
+            } catch (IOException e) {
+                logger.debug("Closing spool file failed: {}", e.getMessage());
+            }
+            spoolStream = null;
+        }
+        if (spoolFile != null) {
+            if (!spoolFile.delete()) {
+                logger.debug("Spool file {} could not be deleted", spoolFile);
+            }
+            spoolFile = null;
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > buffer.length) {
+            int newSize = Math.max(buffer.length * 2, required);
+            if (memoryLimit > 0) {
+                newSize = Math.min(newSize, memoryLimit);
+            }
+            buffer = Arrays.copyOf(buffer, newSize);
+        }
+    }
+
+    private void startSpooling() throws IOException {
+        spoolFile = File.createTempFile("ftpupload", ".tmp");
+        logger.debug("Upload exceeds {} bytes, spooling to {}", memoryLimit, spoolFile);
+        spoolStream = new BufferedOutputStream(new FileOutputStream(spoolFile), UploadBufferPool.INITIAL_BUFFER_SIZE);
+        spoolStream.write(buffer, 0, count);
+        pool.release(buffer);
+        buffer = null;
+        count = 0;
+    }
+}
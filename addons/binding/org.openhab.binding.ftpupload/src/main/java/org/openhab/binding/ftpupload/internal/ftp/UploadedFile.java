@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ftpupload.internal.ftp;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * A file received by the FTP server. The content is either held in memory or in a temporary spool file, which is only
+ * read when the data is requested.
+ *
+ * @author agent - Initial contribution
+ */
+public class UploadedFile {
+    private final File spoolFile;
+    private final long size;
+    private final long duration;
+    private byte[] data;
+
+    UploadedFile(byte[] data, long duration) {
+        this.data = data;
+        this.spoolFile = null;
+        this.size = data.length;
+        this.duration = duration;
+    }
+
+    UploadedFile(File spoolFile, long size, long duration) {
+        this.spoolFile = spoolFile;
+        this.size = size;
+        this.duration = duration;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return upload duration in nanoseconds
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    public boolean isSpooled() {
+        return spoolFile != null;
+    }
+
+    /**
+     * Returns the file content. A spooled file is read on the first call.
+     */
+    public synchronized byte[] getData() throws IOException {
+        if (data == null) {
+            data = Files.readAllBytes(spoolFile.toPath());
+        }
+        return data;
+    }
+
+    /**
+     * Removes the spool file. Called after all listeners have been notified.
+     */
+    void release() {
+        if (spoolFile != null) {
+            try {
+                Files.deleteIfExists(spoolFile.toPath());
+            } catch (IOException e) {
+                // ignore, the file is in the temporary directory
+            }
+        }
+    }
+}
@@ -10,6 +10,7 @@ package org.openhab.binding.ftpupload.internal.handler;
 
 import static org.openhab.binding.ftpupload.internal.FtpUploadBindingConstants.*;
 
+import java.io.IOException;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -26,6 +27,7 @@ import org.eclipse.smarthome.io.net.http.HttpUtil;
 import org.openhab.binding.ftpupload.internal.config.FtpUploadConfig;
 import org.openhab.binding.ftpupload.internal.ftp.FtpServer;
 import org.openhab.binding.ftpupload.internal.ftp.FtpServerEventListener;
+import org.openhab.binding.ftpupload.internal.ftp.UploadedFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -80,10 +82,10 @@ public class FtpUploadHandler extends BaseThingHandler implements FtpServerEvent
     }
 
     @Override
-    public void fileReceived(String userName, String filename, byte[] data) {
+    public void fileReceived(String userName, String filename, UploadedFile file) {
         if (configuration.userName.equals(userName)) {
             updateStatus(ThingStatus.ONLINE);
-            updateChannels(filename, data);
+            updateChannels(filename, file);
             updateTriggers(filename);
         }
     }
@@ -98,13 +100,24 @@ public class FtpUploadHandler extends BaseThingHandler implements FtpServerEvent
         return mimeType;
     }
 
-    private void updateChannels(String filename, byte[] data) {
+    private void updateChannels(String filename, UploadedFile file) {
+        RawType image = null;
         for (Channel channel : thing.getChannels()) {
             String channelConf = (String) channel.getConfiguration().get(PARAM_FILENAME_PATTERN);
             if (channelConf != null) {
                 if (filenameMatch(filename, channelConf)) {
                     if ("Image".equals(channel.getAcceptedItemType())) {
-                        updateState(channel.getUID().getId(), new RawType(data, guessMimeTypeFromData(data)));
+                        // the data is only read (and a spooled file loaded) if an image channel wants it
+                        if (image == null) {
+                            try {
+                                byte[] data = file.getData();
+                                image = new RawType(data, guessMimeTypeFromData(data));
+                            } catch (IOException e) {
+                                logger.debug("Reading uploaded file {} failed: {}", filename, e.getMessage());
+                                return;
+                            }
+                        }
+                        updateState(channel.getUID().getId(), image);
                     }
                 }
             }
@@ -54,6 +54,7 @@ public class InnogyBindingConstants {
 
     public static final long REINITIALIZE_DELAY_SECONDS = 30;
     public static final long REINITIALIZE_DELAY_LONG_SECONDS = 120;
+    public static final long DEVICE_REFRESH_DELAY_MILLISECONDS = 500;
 
     // API URLs
     public static final String API_VERSION = "1.0";
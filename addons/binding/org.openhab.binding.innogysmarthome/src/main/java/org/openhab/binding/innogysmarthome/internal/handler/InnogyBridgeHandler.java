@@ -16,13 +16,17 @@ import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.exception.ExceptionUtils;
@@ -40,6 +44,7 @@ import org.openhab.binding.innogysmarthome.internal.InnogyWebSocket;
 import org.openhab.binding.innogysmarthome.internal.client.InnogyClient;
 import org.openhab.binding.innogysmarthome.internal.client.InnogyConfig;
 import org.openhab.binding.innogysmarthome.internal.client.entity.Message;
+import org.openhab.binding.innogysmarthome.internal.client.entity.Property;
 import org.openhab.binding.innogysmarthome.internal.client.entity.capability.Capability;
 import org.openhab.binding.innogysmarthome.internal.client.entity.device.Device;
 import org.openhab.binding.innogysmarthome.internal.client.entity.event.Event;
@@ -86,9 +91,24 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
     private Gson gson = new Gson();
 
     private Set<DeviceStatusListener> deviceStatusListeners = new CopyOnWriteArraySet<>();
+    private Map<String, Set<DeviceStatusListener>> deviceStatusListenersByDeviceId = new ConcurrentHashMap<>();
 
     private ScheduledFuture<?> reinitJob;
 
+    /**
+     * Ids of the {@link Device}s waiting to be refreshed with the time (in nanoseconds) the first event for it was
+     * received, guarded by {@link #deviceRefreshLock}
+     */
+    private final Map<String, Long> pendingDeviceRefreshes = new LinkedHashMap<>();
+    private final Object deviceRefreshLock = new Object();
+    private ScheduledFuture<?> deviceRefreshJob;
+
+    private final AtomicLong appliedEvents = new AtomicLong();
+    private final AtomicLong refreshedDevices = new AtomicLong();
+    private final AtomicLong deviceRefreshes = new AtomicLong();
+    private final AtomicLong totalEventLatency = new AtomicLong();
+    private final AtomicLong maxEventLatency = new AtomicLong();
+
     /**
      * The {@link Initializer} class implements the initialization process of the bridge including starting the
      * {@link DeviceStructureManager} (who loads all the {@link Device}s and states) and the {@link InnogyWebSocket}.
@@ -326,6 +346,14 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
             reinitJob = null;
         }
 
+        synchronized (deviceRefreshLock) {
+            if (deviceRefreshJob != null) {
+                deviceRefreshJob.cancel(false);
+                deviceRefreshJob = null;
+            }
+            pendingDeviceRefreshes.clear();
+        }
+
         if (webSocket != null) {
             webSocket.stop();
             webSocket = null;
@@ -359,6 +387,22 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
         return deviceStatusListeners.add(deviceStatusListener);
     }
 
+    /**
+     * Registers a {@link DeviceStatusListener}, that is only informed about changes of the {@link Device} with the
+     * given id.
+     *
+     * @param deviceId
+     * @param deviceStatusListener
+     * @return true, if successful
+     */
+    public boolean registerDeviceStatusListener(String deviceId, DeviceStatusListener deviceStatusListener) {
+        if (deviceStatusListener == null) {
+            throw new IllegalArgumentException("It's not allowed to pass a null deviceStatusListener.");
+        }
+        return deviceStatusListenersByDeviceId.computeIfAbsent(deviceId, id -> new CopyOnWriteArraySet<>())
+                .add(deviceStatusListener);
+    }
+
     /**
      * Unregisters a {@link DeviceStatusListener}.
      *
@@ -369,7 +413,37 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
         if (deviceStatusListener == null) {
             throw new IllegalArgumentException("It's not allowed to pass a null deviceStatusListener.");
         }
-        return deviceStatusListeners.remove(deviceStatusListener);
+        boolean removed = deviceStatusListeners.remove(deviceStatusListener);
+        for (Set<DeviceStatusListener> listeners : deviceStatusListenersByDeviceId.values()) {
+            removed |= listeners.remove(deviceStatusListener);
+        }
+        return removed;
+    }
+
+    /**
+     * Informs the {@link DeviceStatusListener}s of the given {@link Device} about a changed state.
+     *
+     * @param device
+     * @param event the {@link Event} that changed the state or null, if the {@link Device} was refreshed
+     */
+    private void notifyDeviceStatusListeners(Device device, Event event) {
+        for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
+            notifyDeviceStatusListener(deviceStatusListener, device, event);
+        }
+        Set<DeviceStatusListener> listeners = deviceStatusListenersByDeviceId.get(device.getId());
+        if (listeners != null) {
+            for (DeviceStatusListener deviceStatusListener : listeners) {
+                notifyDeviceStatusListener(deviceStatusListener, device, event);
+            }
+        }
+    }
+
+    private void notifyDeviceStatusListener(DeviceStatusListener deviceStatusListener, Device device, Event event) {
+        if (event != null) {
+            deviceStatusListener.onDeviceStateChanged(device, event);
+        } else {
+            deviceStatusListener.onDeviceStateChanged(device);
+        }
     }
 
     /**
@@ -472,6 +546,7 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
     @Override
     public void onEvent(String msg) {
         logger.trace("onEvent called. Msg: {}", msg);
+        long received = System.nanoTime();
 
         try {
             Event[] eventArray = gson.fromJson(msg, Event[].class);
@@ -480,7 +555,7 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
                         event.getLink() != null ? event.getLink().getValue() : "(no link)");
                 switch (event.getType()) {
                     case Event.TYPE_STATE_CHANGED:
-                        handleStateChangedEvent(event);
+                        handleStateChangedEvent(event, received);
                         break;
 
                     case Event.TYPE_DISCONNECT:
@@ -500,11 +575,11 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
                         break;
 
                     case Event.TYPE_NEW_MESSAGE_RECEIVED:
-                        handleNewMessageReceivedEvent(event);
+                        handleNewMessageReceivedEvent(event, received);
                         break;
 
                     case Event.TYPE_MESSAGE_DELETED:
-                        handleMessageDeletedEvent(event);
+                        handleMessageDeletedEvent(event, received);
                         break;
 
                     default:
@@ -519,13 +594,17 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
 
     /**
      * Handles the event that occurs, when the state of a device (like reachability) or a capability (like a temperature
-     * value) has changed.
+     * value) has changed. The changed values carried by the event are passed to the listeners of the cached
+     * {@link Device}. Only if the event contains unknown values, the {@link Device} is refreshed from the innogy
+     * webservice.
      *
      * @param event
-     * @throws ApiException
-     * @throws IOException
      */
-    public void handleStateChangedEvent(Event event) throws ApiException, IOException {
+    public void handleStateChangedEvent(Event event) {
+        handleStateChangedEvent(event, System.nanoTime());
+    }
+
+    private void handleStateChangedEvent(Event event, long received) {
         if (deviceStructMan == null) {
             scheduleReinitialize();
             return;
@@ -535,29 +614,48 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
         if (event.isLinkedtoCapability()) {
             Device device = deviceStructMan.getDeviceByCapabilityLink(event.getLink().getValue());
             if (device != null) {
-                for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
-                    deviceStatusListener.onDeviceStateChanged(device, event);
-                }
+                notifyDeviceStatusListeners(device, event);
+                recordEventLatency(received);
+                appliedEvents.incrementAndGet();
             } else {
                 logger.debug("Unknown/unsupported device for capability {}.", event.getLink().getValue());
             }
 
             // DEVICE
         } else if (event.isLinkedtoDevice()) {
-            deviceStructMan.refreshDevice(event.getLinkId());
             Device device = deviceStructMan.getDeviceById(event.getLinkId());
-            if (device != null) {
-                for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
-                    deviceStatusListener.onDeviceStateChanged(device, event);
-                }
+            if (device != null && hasStateProperties(device, event)) {
+                notifyDeviceStatusListeners(device, event);
+                recordEventLatency(received);
+                appliedEvents.incrementAndGet();
             } else {
-                logger.debug("Unknown/unsupported device {}.", event.getLinkId());
+                scheduleDeviceRefresh(event.getLinkId(), received);
             }
 
         } else {
             logger.debug("link type {} not supported (yet?)", event.getLinkType());
         }
+    }
 
+    /**
+     * Checks, if the given {@link Device} has a state with all properties of the given {@link Event}, so the
+     * {@link Event} can be applied without refreshing the {@link Device}.
+     *
+     * @param device
+     * @param event
+     * @return true, if all properties are known
+     */
+    private boolean hasStateProperties(Device device, Event event) {
+        if (!device.hasState() || event.getPropertyList() == null) {
+            return false;
+        }
+        Map<String, Property> stateMap = device.getDeviceState().getStateMap();
+        for (Property p : event.getPropertyList()) {
+            if (!stateMap.containsKey(p.getName())) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -588,27 +686,22 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
      * Handles the event that occurs, when a new message was received. Currently only handles low battery messages.
      *
      * @param event
-     * @throws ApiException
-     * @throws IOException
      */
-    public void handleNewMessageReceivedEvent(Event event) throws ApiException, IOException {
+    public void handleNewMessageReceivedEvent(Event event) {
+        handleNewMessageReceivedEvent(event, System.nanoTime());
+    }
+
+    private void handleNewMessageReceivedEvent(Event event, long received) {
         if (deviceStructMan == null) {
             scheduleReinitialize();
+            return;
         }
 
         List<Message> messageList = event.getDataListAsMessage();
         for (Message m : messageList) {
             if (Message.TYPE_DEVICE_LOW_BATTERY.equals(m.getType())) {
                 for (Link dl : m.getDeviceLinkList()) {
-                    deviceStructMan.refreshDevice(dl.getId());
-                    Device device = deviceStructMan.getDeviceById(dl.getId());
-                    if (device != null) {
-                        for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
-                            deviceStatusListener.onDeviceStateChanged(device);
-                        }
-                    } else {
-                        logger.debug("Unknown/unsupported device {}.", event.getLinkId());
-                    }
+                    scheduleDeviceRefresh(dl.getId(), received);
                 }
             } else {
                 logger.debug("Message received event not yet implemented for Messagetype {}.", m.getType());
@@ -623,19 +716,17 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
      * and informing the {@link InnogyDeviceHandler} about the changed device.
      *
      * @param event
-     * @throws ApiException
-     * @throws IOException
      */
-    public void handleMessageDeletedEvent(Event event) throws ApiException, IOException {
+    public void handleMessageDeletedEvent(Event event) {
+        handleMessageDeletedEvent(event, System.nanoTime());
+    }
+
+    private void handleMessageDeletedEvent(Event event, long received) {
         if (deviceStructMan != null) {
             if (Link.LINK_TYPE_MESSAGE.equals(event.getLinkType())) {
                 Device device = deviceStructMan.getDeviceWithMessageId(event.getLinkId());
                 if (device != null) {
-                    deviceStructMan.refreshDevice(device.getId());
-                    device = deviceStructMan.getDeviceById(device.getId());
-                    for (DeviceStatusListener deviceStatusListener : deviceStatusListeners) {
-                        deviceStatusListener.onDeviceStateChanged(device);
-                    }
+                    scheduleDeviceRefresh(device.getId(), received);
                 } else {
                     logger.debug("Unknown/unsupported device {}.", event.getLinkId());
                 }
@@ -645,6 +736,82 @@ public class InnogyBridgeHandler extends BaseBridgeHandler implements Credential
         }
     }
 
+    /**
+     * Schedules a refresh of the {@link Device} with the given id. Refreshes requested within
+     * {@link InnogyBindingConstants#DEVICE_REFRESH_DELAY_MILLISECONDS} are combined into one.
+     *
+     * @param deviceId
+     * @param received time in nanoseconds the event causing the refresh was received
+     */
+    private void scheduleDeviceRefresh(String deviceId, long received) {
+        synchronized (deviceRefreshLock) {
+            pendingDeviceRefreshes.putIfAbsent(deviceId, received);
+            if (deviceRefreshJob == null) {
+                deviceRefreshJob = scheduler.schedule(this::refreshPendingDevices, DEVICE_REFRESH_DELAY_MILLISECONDS,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Refreshes the {@link Device}s collected by {@link #scheduleDeviceRefresh(String, long)} and informs the
+     * {@link DeviceStatusListener}s.
+     */
+    private void refreshPendingDevices() {
+        Map<String, Long> devices;
+        synchronized (deviceRefreshLock) {
+            devices = new LinkedHashMap<>(pendingDeviceRefreshes);
+            pendingDeviceRefreshes.clear();
+            deviceRefreshJob = null;
+        }
+
+        DeviceStructureManager manager = deviceStructMan;
+        if (manager == null || devices.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            manager.refreshDevices(devices.keySet());
+        } catch (Exception e) {
+            handleClientException(e);
+            return;
+        }
+        deviceRefreshes.incrementAndGet();
+
+        for (Entry<String, Long> entry : devices.entrySet()) {
+            Device device = manager.getDeviceById(entry.getKey());
+            if (device != null) {
+                notifyDeviceStatusListeners(device, null);
+                recordEventLatency(entry.getValue());
+                refreshedDevices.incrementAndGet();
+            } else {
+                logger.debug("Unknown/unsupported device {}.", entry.getKey());
+            }
+        }
+
+        long applied = appliedEvents.get();
+        long refreshed = refreshedDevices.get();
+        logger.debug(
+                "Refreshed {} devices in {} ms. {} events applied directly, {} devices refreshed in {} refreshes, "
+                        + "average event latency {} ms, max {} ms",
+                devices.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), applied, refreshed,
+                deviceRefreshes.get(), totalEventLatency.get() / Math.max(1, applied + refreshed),
+                maxEventLatency.get());
+    }
+
+    /**
+     * Records the time from receiving an event until the {@link DeviceStatusListener}s were informed.
+     *
+     * @param received time in nanoseconds the event was received
+     */
+    private void recordEventLatency(long received) {
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - received);
+        totalEventLatency.addAndGet(latency);
+        maxEventLatency.accumulateAndGet(latency, Math::max);
+        logger.trace("Event applied after {} ms.", latency);
+    }
+
     /**
      * This method is called, when the eventRunner stops and must be restarted after the given delay in seconds.
      *
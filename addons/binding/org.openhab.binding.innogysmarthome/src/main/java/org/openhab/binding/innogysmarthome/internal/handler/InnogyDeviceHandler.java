@@ -278,7 +278,11 @@ public class InnogyDeviceHandler extends BaseThingHandler implements DeviceStatu
                 ThingHandler handler = bridge.getHandler();
                 if (handler instanceof InnogyBridgeHandler) {
                     this.bridgeHandler = (InnogyBridgeHandler) handler;
-                    this.bridgeHandler.registerDeviceStatusListener(this);
+                    if (deviceId != null) {
+                        this.bridgeHandler.registerDeviceStatusListener(deviceId, this);
+                    } else {
+                        this.bridgeHandler.registerDeviceStatusListener(this);
+                    }
                 } else {
                     return null;
                 }
@@ -964,8 +968,13 @@ public class InnogyDeviceHandler extends BaseThingHandler implements DeviceStatu
                     for (Property p : event.getPropertyList()) {
                         logger.debug("State changed {} to {}.", p.getName(), p.getValue());
 
-                        stateMap.get(p.getName()).setValue(p.getValue());
-                        stateMap.get(p.getName()).setLastchanged((p.getLastchanged()));
+                        Property stateProperty = stateMap.get(p.getName());
+                        if (stateProperty == null) {
+                            logger.debug("Device state property {} unknown - ignored.", p.getName());
+                            continue;
+                        }
+                        stateProperty.setValue(p.getValue());
+                        stateProperty.setLastchanged(p.getLastchanged());
                     }
                     onDeviceStateChanged(device);
                 } else {
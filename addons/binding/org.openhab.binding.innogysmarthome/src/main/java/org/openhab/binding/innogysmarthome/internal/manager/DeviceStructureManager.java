@@ -14,6 +14,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.openhab.binding.innogysmarthome.internal.InnogyBindingConstants;
 import org.openhab.binding.innogysmarthome.internal.client.InnogyClient;
@@ -40,6 +41,7 @@ public class DeviceStructureManager {
     private final InnogyClient client;
     private final Map<String, Device> deviceMap;
     private final Map<String, Device> capabilityToDeviceMap;
+    private final Map<String, String> messageToDeviceIdMap;
     private String bridgeDeviceId;
 
     /**
@@ -51,6 +53,7 @@ public class DeviceStructureManager {
         this.client = client;
         deviceMap = Collections.synchronizedMap(new HashMap<>());
         capabilityToDeviceMap = Collections.synchronizedMap(new HashMap<>());
+        messageToDeviceIdMap = new ConcurrentHashMap<>();
     }
 
     /**
@@ -101,6 +104,23 @@ public class DeviceStructureManager {
         handleRefreshedDevice(d);
     }
 
+    /**
+     * Refreshs the {@link Device}s with the given ids. A single {@link Device} is loaded on its own, more
+     * {@link Device}s are loaded together with all others, which needs the same number of requests as loading one.
+     *
+     * @param deviceIds
+     * @throws IOException
+     * @throws ApiException
+     */
+    public void refreshDevices(Collection<String> deviceIds) throws IOException, ApiException {
+        if (deviceIds.size() == 1) {
+            refreshDevice(deviceIds.iterator().next());
+        } else if (!deviceIds.isEmpty()) {
+            logger.debug("Refreshing all devices for {} changed devices.", deviceIds.size());
+            refreshDevices();
+        }
+    }
+
     /**
      * Stores the newly refreshed {@link Device} in the {@link DeviceStructureManager} structure and logs the
      * {@link Device}s details and state, if the debug logging is enabled.
@@ -160,6 +180,17 @@ public class DeviceStructureManager {
         for (CapabilityLink cl : device.getCapabilityLinkList()) {
             capabilityToDeviceMap.put(cl.getValue(), device);
         }
+
+        if (device.getId() != null) {
+            messageToDeviceIdMap.values().removeIf(device.getId()::equals);
+            if (device.hasMessages()) {
+                for (Message m : device.getMessageList()) {
+                    if (m.getId() != null) {
+                        messageToDeviceIdMap.put(m.getId(), device.getId());
+                    }
+                }
+            }
+        }
     }
 
     /**
@@ -208,16 +239,8 @@ public class DeviceStructureManager {
      * @return the {@link Device} or null if none found
      */
     public Device getDeviceWithMessageId(String messageId) {
-        for (Device d : getDeviceMap().values()) {
-            if (d.hasMessages()) {
-                for (Message m : d.getMessageList()) {
-                    if (messageId.equals(m.getId())) {
-                        return d;
-                    }
-                }
-            }
-        }
-        return null;
+        String deviceId = messageToDeviceIdMap.get(messageId);
+        return deviceId != null ? getDeviceMap().get(deviceId) : null;
     }
 
     /**
@@ -13,14 +13,19 @@ import static org.openhab.binding.km200.KM200BindingConstants.THING_TYPE_KMDEVIC
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -78,12 +83,26 @@ public class KM200GatewayHandler extends BaseBridgeHandler {
      */
     private HttpClient httpClient;
 
+    /**
+     * Number of services fetched in parallel during a refresh
+     */
+    private static final int FETCH_THREADS = 2;
+
     private ScheduledExecutorService executor = Executors.newScheduledThreadPool(2);
+    private final ExecutorService fetchExecutor = Executors.newFixedThreadPool(FETCH_THREADS);
     private final KM200Device remoteDevice;
     private final KM200DataHandler dataHandler;
     private int readDelay;
     private int refreshInterval;
 
+    /* Earliest start of the next read request, requests are started at least readDelay ms apart */
+    private long nextReadTime;
+    private final Object readTimeLock = new Object();
+
+    /* Duration of the last refresh and latency of the last read per service in ms */
+    private volatile long lastRefreshDuration;
+    private final Map<String, Long> serviceLatencies = new ConcurrentHashMap<>();
+
     public KM200GatewayHandler(Bridge bridge, HttpClient httpClient) {
         super(bridge);
         this.httpClient = httpClient;
@@ -125,7 +144,7 @@ public class KM200GatewayHandler extends BaseBridgeHandler {
             if (getDevice() != null) {
                 logger.debug("Starting send and receive executor");
                 SendKM200Runnable sendRunnable = new SendKM200Runnable(sendMap, getDevice());
-                GetKM200Runnable receivingRunnable = new GetKM200Runnable(sendMap, this, getDevice());
+                GetKM200Runnable receivingRunnable = new GetKM200Runnable();
                 executor.scheduleWithFixedDelay(receivingRunnable, 30, refreshInterval, TimeUnit.SECONDS);
                 executor.scheduleWithFixedDelay(sendRunnable, 60, refreshInterval * 2, TimeUnit.SECONDS);
             }
@@ -136,6 +155,7 @@ public class KM200GatewayHandler extends BaseBridgeHandler {
     public void dispose() {
         logger.debug("Shutdown send executor");
         executor.shutdown();
+        fetchExecutor.shutdownNow();
 
         if (getDevice() != null) {
             synchronized (getDevice()) {
@@ -425,15 +445,177 @@ public class KM200GatewayHandler extends BaseBridgeHandler {
                             }
                         }
                     }
-                    try {
-                        Thread.sleep(readDelay);
-                    } catch (InterruptedException e) {
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Refreshes all linked channels. Every service is read only once, even if several channels map it, and the
+     * services are read by a small pool of threads without holding the device lock. The received data is then fanned
+     * out to all channels mapping the service.
+     */
+    private void refreshChannels() {
+        long start = System.currentTimeMillis();
+        Map<String, List<Channel>> channelsByPath = new LinkedHashMap<>();
+        int channelCount = 0;
+        synchronized (remoteDevice) {
+            if (!remoteDevice.getInited()) {
+                return;
+            }
+            remoteDevice.resetAllUpdates(remoteDevice.serviceTreeMap);
+            for (Thing actThing : getThing().getThings()) {
+                KM200ThingHandler actHandler = (KM200ThingHandler) actThing.getHandler();
+                if (actHandler == null) {
+                    continue;
+                }
+                for (Channel actChannel : actThing.getChannels()) {
+                    if (!actHandler.checkLinked(actChannel)) {
                         continue;
                     }
+                    String service = KM200Utils.checkParameterReplacement(actChannel, remoteDevice);
+                    String path = getReadPath(service);
+                    channelsByPath.computeIfAbsent(path, p -> new ArrayList<>()).add(actChannel);
+                    channelCount++;
+                }
+            }
+        }
+
+        /* Read every service once */
+        Map<String, Boolean> received = new ConcurrentHashMap<>();
+        List<Callable<Void>> reads = new ArrayList<>();
+        for (String path : channelsByPath.keySet()) {
+            if (!path.isEmpty()) {
+                reads.add(() -> {
+                    received.put(path, readService(path));
+                    return null;
+                });
+            }
+        }
+        try {
+            fetchExecutor.invokeAll(reads);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (RejectedExecutionException e) {
+            logger.debug("Refresh rejected, the handler is disposed");
+            return;
+        }
+
+        /* Fan the data out to the channels */
+        for (Entry<String, List<Channel>> entry : channelsByPath.entrySet()) {
+            String path = entry.getKey();
+            if (!path.isEmpty() && !received.getOrDefault(path, Boolean.FALSE)) {
+                logger.debug("No data of service {} received, skipping {} channels", path, entry.getValue().size());
+                continue;
+            }
+            for (Channel actChannel : entry.getValue()) {
+                updateChannel(actChannel);
+            }
+        }
+
+        lastRefreshDuration = System.currentTimeMillis() - start;
+        if (logger.isDebugEnabled()) {
+            Entry<String, Long> slowest = null;
+            for (Entry<String, Long> latency : serviceLatencies.entrySet()) {
+                if (slowest == null || latency.getValue() > slowest.getValue()) {
+                    slowest = latency;
+                }
+            }
+            logger.debug("Refreshed {} channels from {} services in {} ms, slowest service: {}", channelCount,
+                    reads.size(), lastRefreshDuration, slowest);
+        }
+    }
+
+    /**
+     * Returns the path which has to be read for a service, the parent path of virtual services. An empty path is
+     * returned if the service can not be read.
+     */
+    private String getReadPath(String service) {
+        if (remoteDevice.getBlacklistMap().contains(service) || !remoteDevice.containsService(service)) {
+            return "";
+        }
+        KM200ServiceObject object = remoteDevice.getServiceObject(service);
+        if (object.getReadable() == 0) {
+            return "";
+        }
+        return object.getVirtual() == 1 ? object.getParent() : service;
+    }
+
+    /**
+     * Reads a service from the device and stores its data in the service object
+     */
+    private boolean readService(String path) throws InterruptedException {
+        long delay;
+        synchronized (readTimeLock) {
+            long now = System.currentTimeMillis();
+            long readTime = Math.max(now, nextReadTime);
+            nextReadTime = readTime + readDelay;
+            delay = readTime - now;
+        }
+        if (delay > 0) {
+            Thread.sleep(delay);
+        }
+
+        long start = System.currentTimeMillis();
+        JsonObject jsonNode = remoteDevice.getServiceNode(path);
+        serviceLatencies.put(path, System.currentTimeMillis() - start);
+        if (jsonNode == null || jsonNode.isJsonNull()) {
+            logger.debug("Communication with service {} is not possible", path);
+            return false;
+        }
+        synchronized (remoteDevice) {
+            KM200ServiceObject object = remoteDevice.getServiceObject(path);
+            object.setJSONData(jsonNode);
+            object.setUpdated(true);
+        }
+        return true;
+    }
+
+    /**
+     * Updates a channel from the data already read from the device
+     */
+    private void updateChannel(Channel channel) {
+        State state;
+        synchronized (remoteDevice) {
+            String service = KM200Utils.checkParameterReplacement(channel, remoteDevice);
+            synchronized (sendMap) {
+                if (sendMap.containsKey(channel)) {
+                    state = dataHandler.parseJSONData(sendMap.get(channel),
+                            remoteDevice.getServiceObject(service).getServiceType(), service,
+                            channel.getAcceptedItemType(), KM200Utils.getChannelConfigurationStrings(channel));
+                } else {
+                    if (remoteDevice.containsService(service)) {
+                        /* The data of virtual services is taken from the parent read before */
+                        remoteDevice.getServiceObject(service).setUpdated(true);
+                    }
+                    state = dataHandler.getProvidersState(service, channel.getAcceptedItemType(),
+                            KM200Utils.getChannelConfigurationStrings(channel));
                 }
             }
         }
+        if (state != null) {
+            try {
+                updateState(channel.getUID(), state);
+            } catch (IllegalStateException e) {
+                logger.error("Could not get updated item state, Error: {}", e);
+            }
+        }
+    }
+
+    /**
+     * Returns the duration of the last refresh of all channels in ms
+     */
+    public long getLastRefreshDuration() {
+        return lastRefreshDuration;
+    }
 
+    /**
+     * Returns the latency of the last read of every service in ms
+     */
+    public Map<String, Long> getServiceLatencies() {
+        return Collections.unmodifiableMap(new HashMap<>(serviceLatencies));
     }
 
     /**
@@ -448,27 +630,12 @@ public class KM200GatewayHandler extends BaseBridgeHandler {
      */
     private class GetKM200Runnable implements Runnable {
 
-        private final KM200GatewayHandler gatewayHandler;
-        private final KM200Device remoteDevice;
         private final Logger logger = LoggerFactory.getLogger(GetKM200Runnable.class);
-        private final Map<Channel, JsonObject> sendMap;
-
-        public GetKM200Runnable(Map<Channel, JsonObject> sendMap, KM200GatewayHandler gatewayHandler,
-                KM200Device remoteDevice) {
-            this.sendMap = sendMap;
-            this.gatewayHandler = gatewayHandler;
-            this.remoteDevice = remoteDevice;
-        }
 
         @Override
         public void run() {
             logger.debug("GetKM200Runnable");
-            synchronized (remoteDevice) {
-                if (remoteDevice.getInited()) {
-                    remoteDevice.resetAllUpdates(remoteDevice.serviceTreeMap);
-                    updateChildren(sendMap, gatewayHandler, remoteDevice, null);
-                }
-            }
+            refreshChannels();
         }
     }
 
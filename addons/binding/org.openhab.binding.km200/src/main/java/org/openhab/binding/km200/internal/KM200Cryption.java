@@ -33,10 +33,57 @@ public class KM200Cryption {
 
     private final KM200Device remoteDevice;
 
+    /* Ciphers are not thread safe, every thread keeps its own ones */
+    private final ThreadLocal<CipherHolder> decryptCipher = ThreadLocal.withInitial(CipherHolder::new);
+    private final ThreadLocal<CipherHolder> encryptCipher = ThreadLocal.withInitial(CipherHolder::new);
+
+    /* Key spec of the current private key */
+    private SecretKeySpec keySpec;
+    private byte[] keySpecSource;
+
+    /**
+     * A cipher of a thread together with the key it is initialized with.
+     */
+    private static class CipherHolder {
+        Cipher cipher;
+        SecretKeySpec key;
+    }
+
     public KM200Cryption(KM200Device remoteDevice) {
         this.remoteDevice = remoteDevice;
     }
 
+    /**
+     * This function returns the key spec of the private key, it is only rebuilt if the key changed.
+     *
+     */
+    private synchronized SecretKeySpec getKeySpec() {
+        byte[] key = remoteDevice.getCryptKeyPriv();
+        if (keySpec == null || key != keySpecSource) {
+            keySpec = new SecretKeySpec(key, "AES");
+            keySpecSource = key;
+        }
+        return keySpec;
+    }
+
+    /**
+     * This function returns the cipher of the current thread, initialized for the current private key. Cipher
+     * instances are reused, AES/ECB/NoPadding keeps no state between two doFinal calls.
+     *
+     */
+    private Cipher getCipher(ThreadLocal<CipherHolder> holders, int mode) throws GeneralSecurityException {
+        CipherHolder holder = holders.get();
+        SecretKeySpec spec = getKeySpec();
+        if (holder.cipher == null) {
+            holder.cipher = Cipher.getInstance("AES/ECB/NoPadding");
+        }
+        if (holder.key != spec) {
+            holder.cipher.init(mode, spec);
+            holder.key = spec;
+        }
+        return holder.cipher;
+    }
+
     /**
      * This function removes zero padding from a byte array.
      *
@@ -82,14 +129,13 @@ public class KM200Cryption {
                 logger.debug("Did NOT decrypt message");
                 return retString;
             }
-            // --- create cipher
-            final Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
-            cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(remoteDevice.getCryptKeyPriv(), "AES"));
+            final Cipher cipher = getCipher(decryptCipher, Cipher.DECRYPT_MODE);
             byte[] decryptedData = cipher.doFinal(decodedB64);
             byte[] decryptedDataWOZP = removeZeroPadding(decryptedData);
             return (new String(decryptedDataWOZP, remoteDevice.getCharSet()));
         } catch (UnsupportedEncodingException | GeneralSecurityException e) {
             logger.debug("Exception on encoding: {}", e);
+            decryptCipher.remove();
             return null;
         }
     }
@@ -100,10 +146,8 @@ public class KM200Cryption {
      */
     public byte[] encodeMessage(String data) {
         try {
-            // --- create cipher
             byte[] bdata = data.getBytes(remoteDevice.getCharSet());
-            final Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
-            cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(remoteDevice.getCryptKeyPriv(), "AES"));
+            final Cipher cipher = getCipher(encryptCipher, Cipher.ENCRYPT_MODE);
             int bsize = cipher.getBlockSize();
             logger.debug("Add Padding, encrypt AES and B64..");
             byte[] encryptedData = cipher.doFinal(addZeroPadding(bdata, bsize, remoteDevice.getCharSet()));
@@ -114,6 +158,7 @@ public class KM200Cryption {
             }
         } catch (UnsupportedEncodingException | GeneralSecurityException e) {
             logger.error("Exception on encoding: {}", e);
+            encryptCipher.remove();
         }
         return null;
     }
@@ -598,14 +598,15 @@ public class KodiHandler extends BaseThingHandler implements KodiEventListener {
     public void updateConnectionState(boolean connected) {
         if (connected) {
             updateStatus(ThingStatus.ONLINE);
-            scheduler.schedule(() -> connection.getSystemProperties(), 1, TimeUnit.SECONDS);
-            scheduler.schedule(() -> connection.updateVolume(), 1, TimeUnit.SECONDS);
-            try {
-                String version = connection.getVersion();
-                thing.setProperty(PROPERTY_VERSION, version);
-            } catch (Exception e) {
-                logger.debug("error during reading version: {}", e.getMessage(), e);
-            }
+            // version, volume and system properties are requested in a single batch request
+            scheduler.schedule(() -> {
+                try {
+                    String version = connection.updateConnectionProperties();
+                    thing.setProperty(PROPERTY_VERSION, version);
+                } catch (Exception e) {
+                    logger.debug("error during reading connection properties: {}", e.getMessage(), e);
+                }
+            }, 1, TimeUnit.SECONDS);
         } else {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "No connection established");
         }
@@ -10,10 +10,21 @@ package org.openhab.binding.kodi.internal.protocol;
 
 import java.io.IOException;
 import java.net.URI;
-import java.util.concurrent.CountDownLatch;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketConnect;
@@ -25,6 +36,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -33,6 +45,9 @@ import com.google.gson.JsonParser;
  * KodiClientSocket implements the low level communication to Kodi through
  * websocket. Usually this communication is done through port 9090
  *
+ * Requests are sent asynchronously, any number of them may be outstanding at the same time. The responses are
+ * correlated to the requests by their id.
+ *
  * @author Paul Frank - Initial contribution
  */
 public class KodiClientSocket {
@@ -42,17 +57,23 @@ public class KodiClientSocket {
     private final ScheduledExecutorService scheduler;
     private static final int REQUEST_TIMEOUT_MS = 60000;
 
-    private CountDownLatch commandLatch = null;
-    private JsonObject commandResponse = null;
-    private int nextMessageId = 1;
+    private final AtomicInteger nextMessageId = new AtomicInteger(1);
+    private final Map<Integer, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+    private final Object sendLock = new Object();
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong completedRequests = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
 
-    private boolean connected = false;
+    private volatile boolean connected = false;
 
     private final JsonParser parser = new JsonParser();
     private final Gson mapper = new Gson();
     private final URI uri;
     private final WebSocketClient client;
-    private Session session;
+    private volatile Session session;
 
     private final KodiClientSocketEventListener eventHandler;
 
@@ -84,14 +105,17 @@ public class KodiClientSocket {
      */
     public void close() {
         // if there is an old web socket then clean up and destroy
-        if (session != null) {
-            session.close();
+        Session currentSession = session;
+        if (currentSession != null) {
+            currentSession.close();
             session = null;
         }
+        failPendingRequests(new IOException("connection closed"));
     }
 
     public boolean isConnected() {
-        if (session == null || !session.isOpen()) {
+        Session currentSession = session;
+        if (currentSession == null || !currentSession.isOpen()) {
             return false;
         }
         return connected;
@@ -119,13 +143,19 @@ public class KodiClientSocket {
         @OnWebSocketMessage
         public void onMessage(String message) {
             logger.debug("Message received from server: {}", message);
-            final JsonObject json = parser.parse(message).getAsJsonObject();
-            if (json.has("id")) {
-                int messageId = json.get("id").getAsInt();
-                if (messageId == nextMessageId - 1) {
-                    commandResponse = json;
-                    commandLatch.countDown();
+            final JsonElement element = parser.parse(message);
+            if (element.isJsonArray()) {
+                // response to a batch request
+                for (JsonElement response : element.getAsJsonArray()) {
+                    if (response.isJsonObject() && response.getAsJsonObject().has("id")) {
+                        handleResponse(response.getAsJsonObject());
+                    }
                 }
+                return;
+            }
+            final JsonObject json = element.getAsJsonObject();
+            if (json.has("id")) {
+                handleResponse(json);
             } else {
                 logger.debug("Event received from server: {}", json);
                 if (eventHandler != null) {
@@ -146,6 +176,7 @@ public class KodiClientSocket {
             logger.debug("Closing a WebSocket due to {}", reason);
             session = null;
             connected = false;
+            failPendingRequests(new IOException("connection closed: " + reason));
             if (eventHandler != null) {
                 scheduler.submit(() -> {
                     try {
@@ -159,52 +190,222 @@ public class KodiClientSocket {
     }
 
     private void sendMessage(String str) throws IOException {
-        if (isConnected()) {
+        Session currentSession = session;
+        if (isConnected() && currentSession != null) {
             logger.debug("send message: {}", str);
-            session.getRemote().sendString(str);
+            // a blocking send must not be started while another one is pending
+            synchronized (sendLock) {
+                currentSession.getRemote().sendString(str);
+            }
         } else {
             throw new IOException("socket not initialized");
         }
     }
 
-    public JsonElement callMethod(String methodName) {
-        return callMethod(methodName, null);
-    }
+    /**
+     * Handles a response to a request, the request is looked up by the id of the response.
+     */
+    private void handleResponse(JsonObject json) {
+        JsonElement id = json.get("id");
+        PendingRequest request = id.isJsonNull() ? null : pendingRequests.remove(id.getAsInt());
+        if (request == null) {
+            logger.debug("Response to an unknown or timed out request received from server: {}", json);
+            return;
+        }
+        if (request.timeout != null) {
+            request.timeout.cancel(false);
+        }
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - request.start);
+        totalLatency.addAndGet(latency);
+        maxLatency.accumulateAndGet(latency, Math::max);
+        completedRequests.incrementAndGet();
+        logger.trace("{} returned after {} ms", request.method, latency);
 
-    public synchronized JsonElement callMethod(String methodName, JsonObject params) {
-        try {
-            JsonObject payloadObject = new JsonObject();
-            payloadObject.addProperty("jsonrpc", "2.0");
-            payloadObject.addProperty("id", nextMessageId);
-            payloadObject.addProperty("method", methodName);
+        if (json.has("result")) {
+            request.future.complete(json.get("result"));
+        } else {
+            JsonElement error = json.get("error");
+            logger.debug("Error received from server for {}: {}", request.method, error);
+            request.future.complete(null);
+        }
+    }
 
-            if (params != null) {
-                payloadObject.add("params", params);
+    private void failPendingRequests(Throwable cause) {
+        for (Integer id : pendingRequests.keySet()) {
+            PendingRequest request = pendingRequests.remove(id);
+            if (request != null) {
+                if (request.timeout != null) {
+                    request.timeout.cancel(false);
+                }
+                request.future.completeExceptionally(cause);
             }
+        }
+    }
 
-            String message = mapper.toJson(payloadObject);
+    private JsonObject createRequest(int id, String methodName, @Nullable JsonObject params) {
+        JsonObject payloadObject = new JsonObject();
+        payloadObject.addProperty("jsonrpc", "2.0");
+        payloadObject.addProperty("id", id);
+        payloadObject.addProperty("method", methodName);
 
-            commandLatch = new CountDownLatch(1);
-            commandResponse = null;
-            nextMessageId++;
+        if (params != null) {
+            payloadObject.add("params", params);
+        }
+        return payloadObject;
+    }
+
+    private CompletableFuture<JsonElement> registerRequest(int id, String methodName, long timeoutMs) {
+        PendingRequest request = new PendingRequest(methodName);
+        pendingRequests.put(id, request);
+        requests.incrementAndGet();
+        request.timeout = scheduler.schedule(() -> {
+            if (pendingRequests.remove(id, request)) {
+                timeouts.incrementAndGet();
+                logger.debug("Timeout during callMethod({}) after {} ms", methodName, timeoutMs);
+                request.future.completeExceptionally(
+                        new TimeoutException("No response to " + methodName + " within " + timeoutMs + " ms"));
+            }
+        }, timeoutMs, TimeUnit.MILLISECONDS);
+        return request.future;
+    }
 
+    private void send(String message, List<Integer> ids) {
+        try {
             sendMessage(message);
-            if (commandLatch.await(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
-                logger.debug("callMethod returns {}", commandResponse);
-                if (commandResponse.has("result")) {
-                    return commandResponse.get("result");
-                } else {
-                    JsonElement error = commandResponse.get("error");
-                    logger.debug("Error received from server: {}", error);
-                    return null;
+        } catch (IOException | RuntimeException e) {
+            for (Integer id : ids) {
+                PendingRequest request = pendingRequests.remove(id);
+                if (request != null) {
+                    if (request.timeout != null) {
+                        request.timeout.cancel(false);
+                    }
+                    request.future.completeExceptionally(e);
                 }
-            } else {
-                logger.debug("Timeout during callMethod({}, {})", methodName, params);
-                return null;
             }
-        } catch (Exception e) {
-            logger.debug("Error during callMethod({}): {}", methodName, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Sends a request without waiting for the response. Any number of requests may be outstanding at the same time,
+     * the responses are correlated by their id.
+     *
+     * @param methodName the JSON-RPC method
+     * @param params the parameters or null
+     * @param timeoutMs time in milliseconds after which the future completes exceptionally
+     * @return the future result, completed with null if Kodi returned an error
+     */
+    public CompletableFuture<JsonElement> callMethodAsync(String methodName, @Nullable JsonObject params,
+            long timeoutMs) {
+        int id = nextMessageId.getAndIncrement();
+        CompletableFuture<JsonElement> future = registerRequest(id, methodName, timeoutMs);
+        send(mapper.toJson(createRequest(id, methodName, params)), Collections.singletonList(id));
+        return future;
+    }
+
+    public CompletableFuture<JsonElement> callMethodAsync(String methodName, @Nullable JsonObject params) {
+        return callMethodAsync(methodName, params, REQUEST_TIMEOUT_MS);
+    }
+
+    /**
+     * Sends several requests as one JSON-RPC batch, so all of them need a single round-trip.
+     *
+     * @param batch the requests
+     * @return the future results in the order of the requests
+     */
+    public List<CompletableFuture<JsonElement>> callMethodsAsync(List<Request> batch) {
+        JsonArray payload = new JsonArray();
+        List<Integer> ids = new ArrayList<>(batch.size());
+        List<CompletableFuture<JsonElement>> futures = new ArrayList<>(batch.size());
+        for (Request request : batch) {
+            int id = nextMessageId.getAndIncrement();
+            ids.add(id);
+            futures.add(registerRequest(id, request.method, REQUEST_TIMEOUT_MS));
+            payload.add(createRequest(id, request.method, request.params));
+        }
+        send(mapper.toJson(payload), ids);
+        return futures;
+    }
+
+    public JsonElement callMethod(String methodName) {
+        return callMethod(methodName, null);
+    }
+
+    /**
+     * Sends a request and waits for the response.
+     *
+     * @return the result or null in case of an error or a timeout
+     */
+    public JsonElement callMethod(String methodName, @Nullable JsonObject params) {
+        return getResult(methodName, callMethodAsync(methodName, params));
+    }
+
+    /**
+     * Sends several requests as one JSON-RPC batch and waits for the responses.
+     *
+     * @return the results in the order of the requests, null for requests which failed
+     */
+    public List<JsonElement> callMethods(List<Request> batch) {
+        List<CompletableFuture<JsonElement>> futures = callMethodsAsync(batch);
+        List<JsonElement> results = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            results.add(getResult(batch.get(i).method, futures.get(i)));
+        }
+        return results;
+    }
+
+    private JsonElement getResult(String methodName, CompletableFuture<JsonElement> future) {
+        try {
+            JsonElement result = future.get();
+            logger.debug("callMethod returns {}", result);
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            logger.debug("Error during callMethod({}): {}", methodName, e.getCause().getMessage());
             return null;
         }
     }
+
+    public int getInFlightRequests() {
+        return pendingRequests.size();
+    }
+
+    public long getAverageLatency() {
+        long count = completedRequests.get();
+        return count == 0 ? 0 : totalLatency.get() / count;
+    }
+
+    public long getMaxLatency() {
+        return maxLatency.get();
+    }
+
+    public void logStatistics() {
+        logger.debug("{}: {} requests, {} in flight, {} timed out, latency average {} ms, max {} ms", uri,
+                requests.get(), getInFlightRequests(), timeouts.get(), getAverageLatency(), getMaxLatency());
+    }
+
+    /**
+     * A request of a JSON-RPC batch
+     */
+    public static class Request {
+        private final String method;
+        private final @Nullable JsonObject params;
+
+        public Request(String method, @Nullable JsonObject params) {
+            this.method = method;
+            this.params = params;
+        }
+    }
+
+    private static class PendingRequest {
+        final String method;
+        final long start = System.nanoTime();
+        final CompletableFuture<JsonElement> future = new CompletableFuture<>();
+        volatile ScheduledFuture<?> timeout;
+
+        PendingRequest(String method) {
+            this.method = method;
+        }
+    }
 }
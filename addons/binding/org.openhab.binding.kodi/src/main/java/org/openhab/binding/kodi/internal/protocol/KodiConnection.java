@@ -84,7 +84,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
     private String hostname;
     private URI wsUri;
     private URI imageUri;
-    private KodiClientSocket socket;
+    private volatile KodiClientSocket socket;
 
     private int volume = 0;
     private KodiState currentState = KodiState.STOP;
@@ -163,7 +163,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         return -1;
     }
 
-    private synchronized JsonArray getPlaylistsInternal() {
+    private JsonArray getPlaylistsInternal() {
         String method = "Playlist.GetPlaylists";
         String hash = hostname + '#' + method;
         JsonElement response = REQUEST_CACHE.putIfAbsentAndGet(hash, () -> {
@@ -177,7 +177,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         }
     }
 
-    private synchronized JsonObject getPlaylistItemsInternal(int playlistID) {
+    private JsonObject getPlaylistItemsInternal(int playlistID) {
         JsonObject params = new JsonObject();
         params.addProperty("playlistid", playlistID);
         JsonElement response = socket.callMethod("Playlist.GetItems", params);
@@ -189,7 +189,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         }
     }
 
-    public synchronized void playerPlayPause() {
+    public void playerPlayPause() {
         int activePlayer = getActivePlayer();
 
         JsonObject params = new JsonObject();
@@ -197,7 +197,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         socket.callMethod("Player.PlayPause", params);
     }
 
-    public synchronized void playerStop() {
+    public void playerStop() {
         int activePlayer = getActivePlayer();
 
         JsonObject params = new JsonObject();
@@ -205,13 +205,13 @@ public class KodiConnection implements KodiClientSocketEventListener {
         socket.callMethod("Player.Stop", params);
     }
 
-    public synchronized void playerNext() {
+    public void playerNext() {
         goToInternal("next");
 
         updatePlayerStatus();
     }
 
-    public synchronized void playerPrevious() {
+    public void playerPrevious() {
         goToInternal("previous");
 
         updatePlayerStatus();
@@ -226,13 +226,13 @@ public class KodiConnection implements KodiClientSocketEventListener {
         socket.callMethod("Player.GoTo", params);
     }
 
-    public synchronized void playerRewind() {
+    public void playerRewind() {
         setSpeedInternal(calcNextSpeed(-1));
 
         updatePlayerStatus();
     }
 
-    public synchronized void playerFastForward() {
+    public void playerFastForward() {
         setSpeedInternal(calcNextSpeed(1));
 
         updatePlayerStatus();
@@ -263,7 +263,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         socket.callMethod("Player.SetSpeed", params);
     }
 
-    public synchronized void playlistAdd(int playlistID, String uri) {
+    public void playlistAdd(int playlistID, String uri) {
         currentPlaylistState = KodiPlaylistState.ADD;
 
         JsonObject item = new JsonObject();
@@ -275,7 +275,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         socket.callMethod("Playlist.Add", params);
     }
 
-    public synchronized void playlistClear(int playlistID) {
+    public void playlistClear(int playlistID) {
         currentPlaylistState = KodiPlaylistState.CLEAR;
 
         JsonObject params = new JsonObject();
@@ -283,7 +283,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         socket.callMethod("Playlist.Clear", params);
     }
 
-    public synchronized void playlistInsert(int playlistID, String uri, int position) {
+    public void playlistInsert(int playlistID, String uri, int position) {
         currentPlaylistState = KodiPlaylistState.INSERT;
 
         JsonObject item = new JsonObject();
@@ -296,7 +296,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         socket.callMethod("Playlist.Insert", params);
     }
 
-    public synchronized void playlistPlay(int playlistID, int position) {
+    public void playlistPlay(int playlistID, int position) {
         JsonObject item = new JsonObject();
         item.addProperty("playlistid", playlistID);
         item.addProperty("position", position);
@@ -304,7 +304,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         playInternal(item);
     }
 
-    public synchronized void playlistRemove(int playlistID, int position) {
+    public void playlistRemove(int playlistID, int position) {
         currentPlaylistState = KodiPlaylistState.REMOVE;
 
         JsonObject params = new JsonObject();
@@ -318,7 +318,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
      *
      * @return a list of {@link KodiFavorite}
      */
-    public synchronized List<KodiFavorite> getFavorites() {
+    public List<KodiFavorite> getFavorites() {
         String method = "Favourites.GetFavourites";
         String hash = hostname + '#' + method;
         JsonElement response = REQUEST_CACHE.putIfAbsentAndGet(hash, () -> {
@@ -375,7 +375,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
      *
      * @param window the window
      */
-    public synchronized void activateWindow(final String window) {
+    public void activateWindow(final String window) {
         activateWindow(window, null);
     }
 
@@ -385,7 +385,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
      * @param window the window
      * @param windowParameter list of parameters of the window
      */
-    public synchronized void activateWindow(final String window, @Nullable final String[] windowParameter) {
+    public void activateWindow(final String window, @Nullable final String[] windowParameter) {
         JsonObject params = new JsonObject();
         params.addProperty("window", window);
         if (windowParameter != null) {
@@ -394,15 +394,15 @@ public class KodiConnection implements KodiClientSocketEventListener {
         socket.callMethod("GUI.ActivateWindow", params);
     }
 
-    public synchronized void increaseVolume() {
+    public void increaseVolume() {
         setVolumeInternal(this.volume + VOLUMESTEP);
     }
 
-    public synchronized void decreaseVolume() {
+    public void decreaseVolume() {
         setVolumeInternal(this.volume - VOLUMESTEP);
     }
 
-    public synchronized void setVolume(int volume) {
+    public void setVolume(int volume) {
         setVolumeInternal(volume);
     }
 
@@ -416,7 +416,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         return volume;
     }
 
-    public synchronized void setMute(boolean mute) {
+    public void setMute(boolean mute) {
         JsonObject params = new JsonObject();
         params.addProperty("mute", mute);
         socket.callMethod("Application.SetMute", params);
@@ -836,31 +836,67 @@ public class KodiConnection implements KodiClientSocketEventListener {
             params.add("properties", getJsonArray(props));
             JsonElement response = socket.callMethod("Application.GetProperties", params);
 
-            if (response instanceof JsonObject) {
-                JsonObject data = response.getAsJsonObject();
-                if (data.has(PROPERTY_VOLUME)) {
-                    volume = data.get(PROPERTY_VOLUME).getAsInt();
-                    listener.updateVolume(volume);
-                }
-                if (data.has(PROPERTY_MUTED)) {
-                    boolean muted = data.get(PROPERTY_MUTED).getAsBoolean();
-                    listener.updateMuted(muted);
-                }
-            }
+            processVolume(response);
         } else {
             listener.updateMuted(false);
             listener.updateVolume(100);
         }
     }
 
-    public synchronized void playURI(String uri) {
+    private void processVolume(JsonElement response) {
+        if (response instanceof JsonObject) {
+            JsonObject data = response.getAsJsonObject();
+            if (data.has(PROPERTY_VOLUME)) {
+                volume = data.get(PROPERTY_VOLUME).getAsInt();
+                listener.updateVolume(volume);
+            }
+            if (data.has(PROPERTY_MUTED)) {
+                boolean muted = data.get(PROPERTY_MUTED).getAsBoolean();
+                listener.updateMuted(muted);
+            }
+        }
+    }
+
+    /**
+     * Requests the version, volume, mute state and system properties in one batch request and passes them to the
+     * listener.
+     *
+     * @return the version of Kodi or an empty string
+     */
+    public String updateConnectionProperties() {
+        if (!socket.isConnected()) {
+            listener.updateSystemProperties(null);
+            listener.updateMuted(false);
+            listener.updateVolume(100);
+            return "";
+        }
+        String[] applicationProps = { PROPERTY_VERSION, PROPERTY_VOLUME, PROPERTY_MUTED };
+        JsonObject applicationParams = new JsonObject();
+        applicationParams.add("properties", getJsonArray(applicationProps));
+
+        String[] systemProps = { PROPERTY_CANHIBERNATE, PROPERTY_CANREBOOT, PROPERTY_CANSHUTDOWN,
+                PROPERTY_CANSUSPEND };
+        JsonObject systemParams = new JsonObject();
+        systemParams.add("properties", getJsonArray(systemProps));
+
+        List<KodiClientSocket.Request> batch = Arrays.asList(
+                new KodiClientSocket.Request("Application.GetProperties", applicationParams),
+                new KodiClientSocket.Request("System.GetProperties", systemParams));
+        List<JsonElement> responses = socket.callMethods(batch);
+
+        processVolume(responses.get(0));
+        listener.updateSystemProperties(parseSystemProperties(responses.get(1)));
+        return parseVersion(responses.get(0));
+    }
+
+    public void playURI(String uri) {
         JsonObject item = new JsonObject();
         item.addProperty("file", uri);
 
         playInternal(item);
     }
 
-    public synchronized List<KodiPVRChannelGroup> getPVRChannelGroups(final String pvrChannelType) {
+    public List<KodiPVRChannelGroup> getPVRChannelGroups(final String pvrChannelType) {
         String method = "PVR.GetChannelGroups";
         String hash = hostname + '#' + method + "#channeltype=" + pvrChannelType;
         JsonElement response = REQUEST_CACHE.putIfAbsentAndGet(hash, () -> {
@@ -900,7 +936,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         return pvrChannelGroups.isEmpty() ? 0 : pvrChannelGroups.get(0).getId();
     }
 
-    public synchronized List<KodiPVRChannel> getPVRChannels(final int pvrChannelGroupId) {
+    public List<KodiPVRChannel> getPVRChannels(final int pvrChannelGroupId) {
         String method = "PVR.GetChannels";
         String hash = hostname + '#' + method + "#channelgroupid=" + pvrChannelGroupId;
         JsonElement response = REQUEST_CACHE.putIfAbsentAndGet(hash, () -> {
@@ -938,7 +974,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         return 0;
     }
 
-    public synchronized void playPVRChannel(final int pvrChannelId) {
+    public void playPVRChannel(final int pvrChannelId) {
         JsonObject item = new JsonObject();
         item.addProperty("channelid", pvrChannelId);
 
@@ -951,7 +987,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         socket.callMethod("Player.Open", params);
     }
 
-    public synchronized void showNotification(String message) {
+    public void showNotification(String message) {
         JsonObject params = new JsonObject();
         params.addProperty("title", "openHAB");
         params.addProperty("message", message);
@@ -971,6 +1007,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
             }
         } else {
             // Ping Kodi with the get version command. This prevents the idle timeout on the web socket.
+            socket.logStatistics();
             return !getVersion().isEmpty();
         }
     }
@@ -987,15 +1024,20 @@ public class KodiConnection implements KodiClientSocketEventListener {
             params.add("properties", getJsonArray(props));
             JsonElement response = socket.callMethod("Application.GetProperties", params);
 
-            if (response instanceof JsonObject) {
-                JsonObject result = response.getAsJsonObject();
-                if (result.has(PROPERTY_VERSION)) {
-                    JsonObject version = result.get(PROPERTY_VERSION).getAsJsonObject();
-                    int major = version.get("major").getAsInt();
-                    int minor = version.get("minor").getAsInt();
-                    String revision = version.get("revision").getAsString();
-                    return String.format("%d.%d (%s)", major, minor, revision);
-                }
+            return parseVersion(response);
+        }
+        return "";
+    }
+
+    private String parseVersion(JsonElement response) {
+        if (response instanceof JsonObject) {
+            JsonObject result = response.getAsJsonObject();
+            if (result.has(PROPERTY_VERSION)) {
+                JsonObject version = result.get(PROPERTY_VERSION).getAsJsonObject();
+                int major = version.get("major").getAsInt();
+                int minor = version.get("minor").getAsInt();
+                String revision = version.get("revision").getAsString();
+                return String.format("%d.%d (%s)", major, minor, revision);
             }
         }
         return "";
@@ -1026,15 +1068,19 @@ public class KodiConnection implements KodiClientSocketEventListener {
             params.add("properties", getJsonArray(props));
             JsonElement response = socket.callMethod("System.GetProperties", params);
 
-            try {
-                systemProperties = gson.fromJson(response, KodiSystemProperties.class);
-            } catch (JsonSyntaxException e) {
-                // do nothing
-            }
+            systemProperties = parseSystemProperties(response);
         }
         listener.updateSystemProperties(systemProperties);
     }
 
+    private KodiSystemProperties parseSystemProperties(JsonElement response) {
+        try {
+            return gson.fromJson(response, KodiSystemProperties.class);
+        } catch (JsonSyntaxException e) {
+            return null;
+        }
+    }
+
     public void sendApplicationQuit() {
         String method = "Application.Quit";
         socket.callMethod(method);
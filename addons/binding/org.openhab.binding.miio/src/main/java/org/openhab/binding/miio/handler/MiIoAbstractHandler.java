@@ -283,7 +283,13 @@ public abstract class MiIoAbstractHandler extends BaseThingHandler implements Mi
                 logger.debug("No device ID defined. Retrieving Mi device ID");
                 MiIoAsyncCommunication miioCom = new MiIoAsyncCommunication(configuration.host, token, new byte[0],
                         lastId, configuration.timeout);
-                Message miIoResponse = miioCom.sendPing(configuration.host);
+                Message miIoResponse;
+                try {
+                    miIoResponse = miioCom.sendPing(configuration.host);
+                } catch (IOException e) {
+                    miioCom.close();
+                    throw e;
+                }
                 if (miIoResponse != null) {
                     logger.debug("Ping response from device {} at {}. Time stamp: {}, OH time {}, delta {}",
                             Utils.getHex(miIoResponse.getDeviceId()), configuration.host, miIoResponse.getTimestamp(),
@@ -296,8 +302,11 @@ public abstract class MiIoAbstractHandler extends BaseThingHandler implements Mi
                     logger.debug("Using retrieved Mi device ID: {}", deviceId);
                     updateDeviceIdConfig(deviceId);
                     miioCom.registerListener(this);
+                    this.miioCom = miioCom;
                     return miioCom;
                 }
+                // the communication holds the shared transport
+                miioCom.close();
             }
             logger.debug("Ping response from device {} at {} FAILED", configuration.deviceId, configuration.host);
             disconnectedNoResponse();
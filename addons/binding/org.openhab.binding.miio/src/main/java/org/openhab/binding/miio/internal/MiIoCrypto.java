@@ -13,6 +13,8 @@ import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
@@ -23,15 +25,62 @@ import javax.crypto.spec.SecretKeySpec;
 
 /**
  * The {@link MiIoCrypto} is responsible for creating Xiaomi messages.
+ * The key and IV derived from a token are cached, the digests and ciphers are reused per thread.
  *
  * @author Marcel Verpaalen - Initial contribution
  */
 public class MiIoCrypto {
 
+    private static final String CIPHER_TRANSFORMATION = "AES/CBC/PKCS5Padding";
+
+    private static final ThreadLocal<MessageDigest> DIGESTS = new ThreadLocal<>();
+    private static final ThreadLocal<Cipher> CIPHERS = new ThreadLocal<>();
+    private static final Map<String, TokenKey> TOKEN_KEYS = new ConcurrentHashMap<>();
+
+    /**
+     * Key and IV derived from a token
+     */
+    private static class TokenKey {
+        private final SecretKeySpec keySpec;
+        private final IvParameterSpec vector;
+
+        TokenKey(byte[] key, byte[] iv) {
+            keySpec = new SecretKeySpec(key, "AES");
+            vector = new IvParameterSpec(iv);
+        }
+    }
+
+    private static MessageDigest getDigest() throws NoSuchAlgorithmException {
+        MessageDigest m = DIGESTS.get();
+        if (m == null) {
+            m = MessageDigest.getInstance("MD5");
+            DIGESTS.set(m);
+        }
+        return m;
+    }
+
+    private static Cipher getCipher() throws NoSuchAlgorithmException, NoSuchPaddingException {
+        Cipher cipher = CIPHERS.get();
+        if (cipher == null) {
+            cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+            CIPHERS.set(cipher);
+        }
+        return cipher;
+    }
+
+    private static TokenKey getTokenKey(byte[] token) throws MiIoCryptoException {
+        String hexToken = Utils.getHex(token);
+        TokenKey tokenKey = TOKEN_KEYS.get(hexToken);
+        if (tokenKey == null) {
+            tokenKey = new TokenKey(md5(token), iv(token));
+            TOKEN_KEYS.put(hexToken, tokenKey);
+        }
+        return tokenKey;
+    }
+
     public static byte[] md5(byte[] source) throws MiIoCryptoException {
         try {
-            MessageDigest m = MessageDigest.getInstance("MD5");
-            return m.digest(source);
+            return getDigest().digest(source);
         } catch (NoSuchAlgorithmException e) {
             throw new MiIoCryptoException(e.getMessage());
         }
@@ -39,7 +88,7 @@ public class MiIoCrypto {
 
     public static byte[] iv(byte[] token) throws MiIoCryptoException {
         try {
-            MessageDigest m = MessageDigest.getInstance("MD5");
+            MessageDigest m = getDigest();
             byte[] ivbuf = new byte[32];
             System.arraycopy(m.digest(token), 0, ivbuf, 0, 16);
             System.arraycopy(token, 0, ivbuf, 16, 16);
@@ -49,40 +98,34 @@ public class MiIoCrypto {
         }
     }
 
-    public static byte[] encrypt(byte[] cipherText, byte[] key, byte[] iv) throws MiIoCryptoException {
+    private static byte[] crypt(int mode, byte[] input, SecretKeySpec keySpec, IvParameterSpec vector)
+            throws MiIoCryptoException {
         try {
-            IvParameterSpec vector = new IvParameterSpec(iv);
-            Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
-            SecretKeySpec keySpec = new SecretKeySpec(key, "AES");
-            cipher.init(Cipher.ENCRYPT_MODE, keySpec, vector);
-            byte[] encrypted = cipher.doFinal(cipherText);
-            return encrypted;
+            Cipher cipher = getCipher();
+            cipher.init(mode, keySpec, vector);
+            return cipher.doFinal(input);
         } catch (InvalidKeyException | NoSuchAlgorithmException | NoSuchPaddingException
                 | InvalidAlgorithmParameterException | IllegalBlockSizeException | BadPaddingException e) {
             throw new MiIoCryptoException(e.getMessage());
         }
     }
 
+    public static byte[] encrypt(byte[] cipherText, byte[] key, byte[] iv) throws MiIoCryptoException {
+        return crypt(Cipher.ENCRYPT_MODE, cipherText, new SecretKeySpec(key, "AES"), new IvParameterSpec(iv));
+    }
+
     public static byte[] encrypt(byte[] text, byte[] token) throws MiIoCryptoException {
-        return encrypt(text, md5(token), iv(token));
+        TokenKey tokenKey = getTokenKey(token);
+        return crypt(Cipher.ENCRYPT_MODE, text, tokenKey.keySpec, tokenKey.vector);
     }
 
     public static byte[] decrypt(byte[] cipherText, byte[] key, byte[] iv) throws MiIoCryptoException {
-        try {
-            IvParameterSpec vector = new IvParameterSpec(iv);
-            Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
-            SecretKeySpec keySpec = new SecretKeySpec(key, "AES");
-            cipher.init(Cipher.DECRYPT_MODE, keySpec, vector);
-            byte[] crypted = cipher.doFinal(cipherText);
-            return (crypted);
-        } catch (InvalidKeyException | NoSuchAlgorithmException | NoSuchPaddingException
-                | InvalidAlgorithmParameterException | IllegalBlockSizeException | BadPaddingException e) {
-            throw new MiIoCryptoException(e.getMessage());
-        }
+        return crypt(Cipher.DECRYPT_MODE, cipherText, new SecretKeySpec(key, "AES"), new IvParameterSpec(iv));
     }
 
     public static byte[] decrypt(byte[] cipherText, byte[] token) throws MiIoCryptoException {
-        return decrypt(cipherText, md5(token), iv(token));
+        TokenKey tokenKey = getTokenKey(token);
+        return crypt(Cipher.DECRYPT_MODE, cipherText, tokenKey.keySpec, tokenKey.vector);
     }
 
     public static String decryptToken(byte[] cipherText) throws MiIoCryptoException {
@@ -9,19 +9,22 @@
 package org.openhab.binding.miio.internal.transport;
 
 import java.io.IOException;
-import java.net.DatagramPacket;
-import java.net.DatagramSocket;
+import java.io.InterruptedIOException;
 import java.net.InetAddress;
-import java.net.SocketException;
 import java.net.SocketTimeoutException;
-import java.util.Arrays;
 import java.util.Calendar;
 import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
@@ -42,20 +45,20 @@ import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
 
 /**
- * The {@link MiIoAsyncCommunication} is responsible for communications with the Mi IO devices
+ * The {@link MiIoAsyncCommunication} is responsible for communications with the Mi IO devices.
+ * The messages of all devices are exchanged over the shared {@link MiIoDatagramTransport}, the queued commands are
+ * sent one after the other without blocking a thread while waiting for the response.
  *
  * @author Marcel Verpaalen - Initial contribution
  */
 public class MiIoAsyncCommunication {
 
-    private static final int MSG_BUFFER_SIZE = 2048;
-
     private final Logger logger = LoggerFactory.getLogger(MiIoAsyncCommunication.class);
 
     private final String ip;
     private final byte[] token;
     private byte[] deviceId;
-    private DatagramSocket socket;
+    private MiIoDatagramTransport transport;
 
     private List<MiIoMessageListener> listeners = new CopyOnWriteArrayList<>();
 
@@ -63,16 +66,25 @@ public class MiIoAsyncCommunication {
     private int timeDelta;
     private int timeStamp;
     private final JsonParser parser;
-    private MessageSenderThread senderThread;
     private boolean connected;
     private ThingStatusDetail status;
     private int errorCounter;
     private int timeout;
     private boolean needPing = true;
     private static final int MAX_ERRORS = 3;
+    private static final int PING_ATTEMPTS = 3;
     private static final int MAX_ID = 1000;
+    private static final int STATISTICS_INTERVAL = 100;
+
+    private final BlockingQueue<MiIoSendCommand> commandQueue = new LinkedBlockingQueue<>();
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private boolean closed;
 
-    private ConcurrentLinkedQueue<MiIoSendCommand> concurrentLinkedQueue = new ConcurrentLinkedQueue<MiIoSendCommand>();
+    private final AtomicLong exchanges = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong totalRoundTripTime = new AtomicLong();
+    private final AtomicLong maxRoundTripTime = new AtomicLong();
 
     public MiIoAsyncCommunication(String ip, byte[] token, byte[] did, int id, int timeout) {
         this.ip = ip;
@@ -81,8 +93,6 @@ public class MiIoAsyncCommunication {
         this.timeout = timeout;
         setId(id);
         parser = new JsonParser();
-        senderThread = new MessageSenderThread();
-        senderThread.start();
     }
 
     protected List<MiIoMessageListener> getListeners() {
@@ -91,12 +101,13 @@ public class MiIoAsyncCommunication {
 
     /**
      * Registers a {@link MiIoMessageListener} to be called back, when data is received.
-     * If no {@link MessageSenderThread} exists, when the method is called, it is being set up.
+     * Queued commands are sent from then on.
      *
      * @param listener {@link MiIoMessageListener} to be called back
      */
     public synchronized void registerListener(MiIoMessageListener listener) {
         needPing = true;
+        closed = false;
         startReceiver();
         if (!getListeners().contains(listener)) {
             logger.trace("Adding socket listener {}", listener);
@@ -106,14 +117,14 @@ public class MiIoAsyncCommunication {
 
     /**
      * Unregisters a {@link MiIoMessageListener}. If there are no listeners left,
-     * the {@link MessageSenderThread} is being closed.
+     * the queued commands are dropped and the transport is released.
      *
      * @param listener {@link MiIoMessageListener} to be unregistered
      */
     public synchronized void unregisterListener(MiIoMessageListener listener) {
         getListeners().remove(listener);
         if (getListeners().isEmpty()) {
-            concurrentLinkedQueue.clear();
+            commandQueue.clear();
             close();
         }
     }
@@ -139,12 +150,17 @@ public class MiIoAsyncCommunication {
             fullCommand.add("params", parser.parse(params));
             MiIoSendCommand sendCmd = new MiIoSendCommand(cmdId, MiIoCommand.getCommand(command),
                     fullCommand.toString());
-            concurrentLinkedQueue.add(sendCmd);
+            commandQueue.add(sendCmd);
             logger.debug("Command added to Queue {} -> {} (Device: {} token: {} Queue: {})", fullCommand.toString(), ip,
-                    Utils.getHex(deviceId), Utils.getHex(token), concurrentLinkedQueue.size());
+                    Utils.getHex(deviceId), Utils.getHex(token), commandQueue.size());
             if (needPing) {
-                sendPing(ip);
+                // the ping is sent before the queued command, since exchanges with the device are serialized
+                sendPingAsync(ip, 0).exceptionally(e -> {
+                    logger.debug("Ping {} ({}) gave error {}", Utils.getHex(deviceId), ip, getCause(e).getMessage());
+                    return null;
+                });
             }
+            startReceiver();
             return cmdId;
         } catch (JsonSyntaxException e) {
             logger.warn("Send command '{}' with parameters {} -> {} (Device: {}) gave error {}", command, params, ip,
@@ -153,138 +169,168 @@ public class MiIoAsyncCommunication {
         }
     }
 
-    MiIoSendCommand sendMiIoSendCommand(MiIoSendCommand miIoSendCommand) {
-        String errorMsg = "Unknown Error while sending command";
-        String decryptedResponse = "";
-        try {
-            decryptedResponse = sendCommand(miIoSendCommand.getCommandString(), token, ip, deviceId);
-            // hack due to avoid invalid json errors from some misbehaving device firmwares
-            decryptedResponse = decryptedResponse.replace(",,", ",");
-            JsonElement response;
-            response = parser.parse(decryptedResponse);
-            if (response.isJsonObject()) {
-                logger.trace("Received  JSON message {}", response.toString());
-                miIoSendCommand.setResponse(response.getAsJsonObject());
-                return miIoSendCommand;
+    CompletableFuture<MiIoSendCommand> sendMiIoSendCommand(MiIoSendCommand miIoSendCommand) {
+        return sendCommand(miIoSendCommand.getCommandString(), token, ip, deviceId).handle((result, error) -> {
+            String errorMsg = "Unknown Error while sending command";
+            String decryptedResponse = "";
+            if (error == null) {
+                try {
+                    // hack due to avoid invalid json errors from some misbehaving device firmwares
+                    decryptedResponse = result.replace(",,", ",");
+                    JsonElement response;
+                    response = parser.parse(decryptedResponse);
+                    if (response.isJsonObject()) {
+                        logger.trace("Received  JSON message {}", response.toString());
+                        miIoSendCommand.setResponse(response.getAsJsonObject());
+                        return miIoSendCommand;
+                    } else {
+                        errorMsg = "Received message is invalid JSON";
+                        logger.debug("{}: {}", errorMsg, decryptedResponse);
+                    }
+                } catch (JsonSyntaxException e) {
+                    logger.warn("Could not parse '{}' <- {} (Device: {}) gave error {}", decryptedResponse,
+                            miIoSendCommand.getCommandString(), Utils.getHex(deviceId), e.getMessage());
+                    errorMsg = "Received message is invalid JSON";
+                }
             } else {
-                errorMsg = "Received message is invalid JSON";
-                logger.debug("{}: {}", errorMsg, decryptedResponse);
+                Throwable cause = getCause(error);
+                logger.debug("Send command '{}'  -> {} (Device: {}) gave error {}",
+                        miIoSendCommand.getCommandString(), ip, Utils.getHex(deviceId), cause.getMessage());
+                if (cause instanceof MiIoCryptoException || cause instanceof IOException) {
+                    errorMsg = cause.getMessage();
+                }
             }
-        } catch (MiIoCryptoException | IOException e) {
-            logger.debug("Send command '{}'  -> {} (Device: {}) gave error {}", miIoSendCommand.getCommandString(), ip,
-                    Utils.getHex(deviceId), e.getMessage());
-            errorMsg = e.getMessage();
-        } catch (JsonSyntaxException e) {
-            logger.warn("Could not parse '{}' <- {} (Device: {}) gave error {}", decryptedResponse,
-                    miIoSendCommand.getCommandString(), Utils.getHex(deviceId), e.getMessage());
-            errorMsg = "Received message is invalid JSON";
-        }
-        JsonObject erroResp = new JsonObject();
-        erroResp.addProperty("error", errorMsg);
-        miIoSendCommand.setResponse(erroResp);
-        return miIoSendCommand;
+            JsonObject erroResp = new JsonObject();
+            erroResp.addProperty("error", errorMsg);
+            miIoSendCommand.setResponse(erroResp);
+            return miIoSendCommand;
+        });
     }
 
-    public synchronized void startReceiver() {
-        if (senderThread == null) {
-            senderThread = new MessageSenderThread();
-        }
-        if (!senderThread.isAlive()) {
-            senderThread.start();
+    /**
+     * Schedules sending the next queued command on the worker pool of the shared transport, unless a command of this
+     * device is already being sent.
+     */
+    public void startReceiver() {
+        if (commandQueue.isEmpty() || !sending.compareAndSet(false, true)) {
+            return;
         }
+        execute(this::sendQueuedCommand);
     }
 
     /**
-     * The {@link MessageSenderThread} is responsible for consuming messages from the queue and sending these to the
-     * device
-     *
+     * Sends one queued command. The listeners are informed about the response on the worker pool, then the next
+     * queued command is sent, so no thread waits for the response and the commands of other devices are not delayed.
      */
-    private class MessageSenderThread extends Thread {
-        public MessageSenderThread() {
-            super("Mi IO MessageSenderThread");
-            setDaemon(true);
+    private void sendQueuedCommand() {
+        MiIoSendCommand queuedMessage = commandQueue.poll();
+        if (queuedMessage == null) {
+            sending.set(false);
+            startReceiver();
+            return;
         }
-
-        @Override
-        public void run() {
-            logger.debug("Starting Mi IO MessageSenderThread");
-            while (!interrupted()) {
-                try {
-                    if (concurrentLinkedQueue.isEmpty()) {
-                        Thread.sleep(100);
-                        continue;
-                    }
-                    MiIoSendCommand queuedMessage = concurrentLinkedQueue.remove();
-                    MiIoSendCommand miIoSendCommand = sendMiIoSendCommand(queuedMessage);
-                    for (MiIoMessageListener listener : listeners) {
-                        logger.trace("inform listener {}, data {} from {}", listener, queuedMessage, miIoSendCommand);
-                        try {
-                            listener.onMessageReceived(miIoSendCommand);
-                        } catch (Exception e) {
-                            logger.debug("Could not inform listener {}: {}: ", listener, e.getMessage(), e);
-                        }
+        sendMiIoSendCommand(queuedMessage).whenCompleteAsync((miIoSendCommand, error) -> {
+            try {
+                for (MiIoMessageListener listener : listeners) {
+                    logger.trace("inform listener {}, data {} from {}", listener, queuedMessage, miIoSendCommand);
+                    try {
+                        listener.onMessageReceived(miIoSendCommand);
+                    } catch (Exception e) {
+                        logger.debug("Could not inform listener {}: {}: ", listener, e.getMessage(), e);
                     }
-                } catch (NoSuchElementException e) {
-                    // ignore
-                } catch (InterruptedException e) {
-                    // That's our signal to stop
-                    break;
-                } catch (Exception e) {
-                    logger.warn("Error while polling/sending message", e);
                 }
+            } finally {
+                sending.set(false);
             }
-            logger.debug("Finished Mi IO MessageSenderThread");
+            startReceiver();
+        }, this::execute);
+    }
+
+    private void execute(Runnable task) {
+        try {
+            getTransport().execute(task);
+        } catch (IOException | RejectedExecutionException e) {
+            sending.set(false);
+            logger.debug("Could not schedule the queued commands for {}: {}", ip, e.getMessage());
         }
     }
 
-    private String sendCommand(String command, byte[] token, String ip, byte[] deviceId)
-            throws MiIoCryptoException, IOException {
-        byte[] encr;
-        encr = MiIoCrypto.encrypt(command.getBytes(), token);
-        timeStamp = (int) TimeUnit.MILLISECONDS.toSeconds(Calendar.getInstance().getTime().getTime());
-        byte[] sendMsg = Message.createMsgData(encr, token, deviceId, timeStamp + timeDelta);
-        Message miIoResponseMsg = sendData(sendMsg, ip);
-        if (miIoResponseMsg == null) {
-            if (logger.isTraceEnabled()) {
-                logger.trace("No response from device {} at {} for command {}.\r\n{}", Utils.getHex(deviceId), ip,
-                        command, (new Message(sendMsg)).toSting());
-            } else {
-                logger.debug("No response from device {} at {} for command {}.", Utils.getHex(deviceId), ip, command);
+    private CompletableFuture<String> sendCommand(String command, byte[] token, String ip, byte[] deviceId) {
+        byte[] sendMsg;
+        try {
+            byte[] encr;
+            encr = MiIoCrypto.encrypt(command.getBytes(), token);
+            timeStamp = (int) TimeUnit.MILLISECONDS.toSeconds(Calendar.getInstance().getTime().getTime());
+            sendMsg = Message.createMsgData(encr, token, deviceId, timeStamp + timeDelta);
+        } catch (MiIoCryptoException e) {
+            return failed(e);
+        }
+        return sendData(sendMsg, ip).thenCompose(miIoResponseMsg -> {
+            if (miIoResponseMsg == null) {
+                if (logger.isTraceEnabled()) {
+                    logger.trace("No response from device {} at {} for command {}.\r\n{}", Utils.getHex(deviceId), ip,
+                            command, (new Message(sendMsg)).toSting());
+                } else {
+                    logger.debug("No response from device {} at {} for command {}.", Utils.getHex(deviceId), ip,
+                            command);
+                }
+                errorCounter++;
+                if (errorCounter > MAX_ERRORS) {
+                    status = ThingStatusDetail.CONFIGURATION_ERROR;
+                    return sendPingAsync(ip, 0).handle((ping, error) -> "{\"error\":\"No Response\"}");
+                }
+                return CompletableFuture.completedFuture("{\"error\":\"No Response\"}");
             }
-            errorCounter++;
-            if (errorCounter > MAX_ERRORS) {
-                status = ThingStatusDetail.CONFIGURATION_ERROR;
-                sendPing(ip);
+            if (!miIoResponseMsg.isChecksumValid()) {
+                return CompletableFuture.completedFuture("{\"error\":\"Message has invalid checksum\"}");
             }
-            return "{\"error\":\"No Response\"}";
-        }
-        if (!miIoResponseMsg.isChecksumValid()) {
-            return "{\"error\":\"Message has invalid checksum\"}";
-        }
-        if (errorCounter > 0) {
-            errorCounter = 0;
-            status = ThingStatusDetail.NONE;
-            updateStatus(ThingStatus.ONLINE, status);
-        }
-        if (!connected) {
-            pingSuccess();
-        }
-        String decryptedResponse = new String(MiIoCrypto.decrypt(miIoResponseMsg.getData(), token), "UTF-8").trim();
-        logger.trace("Received response from {}: {}", ip, decryptedResponse);
-        return decryptedResponse;
+            if (errorCounter > 0) {
+                errorCounter = 0;
+                status = ThingStatusDetail.NONE;
+                updateStatus(ThingStatus.ONLINE, status);
+            }
+            if (!connected) {
+                pingSuccess();
+            }
+            try {
+                String decryptedResponse = new String(MiIoCrypto.decrypt(miIoResponseMsg.getData(), token), "UTF-8")
+                        .trim();
+                logger.trace("Received response from {}: {}", ip, decryptedResponse);
+                return CompletableFuture.completedFuture(decryptedResponse);
+            } catch (MiIoCryptoException | IOException e) {
+                return failed(e);
+            }
+        });
     }
 
     public Message sendPing(String ip) throws IOException {
-        for (int i = 0; i < 3; i++) {
-            logger.debug("Sending Ping {} ({})", Utils.getHex(deviceId), ip);
-            Message resp = sendData(MiIoBindingConstants.DISCOVER_STRING, ip);
+        try {
+            return sendPingAsync(ip, 0).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for ping response");
+        } catch (ExecutionException e) {
+            Throwable cause = getCause(e);
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause.getMessage(), cause);
+        }
+    }
+
+    private CompletableFuture<Message> sendPingAsync(String ip, int attempt) {
+        if (attempt > 0) {
+            retries.incrementAndGet();
+        }
+        logger.debug("Sending Ping {} ({})", Utils.getHex(deviceId), ip);
+        return sendData(MiIoBindingConstants.DISCOVER_STRING, ip).thenCompose(resp -> {
             if (resp != null) {
                 pingSuccess();
-                return resp;
+                return CompletableFuture.completedFuture(resp);
             }
-        }
-        pingFail();
-        return null;
+            if (attempt + 1 < PING_ATTEMPTS) {
+                return sendPingAsync(ip, attempt + 1);
+            }
+            pingFail();
+            return CompletableFuture.completedFuture(null);
+        });
     }
 
     private void pingFail() {
@@ -321,59 +367,100 @@ public class MiIoAsyncCommunication {
         }
     }
 
-    private Message sendData(byte[] sendMsg, String ip) throws IOException {
-        byte[] response = comms(sendMsg, ip);
-        if (response.length >= 32) {
-            Message miIoResponse = new Message(response);
-            timeStamp = (int) TimeUnit.MILLISECONDS.toSeconds(Calendar.getInstance().getTime().getTime());
-            timeDelta = miIoResponse.getTimestampAsInt() - timeStamp;
-            logger.trace("Message Details:{} ", miIoResponse.toSting());
-            return miIoResponse;
-        } else {
-            logger.trace("Reponse length <32 : {}", response.length);
-            return null;
-        }
+    private CompletableFuture<Message> sendData(byte[] sendMsg, String ip) {
+        return comms(sendMsg, ip).thenApply(response -> {
+            if (response.length >= 32) {
+                Message miIoResponse = new Message(response);
+                timeStamp = (int) TimeUnit.MILLISECONDS.toSeconds(Calendar.getInstance().getTime().getTime());
+                timeDelta = miIoResponse.getTimestampAsInt() - timeStamp;
+                logger.trace("Message Details:{} ", miIoResponse.toSting());
+                return miIoResponse;
+            } else {
+                logger.trace("Reponse length <32 : {}", response.length);
+                return null;
+            }
+        });
     }
 
-    private synchronized byte[] comms(byte[] message, String ip) throws IOException {
-        InetAddress ipAddress = InetAddress.getByName(ip);
-        DatagramSocket clientSocket = getSocket();
-        DatagramPacket receivePacket = new DatagramPacket(new byte[MSG_BUFFER_SIZE], MSG_BUFFER_SIZE);
+    private CompletableFuture<byte[]> comms(byte[] message, String ip) {
+        CompletableFuture<byte[]> exchange;
+        long start = System.nanoTime();
         try {
-            logger.trace("Connection {}:{}", ip, clientSocket.getLocalPort());
-            byte[] sendData = new byte[MSG_BUFFER_SIZE];
-            sendData = message;
-            DatagramPacket sendPacket = new DatagramPacket(sendData, sendData.length, ipAddress,
-                    MiIoBindingConstants.PORT);
-            clientSocket.send(sendPacket);
-            sendPacket.setData(new byte[MSG_BUFFER_SIZE]);
-            clientSocket.receive(receivePacket);
-            byte[] response = Arrays.copyOfRange(receivePacket.getData(), receivePacket.getOffset(),
-                    receivePacket.getOffset() + receivePacket.getLength());
-            return response;
-        } catch (SocketTimeoutException e) {
-            logger.debug("Communication error for Mi device at {}: {}", ip, e.getMessage());
-            needPing = true;
-            return new byte[0];
+            InetAddress ipAddress = InetAddress.getByName(ip);
+            logger.trace("Connection {}:{}", ip, MiIoBindingConstants.PORT);
+            exchange = getTransport().exchange(message, ipAddress, timeout);
+        } catch (IOException e) {
+            return failed(e);
         }
+        return exchange.handle((response, error) -> {
+            try {
+                if (error == null) {
+                    long roundTripTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    totalRoundTripTime.addAndGet(roundTripTime);
+                    maxRoundTripTime.accumulateAndGet(roundTripTime, Math::max);
+                    logger.trace("Received {} bytes from {} in {} ms", response.length, ip, roundTripTime);
+                    return response;
+                }
+                Throwable cause = getCause(error);
+                if (cause instanceof SocketTimeoutException) {
+                    logger.debug("Communication error for Mi device at {}: {}", ip, cause.getMessage());
+                    timeouts.incrementAndGet();
+                    needPing = true;
+                    return new byte[0];
+                }
+                throw new CompletionException(cause);
+            } finally {
+                if (exchanges.incrementAndGet() % STATISTICS_INTERVAL == 0) {
+                    logStatistics();
+                }
+            }
+        });
     }
 
-    private DatagramSocket getSocket() throws SocketException {
-        if (socket == null || socket.isClosed()) {
-            socket = new DatagramSocket();
-            socket.setSoTimeout(timeout);
-            return socket;
-        } else {
-            return socket;
+    private static <T> CompletableFuture<T> failed(Throwable error) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(error);
+        return future;
+    }
+
+    private static Throwable getCause(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
         }
+        return cause;
+    }
+
+    private synchronized MiIoDatagramTransport getTransport() throws IOException {
+        if (closed) {
+            throw new IOException("Communication is closed");
+        }
+        if (transport == null) {
+            transport = MiIoDatagramTransport.acquire();
+        }
+        return transport;
+    }
+
+    private void logStatistics() {
+        long count = exchanges.get();
+        long answered = count - timeouts.get();
+        logger.debug("Statistics {} ({}): {} exchanges, {} timeouts, {} ping retries, round trip avg {} ms, max {} ms",
+                Utils.getHex(deviceId), ip, count, timeouts.get(), retries.get(),
+                answered > 0 ? totalRoundTripTime.get() / answered : 0, maxRoundTripTime.get());
     }
 
     public void close() {
         try {
-            if (socket != null) {
-                socket.close();
+            synchronized (this) {
+                closed = true;
+                commandQueue.clear();
+                if (transport != null) {
+                    MiIoDatagramTransport.release(transport);
+                    transport = null;
+                    logStatistics();
+                }
             }
-            senderThread.interrupt();
         } catch (Exception e) {
             logger.debug("Error while closing ", e.getMessage());
         }
@@ -411,6 +498,22 @@ public class MiIoAsyncCommunication {
     }
 
     public int getQueueLength() {
-        return concurrentLinkedQueue.size();
+        return commandQueue.size();
+    }
+
+    public long getExchanges() {
+        return exchanges.get();
+    }
+
+    public long getTimeouts() {
+        return timeouts.get();
+    }
+
+    public long getRetries() {
+        return retries.get();
+    }
+
+    public long getMaxRoundTripTime() {
+        return maxRoundTripTime.get();
     }
 }
@@ -0,0 +1,231 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.miio.internal.transport;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openhab.binding.miio.MiIoBindingConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link MiIoDatagramTransport} is the UDP channel shared by all Mi IO devices. Exchanges do not block a thread
+ * while waiting for the response: responses are received by a single selector thread and complete the exchange of the
+ * address they came from, missing responses are completed by a scheduled timeout. A small pool of worker threads runs
+ * the timeouts and processes the responses of all devices.
+ *
+ * @author agent - Initial contribution
+ */
+public class MiIoDatagramTransport {
+
+    private static final int MSG_BUFFER_SIZE = 2048;
+    private static final int WORKER_THREADS = 2;
+
+    private static final Object INSTANCE_LOCK = new Object();
+    private static MiIoDatagramTransport instance;
+    private static int users;
+
+    private final Logger logger = LoggerFactory.getLogger(MiIoDatagramTransport.class);
+
+    private final DatagramChannel channel;
+    private final Selector selector;
+    private final Thread receiverThread;
+    private final ScheduledExecutorService workerPool;
+
+    /** Exchanges waiting for a response by address */
+    private final Map<InetAddress, CompletableFuture<byte[]>> pendingExchanges = new ConcurrentHashMap<>();
+    /** Last exchange started for an address, the next exchange with the address is sent when it is completed */
+    private final Map<InetAddress, CompletableFuture<byte[]>> lastExchanges = new ConcurrentHashMap<>();
+
+    private MiIoDatagramTransport() throws IOException {
+        channel = DatagramChannel.open();
+        try {
+            channel.configureBlocking(false);
+            channel.bind(null);
+            selector = Selector.open();
+            channel.register(selector, SelectionKey.OP_READ);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        receiverThread = new Thread(this::receive, "Mi IO ReceiverThread");
+        receiverThread.setDaemon(true);
+        receiverThread.start();
+        AtomicInteger workerCount = new AtomicInteger();
+        workerPool = Executors.newScheduledThreadPool(WORKER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "Mi IO WorkerThread-" + workerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.debug("Opened Mi IO transport on port {}", channel.socket().getLocalPort());
+    }
+
+    /**
+     * Returns the shared transport, opening it for the first user.
+     * Every call must be followed by a call of {@link #release(MiIoDatagramTransport)}.
+     *
+     * @return the shared transport
+     * @throws IOException if the channel can not be opened
+     */
+    static MiIoDatagramTransport acquire() throws IOException {
+        synchronized (INSTANCE_LOCK) {
+            if (instance == null) {
+                instance = new MiIoDatagramTransport();
+            }
+            users++;
+            return instance;
+        }
+    }
+
+    /**
+     * Releases the shared transport, it is closed when the last user released it.
+     *
+     * @param transport transport returned by {@link #acquire()}
+     */
+    static void release(MiIoDatagramTransport transport) {
+        synchronized (INSTANCE_LOCK) {
+            if (transport != instance) {
+                return;
+            }
+            users--;
+            if (users <= 0) {
+                instance.close();
+                instance = null;
+                users = 0;
+            }
+        }
+    }
+
+    /**
+     * Sends a message to a device without waiting for its response. Exchanges with the same device are serialized,
+     * the message is sent when the previous exchange with the device is completed. Exchanges with different devices
+     * run concurrently.
+     *
+     * @param message message to send
+     * @param address address of the device
+     * @param timeout time to wait for the response in milliseconds, 0 waits forever
+     * @return the response, completed exceptionally with a {@link SocketTimeoutException} if no response is received
+     *         in time or with an {@link IOException} if the message can not be sent
+     */
+    CompletableFuture<byte[]> exchange(byte[] message, InetAddress address, int timeout) {
+        CompletableFuture<byte[]> response = new CompletableFuture<>();
+        CompletableFuture<byte[]> previous = lastExchanges.put(address, response);
+        response.whenComplete((data, error) -> lastExchanges.remove(address, response));
+        if (previous == null) {
+            send(message, address, timeout, response);
+        } else {
+            previous.whenComplete((data, error) -> send(message, address, timeout, response));
+        }
+        return response;
+    }
+
+    /**
+     * Runs a task on the shared worker pool. The tasks of a device send its queued commands and process the responses.
+     *
+     * @param task task to run
+     * @throws RejectedExecutionException if the transport is closed
+     */
+    void execute(Runnable task) {
+        workerPool.execute(task);
+    }
+
+    private void send(byte[] message, InetAddress address, int timeout, CompletableFuture<byte[]> response) {
+        if (response.isDone()) {
+            // completed while waiting for the previous exchange, e.g. the transport was closed
+            return;
+        }
+        pendingExchanges.put(address, response);
+        response.whenComplete((data, error) -> pendingExchanges.remove(address, response));
+        try {
+            if (channel.send(ByteBuffer.wrap(message),
+                    new InetSocketAddress(address, MiIoBindingConstants.PORT)) == 0) {
+                throw new IOException("Send buffer is full");
+            }
+            if (timeout > 0) {
+                ScheduledFuture<?> timeoutJob = workerPool.schedule(() -> response.completeExceptionally(
+                        new SocketTimeoutException("Receive timed out after " + timeout + " ms")), timeout,
+                        TimeUnit.MILLISECONDS);
+                response.whenComplete((data, error) -> timeoutJob.cancel(false));
+            }
+        } catch (IOException e) {
+            response.completeExceptionally(e);
+        } catch (RejectedExecutionException e) {
+            response.completeExceptionally(new IOException("Transport closed", e));
+        }
+    }
+
+    private void receive() {
+        logger.debug("Starting Mi IO ReceiverThread");
+        ByteBuffer buffer = ByteBuffer.allocate(MSG_BUFFER_SIZE);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                selector.select();
+                selector.selectedKeys().clear();
+                SocketAddress source;
+                while ((source = channel.receive(buffer)) != null) {
+                    buffer.flip();
+                    byte[] data = new byte[buffer.remaining()];
+                    buffer.get(data);
+                    buffer.clear();
+                    CompletableFuture<byte[]> response = source instanceof InetSocketAddress
+                            ? pendingExchanges.get(((InetSocketAddress) source).getAddress())
+                            : null;
+                    if (response != null) {
+                        response.complete(data);
+                    } else {
+                        logger.trace("Ignoring unexpected message of {} bytes from {}", data.length, source);
+                    }
+                }
+            } catch (ClosedChannelException | ClosedSelectorException e) {
+                break;
+            } catch (IOException e) {
+                logger.debug("Error while receiving Mi IO message: {}", e.getMessage());
+            }
+        }
+        logger.debug("Finished Mi IO ReceiverThread");
+    }
+
+    private void close() {
+        workerPool.shutdownNow();
+        receiverThread.interrupt();
+        try {
+            selector.close();
+            channel.close();
+        } catch (IOException e) {
+            logger.debug("Error while closing Mi IO transport: {}", e.getMessage());
+        }
+        IOException closed = new IOException("Transport closed");
+        List<CompletableFuture<byte[]>> exchanges = new ArrayList<>(pendingExchanges.values());
+        exchanges.addAll(lastExchanges.values());
+        exchanges.forEach(response -> response.completeExceptionally(closed));
+        pendingExchanges.clear();
+        lastExchanges.clear();
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.nest.internal.update;
+
+import static org.junit.Assert.*;
+import static org.openhab.binding.nest.internal.data.NestDataUtil.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.nest.internal.NestUtils;
+import org.openhab.binding.nest.internal.data.Thermostat;
+import org.openhab.binding.nest.internal.data.TopLevelData;
+import org.openhab.binding.nest.internal.data.TopLevelStreamingData;
+import org.openhab.binding.nest.internal.listener.NestThingDataListener;
+
+/**
+ * Tests that the {@link NestCompositeUpdateHandler} only passes on changed data.
+ *
+ * @author agent - Initial contribution
+ */
+public class NestCompositeUpdateHandlerTest {
+
+    private static final int DEVICES_AND_STRUCTURES = 8;
+
+    private NestCompositeUpdateHandler updateHandler;
+    private final List<Thermostat> newThermostats = new ArrayList<>();
+    private final List<Thermostat> updatedThermostats = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        updateHandler = new NestCompositeUpdateHandler(HashSet::new);
+        updateHandler.addListener(Thermostat.class, new NestThingDataListener<Thermostat>() {
+            @Override
+            public void onNewData(Thermostat data) {
+                newThermostats.add(data);
+            }
+
+            @Override
+            public void onUpdatedData(Thermostat oldData, Thermostat data) {
+                updatedThermostats.add(data);
+            }
+
+            @Override
+            public void onMissingData(String nestId) {
+            }
+        });
+    }
+
+    private TopLevelData parse(String json) {
+        return NestUtils.fromJson(json, TopLevelStreamingData.class).getData();
+    }
+
+    @Test
+    public void initialDataIsPassedOn() throws IOException {
+        assertEquals(DEVICES_AND_STRUCTURES, updateHandler.handleUpdate(parse(fromFile(COMPLETE_DATA_FILE_NAME))));
+
+        assertEquals(1, newThermostats.size());
+        assertEquals(THERMOSTAT1_DEVICE_ID, newThermostats.get(0).getId());
+        assertTrue(updatedThermostats.isEmpty());
+        assertEquals(0, updateHandler.getSuppressedUpdates());
+    }
+
+    @Test
+    public void unchangedDataIsSuppressed() throws IOException {
+        String json = fromFile(COMPLETE_DATA_FILE_NAME);
+        updateHandler.handleUpdate(parse(json));
+
+        assertEquals(0, updateHandler.handleUpdate(parse(json)));
+
+        assertEquals(1, newThermostats.size());
+        assertTrue(updatedThermostats.isEmpty());
+        assertEquals(2, updateHandler.getUpdates());
+        assertEquals(DEVICES_AND_STRUCTURES, updateHandler.getChangedUpdates());
+        assertEquals(DEVICES_AND_STRUCTURES, updateHandler.getSuppressedUpdates());
+    }
+
+    @Test
+    public void onlyChangedDeviceIsPassedOn() throws IOException {
+        String json = fromFile(COMPLETE_DATA_FILE_NAME);
+        updateHandler.handleUpdate(parse(json));
+
+        String changedJson = json.replace("\"ambient_temperature_c\": 19.0", "\"ambient_temperature_c\": 19.5");
+        assertNotEquals(json, changedJson);
+        assertEquals(1, updateHandler.handleUpdate(parse(changedJson)));
+
+        assertEquals(1, updatedThermostats.size());
+        assertEquals(THERMOSTAT1_DEVICE_ID, updatedThermostats.get(0).getId());
+        assertEquals(DEVICES_AND_STRUCTURES - 1, updateHandler.getSuppressedUpdates());
+        assertSame(updatedThermostats.get(0), updateHandler.getLastUpdate(Thermostat.class, THERMOSTAT1_DEVICE_ID));
+    }
+}
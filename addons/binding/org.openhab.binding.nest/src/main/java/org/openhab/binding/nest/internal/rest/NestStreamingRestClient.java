@@ -15,6 +15,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.net.ssl.SSLContext;
 import javax.ws.rs.client.Client;
@@ -65,8 +66,12 @@ public class NestStreamingRestClient {
     private @Nullable EventSource eventSource;
     private long lastEventTimestamp;
     private @Nullable TopLevelData lastReceivedTopLevelData;
+    private @Nullable String lastReceivedPutData;
     private NestRedirectUrlSupplier redirectUrlSupplier;
 
+    private final AtomicLong receivedPutEvents = new AtomicLong();
+    private final AtomicLong suppressedPutEvents = new AtomicLong();
+
     public NestStreamingRestClient(String accessToken, NestRedirectUrlSupplier redirectUrlSupplier,
             ScheduledExecutorService scheduler) {
         this.accessToken = accessToken;
@@ -181,6 +186,20 @@ public class NestStreamingRestClient {
         return lastReceivedTopLevelData;
     }
 
+    /**
+     * @return the number of received events with (changed) data
+     */
+    public long getReceivedPutEvents() {
+        return receivedPutEvents.get();
+    }
+
+    /**
+     * @return the number of received events with data that did not change since the previous event
+     */
+    public long getSuppressedPutEvents() {
+        return suppressedPutEvents.get();
+    }
+
     private void onEvent(InboundEvent inboundEvent) {
         try {
             lastEventTimestamp = System.currentTimeMillis();
@@ -193,6 +212,8 @@ public class NestStreamingRestClient {
             if (!connected) {
                 logger.debug("Connected to streaming events");
                 connected = true;
+                // the listeners need the data again after they were informed about the connection change
+                lastReceivedPutData = null;
                 listeners.forEach(listener -> listener.onConnected());
             }
 
@@ -201,6 +222,7 @@ public class NestStreamingRestClient {
                 listeners.forEach(listener -> listener.onAuthorizationRevoked(data));
             } else if (ERROR.equals(name)) {
                 logger.warn("Error occurred: {}", data);
+                lastReceivedPutData = null;
                 listeners.forEach(listener -> listener.onError(data));
             } else if (KEEP_ALIVE.equals(name)) {
                 logger.debug("Received message to keep connection alive");
@@ -208,9 +230,23 @@ public class NestStreamingRestClient {
                 logger.debug("Event stream opened");
             } else if (PUT.equals(name)) {
                 logger.debug("Data has changed (or initial data sent)");
-                TopLevelData topLevelData = NestUtils.fromJson(data, TopLevelStreamingData.class).getData();
-                lastReceivedTopLevelData = topLevelData;
-                listeners.forEach(listener -> listener.onNewTopLevelData(topLevelData));
+                receivedPutEvents.incrementAndGet();
+                // identical data is not parsed again, data that only differs in formatting is not passed on
+                boolean unchanged = data.equals(lastReceivedPutData);
+                if (!unchanged) {
+                    TopLevelData topLevelData = NestUtils.fromJson(data, TopLevelStreamingData.class).getData();
+                    unchanged = lastReceivedPutData != null && topLevelData.equals(lastReceivedTopLevelData);
+                    lastReceivedTopLevelData = topLevelData;
+                    lastReceivedPutData = data;
+                    if (!unchanged) {
+                        listeners.forEach(listener -> listener.onNewTopLevelData(topLevelData));
+                    }
+                }
+                if (unchanged) {
+                    suppressedPutEvents.incrementAndGet();
+                    logger.debug("Data did not change, suppressed {} of {} events", suppressedPutEvents.get(),
+                            receivedPutEvents.get());
+                }
             } else {
                 logger.debug("Received unhandled event with name '{}' and data '{}'", name, data);
             }
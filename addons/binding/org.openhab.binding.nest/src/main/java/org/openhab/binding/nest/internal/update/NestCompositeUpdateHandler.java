@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -21,18 +22,27 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.nest.internal.data.NestIdentifiable;
 import org.openhab.binding.nest.internal.data.TopLevelData;
 import org.openhab.binding.nest.internal.listener.NestThingDataListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Handles all Nest data updates through delegation to the {@link NestUpdateHandler} for the respective data type.
+ * Only the devices and structures that differ from their previous update are passed on to the listeners.
  *
  * @author Wouter Born - Initial contribution
  */
 @NonNullByDefault
 public class NestCompositeUpdateHandler {
 
+    private final Logger logger = LoggerFactory.getLogger(NestCompositeUpdateHandler.class);
+
     private final Supplier<Set<String>> presentNestIdsSupplier;
     private final Map<Class<?>, @Nullable NestUpdateHandler<?>> updateHandlersMap = new ConcurrentHashMap<>();
 
+    private final AtomicLong updates = new AtomicLong();
+    private final AtomicLong changedUpdates = new AtomicLong();
+    private final AtomicLong suppressedUpdates = new AtomicLong();
+
     public NestCompositeUpdateHandler(Supplier<Set<String>> presentNestIdsSupplier) {
         this.presentNestIdsSupplier = presentNestIdsSupplier;
     }
@@ -89,15 +99,29 @@ public class NestCompositeUpdateHandler {
         return handler;
     }
 
+    /**
+     * Passes the devices and structures of the data to the listeners, if they changed.
+     *
+     * @return the number of changed devices and structures
+     */
     @SuppressWarnings("unchecked")
-    public void handleUpdate(TopLevelData data) {
-        Set<NestIdentifiable> updates = getNestUpdates(data);
-        updates.forEach(update -> {
+    public int handleUpdate(TopLevelData data) {
+        Set<NestIdentifiable> nestUpdates = getNestUpdates(data);
+        int changed = 0;
+        for (NestIdentifiable update : nestUpdates) {
             Class<NestIdentifiable> updateClass = (Class<NestIdentifiable>) update.getClass();
-            getOrCreateUpdateHandler(updateClass).handleUpdate(updateClass, update.getId(), update);
-        });
+            if (getOrCreateUpdateHandler(updateClass).handleUpdate(updateClass, update.getId(), update)) {
+                changed++;
+            }
+        }
+
+        updates.incrementAndGet();
+        changedUpdates.addAndGet(changed);
+        suppressedUpdates.addAndGet(nestUpdates.size() - changed);
+        logger.debug("{} of {} devices and structures changed ({} updates, {} changed, {} suppressed)", changed,
+                nestUpdates.size(), updates.get(), changedUpdates.get(), suppressedUpdates.get());
 
-        Set<String> missingNestIds = findMissingNestIds(updates);
+        Set<String> missingNestIds = findMissingNestIds(nestUpdates);
         if (!missingNestIds.isEmpty()) {
             updateHandlersMap.values().forEach(handler -> {
                 if (handler != null) {
@@ -105,6 +129,28 @@ public class NestCompositeUpdateHandler {
                 }
             });
         }
+        return changed;
+    }
+
+    /**
+     * @return the number of handled {@link TopLevelData} updates
+     */
+    public long getUpdates() {
+        return updates.get();
+    }
+
+    /**
+     * @return the number of devices and structures that were passed on because they changed
+     */
+    public long getChangedUpdates() {
+        return changedUpdates.get();
+    }
+
+    /**
+     * @return the number of devices and structures that were not passed on because they did not change
+     */
+    public long getSuppressedUpdates() {
+        return suppressedUpdates.get();
     }
 
     public <T> boolean removeListener(Class<T> dataClass, NestThingDataListener<T> listener) {
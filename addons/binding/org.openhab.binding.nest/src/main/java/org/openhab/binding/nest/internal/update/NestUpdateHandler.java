@@ -81,10 +81,19 @@ public class NestUpdateHandler<T> {
         });
     }
 
-    public void handleUpdate(Class<T> dataClass, String nestId, T update) {
+    /**
+     * Stores the update and notifies the listeners, if it differs from the last update.
+     *
+     * @return true if the update differs from the last update
+     */
+    public boolean handleUpdate(Class<T> dataClass, String nestId, T update) {
         T lastUpdate = getLastUpdate(nestId);
+        if (update.equals(lastUpdate)) {
+            return false;
+        }
         lastUpdates.put(nestId, update);
         notifyListeners(nestId, lastUpdate, update);
+        return true;
     }
 
     private void notifyListeners(String nestId, @Nullable T lastUpdate, T update) {
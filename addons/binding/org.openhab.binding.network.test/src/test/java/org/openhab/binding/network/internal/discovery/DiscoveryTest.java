@@ -13,10 +13,14 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.initMocks;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.smarthome.config.discovery.DiscoveryListener;
 import org.eclipse.smarthome.config.discovery.DiscoveryResult;
+import org.eclipse.smarthome.core.storage.Storage;
+import org.eclipse.smarthome.core.storage.StorageService;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -39,6 +43,12 @@ public class DiscoveryTest {
     @Mock
     DiscoveryListener listener;
 
+    @Mock
+    StorageService storageService;
+
+    @Mock
+    Storage<Object> storage;
+
     @Before
     public void setUp() {
         initMocks(this);
@@ -83,4 +93,37 @@ public class DiscoveryTest {
         Assert.assertThat(dresult.getProperties().get(NetworkBindingConstants.PARAMETER_HOSTNAME), is(ip));
         Assert.assertThat(dresult.getProperties().get(NetworkBindingConstants.PARAMETER_PORT), is(1010));
     }
+
+    @Test
+    public void dhcpRequestDetectedOnce() {
+        NetworkDiscoveryService d = new NetworkDiscoveryService();
+        d.addDiscoveryListener(listener);
+
+        ArgumentCaptor<DiscoveryResult> result = ArgumentCaptor.forClass(DiscoveryResult.class);
+
+        d.dhcpRequestReceived(ip);
+        d.dhcpRequestReceived(ip);
+        verify(listener, times(1)).thingDiscovered(any(), result.capture());
+        Assert.assertThat(result.getValue().getThingUID(), is(NetworkDiscoveryService.createPingUID(ip)));
+        Assert.assertThat(d.getHarvestedIPs(), is(1));
+    }
+
+    @Test
+    public void sliceResumesAtStoredAddress() {
+        when(storageService.getStorage(anyString())).thenReturn(storage);
+        NetworkDiscoveryService d = new NetworkDiscoveryService();
+        d.setStorageService(storageService);
+
+        List<String> networkIPs = Arrays.asList("10.0.0.1", "10.0.0.2", "10.0.0.3", "10.0.0.4");
+
+        // nothing stored yet
+        Assert.assertThat(d.nextSlice(networkIPs), is(networkIPs));
+
+        when(storage.get(NetworkDiscoveryService.STORAGE_NEXT_ADDRESS)).thenReturn("10.0.0.3");
+        Assert.assertThat(d.nextSlice(networkIPs), is(Arrays.asList("10.0.0.3", "10.0.0.4")));
+
+        // the stored address is no longer part of the network
+        when(storage.get(NetworkDiscoveryService.STORAGE_NEXT_ADDRESS)).thenReturn("192.168.0.3");
+        Assert.assertThat(d.nextSlice(networkIPs), is(networkIPs));
+    }
 }
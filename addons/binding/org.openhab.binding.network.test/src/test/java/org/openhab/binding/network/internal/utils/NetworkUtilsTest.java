@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.hamcrest.CoreMatchers.is;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests cases for {@see NetworkUtils}
+ *
+ * @author agent - Initial contribution
+ */
+public class NetworkUtilsTest {
+    //@formatter:off
+    private static final String ARP_TABLE =
+            "IP address       HW type     Flags       HW address            Mask     Device\n"
+          + "192.168.0.1      0x1         0x2         00:11:22:33:44:55     *        eth0\n"
+          + "192.168.0.23     0x1         0x0         00:00:00:00:00:00     *        eth0\n"
+          + "192.168.0.42     0x1         0x6         66:77:88:99:aa:bb     *        eth0\n"
+          + "172.17.0.2       0x1         0x2         02:42:ac:11:00:02     *        docker0\n";
+    //@formatter:on
+
+    @Test
+    public void parseARPTableReturnsCompleteEntries() throws IOException {
+        NetworkUtils networkUtils = new NetworkUtils();
+        Assert.assertThat(networkUtils.parseARPTable(new StringReader(ARP_TABLE)),
+                is(new LinkedHashSet<>(Arrays.asList("192.168.0.1", "192.168.0.42", "172.17.0.2"))));
+    }
+
+    @Test
+    public void parseARPTableIgnoresMalformedLines() throws IOException {
+        NetworkUtils networkUtils = new NetworkUtils();
+        String arpTable = ARP_TABLE.substring(0, ARP_TABLE.indexOf('\n') + 1) + "garbage\n"
+                + "192.168.0.5 0x1 flags 00:11:22:33:44:55 * eth0\n";
+        Assert.assertTrue(networkUtils.parseARPTable(new StringReader(arpTable)).isEmpty());
+        Assert.assertTrue(networkUtils.parseARPTable(new StringReader("")).isEmpty());
+    }
+}
@@ -23,7 +23,8 @@ import org.slf4j.LoggerFactory;
  * receiver thread will be started. If the last IPRequestReceivedCallback is removed, the thread will be stopped
  * after the receive socket is closed.
  * IPRequestReceivedCallback will be called for the address that is registered and matches the
- * DHO_DHCP_REQUESTED_ADDRESS address field.
+ * DHO_DHCP_REQUESTED_ADDRESS address field. A callback registered with {@link #registerAllAddresses} is
+ * called for all other addresses.
  *
  * @author David Graeff - Initial contribution
  */
@@ -31,15 +32,43 @@ import org.slf4j.LoggerFactory;
 public class DHCPListenService {
     static @Nullable DHCPPacketListenerServer instance;
     static Map<String, IPRequestReceivedCallback> registeredListeners = new TreeMap<>();
+    static @Nullable IPRequestReceivedCallback allAddressesListener;
     static Logger logger = LoggerFactory.getLogger(DHCPListenService.class);
 
-    @SuppressWarnings({ "null", "unused" })
     public static synchronized DHCPPacketListenerServer register(String hostAddress,
             IPRequestReceivedCallback dhcpListener) throws SocketException {
+        DHCPPacketListenerServer instance = getInstance();
+        synchronized (registeredListeners) {
+            registeredListeners.put(hostAddress, dhcpListener);
+        }
+        return instance;
+    }
+
+    /**
+     * Registers a callback for the requests of all addresses without an own registered callback.
+     * Used by the discovery to learn about hosts joining the network.
+     */
+    public static synchronized DHCPPacketListenerServer registerAllAddresses(IPRequestReceivedCallback dhcpListener)
+            throws SocketException {
+        DHCPPacketListenerServer instance = getInstance();
+        synchronized (registeredListeners) {
+            allAddressesListener = dhcpListener;
+        }
+        return instance;
+    }
+
+    @SuppressWarnings({ "null", "unused" })
+    private static DHCPPacketListenerServer getInstance() throws SocketException {
         DHCPPacketListenerServer instance = DHCPListenService.instance;
         if (instance == null) {
             instance = new DHCPPacketListenerServer((String ipAddress) -> {
-                IPRequestReceivedCallback listener = registeredListeners.get(ipAddress);
+                IPRequestReceivedCallback listener;
+                synchronized (registeredListeners) {
+                    listener = registeredListeners.get(ipAddress);
+                    if (listener == null) {
+                        listener = allAddressesListener;
+                    }
+                }
                 if (listener != null) {
                     listener.dhcpRequestReceived(ipAddress);
                 } else {
@@ -49,16 +78,26 @@ public class DHCPListenService {
             DHCPListenService.instance = instance;
             instance.start();
         }
-        synchronized (registeredListeners) {
-            registeredListeners.put(hostAddress, dhcpListener);
-        }
         return instance;
     }
 
     public static void unregister(String hostAddress) {
         synchronized (registeredListeners) {
             registeredListeners.remove(hostAddress);
-            if (!registeredListeners.isEmpty()) {
+        }
+        stopIfUnused();
+    }
+
+    public static void unregisterAllAddresses() {
+        synchronized (registeredListeners) {
+            allAddressesListener = null;
+        }
+        stopIfUnused();
+    }
+
+    private static synchronized void stopIfUnused() {
+        synchronized (registeredListeners) {
+            if (!registeredListeners.isEmpty() || allAddressesListener != null) {
                 return;
             }
         }
@@ -10,15 +10,22 @@ package org.openhab.binding.network.internal.discovery;
 
 import static org.openhab.binding.network.internal.NetworkBindingConstants.*;
 
+import java.net.SocketException;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -28,16 +35,23 @@ import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.config.discovery.AbstractDiscoveryService;
 import org.eclipse.smarthome.config.discovery.DiscoveryResultBuilder;
 import org.eclipse.smarthome.config.discovery.DiscoveryService;
+import org.eclipse.smarthome.core.storage.Storage;
+import org.eclipse.smarthome.core.storage.StorageService;
 import org.eclipse.smarthome.core.thing.ThingUID;
 import org.openhab.binding.network.internal.NetworkBindingConfiguration;
 import org.openhab.binding.network.internal.PresenceDetection;
 import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
+import org.openhab.binding.network.internal.dhcp.DHCPListenService;
+import org.openhab.binding.network.internal.dhcp.IPRequestReceivedCallback;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,14 +60,22 @@ import org.slf4j.LoggerFactory;
  * the current Network. It uses every Network Interface which is connected to a network.
  * It tries common TCP ports to connect to, ICMP pings and ARP pings.
  *
+ * Hosts are first harvested passively from the ARP table of the kernel and from DHCP requests seen during the scan.
+ * They are reported immediately and only probed for TCP services. The other addresses are probed actively in slices
+ * of {@link #SCAN_SLICE_SIZE} addresses, at most {@link #PROBES_PER_SECOND} per second. Each scan continues where the
+ * previous one stopped, the position is stored, so large networks are covered over several scans and restarts.
+ *
  * @author Marc Mettke - Initial contribution
  * @author David Graeff - Rewritten
  */
 @NonNullByDefault
 @Component(service = DiscoveryService.class, immediate = true, configurationPid = "discovery.network")
-public class NetworkDiscoveryService extends AbstractDiscoveryService implements PresenceDetectionListener {
+public class NetworkDiscoveryService extends AbstractDiscoveryService
+        implements PresenceDetectionListener, IPRequestReceivedCallback {
     static final int PING_TIMEOUT_IN_MS = 500;
-    static final int MAXIMUM_IPS_PER_INTERFACE = 255;
+    static final int SCAN_SLICE_SIZE = 255;
+    static final int PROBES_PER_SECOND = 25;
+    static final String STORAGE_NEXT_ADDRESS = "nextAddress";
     private static final long DISCOVERY_RESULT_TTL = TimeUnit.MINUTES.toSeconds(10);
     private final Logger logger = LoggerFactory.getLogger(NetworkDiscoveryService.class);
 
@@ -62,15 +84,28 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     // TCP port 1025 (Xbox / MS-RPC)
     private Set<Integer> tcpServicePorts = Collections
             .unmodifiableSet(Stream.of(80, 548, 554, 1025).collect(Collectors.toSet()));
-    private Integer scannedIPcount = 0;
     private @Nullable ExecutorService executorService = null;
+    private @Nullable ScheduledFuture<?> probeJob;
     private final NetworkBindingConfiguration configuration = new NetworkBindingConfiguration();
     private final NetworkUtils networkUtils = new NetworkUtils();
+    private @Nullable StorageService storageService;
+
+    /** Addresses already reported in the current scan */
+    private final Set<String> knownIPs = ConcurrentHashMap.newKeySet();
+    /** Passively harvested hosts, only probed for TCP services */
+    private final Queue<String> passiveHosts = new ConcurrentLinkedQueue<>();
+    /** Addresses of the current slice, probed actively */
+    private List<String> slice = Collections.emptyList();
+    private int nextSliceIndex;
+    private @Nullable String sliceEndAddress;
+
+    private final AtomicInteger runningProbes = new AtomicInteger();
+    private final AtomicInteger probedIPs = new AtomicInteger();
+    private final AtomicInteger harvestedIPs = new AtomicInteger();
+    private long scanStartTime;
 
     public NetworkDiscoveryService() {
-        super(SUPPORTED_THING_TYPES_UIDS, (int) Math.round(
-                new NetworkUtils().getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE).size() * (PING_TIMEOUT_IN_MS / 1000.0)),
-                false);
+        super(SUPPORTED_THING_TYPES_UIDS, SCAN_SLICE_SIZE / PROBES_PER_SECOND + 10, false);
     }
 
     @Override
@@ -96,6 +131,15 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
         super.deactivate();
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    public void setStorageService(StorageService storageService) {
+        this.storageService = storageService;
+    }
+
+    public void unsetStorageService(StorageService storageService) {
+        this.storageService = null;
+    }
+
     @Override
     public void partialDetectionResult(PresenceDetectionValue value) {
         final String ip = value.getHostAddress();
@@ -114,50 +158,143 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Starts the DiscoveryThread for each IP on each interface on the network
+     * A DHCP request was seen during a scan, the host is reported and probed for TCP services.
      */
     @Override
-    protected void startScan() {
-        final ExecutorService service = executorService;
-        if (service == null) {
+    public void dhcpRequestReceived(String ipAddress) {
+        if (knownIPs.add(ipAddress)) {
+            logger.trace("Found network device with IP address {} by its DHCP request", ipAddress);
+            harvestedIPs.incrementAndGet();
+            newPingDevice(ipAddress);
+            passiveHosts.add(ipAddress);
+        }
+    }
+
+    /**
+     * Harvests the known hosts and starts probing the next slice of addresses
+     */
+    @Override
+    protected synchronized void startScan() {
+        if (executorService != null) {
+            logger.debug("Network Device Discovery is already running");
             return;
         }
-        removeOlderResults(getTimestampOfLastScan(), null);
         logger.trace("Starting Network Device Discovery");
 
-        final Set<String> networkIPs = networkUtils.getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE);
-        executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
-        scannedIPcount = 0;
+        List<String> networkIPs = new ArrayList<>(networkUtils.getNetworkIPs(0));
+        slice = nextSlice(networkIPs);
+        nextSliceIndex = 0;
+        if (!slice.isEmpty() && networkIPs.indexOf(slice.get(0)) == 0) {
+            // a new pass over the whole network starts
+            removeOlderResults(getTimestampOfLastScan(), null);
+        }
 
-        for (String ip : networkIPs) {
-            final PresenceDetection s = new PresenceDetection(this, 2000);
+        knownIPs.clear();
+        passiveHosts.clear();
+        runningProbes.set(0);
+        probedIPs.set(0);
+        harvestedIPs.set(0);
+        scanStartTime = System.nanoTime();
+
+        for (String ip : networkUtils.getARPTableIPs()) {
+            if (knownIPs.add(ip)) {
+                logger.trace("Found network device with IP address {} in the ARP table", ip);
+                harvestedIPs.incrementAndGet();
+                newPingDevice(ip);
+                passiveHosts.add(ip);
+            }
+        }
+        if (configuration.allowDHCPlisten) {
             try {
-                s.setHostname(ip);
-            } catch (UnknownHostException unknownHostException) {
-                logger.trace("Skip IP that cannot be converted to a InetAddress", unknownHostException);
-                continue;
+                DHCPListenService.registerAllAddresses(this);
+            } catch (SocketException e) {
+                logger.debug("Cannot listen to DHCP requests: {}", e.getMessage());
             }
-            s.setIOSDevice(true);
-            s.setUseDhcpSniffing(false);
-            s.setTimeout(PING_TIMEOUT_IN_MS);
-            // Ping devices
-            s.setUseIcmpPing(true);
-            s.setUseArpPing(true, configuration.arpPingToolPath);
-            // TCP devices
-            s.setServicePorts(tcpServicePorts);
-
-            service.execute(() -> {
-                Thread.currentThread().setName("Discovery thread " + ip);
+        }
+
+        executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+        probeJob = scheduler.scheduleAtFixedRate(this::probeNext, 0, 1000 / PROBES_PER_SECOND,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Determines the addresses to probe in this scan, starting at the stored address of the previous scan.
+     *
+     * @param networkIPs All addresses of the networks
+     * @return The next {@link #SCAN_SLICE_SIZE} addresses
+     */
+    List<String> nextSlice(List<String> networkIPs) {
+        int start = 0;
+        Storage<String> storage = getStorage();
+        @Nullable
+        String nextAddress = storage == null ? null : storage.get(STORAGE_NEXT_ADDRESS);
+        if (nextAddress != null) {
+            start = Math.max(0, networkIPs.indexOf(nextAddress));
+        }
+        int end = Math.min(networkIPs.size(), start + SCAN_SLICE_SIZE);
+        sliceEndAddress = end < networkIPs.size() ? networkIPs.get(end) : null;
+        return new ArrayList<>(networkIPs.subList(start, end));
+    }
+
+    /**
+     * Submits the next probe, called {@link #PROBES_PER_SECOND} times per second. Passively harvested hosts are
+     * probed first.
+     */
+    private synchronized void probeNext() {
+        ExecutorService service = executorService;
+        if (service == null) {
+            return;
+        }
+
+        String ip = passiveHosts.poll();
+        boolean servicesOnly = ip != null;
+        while (ip == null && nextSliceIndex < slice.size()) {
+            String candidate = slice.get(nextSliceIndex++);
+            if (!knownIPs.contains(candidate)) {
+                ip = candidate;
+            }
+        }
+        if (ip == null) {
+            if (runningProbes.get() == 0) {
+                stopScan();
+            }
+            return;
+        }
+
+        PresenceDetection s = createPresenceDetection(ip, servicesOnly);
+        if (s == null) {
+            return;
+        }
+        runningProbes.incrementAndGet();
+        final String probedIP = ip;
+        service.execute(() -> {
+            Thread.currentThread().setName("Discovery thread " + probedIP);
+            try {
                 s.performPresenceDetection(true);
-                synchronized (scannedIPcount) {
-                    scannedIPcount += 1;
-                    if (scannedIPcount == networkIPs.size()) {
-                        logger.trace("Scan of {} IPs successful", scannedIPcount);
-                        stopScan();
-                    }
-                }
-            });
+            } finally {
+                probedIPs.incrementAndGet();
+                runningProbes.decrementAndGet();
+            }
+        });
+    }
+
+    private @Nullable PresenceDetection createPresenceDetection(String ip, boolean servicesOnly) {
+        final PresenceDetection s = new PresenceDetection(this, 2000);
+        try {
+            s.setHostname(ip);
+        } catch (UnknownHostException unknownHostException) {
+            logger.trace("Skip IP that cannot be converted to a InetAddress", unknownHostException);
+            return null;
         }
+        s.setIOSDevice(!servicesOnly);
+        s.setUseDhcpSniffing(false);
+        s.setTimeout(PING_TIMEOUT_IN_MS);
+        // Ping devices, already known to be reachable for passively harvested hosts
+        s.setUseIcmpPing(servicesOnly ? null : true);
+        s.setUseArpPing(!servicesOnly, configuration.arpPingToolPath);
+        // TCP devices
+        s.setServicePorts(tcpServicePorts);
+        return s;
     }
 
     @Override
@@ -168,6 +305,16 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
             return;
         }
 
+        ScheduledFuture<?> job = probeJob;
+        if (job != null) {
+            job.cancel(false);
+            probeJob = null;
+        }
+        DHCPListenService.unregisterAllAddresses();
+
+        // continue with the first address not probed yet in the next scan
+        storeNextAddress(nextSliceIndex < slice.size() ? slice.get(nextSliceIndex) : sliceEndAddress);
+
         try {
             service.awaitTermination(PING_TIMEOUT_IN_MS, TimeUnit.MILLISECONDS);
         } catch (InterruptedException e) {
@@ -175,6 +322,49 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
         }
         service.shutdown();
         executorService = null;
+
+        long elapsed = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scanStartTime));
+        logger.debug("Network Device Discovery probed {} of {} addresses in {} ms ({} hosts/s), {} hosts harvested "
+                + "from the ARP table and DHCP requests", probedIPs.get(), slice.size(), elapsed,
+                probedIPs.get() * 1000 / elapsed, harvestedIPs.get());
+    }
+
+    private @Nullable Storage<String> getStorage() {
+        StorageService service = storageService;
+        return service == null ? null : service.getStorage(NetworkDiscoveryService.class.getName());
+    }
+
+    private void storeNextAddress(@Nullable String nextAddress) {
+        Storage<String> storage = getStorage();
+        if (storage == null) {
+            return;
+        }
+        if (nextAddress == null) {
+            storage.remove(STORAGE_NEXT_ADDRESS);
+        } else {
+            storage.put(STORAGE_NEXT_ADDRESS, nextAddress);
+        }
+    }
+
+    /**
+     * @return The number of addresses probed in the current or last scan
+     */
+    public int getProbedIPs() {
+        return probedIPs.get();
+    }
+
+    /**
+     * @return The number of hosts found in the ARP table and by DHCP requests in the current or last scan
+     */
+    public int getHarvestedIPs() {
+        return harvestedIPs.get();
+    }
+
+    /**
+     * @return The number of addresses of the current or last slice
+     */
+    public int getSliceSize() {
+        return slice.size();
     }
 
     public static ThingUID createServiceUID(String ip, int tcpPort) {
@@ -11,6 +11,7 @@ package org.openhab.binding.network.internal.utils;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.ConnectException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
@@ -24,6 +25,10 @@ import java.net.Socket;
 import java.net.SocketAddress;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -44,6 +49,9 @@ import org.eclipse.smarthome.io.net.exec.ExecUtil;
  */
 @NonNullByDefault
 public class NetworkUtils {
+    private static final Path ARP_TABLE = Paths.get("/proc/net/arp");
+    private static final int ARP_FLAG_COMPLETE = 0x2;
+
     /**
      * Gets every IPv4 Address on each Interface except the loopback
      * The Address format is ip/subnet
@@ -147,6 +155,55 @@ public class NetworkUtils {
         return networkIPs;
     }
 
+    /**
+     * Reads the IPv4 addresses of all complete entries of the ARP table of the kernel. These are the hosts which
+     * recently communicated with this computer. The ARP table is only available on Linux.
+     *
+     * @return The IPv4 addresses of the ARP table or an empty set if it is not available
+     */
+    public Set<String> getARPTableIPs() {
+        if (!Files.isReadable(ARP_TABLE)) {
+            return new HashSet<>();
+        }
+        try (Reader reader = Files.newBufferedReader(ARP_TABLE, StandardCharsets.US_ASCII)) {
+            return parseARPTable(reader);
+        } catch (IOException | RuntimeException ignored) {
+            return new HashSet<>();
+        }
+    }
+
+    /**
+     * Parses an ARP table in the format of /proc/net/arp:
+     *
+     * <pre>
+     * IP address       HW type     Flags       HW address            Mask     Device
+     * 192.168.0.1      0x1         0x2         00:11:22:33:44:55     *        eth0
+     * </pre>
+     *
+     * @param arpTable The ARP table including the header line
+     * @return The IPv4 addresses of all complete entries
+     * @throws IOException If the table can not be read
+     */
+    public Set<String> parseARPTable(Reader arpTable) throws IOException {
+        Set<String> ips = new LinkedHashSet<>();
+        BufferedReader reader = new BufferedReader(arpTable);
+        // skip the header line
+        String line = reader.readLine();
+        while ((line = reader.readLine()) != null) {
+            String[] columns = line.trim().split("\\s+");
+            if (columns.length < 4) {
+                continue;
+            }
+            try {
+                if ((Integer.decode(columns[2]) & ARP_FLAG_COMPLETE) != 0) {
+                    ips.add(columns[0]);
+                }
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return ips;
+    }
+
     /**
      * Try to establish a tcp connection to the given port. Returns false if a timeout occurred
      * or the connection was denied.
@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.nibeheatpump.internal.handler;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.smarthome.core.util.HexUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.nibeheatpump.internal.NibeHeatPumpException;
+import org.openhab.binding.nibeheatpump.internal.message.ModbusDataReadOutMessage;
+import org.openhab.binding.nibeheatpump.internal.message.ModbusValue;
+
+/**
+ * Tests cases for {@link NibeHeatPumpPollScheduler}.
+ *
+ * @author agent - Initial contribution
+ */
+public class NibeHeatPumpPollSchedulerTest {
+
+    // Data read out message sent by the SimulatorConnector
+    private static final String READOUT_MESSAGE = "5C0020685001A81F0100A86400FDA7D003449C1E004F9CA000509C7800519C0301529C1B01879C14014E9CC601479C010115B9B0FF3AB94B00C9AF0000489C0D014C9CE7004B9C0000FFFF0000FFFF0000FFFF000045";
+
+    private static final long REFRESH_INTERVAL = 60000;
+    private static final long READOUT_INTERVAL = 2000;
+
+    private static final int READOUT_REGISTER = 40004;
+    private static final int POLLED_REGISTER = 47011;
+
+    private NibeHeatPumpPollScheduler scheduler;
+    private List<Integer> readoutRegisters;
+    private long now;
+
+    @Before
+    public void setUp() throws NibeHeatPumpException {
+        scheduler = new NibeHeatPumpPollScheduler(REFRESH_INTERVAL);
+        ModbusDataReadOutMessage msg = new ModbusDataReadOutMessage(HexUtils.hexToBytes(READOUT_MESSAGE));
+        readoutRegisters = msg.getValues().stream().map(ModbusValue::getCoilAddress).filter(c -> c != 0xFFFF)
+                .collect(Collectors.toList());
+        now = 1000000;
+    }
+
+    private void readout() {
+        scheduler.readoutReceived(readoutRegisters, now);
+        for (int coilAddress : readoutRegisters) {
+            scheduler.valueReceived(coilAddress, 1, false, now);
+        }
+    }
+
+    @Test
+    public void unknownRegistersAreDue() {
+        assertTrue(scheduler.isDue(READOUT_REGISTER, now));
+        assertTrue(scheduler.isDue(POLLED_REGISTER, now));
+    }
+
+    @Test
+    public void readOutRegistersAreNotPolled() {
+        readout();
+        now += READOUT_INTERVAL;
+        readout();
+
+        now += REFRESH_INTERVAL;
+        for (int i = 0; i < REFRESH_INTERVAL / READOUT_INTERVAL; i++) {
+            now += READOUT_INTERVAL;
+            readout();
+        }
+
+        assertEquals(READOUT_INTERVAL, scheduler.getReadoutInterval());
+        assertTrue(scheduler.isReadOut(READOUT_REGISTER, now));
+        assertFalse(scheduler.isDue(READOUT_REGISTER, now + REFRESH_INTERVAL));
+        assertEquals(1.0, scheduler.getReadoutCoverage(readoutRegisters, now), 0.0);
+        assertEquals(0.5, scheduler.getReadoutCoverage(Arrays.asList(READOUT_REGISTER, POLLED_REGISTER), now), 0.0);
+    }
+
+    @Test
+    public void registersArePolledWhenReadOutStops() {
+        readout();
+        now += READOUT_INTERVAL;
+        readout();
+        assertFalse(scheduler.isDue(READOUT_REGISTER, now));
+
+        long silence = NibeHeatPumpPollScheduler.READOUT_PERIODS * READOUT_INTERVAL + REFRESH_INTERVAL;
+        now += silence;
+        assertFalse(scheduler.isReadOut(READOUT_REGISTER, now));
+        assertTrue(scheduler.isDue(READOUT_REGISTER, now));
+        assertEquals(silence, scheduler.getMaxStaleness(readoutRegisters, now));
+    }
+
+    @Test
+    public void invalidatedReadOutRegisterIsPolledOnce() {
+        readout();
+        now += READOUT_INTERVAL;
+        readout();
+
+        scheduler.invalidate(READOUT_REGISTER);
+        assertTrue(scheduler.isDue(READOUT_REGISTER, now));
+
+        scheduler.valueReceived(READOUT_REGISTER, 1, true, now);
+        assertFalse(scheduler.isDue(READOUT_REGISTER, now));
+    }
+
+    @Test
+    public void unchangedValueExtendsRefreshInterval() {
+        for (int i = 0; i < 10; i++) {
+            assertTrue(scheduler.isDue(POLLED_REGISTER, now));
+            scheduler.valueReceived(POLLED_REGISTER, 21.5, true, now);
+            scheduler.pollCompleted(200, now);
+            assertFalse(scheduler.isDue(POLLED_REGISTER, now + REFRESH_INTERVAL / 2));
+            now += scheduler.getInterval(POLLED_REGISTER) + 1;
+        }
+        assertEquals(NibeHeatPumpPollScheduler.MAX_BACKOFF * REFRESH_INTERVAL,
+                scheduler.getInterval(POLLED_REGISTER));
+        assertEquals(10, scheduler.getPolls());
+        assertEquals(200, scheduler.getAverageRoundTripTime());
+        assertEquals(0, scheduler.getPollsPerMinute(now));
+
+        scheduler.valueReceived(POLLED_REGISTER, 22.0, true, now);
+        assertEquals(REFRESH_INTERVAL, scheduler.getInterval(POLLED_REGISTER));
+    }
+
+    @Test
+    public void pollsPerMinuteCountsRecentPolls() {
+        for (int i = 0; i < 90; i++) {
+            now += 1000;
+            scheduler.pollCompleted(300, now);
+        }
+        assertEquals(60, scheduler.getPollsPerMinute(now));
+    }
+}
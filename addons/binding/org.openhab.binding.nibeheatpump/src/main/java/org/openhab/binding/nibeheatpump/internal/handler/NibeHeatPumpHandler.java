@@ -13,8 +13,10 @@ import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -85,6 +87,9 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
 
     private long lastUpdateTime = 0;
 
+    private NibeHeatPumpPollScheduler pollScheduler;
+    private long lastStatisticsTime = 0;
+
     protected class CacheObject {
 
         /** Time when cache object updated in milliseconds */
@@ -247,6 +252,7 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
 
         logger.debug("Linked registers {}: {}", itemsToPoll.size(), itemsToPoll);
 
+        pollScheduler = new NibeHeatPumpPollScheduler(refreshIntervalMillis());
         clearCache();
 
         if (connectorTask == null || connectorTask.isCancelled()) {
@@ -328,9 +334,7 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
                 if (connector != null && connector.isConnected()
                         && getThing().getStatusInfo().getStatus() == ThingStatus.ONLINE) {
 
-                    CacheObject oldValue = stateMap.get(item);
-                    if (oldValue == null
-                            || (oldValue.lastUpdateTime + refreshIntervalMillis()) < System.currentTimeMillis()) {
+                    if (pollScheduler.isDue(item, System.currentTimeMillis())) {
 
                         // it's time to refresh data
                         logger.debug("Time to refresh variable '{}' data", item);
@@ -339,16 +343,19 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
                                 .coilAddress(item).build();
 
                         try {
+                            long start = System.currentTimeMillis();
                             readResult = sendMessageToNibe(request);
                             ModbusReadResponseMessage result = (ModbusReadResponseMessage) readResult.get(TIMEOUT,
                                     TimeUnit.MILLISECONDS);
                             if (result != null) {
+                                long now = System.currentTimeMillis();
+                                pollScheduler.pollCompleted(now - start, now);
                                 if (request.getCoilAddress() != result.getCoilAddress()) {
                                     logger.debug("Data from wrong register '{}' received, expected '{}'",
                                             result.getCoilAddress(), request.getCoilAddress());
                                 }
                                 // update variable anyway
-                                handleVariableUpdate(pumpModel, result.getValueAsModbusValue());
+                                handleVariableUpdate(pumpModel, result.getValueAsModbusValue(), true);
                             }
                         } catch (TimeoutException e) {
                             logger.debug("Message sending to heat pump failed, no response");
@@ -364,9 +371,24 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
                     }
                 }
             }
+
+            logStatistics(items);
         }
     };
 
+    private void logStatistics(List<Integer> items) {
+        long now = System.currentTimeMillis();
+        if (logger.isDebugEnabled() && now - lastStatisticsTime >= TimeUnit.MINUTES.toMillis(1)) {
+            lastStatisticsTime = now;
+            logger.debug(
+                    "Read out covers {}% of {} linked registers (read out interval {} ms), {} polls during last minute "
+                            + "(average round trip {} ms), oldest value {} ms",
+                    Math.round(100 * pollScheduler.getReadoutCoverage(items, now)), items.size(),
+                    pollScheduler.getReadoutInterval(), pollScheduler.getPollsPerMinute(now),
+                    pollScheduler.getAverageRoundTripTime(), pollScheduler.getMaxStaleness(items, now));
+        }
+    }
+
     private long refreshIntervalMillis() {
         return configuration.refreshInterval * 1000;
     }
@@ -438,10 +460,16 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
     private void clearCache() {
         stateMap.clear();
         lastUpdateTime = 0;
+        if (pollScheduler != null) {
+            pollScheduler.clear();
+        }
     }
 
     private void clearCache(int coilAddress) {
         stateMap.put(coilAddress, null);
+        if (pollScheduler != null) {
+            pollScheduler.invalidate(coilAddress);
+        }
     }
 
     private synchronized NibeHeatPumpCommandResult sendMessageToNibe(NibeHeatPumpMessage msg)
@@ -513,14 +541,23 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
             List<ModbusValue> regValues = msg.getValues();
 
             if (regValues != null) {
+                // learn registers refreshed by read out, throttled messages do not refresh them
+                Set<Integer> coilAddresses = new HashSet<>();
+                for (ModbusValue val : regValues) {
+                    if (val.getCoilAddress() != 0xFFFF) {
+                        coilAddresses.add(val.getCoilAddress());
+                    }
+                }
+                pollScheduler.readoutReceived(coilAddresses, lastUpdateTime);
+
                 for (ModbusValue val : regValues) {
-                    handleVariableUpdate(pumpModel, val);
+                    handleVariableUpdate(pumpModel, val, false);
                 }
             }
         }
     }
 
-    private void handleVariableUpdate(PumpModel pumpModel, ModbusValue value) {
+    private void handleVariableUpdate(PumpModel pumpModel, ModbusValue value, boolean polled) {
         logger.debug("Received variable update: {}", value);
         int coilAddress = value.getCoilAddress();
 
@@ -532,8 +569,10 @@ public class NibeHeatPumpHandler extends BaseThingHandler implements NibeHeatPum
             double val = (double) value.getValue() / (double) variableInfo.factor;
             logger.debug("{} = {}", coilAddress + ":" + variableInfo.variable, val);
 
+            long now = System.currentTimeMillis();
             CacheObject oldValue = stateMap.get(coilAddress);
-            stateMap.put(coilAddress, new CacheObject(System.currentTimeMillis(), val));
+            stateMap.put(coilAddress, new CacheObject(now, val));
+            pollScheduler.valueReceived(coilAddress, val, polled, now);
 
             if (oldValue != null && val == oldValue.value) {
                 logger.trace("Value did not change, ignoring update");
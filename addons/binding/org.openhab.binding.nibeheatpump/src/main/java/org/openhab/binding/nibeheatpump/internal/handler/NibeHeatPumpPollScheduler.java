@@ -0,0 +1,289 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.nibeheatpump.internal.handler;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link NibeHeatPumpPollScheduler} decides which registers have to be polled by read requests.
+ *
+ * Registers which are included in the data read out messages of the heat pump are learned and not polled as long
+ * as the read out messages keep arriving. The refresh interval of the remaining registers starts with the configured
+ * refresh interval and is doubled every time a poll returns an unchanged value, up to {@link #MAX_BACKOFF} times the
+ * configured interval. A changed value resets the interval.
+ *
+ * @author agent - Initial contribution
+ */
+public class NibeHeatPumpPollScheduler {
+
+    /** Maximum factor the refresh interval of a register is extended by */
+    static final int MAX_BACKOFF = 8;
+
+    /** Number of read out periods a register is considered covered after it was last read out */
+    static final int READOUT_PERIODS = 3;
+
+    private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+
+    private final Logger logger = LoggerFactory.getLogger(NibeHeatPumpPollScheduler.class);
+
+    private final long refreshInterval;
+
+    private final Map<Integer, RegisterState> registers = new HashMap<>();
+
+    /** Time when a read out message contained the register last in milliseconds */
+    private final Map<Integer, Long> readoutTimes = new HashMap<>();
+
+    private long lastReadout;
+    private long readoutInterval;
+
+    /** Completion times of the polls of the last minute */
+    private final Deque<Long> pollTimes = new ArrayDeque<>();
+    private long polls;
+    private long totalRoundTripTime;
+
+    private static class RegisterState {
+        /** Time when the value was last received in milliseconds, 0 if invalidated */
+        long lastUpdateTime;
+        Double value;
+        long interval;
+    }
+
+    /**
+     * Initialize poll scheduler.
+     *
+     * @param refreshInterval
+     *                            Configured refresh interval in milliseconds.
+     */
+    public NibeHeatPumpPollScheduler(long refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * Registers a parsed data read out message. Throttled messages must not be registered, since they do not
+     * refresh any register.
+     *
+     * @param coilAddresses
+     *                          Registers contained in the message.
+     * @param now
+     *                          Current time in milliseconds.
+     */
+    public synchronized void readoutReceived(Collection<Integer> coilAddresses, long now) {
+        if (lastReadout != 0) {
+            long interval = now - lastReadout;
+            if (readoutInterval == 0) {
+                readoutInterval = interval;
+            } else if (interval <= READOUT_PERIODS * readoutInterval) {
+                readoutInterval = (3 * readoutInterval + interval) / 4;
+            } else {
+                // read out messages were missing for a while, e.g. connection was lost
+                logger.debug("No data read out message received during {} ms", interval);
+            }
+        }
+        lastReadout = now;
+        for (Integer coilAddress : coilAddresses) {
+            readoutTimes.put(coilAddress, now);
+        }
+    }
+
+    /**
+     * Registers a received register value, either polled or read out.
+     *
+     * @param coilAddress
+     *                        Register address.
+     * @param value
+     *                        Received value.
+     * @param polled
+     *                        True if the value was received for a read request.
+     * @param now
+     *                        Current time in milliseconds.
+     */
+    public synchronized void valueReceived(int coilAddress, double value, boolean polled, long now) {
+        RegisterState state = getState(coilAddress);
+        if (polled) {
+            if (state.value != null && state.value == value && state.lastUpdateTime != 0) {
+                state.interval = Math.min(2 * state.interval, MAX_BACKOFF * refreshInterval);
+            } else {
+                state.interval = refreshInterval;
+            }
+        }
+        state.lastUpdateTime = now;
+        state.value = value;
+    }
+
+    /**
+     * Registers a completed read request.
+     *
+     * @param roundTripTime
+     *                          Time from sending the request to receiving the response in milliseconds.
+     * @param now
+     *                          Current time in milliseconds.
+     */
+    public synchronized void pollCompleted(long roundTripTime, long now) {
+        polls++;
+        totalRoundTripTime += roundTripTime;
+        pollTimes.addLast(now);
+        expirePollTimes(now);
+    }
+
+    /**
+     * Forces the register to be polled with the next poll round, whether it is read out or not.
+     *
+     * @param coilAddress
+     *                        Register address.
+     */
+    public synchronized void invalidate(int coilAddress) {
+        RegisterState state = getState(coilAddress);
+        state.lastUpdateTime = 0;
+        state.interval = refreshInterval;
+    }
+
+    /**
+     * Forgets everything learned about the registers.
+     */
+    public synchronized void clear() {
+        registers.clear();
+        readoutTimes.clear();
+        lastReadout = 0;
+        readoutInterval = 0;
+    }
+
+    /**
+     * Checks if a register has to be polled.
+     *
+     * @param coilAddress
+     *                        Register address.
+     * @param now
+     *                        Current time in milliseconds.
+     * @return True if a read request should be sent for the register.
+     */
+    public synchronized boolean isDue(int coilAddress, long now) {
+        RegisterState state = registers.get(coilAddress);
+        if (state == null || state.lastUpdateTime == 0) {
+            return true;
+        }
+        if (isReadOut(coilAddress, now)) {
+            return false;
+        }
+        return state.lastUpdateTime + state.interval < now;
+    }
+
+    /**
+     * Checks if a register is currently refreshed by the data read out messages.
+     *
+     * @param coilAddress
+     *                        Register address.
+     * @param now
+     *                        Current time in milliseconds.
+     * @return True if the register was contained in the recent read out messages.
+     */
+    public synchronized boolean isReadOut(int coilAddress, long now) {
+        Long readoutTime = readoutTimes.get(coilAddress);
+        return readoutTime != null && readoutInterval > 0 && now - readoutTime <= READOUT_PERIODS * readoutInterval;
+    }
+
+    /**
+     * Returns the current refresh interval of a polled register.
+     *
+     * @param coilAddress
+     *                        Register address.
+     * @return Refresh interval in milliseconds.
+     */
+    public synchronized long getInterval(int coilAddress) {
+        RegisterState state = registers.get(coilAddress);
+        return state == null ? refreshInterval : state.interval;
+    }
+
+    /**
+     * Returns the share of the given registers refreshed by the data read out messages.
+     *
+     * @param coilAddresses
+     *                          Registers to check, usually the linked ones.
+     * @param now
+     *                          Current time in milliseconds.
+     * @return Read out coverage between 0 and 1.
+     */
+    public synchronized double getReadoutCoverage(Collection<Integer> coilAddresses, long now) {
+        if (coilAddresses.isEmpty()) {
+            return 0;
+        }
+        int covered = 0;
+        for (Integer coilAddress : coilAddresses) {
+            if (isReadOut(coilAddress, now)) {
+                covered++;
+            }
+        }
+        return (double) covered / coilAddresses.size();
+    }
+
+    /**
+     * Returns the age of the oldest value of the given registers.
+     *
+     * @param coilAddresses
+     *                          Registers to check, usually the linked ones.
+     * @param now
+     *                          Current time in milliseconds.
+     * @return Staleness in milliseconds, registers without value are not taken into account.
+     */
+    public synchronized long getMaxStaleness(Collection<Integer> coilAddresses, long now) {
+        long staleness = 0;
+        for (Integer coilAddress : coilAddresses) {
+            RegisterState state = registers.get(coilAddress);
+            if (state != null && state.lastUpdateTime != 0) {
+                staleness = Math.max(staleness, now - state.lastUpdateTime);
+            }
+        }
+        return staleness;
+    }
+
+    /**
+     * Returns the number of read requests completed during the last minute.
+     *
+     * @param now
+     *                Current time in milliseconds.
+     * @return Poll round trips per minute.
+     */
+    public synchronized int getPollsPerMinute(long now) {
+        expirePollTimes(now);
+        return pollTimes.size();
+    }
+
+    public synchronized long getPolls() {
+        return polls;
+    }
+
+    public synchronized long getAverageRoundTripTime() {
+        return polls == 0 ? 0 : totalRoundTripTime / polls;
+    }
+
+    public synchronized long getReadoutInterval() {
+        return readoutInterval;
+    }
+
+    private RegisterState getState(int coilAddress) {
+        return registers.computeIfAbsent(coilAddress, c -> {
+            RegisterState state = new RegisterState();
+            state.interval = refreshInterval;
+            return state;
+        });
+    }
+
+    private void expirePollTimes(long now) {
+        while (!pollTimes.isEmpty() && pollTimes.peekFirst() <= now - MINUTE) {
+            pollTimes.removeFirst();
+        }
+    }
+}
@@ -12,6 +12,7 @@ import static org.openhab.binding.plclogo.PLCLogoBindingConstants.*;
 
 import java.time.DateTimeException;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -22,6 +23,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -94,24 +96,12 @@ public class PLCBridgeHandler extends BaseBridgeHandler {
             Layout memory = LOGO_MEMORY_BLOCK.get(getLogoFamily()).get("SIZE");
             if ((memory != null) && (localClient != null)) {
                 try {
+                    long start = System.nanoTime();
                     int result = localClient.readDBArea(1, 0, memory.length, S7Client.S7WLByte, buffer);
                     if (result == 0) {
-                        synchronized (handlers) {
-                            for (PLCCommonHandler handler : handlers) {
-                                if (handler == null) {
-                                    logger.debug("Skip processing of invalid handler.");
-                                    continue;
-                                }
-
-                                int length = handler.getBufferLength();
-                                int address = handler.getStartAddress();
-                                if ((length > 0) && (address != PLCCommonHandler.INVALID)) {
-                                    handler.setData(Arrays.copyOfRange(buffer, address, address + length));
-                                } else {
-                                    logger.debug("Invalid handler {} found.", handler.getClass().getSimpleName());
-                                }
-                            }
-                        }
+                        List<BlockRange> changes = getChanges(buffer, memory.length);
+                        int notified = notifyHandlers(buffer, changes);
+                        updateStatistics(System.nanoTime() - start, changes, notified);
                     } else {
                         logger.debug("Can not read data from LOGO!: {}.", S7Client.ErrorText(result));
                     }
@@ -124,6 +114,60 @@ public class PLCBridgeHandler extends BaseBridgeHandler {
         }
     };
 
+    // Block data of the last read operation, compared with the next one to find the changed bytes
+    private final byte[] snapshot = new byte[2048];
+    private volatile boolean snapshotValid = false;
+
+    // Address range of every handler and handlers by address range, both guarded by handlers
+    private final Map<PLCCommonHandler, BlockRange> handlerRanges = new HashMap<>();
+    private final Map<BlockRange, Set<PLCCommonHandler>> rangeHandlers = new HashMap<>();
+    // Handlers waiting for the complete data of their range, since they are new or not online yet
+    private final Set<PLCCommonHandler> pendingHandlers = new HashSet<>();
+
+    private static final long STATISTICS_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+    private final AtomicLong cycles = new AtomicLong();
+    private final AtomicLong totalCycleTime = new AtomicLong();
+    private final AtomicLong maxCycleTime = new AtomicLong();
+    private final AtomicLong changedBytes = new AtomicLong();
+    private final AtomicLong notifications = new AtomicLong();
+    private volatile long lastStatistics = System.nanoTime();
+
+    /**
+     * Address range in the VM memory block
+     */
+    private static class BlockRange {
+        private final int address;
+        private final int length;
+
+        public BlockRange(int address, int length) {
+            this.address = address;
+            this.length = length;
+        }
+
+        public boolean overlaps(BlockRange other) {
+            return (address < other.address + other.length) && (other.address < address + length);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * address + length;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object object) {
+            if (!(object instanceof BlockRange)) {
+                return false;
+            }
+            BlockRange other = (BlockRange) object;
+            return (address == other.address) && (length == other.length);
+        }
+
+        @Override
+        public String toString() {
+            return address + ":" + length;
+        }
+    }
+
     /**
      * Constructor.
      */
@@ -246,6 +290,7 @@ public class PLCBridgeHandler extends BaseBridgeHandler {
                 rtcJob = scheduler.scheduleAtFixedRate(rtcReader, 100, 1000, TimeUnit.MILLISECONDS);
             }
 
+            snapshotValid = false;
             updateStatus(ThingStatus.ONLINE);
         } else {
             String message = "Can not initialize LOGO!. Please, check network connection.";
@@ -289,6 +334,7 @@ public class PLCBridgeHandler extends BaseBridgeHandler {
                 if (!handlers.contains(handler)) {
                     handlers.add(handler);
                 }
+                pendingHandlers.add(handler);
             }
         }
     }
@@ -301,6 +347,8 @@ public class PLCBridgeHandler extends BaseBridgeHandler {
                 if (handlers.contains(handler)) {
                     handlers.remove(handler);
                 }
+                pendingHandlers.remove(handler);
+                unindexHandler(handler);
             }
         }
         super.childHandlerDisposed(childHandler, childThing);
@@ -333,6 +381,52 @@ public class PLCBridgeHandler extends BaseBridgeHandler {
         return rtc.get();
     }
 
+    /**
+     * Returns number of VM memory block reads
+     *
+     * @return Number of successful read cycles
+     */
+    public long getCycles() {
+        return cycles.get();
+    }
+
+    /**
+     * Returns average duration of a read cycle including the notification of handlers
+     *
+     * @return Average cycle time in microseconds
+     */
+    public long getAverageCycleTime() {
+        long count = cycles.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalCycleTime.get() / count);
+    }
+
+    /**
+     * Returns longest duration of a read cycle including the notification of handlers
+     *
+     * @return Maximal cycle time in microseconds
+     */
+    public long getMaxCycleTime() {
+        return TimeUnit.NANOSECONDS.toMicros(maxCycleTime.get());
+    }
+
+    /**
+     * Returns number of bytes found changed between consecutive reads
+     *
+     * @return Number of changed bytes
+     */
+    public long getChangedBytes() {
+        return changedBytes.get();
+    }
+
+    /**
+     * Returns number of data updates passed to handlers
+     *
+     * @return Number of handler notifications
+     */
+    public long getNotifications() {
+        return notifications.get();
+    }
+
     @Override
     protected void updateConfiguration(Configuration configuration) {
         super.updateConfiguration(configuration);
@@ -359,6 +453,177 @@ public class PLCBridgeHandler extends BaseBridgeHandler {
         return result;
     }
 
+    /**
+     * Compare block data with the snapshot of the previous read and store it as new snapshot
+     *
+     * @param data Block data just read
+     * @param length Length of the block data
+     * @return Ranges of changed bytes, the whole block if there is no valid snapshot
+     */
+    private List<BlockRange> getChanges(byte[] data, int length) {
+        List<BlockRange> changes = Collections.emptyList();
+        if (!snapshotValid) {
+            changes = Collections.singletonList(new BlockRange(0, length));
+            snapshotValid = true;
+        } else {
+            int start = -1;
+            for (int i = 0; i <= length; i++) {
+                boolean changed = (i < length) && (data[i] != snapshot[i]);
+                if (changed && (start < 0)) {
+                    start = i;
+                } else if (!changed && (start >= 0)) {
+                    if (changes.isEmpty()) {
+                        changes = new ArrayList<>();
+                    }
+                    changes.add(new BlockRange(start, i - start));
+                    start = -1;
+                }
+            }
+        }
+        System.arraycopy(data, 0, snapshot, 0, length);
+        return changes;
+    }
+
+    /**
+     * Pass block data to the handlers reading a changed range, to pending handlers and to handlers
+     * which need the data on every read cycle
+     *
+     * @param data Block data just read
+     * @param changes Ranges of changed bytes
+     * @return Number of notified handlers
+     */
+    private int notifyHandlers(byte[] data, List<BlockRange> changes) {
+        int notified = 0;
+        synchronized (handlers) {
+            // Reconfigured handlers are initialized again without being disposed as child, so check their range
+            for (PLCCommonHandler handler : handlers) {
+                BlockRange range = handlerRanges.get(handler);
+                if ((range != null) && !range.equals(getRange(handler))) {
+                    unindexHandler(handler);
+                    pendingHandlers.add(handler);
+                }
+            }
+
+            for (PLCCommonHandler handler : pendingHandlers) {
+                if (!handlerRanges.containsKey(handler)) {
+                    indexHandler(handler);
+                }
+            }
+
+            for (Map.Entry<BlockRange, Set<PLCCommonHandler>> entry : rangeHandlers.entrySet()) {
+                BlockRange range = entry.getKey();
+                boolean changed = false;
+                for (BlockRange change : changes) {
+                    changed = changed || range.overlaps(change);
+                }
+
+                byte[] values = null;
+                for (PLCCommonHandler handler : entry.getValue()) {
+                    boolean pending = pendingHandlers.contains(handler);
+                    if (changed || pending || isNotifiedOnEveryCycle(handler)) {
+                        if (values == null) {
+                            values = Arrays.copyOfRange(data, range.address, range.address + range.length);
+                        }
+                        handler.setData(values);
+                        notified++;
+                        // Handlers drop data until they are online, so keep them pending
+                        if (pending && (ThingStatus.ONLINE == handler.getThing().getStatus())) {
+                            pendingHandlers.remove(handler);
+                        }
+                    }
+                }
+            }
+        }
+        return notified;
+    }
+
+    /**
+     * Checks if handler needs the data of its range on every read cycle. Forced channels are updated every
+     * cycle, and pulse handlers refresh their observed block, which is outside of their range, on every data.
+     *
+     * @param handler Handler to check
+     * @return True, if handler has to be notified on every read cycle and false otherwise
+     */
+    private boolean isNotifiedOnEveryCycle(PLCCommonHandler handler) {
+        return (handler instanceof PLCPulseHandler) || handler.isUpdateForced();
+    }
+
+    /**
+     * Add handler to the address range index. Handlers know their range after initialization only.
+     *
+     * @param handler Handler to index
+     */
+    private void indexHandler(PLCCommonHandler handler) {
+        BlockRange range = getRange(handler);
+        if (range != null) {
+            handlerRanges.put(handler, range);
+            rangeHandlers.computeIfAbsent(range, key -> new HashSet<>()).add(handler);
+        }
+    }
+
+    /**
+     * Returns the address range currently configured for the handler.
+     *
+     * @param handler Handler to get the range of
+     * @return Address range of the handler or null, if the handler is invalid or not initialized yet
+     */
+    private @Nullable BlockRange getRange(PLCCommonHandler handler) {
+        try {
+            int length = handler.getBufferLength();
+            int address = handler.getStartAddress();
+            if ((length > 0) && (address != PLCCommonHandler.INVALID)) {
+                return new BlockRange(address, length);
+            }
+            logger.debug("Invalid handler {} found.", handler.getClass().getSimpleName());
+        } catch (RuntimeException exception) {
+            logger.trace("Handler {} is not initialized yet.", handler.getClass().getSimpleName());
+        }
+        return null;
+    }
+
+    /**
+     * Remove handler from the address range index
+     *
+     * @param handler Handler to remove
+     */
+    private void unindexHandler(PLCCommonHandler handler) {
+        BlockRange range = handlerRanges.remove(handler);
+        if (range != null) {
+            Set<PLCCommonHandler> indexed = rangeHandlers.get(range);
+            if (indexed != null) {
+                indexed.remove(handler);
+                if (indexed.isEmpty()) {
+                    rangeHandlers.remove(range);
+                }
+            }
+        }
+    }
+
+    /**
+     * Update reader statistics and log them once a minute
+     *
+     * @param duration Duration of the read cycle in nanoseconds
+     * @param changes Ranges of changed bytes
+     * @param notified Number of notified handlers
+     */
+    private void updateStatistics(long duration, List<BlockRange> changes, int notified) {
+        long count = cycles.incrementAndGet();
+        totalCycleTime.addAndGet(duration);
+        maxCycleTime.accumulateAndGet(duration, Math::max);
+        for (BlockRange change : changes) {
+            changedBytes.addAndGet(change.length);
+        }
+        notifications.addAndGet(notified);
+
+        long now = System.nanoTime();
+        if (logger.isDebugEnabled() && (now - lastStatistics > STATISTICS_INTERVAL)) {
+            lastStatistics = now;
+            logger.debug("LOGO! {} read {} cycles in {} us average ({} us max), {} bytes changed, {} notifications.",
+                    config.get().getAddress(), count, getAverageCycleTime(), getMaxCycleTime(), changedBytes.get(),
+                    notifications.get());
+        }
+    }
+
     /**
      * Disconnect from Siemens LOGO!
      *
@@ -112,6 +112,15 @@ public abstract class PLCCommonHandler extends BaseThingHandler {
         return layout != null ? layout.length : 0;
     }
 
+    /**
+     * Returns if channels update of current thing is forced on every data read.
+     *
+     * @return True, if channels update is forced and false otherwise
+     */
+    public boolean isUpdateForced() {
+        return Boolean.TRUE.equals(getThing().getConfiguration().get("force"));
+    }
+
     /**
      * Update value channel of current thing with new data.
      *
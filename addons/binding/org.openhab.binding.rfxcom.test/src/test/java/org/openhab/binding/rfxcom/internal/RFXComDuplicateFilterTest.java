@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.rfxcom.internal;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.smarthome.core.util.HexUtils;
+import org.junit.Test;
+
+/**
+ * Test for RFXCom-binding
+ *
+ * @author agent - Initial contribution
+ */
+public class RFXComDuplicateFilterTest {
+
+    private static final byte[] PACKET = HexUtils.hexToBytes("0710015242080780");
+    private static final byte[] REPEATED_PACKET = HexUtils.hexToBytes("0710015342080780");
+    private static final byte[] OTHER_PACKET = HexUtils.hexToBytes("0710015442080180");
+
+    @Test
+    public void testRepeatWithinWindowIsSuppressed() {
+        RFXComDuplicateFilter filter = new RFXComDuplicateFilter(1000);
+
+        assertFalse(filter.isDuplicate(PACKET, 0));
+        assertTrue(filter.isDuplicate(REPEATED_PACKET, 200));
+        assertFalse(filter.isDuplicate(OTHER_PACKET, 300));
+    }
+
+    @Test
+    public void testRepeatAfterWindowIsPassed() {
+        RFXComDuplicateFilter filter = new RFXComDuplicateFilter(1000);
+
+        assertFalse(filter.isDuplicate(PACKET, 0));
+        assertTrue(filter.isDuplicate(PACKET, 999));
+        assertFalse(filter.isDuplicate(PACKET, 1000));
+    }
+
+    @Test
+    public void testDisabledFilter() {
+        RFXComDuplicateFilter filter = new RFXComDuplicateFilter(0);
+
+        assertFalse(filter.isDuplicate(PACKET, 0));
+        assertFalse(filter.isDuplicate(PACKET, 0));
+    }
+}
@@ -10,11 +10,14 @@ package org.openhab.binding.rfxcom.handler;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.smarthome.core.thing.Bridge;
@@ -26,6 +29,7 @@ import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.util.HexUtils;
 import org.openhab.binding.rfxcom.internal.DeviceMessageListener;
+import org.openhab.binding.rfxcom.internal.RFXComDuplicateFilter;
 import org.openhab.binding.rfxcom.internal.config.RFXComBridgeConfiguration;
 import org.openhab.binding.rfxcom.internal.connector.RFXComConnectorInterface;
 import org.openhab.binding.rfxcom.internal.connector.RFXComEventListener;
@@ -35,6 +39,7 @@ import org.openhab.binding.rfxcom.internal.connector.RFXComTcpConnector;
 import org.openhab.binding.rfxcom.internal.exceptions.RFXComException;
 import org.openhab.binding.rfxcom.internal.exceptions.RFXComMessageNotImplementedException;
 import org.openhab.binding.rfxcom.internal.messages.RFXComBaseMessage;
+import org.openhab.binding.rfxcom.internal.messages.RFXComBaseMessage.PacketType;
 import org.openhab.binding.rfxcom.internal.messages.RFXComDeviceMessage;
 import org.openhab.binding.rfxcom.internal.messages.RFXComInterfaceControlMessage;
 import org.openhab.binding.rfxcom.internal.messages.RFXComInterfaceMessage;
@@ -62,6 +67,13 @@ public class RFXComBridgeHandler extends BaseBridgeHandler {
     private MessageListener eventListener = new MessageListener();
 
     private List<DeviceMessageListener> deviceStatusListeners = new CopyOnWriteArrayList<>();
+    private Map<String, List<DeviceMessageListener>> deviceIdListeners = new ConcurrentHashMap<>();
+
+    private RFXComDuplicateFilter duplicateFilter = new RFXComDuplicateFilter(0);
+    private final AtomicLong receivedPackets = new AtomicLong();
+    private final AtomicLong suppressedPackets = new AtomicLong();
+    private final AtomicLong dispatchedMessages = new AtomicLong();
+    private long lastLoggedPackets;
 
     private RFXComBridgeConfiguration configuration = null;
     private ScheduledFuture<?> connectorTask;
@@ -117,9 +129,9 @@ public class RFXComBridgeHandler extends BaseBridgeHandler {
     public synchronized void dispose() {
         logger.debug("Handler disposed.");
 
-        for (DeviceMessageListener deviceStatusListener : deviceStatusListeners) {
-            unregisterDeviceStatusListener(deviceStatusListener);
-        }
+        deviceStatusListeners.clear();
+        deviceIdListeners.clear();
+        duplicateFilter.clear();
 
         if (connector != null) {
             connector.removeEventListener(eventListener);
@@ -141,6 +153,7 @@ public class RFXComBridgeHandler extends BaseBridgeHandler {
         updateStatus(ThingStatus.OFFLINE);
 
         configuration = getConfigAs(RFXComBridgeConfiguration.class);
+        duplicateFilter = new RFXComDuplicateFilter(configuration.duplicateSuppressionWindow);
 
         if (connectorTask == null || connectorTask.isCancelled()) {
             connectorTask = scheduler.scheduleWithFixedDelay(() -> {
@@ -148,6 +161,7 @@ public class RFXComBridgeHandler extends BaseBridgeHandler {
                 if (thing.getStatus() != ThingStatus.ONLINE) {
                     connect();
                 }
+                logStatistics();
             }, 0, 60, TimeUnit.SECONDS);
         }
     }
@@ -221,6 +235,15 @@ public class RFXComBridgeHandler extends BaseBridgeHandler {
 
         @Override
         public void packetReceived(byte[] packet) {
+            receivedPackets.incrementAndGet();
+            if (isDevicePacket(packet) && duplicateFilter.isDuplicate(packet, System.currentTimeMillis())) {
+                suppressedPackets.incrementAndGet();
+                if (logger.isTraceEnabled()) {
+                    logger.trace("Repeated packet suppressed, data: {}", HexUtils.bytesToHex(packet));
+                }
+                return;
+            }
+
             try {
                 RFXComMessage message = RFXComMessageFactory.createMessage(packet);
                 logger.debug("Message received: {}", message);
@@ -286,14 +309,13 @@ public class RFXComBridgeHandler extends BaseBridgeHandler {
 
                     transmitQueue.sendNext();
                 } else if (message instanceof RFXComDeviceMessage) {
-                    for (DeviceMessageListener deviceStatusListener : deviceStatusListeners) {
-                        try {
-                            deviceStatusListener.onDeviceMessageReceived(getThing().getUID(),
-                                    (RFXComDeviceMessage) message);
-                        } catch (Exception e) {
-                            // catch all exceptions give all handlers a fair chance of handling the messages
-                            logger.error("An exception occurred while calling the DeviceStatusListener", e);
-                        }
+                    RFXComDeviceMessage deviceMessage = (RFXComDeviceMessage) message;
+                    dispatchedMessages.incrementAndGet();
+                    notifyListeners(deviceStatusListeners, deviceMessage);
+
+                    List<DeviceMessageListener> listeners = deviceIdListeners.get(deviceMessage.getDeviceId());
+                    if (listeners != null) {
+                        notifyListeners(listeners, deviceMessage);
                     }
                 } else {
                     logger.warn("The received message cannot be processed, please create an "
@@ -308,6 +330,27 @@ public class RFXComBridgeHandler extends BaseBridgeHandler {
             }
         }
 
+        private void notifyListeners(List<DeviceMessageListener> listeners, RFXComDeviceMessage message) {
+            for (DeviceMessageListener deviceStatusListener : listeners) {
+                try {
+                    deviceStatusListener.onDeviceMessageReceived(getThing().getUID(), message);
+                } catch (Exception e) {
+                    // catch all exceptions give all handlers a fair chance of handling the messages
+                    logger.error("An exception occurred while calling the DeviceStatusListener", e);
+                }
+            }
+        }
+
+        private boolean isDevicePacket(byte[] packet) {
+            if (packet.length < 2) {
+                return false;
+            }
+            byte packetType = packet[1];
+            return packetType != PacketType.INTERFACE_CONTROL.toByte()
+                    && packetType != PacketType.INTERFACE_MESSAGE.toByte()
+                    && packetType != PacketType.TRANSMITTER_MESSAGE.toByte();
+        }
+
         @Override
         public void errorOccurred(String error) {
             logger.error("Error occurred: {}", error);
@@ -315,6 +358,9 @@ public class RFXComBridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Registers a listener for the messages of all devices.
+     */
     public boolean registerDeviceStatusListener(DeviceMessageListener deviceStatusListener) {
         if (deviceStatusListener == null) {
             throw new IllegalArgumentException("It's not allowed to pass a null deviceStatusListener.");
@@ -323,11 +369,50 @@ public class RFXComBridgeHandler extends BaseBridgeHandler {
                 : deviceStatusListeners.add(deviceStatusListener);
     }
 
+    /**
+     * Registers a listener for the messages of a single device. Messages are looked up by device id, so the listener
+     * is not called for the messages of other devices.
+     */
+    public boolean registerDeviceStatusListener(String deviceId, DeviceMessageListener deviceStatusListener) {
+        if (deviceId == null || deviceStatusListener == null) {
+            throw new IllegalArgumentException("It's not allowed to pass a null deviceId or deviceStatusListener.");
+        }
+        List<DeviceMessageListener> listeners = deviceIdListeners.computeIfAbsent(deviceId,
+                id -> new CopyOnWriteArrayList<>());
+        return listeners.contains(deviceStatusListener) ? false : listeners.add(deviceStatusListener);
+    }
+
     public boolean unregisterDeviceStatusListener(DeviceMessageListener deviceStatusListener) {
         if (deviceStatusListener == null) {
             throw new IllegalArgumentException("It's not allowed to pass a null deviceStatusListener.");
         }
-        return deviceStatusListeners.remove(deviceStatusListener);
+        boolean removed = deviceStatusListeners.remove(deviceStatusListener);
+        for (List<DeviceMessageListener> listeners : deviceIdListeners.values()) {
+            removed |= listeners.remove(deviceStatusListener);
+        }
+        deviceIdListeners.values().removeIf(List::isEmpty);
+        return removed;
+    }
+
+    public long getReceivedPackets() {
+        return receivedPackets.get();
+    }
+
+    public long getSuppressedPackets() {
+        return suppressedPackets.get();
+    }
+
+    public long getDispatchedMessages() {
+        return dispatchedMessages.get();
+    }
+
+    private void logStatistics() {
+        long received = receivedPackets.get();
+        if (received != lastLoggedPackets) {
+            lastLoggedPackets = received;
+            logger.debug("Packets received: {}, repeats suppressed: {}, device messages dispatched: {}", received,
+                    suppressedPackets.get(), dispatchedMessages.get());
+        }
     }
 
     public RFXComBridgeConfiguration getConfiguration() {
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.rfxcom.internal;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * The {@link RFXComDuplicateFilter} detects repeated RF frames. Many sensors and remotes send the same frame several
+ * times in a row; a packet is a duplicate when a packet with the same content (ignoring the sequence number the
+ * transceiver adds) has been seen within the suppression window.
+ *
+ * The window starts with the first packet, so a device sending the same value continuously is still reported once
+ * per window.
+ *
+ * @author agent - Initial contribution
+ */
+public class RFXComDuplicateFilter {
+    private static final int SEQUENCE_NUMBER_INDEX = 3;
+
+    private final long window;
+    private final Map<ByteBuffer, Long> firstSeen = new HashMap<>();
+    private long lastCleanup;
+
+    /**
+     * @param window suppression window in milliseconds, 0 or less disables the filter
+     */
+    public RFXComDuplicateFilter(long window) {
+        this.window = window;
+    }
+
+    public boolean isEnabled() {
+        return window > 0;
+    }
+
+    /**
+     * Checks if the packet repeats a packet seen within the window and records it otherwise.
+     *
+     * @param packet the received packet including the length byte
+     * @param now current time in milliseconds
+     * @return true if the packet is a duplicate and should be dropped
+     */
+    public synchronized boolean isDuplicate(byte[] packet, long now) {
+        if (!isEnabled()) {
+            return false;
+        }
+
+        if (now - lastCleanup > window) {
+            removeExpired(now);
+            lastCleanup = now;
+        }
+
+        ByteBuffer key = createKey(packet);
+        Long seen = firstSeen.get(key);
+        if (seen != null && now - seen < window) {
+            return true;
+        }
+
+        firstSeen.put(key, now);
+        return false;
+    }
+
+    public synchronized void clear() {
+        firstSeen.clear();
+    }
+
+    private void removeExpired(long now) {
+        Iterator<Long> iterator = firstSeen.values().iterator();
+        while (iterator.hasNext()) {
+            if (now - iterator.next() >= window) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static ByteBuffer createKey(byte[] packet) {
+        byte[] key = packet.clone();
+        if (key.length > SEQUENCE_NUMBER_INDEX) {
+            key[SEQUENCE_NUMBER_INDEX] = 0;
+        }
+        return ByteBuffer.wrap(key);
+    }
+}
@@ -43,6 +43,9 @@ public class RFXComBridgeConfiguration {
 
     public String setMode;
 
+    // Repeated packets received within this time (ms) are dropped, 0 disables suppression
+    public int duplicateSuppressionWindow;
+
     // Enabled protocols
     public boolean enableUndecoded;
     public boolean enableImagintronixOpus;
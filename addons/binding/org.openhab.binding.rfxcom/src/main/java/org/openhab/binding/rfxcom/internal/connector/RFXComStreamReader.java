@@ -9,7 +9,6 @@
 package org.openhab.binding.rfxcom.internal.connector;
 
 import java.io.IOException;
-import java.util.Arrays;
 
 import org.openhab.binding.rfxcom.internal.exceptions.RFXComTimeoutException;
 import org.slf4j.Logger;
@@ -44,7 +43,7 @@ public class RFXComStreamReader extends Thread {
     @Override
     public void run() {
         logger.debug("Data listener started");
-        byte[] buf = new byte[Byte.MAX_VALUE];
+        byte[] header = new byte[1];
 
         // The stream has (or SHOULD have) a read timeout set. Taking a
         // read timeout (read returns 0) between packets gives us a chance
@@ -54,12 +53,15 @@ public class RFXComStreamReader extends Thread {
         try {
             while (!Thread.interrupted()) {
                 // First byte tells us how long the packet is
-                int bytesRead = connector.read(buf, 0, 1);
-                int packetLength = buf[0];
+                int bytesRead = connector.read(header, 0, 1);
+                int packetLength = header[0];
 
                 if (bytesRead > 0 && packetLength > 0) {
-                    processMessage(buf, packetLength);
-                    connector.sendMsgToListeners(Arrays.copyOfRange(buf, 0, packetLength + 1));
+                    // Read the packet straight into a buffer of its own size, listeners may keep it
+                    byte[] packet = new byte[packetLength + 1];
+                    packet[0] = header[0];
+                    processMessage(packet, packetLength);
+                    connector.sendMsgToListeners(packet);
                 }
             }
         } catch (IOException | RFXComTimeoutException e) {
@@ -19,6 +19,7 @@ import java.util.stream.Stream;
 
 import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.config.discovery.DiscoveryService;
+import org.eclipse.smarthome.core.storage.StorageService;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
@@ -39,6 +40,7 @@ import org.openhab.binding.satel.internal.handler.SatelSystemHandler;
 import org.openhab.binding.satel.internal.handler.SatelZoneHandler;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
 
 /**
  * The {@link SatelHandlerFactory} is responsible for creating things and thing
@@ -55,6 +57,8 @@ public class SatelHandlerFactory extends BaseThingHandlerFactory {
 
     private Map<ThingUID, ServiceRegistration<?>> discoveryServiceRegistrations = new ConcurrentHashMap<>();
 
+    private StorageService storageService;
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return SUPPORTED_THING_TYPES_UIDS.contains(thingTypeUID);
@@ -97,7 +101,8 @@ public class SatelHandlerFactory extends BaseThingHandlerFactory {
         } else if (SatelSystemHandler.SUPPORTED_THING_TYPES.contains(thingTypeUID)) {
             return new SatelSystemHandler(thing);
         } else if (SatelEventLogHandler.SUPPORTED_THING_TYPES.contains(thingTypeUID)) {
-            return new SatelEventLogHandler(thing);
+            return new SatelEventLogHandler(thing,
+                    storageService.getStorage(thing.getUID().toString(), String.class.getClassLoader()));
         }
 
         return null;
@@ -114,6 +119,15 @@ public class SatelHandlerFactory extends BaseThingHandlerFactory {
         }
     }
 
+    @Reference
+    protected void setStorageService(StorageService storageService) {
+        this.storageService = storageService;
+    }
+
+    protected void unsetStorageService(StorageService storageService) {
+        this.storageService = null;
+    }
+
     private void registerDiscoveryService(SatelBridgeHandler bridgeHandler) {
         SatelDeviceDiscoveryService discoveryService = new SatelDeviceDiscoveryService(bridgeHandler,
                 (thingTypeUID) -> getThingTypeByUID(thingTypeUID));
@@ -151,6 +151,23 @@ public abstract class SatelBridgeHandler extends ConfigStatusBridgeHandler imple
         return null;
     }
 
+    /**
+     * @return firmware version of Integra system
+     */
+    public String getIntegraVersion() {
+        if (satelModule != null) {
+            return satelModule.getIntegraVersion();
+        }
+        return null;
+    }
+
+    /**
+     * @return <code>true</code> if no commands are waiting to be sent to the module
+     */
+    public boolean isIdle() {
+        return satelModule != null && satelModule.isIdle();
+    }
+
     /**
      * @return current user code, either from the configuration or set later using {@link #setUserCode(String)}
      */
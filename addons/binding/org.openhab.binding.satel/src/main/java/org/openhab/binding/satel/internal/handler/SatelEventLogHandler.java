@@ -10,17 +10,22 @@ package org.openhab.binding.satel.internal.handler;
 
 import static org.openhab.binding.satel.internal.SatelBindingConstants.*;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.smarthome.core.library.types.DateTimeType;
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.StringType;
+import org.eclipse.smarthome.core.storage.Storage;
 import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
@@ -31,7 +36,9 @@ import org.openhab.binding.satel.internal.command.ReadDeviceInfoCommand.DeviceTy
 import org.openhab.binding.satel.internal.command.ReadEventCommand;
 import org.openhab.binding.satel.internal.command.ReadEventDescCommand;
 import org.openhab.binding.satel.internal.event.ConnectionStatusEvent;
+import org.openhab.binding.satel.internal.event.IntegraVersionEvent;
 import org.openhab.binding.satel.internal.event.SatelEvent;
+import org.openhab.binding.satel.internal.types.IntegraType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,25 +54,44 @@ public class SatelEventLogHandler extends SatelThingHandler {
 
     private static final String NOT_AVAILABLE_TEXT = "N/A";
     private static final String DETAILS_SEPARATOR = ", ";
-    private static final long CACHE_CLEAR_INTERVAL = TimeUnit.MINUTES.toMillis(30);
+    private static final String CACHE_VERSION_KEY = "version";
+    private static final String DESCRIPTION_KEY_PREFIX = "desc.";
+    private static final String DEVICE_NAME_KEY_PREFIX = "name.";
+    private static final long PREFETCH_INTERVAL = TimeUnit.SECONDS.toMillis(10);
+    private static final int PREFETCH_EVENTS = 100;
+    private static final int PREFETCH_BATCH = 10;
 
     private Logger logger = LoggerFactory.getLogger(SatelEventLogHandler.class);
     private Map<String, EventDescription> eventDescriptions = new ConcurrentHashMap<>();
     private Map<String, String> deviceNameCache = new ConcurrentHashMap<>();
-    private ScheduledFuture<?> cacheExpirationJob;
+    private final Storage<String> cacheStorage;
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private ScheduledFuture<?> prefetchJob;
+    private volatile String cacheVersion;
+    private volatile int prefetchIndex;
+    private volatile int prefetchRemaining;
+    private Iterator<String> revalidationKeys = Collections.emptyIterator();
 
-    public SatelEventLogHandler(Thing thing) {
+    public SatelEventLogHandler(Thing thing, Storage<String> cacheStorage) {
         super(thing);
+        this.cacheStorage = cacheStorage;
     }
 
     @Override
     public void initialize() {
         super.initialize();
 
-        if (cacheExpirationJob == null || cacheExpirationJob.isCancelled()) {
-            // for simplicity all cache entries are cleared every 30 minutes
-            cacheExpirationJob = scheduler.scheduleWithFixedDelay(deviceNameCache::clear, CACHE_CLEAR_INTERVAL,
-                    CACHE_CLEAR_INTERVAL, TimeUnit.MILLISECONDS);
+        loadCache();
+        if (bridgeHandler != null && bridgeHandler.isInitialized()) {
+            String version = getCacheVersion(bridgeHandler.getIntegraType(), bridgeHandler.getIntegraVersion());
+            scheduler.execute(() -> validateCache(version));
+        }
+
+        if (prefetchJob == null || prefetchJob.isCancelled()) {
+            // descriptions and device names of the recent events are read while the link is not used otherwise
+            prefetchJob = scheduler.scheduleWithFixedDelay(this::prefetch, PREFETCH_INTERVAL, PREFETCH_INTERVAL,
+                    TimeUnit.MILLISECONDS);
         }
     }
 
@@ -73,12 +99,54 @@ public class SatelEventLogHandler extends SatelThingHandler {
     public void dispose() {
         super.dispose();
 
-        if (cacheExpirationJob != null && !cacheExpirationJob.isCancelled()) {
-            cacheExpirationJob.cancel(true);
-            cacheExpirationJob = null;
+        if (prefetchJob != null && !prefetchJob.isCancelled()) {
+            prefetchJob.cancel(true);
+            prefetchJob = null;
         }
     }
 
+    @Override
+    public void handleRemoval() {
+        // the cache belongs to this thing only, so it is not kept when the thing is gone
+        eventDescriptions.clear();
+        deviceNameCache.clear();
+        for (String key : new ArrayList<>(cacheStorage.getKeys())) {
+            cacheStorage.remove(key);
+        }
+        super.handleRemoval();
+    }
+
+    /**
+     * @return number of descriptions and device names found in the cache when reading events, prefetching excluded
+     */
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    /**
+     * @return number of descriptions and device names that had to be read from the system when reading events,
+     *         prefetching excluded
+     */
+    public long getCacheMisses() {
+        return cacheMisses.get();
+    }
+
+    /**
+     * @return share of lookups answered by the cache, between 0 and 1
+     */
+    public double getCacheHitRate() {
+        long hits = cacheHits.get();
+        long lookups = hits + cacheMisses.get();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * @return number of commands not sent to the system thanks to the cache
+     */
+    public long getRoundTripsSaved() {
+        return cacheHits.get();
+    }
+
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
         logger.debug("New command for {}: {}", channelUID, command.toFullString());
@@ -98,11 +166,30 @@ public class SatelEventLogHandler extends SatelThingHandler {
             if (statusEvent.isConnected()) {
                 updateStatus(ThingStatus.ONLINE);
             }
+        } else if (event instanceof IntegraVersionEvent) {
+            IntegraVersionEvent versionEvent = (IntegraVersionEvent) event;
+            String version = getCacheVersion(IntegraType.valueOf(versionEvent.getType() & 0xFF),
+                    versionEvent.getVersion());
+            // we are in the communication thread, so the cache is validated in the background
+            scheduler.execute(() -> validateCache(version));
         }
     }
 
     private void readEvent(int eventIndex) {
-        getEventDescription(eventIndex).ifPresent(eventDesc -> {
+        readLogEntry(eventIndex, true).ifPresent(entry -> {
+            // update items
+            updateState(CHANNEL_INDEX, new DecimalType(entry.currentIndex));
+            updateState(CHANNEL_PREV_INDEX, new DecimalType(entry.nextIndex));
+            updateState(CHANNEL_TIMESTAMP, new DateTimeType(entry.timestamp.atZone(bridgeHandler.getZoneId())));
+            updateState(CHANNEL_DESCRIPTION, new StringType(entry.eventText));
+            updateState(CHANNEL_DETAILS, new StringType(entry.eventDetails));
+        });
+        logger.debug("Event log cache: {} hits, {} misses, {} command round trips saved", cacheHits.get(),
+                cacheMisses.get(), cacheHits.get());
+    }
+
+    private Optional<EventLogEntry> readLogEntry(int eventIndex, boolean countLookups) {
+        return getEventDescription(eventIndex, countLookups).flatMap(eventDesc -> {
             ReadEventCommand readEventCmd = eventDesc.readEventCmd;
             int currentIndex = readEventCmd.getCurrentIndex();
             String eventText = eventDesc.eventText;
@@ -113,54 +200,61 @@ public class SatelEventLogHandler extends SatelThingHandler {
                     eventDetails = "";
                     break;
                 case 1:
-                    eventDetails = getDeviceDescription(DeviceType.PARTITION, readEventCmd.getPartition())
-                            + DETAILS_SEPARATOR + getDeviceDescription(DeviceType.ZONE, readEventCmd.getSource());
+                    eventDetails = getDeviceDescription(DeviceType.PARTITION, readEventCmd.getPartition(), countLookups)
+                            + DETAILS_SEPARATOR
+                            + getDeviceDescription(DeviceType.ZONE, readEventCmd.getSource(), countLookups);
                     break;
                 case 2:
-                    eventDetails = getDeviceDescription(DeviceType.PARTITION, readEventCmd.getPartition())
-                            + DETAILS_SEPARATOR + getDeviceDescription(DeviceType.USER, readEventCmd.getSource());
+                    eventDetails = getDeviceDescription(DeviceType.PARTITION, readEventCmd.getPartition(), countLookups)
+                            + DETAILS_SEPARATOR
+                            + getDeviceDescription(DeviceType.USER, readEventCmd.getSource(), countLookups);
                     break;
                 case 4:
                     if (readEventCmd.getSource() == 0) {
                         eventDetails = "mainboard";
                     } else if (readEventCmd.getSource() <= 128) {
-                        eventDetails = getDeviceDescription(DeviceType.ZONE, readEventCmd.getSource());
+                        eventDetails = getDeviceDescription(DeviceType.ZONE, readEventCmd.getSource(), countLookups);
                     } else if (readEventCmd.getSource() <= 192) {
-                        eventDetails = getDeviceDescription(DeviceType.EXPANDER, readEventCmd.getSource());
+                        eventDetails = getDeviceDescription(DeviceType.EXPANDER, readEventCmd.getSource(),
+                                countLookups);
                     } else {
-                        eventDetails = getDeviceDescription(DeviceType.KEYPAD, readEventCmd.getSource());
+                        eventDetails = getDeviceDescription(DeviceType.KEYPAD, readEventCmd.getSource(), countLookups);
                     }
                     break;
                 case 5:
-                    eventDetails = getDeviceDescription(DeviceType.PARTITION, readEventCmd.getPartition());
+                    eventDetails = getDeviceDescription(DeviceType.PARTITION, readEventCmd.getPartition(),
+                            countLookups);
                     break;
                 case 6:
-                    eventDetails = getDeviceDescription(DeviceType.KEYPAD, readEventCmd.getPartition())
-                            + DETAILS_SEPARATOR + getDeviceDescription(DeviceType.USER, readEventCmd.getSource());
+                    eventDetails = getDeviceDescription(DeviceType.KEYPAD, readEventCmd.getPartition(), countLookups)
+                            + DETAILS_SEPARATOR
+                            + getDeviceDescription(DeviceType.USER, readEventCmd.getSource(), countLookups);
                     break;
                 case 7:
-                    eventDetails = getDeviceDescription(DeviceType.USER, readEventCmd.getSource());
+                    eventDetails = getDeviceDescription(DeviceType.USER, readEventCmd.getSource(), countLookups);
                     break;
                 case 15:
-                    eventDetails = getDeviceDescription(DeviceType.PARTITION, readEventCmd.getPartition())
-                            + DETAILS_SEPARATOR + getDeviceDescription(DeviceType.TIMER, readEventCmd.getSource());
+                    eventDetails = getDeviceDescription(DeviceType.PARTITION, readEventCmd.getPartition(), countLookups)
+                            + DETAILS_SEPARATOR
+                            + getDeviceDescription(DeviceType.TIMER, readEventCmd.getSource(), countLookups);
                     break;
                 case 31:
                     // this description consists of two records, so we must read additional record from the log
                     eventDetails = "." + readEventCmd.getSource() + "."
                             + (readEventCmd.getObject() * 32 + readEventCmd.getUserControlNumber());
-                    Optional<EventDescription> eventDescNext = getEventDescription(readEventCmd.getNextIndex());
+                    Optional<EventDescription> eventDescNext = getEventDescription(readEventCmd.getNextIndex(),
+                            countLookups);
                     if (!eventDescNext.isPresent()) {
-                        return;
+                        return Optional.empty();
                     }
                     if (eventDescNext.get().descKind != 30) {
                         logger.info("Unexpected event record kind {} at index {}", eventDescNext.get().descKind,
                                 readEventCmd.getNextIndex());
-                        return;
+                        return Optional.empty();
                     }
                     readEventCmd = eventDescNext.get().readEventCmd;
                     eventText = eventDescNext.get().eventText;
-                    eventDetails = getDeviceDescription(DeviceType.KEYPAD, readEventCmd.getPartition())
+                    eventDetails = getDeviceDescription(DeviceType.KEYPAD, readEventCmd.getPartition(), countLookups)
                             + DETAILS_SEPARATOR + "ip: " + readEventCmd.getSource() + "."
                             + (readEventCmd.getObject() * 32 + readEventCmd.getUserControlNumber()) + eventDetails;
                     break;
@@ -172,17 +266,12 @@ public class SatelEventLogHandler extends SatelThingHandler {
                             "object=" + readEventCmd.getObject(), "ucn=" + readEventCmd.getUserControlNumber());
             }
 
-            // update items
-            updateState(CHANNEL_INDEX, new DecimalType(currentIndex));
-            updateState(CHANNEL_PREV_INDEX, new DecimalType(readEventCmd.getNextIndex()));
-            updateState(CHANNEL_TIMESTAMP,
-                    new DateTimeType(readEventCmd.getTimestamp().atZone(bridgeHandler.getZoneId())));
-            updateState(CHANNEL_DESCRIPTION, new StringType(eventText));
-            updateState(CHANNEL_DETAILS, new StringType(eventDetails));
+            return Optional.of(new EventLogEntry(currentIndex, readEventCmd.getNextIndex(),
+                    readEventCmd.getTimestamp(), eventText, eventDetails));
         });
     }
 
-    private Optional<EventDescription> getEventDescription(int eventIndex) {
+    private Optional<EventDescription> getEventDescription(int eventIndex, boolean countLookups) {
         ReadEventCommand readEventCmd = new ReadEventCommand(eventIndex);
         if (!bridgeHandler.sendCommand(readEventCmd, false)) {
             logger.info("Unable to read event record for given index: {}", eventIndex);
@@ -191,7 +280,24 @@ public class SatelEventLogHandler extends SatelThingHandler {
             logger.info("No record under given index: {}", eventIndex);
             return Optional.empty();
         } else {
-            return Optional.of(readEventDescription(readEventCmd));
+            return Optional.of(readEventDescription(readEventCmd, countLookups));
+        }
+    }
+
+    private static class EventLogEntry {
+        int currentIndex;
+        int nextIndex;
+        LocalDateTime timestamp;
+        String eventText;
+        String eventDetails;
+
+        EventLogEntry(int currentIndex, int nextIndex, LocalDateTime timestamp, String eventText,
+                String eventDetails) {
+            this.currentIndex = currentIndex;
+            this.nextIndex = nextIndex;
+            this.timestamp = timestamp;
+            this.eventText = eventText;
+            this.eventDetails = eventDetails;
         }
     }
 
@@ -208,18 +314,25 @@ public class SatelEventLogHandler extends SatelThingHandler {
 
     }
 
-    private EventDescription readEventDescription(ReadEventCommand readEventCmd) {
+    private EventDescription readEventDescription(ReadEventCommand readEventCmd, boolean countLookups) {
         int eventCode = readEventCmd.getEventCode();
         boolean restore = readEventCmd.isRestore();
         String mapKey = String.format("%d_%b", eventCode, restore);
-        EventDescription mapValue = eventDescriptions.computeIfAbsent(mapKey, k -> {
-            ReadEventDescCommand cmd = new ReadEventDescCommand(eventCode, restore, true);
-            if (!bridgeHandler.sendCommand(cmd, false)) {
-                logger.debug("Unable to read event description: {}, {}", eventCode, restore);
-                return null;
-            }
-            return new EventDescription(null, cmd.getText(bridgeHandler.getEncoding()), cmd.getKind());
-        });
+        EventDescription mapValue = eventDescriptions.get(mapKey);
+        countLookup(countLookups, mapValue != null);
+        if (mapValue == null) {
+            mapValue = eventDescriptions.computeIfAbsent(mapKey, k -> {
+                ReadEventDescCommand cmd = new ReadEventDescCommand(eventCode, restore, true);
+                if (!bridgeHandler.sendCommand(cmd, false)) {
+                    logger.debug("Unable to read event description: {}, {}", eventCode, restore);
+                    return null;
+                }
+                EventDescription eventDesc = new EventDescription(null, cmd.getText(bridgeHandler.getEncoding()),
+                        cmd.getKind());
+                storeCacheEntry(DESCRIPTION_KEY_PREFIX + k, eventDesc.descKind + ":" + eventDesc.eventText);
+                return eventDesc;
+            });
+        }
         if (mapValue == null) {
             return new EventDescription(readEventCmd, NOT_AVAILABLE_TEXT, 0);
         } else {
@@ -227,21 +340,159 @@ public class SatelEventLogHandler extends SatelThingHandler {
         }
     }
 
-    private String getDeviceDescription(DeviceType deviceType, int deviceNumber) {
-        return String.format("%s: %s", deviceType.name().toLowerCase(), readDeviceName(deviceType, deviceNumber));
+    private String getDeviceDescription(DeviceType deviceType, int deviceNumber, boolean countLookups) {
+        return String.format("%s: %s", deviceType.name().toLowerCase(),
+                readDeviceName(deviceType, deviceNumber, countLookups));
     }
 
-    private String readDeviceName(DeviceType deviceType, int deviceNumber) {
+    private String readDeviceName(DeviceType deviceType, int deviceNumber, boolean countLookups) {
         String cacheKey = String.format("%s_%d", deviceType, deviceNumber);
-        String result = deviceNameCache.computeIfAbsent(cacheKey, k -> {
-            ReadDeviceInfoCommand cmd = new ReadDeviceInfoCommand(deviceType, deviceNumber);
-            if (!bridgeHandler.sendCommand(cmd, false)) {
-                logger.debug("Unable to read device info: {}, {}", deviceType, deviceNumber);
-                return null;
-            }
-            return cmd.getName(bridgeHandler.getEncoding());
-        });
+        String result = deviceNameCache.get(cacheKey);
+        countLookup(countLookups, result != null);
+        if (result == null) {
+            result = deviceNameCache.computeIfAbsent(cacheKey, k -> {
+                String name = sendReadDeviceInfo(deviceType, deviceNumber);
+                if (name != null) {
+                    storeCacheEntry(DEVICE_NAME_KEY_PREFIX + k, name);
+                }
+                return name;
+            });
+        }
         return result == null ? NOT_AVAILABLE_TEXT : result;
     }
 
+    private void countLookup(boolean countLookups, boolean hit) {
+        // prefetching reads the entries in advance, so only lookups for reading events tell how the cache performs
+        if (countLookups) {
+            if (hit) {
+                cacheHits.incrementAndGet();
+            } else {
+                cacheMisses.incrementAndGet();
+            }
+        }
+    }
+
+    private String sendReadDeviceInfo(DeviceType deviceType, int deviceNumber) {
+        ReadDeviceInfoCommand cmd = new ReadDeviceInfoCommand(deviceType, deviceNumber);
+        if (!bridgeHandler.sendCommand(cmd, false)) {
+            logger.debug("Unable to read device info: {}, {}", deviceType, deviceNumber);
+            return null;
+        }
+        return cmd.getName(bridgeHandler.getEncoding());
+    }
+
+    private String getCacheVersion(IntegraType integraType, String integraVersion) {
+        // texts depend on the firmware and are decoded with the configured encoding
+        return String.format("%s %s %s", integraType, integraVersion, bridgeHandler.getEncoding().name());
+    }
+
+    private void loadCache() {
+        for (String key : cacheStorage.getKeys()) {
+            String value = cacheStorage.get(key);
+            if (value == null) {
+                continue;
+            }
+            if (key.startsWith(DESCRIPTION_KEY_PREFIX)) {
+                int separator = value.indexOf(':');
+                try {
+                    int descKind = Integer.parseInt(value.substring(0, separator));
+                    eventDescriptions.put(key.substring(DESCRIPTION_KEY_PREFIX.length()),
+                            new EventDescription(null, value.substring(separator + 1), descKind));
+                } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+                    logger.debug("Invalid event description cache entry {}: {}", key, value);
+                }
+            } else if (key.startsWith(DEVICE_NAME_KEY_PREFIX)) {
+                deviceNameCache.put(key.substring(DEVICE_NAME_KEY_PREFIX.length()), value);
+            }
+        }
+        logger.debug("Loaded {} event descriptions and {} device names from the cache", eventDescriptions.size(),
+                deviceNameCache.size());
+    }
+
+    private synchronized void validateCache(String version) {
+        String storedVersion = cacheStorage.get(CACHE_VERSION_KEY);
+        boolean changed = !version.equals(storedVersion);
+        if (changed) {
+            logger.debug("System version changed from {} to {}, clearing event log cache", storedVersion, version);
+            eventDescriptions.clear();
+            deviceNameCache.clear();
+            for (String key : new ArrayList<>(cacheStorage.getKeys())) {
+                cacheStorage.remove(key);
+            }
+            cacheStorage.put(CACHE_VERSION_KEY, version);
+        }
+        if (changed || cacheVersion == null) {
+            prefetchIndex = -1;
+            prefetchRemaining = PREFETCH_EVENTS;
+        }
+        cacheVersion = version;
+    }
+
+    private void storeCacheEntry(String key, String value) {
+        // entries read before the version is known could belong to another configuration
+        if (cacheVersion != null) {
+            cacheStorage.put(key, value);
+        }
+    }
+
+    private void prefetch() {
+        if (bridgeHandler == null || !bridgeHandler.isInitialized() || cacheVersion == null) {
+            return;
+        }
+        try {
+            for (int i = 0; i < PREFETCH_BATCH && bridgeHandler.isIdle(); i++) {
+                if (prefetchRemaining > 0) {
+                    Optional<EventLogEntry> entry = readLogEntry(prefetchIndex, false);
+                    if (entry.isPresent()) {
+                        prefetchIndex = entry.get().nextIndex;
+                        prefetchRemaining--;
+                    } else {
+                        prefetchRemaining = 0;
+                    }
+                    if (prefetchRemaining == 0) {
+                        logger.debug("Event log prefetch finished, {} event descriptions and {} device names cached",
+                                eventDescriptions.size(), deviceNameCache.size());
+                    }
+                } else {
+                    // one name per run is enough, the link is left to other commands
+                    revalidateDeviceName();
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Event log prefetch failed", e);
+        }
+    }
+
+    /**
+     * Reads the name of one cached device again, so renamed devices are noticed without clearing the cache.
+     */
+    private void revalidateDeviceName() {
+        if (!revalidationKeys.hasNext()) {
+            revalidationKeys = new ArrayList<>(deviceNameCache.keySet()).iterator();
+            if (!revalidationKeys.hasNext()) {
+                return;
+            }
+        }
+        String cacheKey = revalidationKeys.next();
+        int separator = cacheKey.lastIndexOf('_');
+        DeviceType deviceType;
+        int deviceNumber;
+        try {
+            deviceType = DeviceType.valueOf(cacheKey.substring(0, separator));
+            deviceNumber = Integer.parseInt(cacheKey.substring(separator + 1));
+        } catch (IllegalArgumentException | StringIndexOutOfBoundsException e) {
+            logger.debug("Removing invalid device name cache entry {}", cacheKey);
+            deviceNameCache.remove(cacheKey);
+            cacheStorage.remove(DEVICE_NAME_KEY_PREFIX + cacheKey);
+            return;
+        }
+        String name = sendReadDeviceInfo(deviceType, deviceNumber);
+        if (name != null && !name.equals(deviceNameCache.get(cacheKey))) {
+            logger.debug("Name of {} {} changed to {}", deviceType, deviceNumber, name);
+            deviceNameCache.put(cacheKey, name);
+            storeCacheEntry(DEVICE_NAME_KEY_PREFIX + cacheKey, name);
+        }
+    }
+
 }
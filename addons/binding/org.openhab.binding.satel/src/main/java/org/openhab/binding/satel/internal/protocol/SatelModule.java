@@ -124,6 +124,15 @@ public abstract class SatelModule extends EventDispatcher implements SatelEventL
         return this.integraVersion;
     }
 
+    /**
+     * Returns whether there are no commands waiting to be sent.
+     *
+     * @return <code>true</code> if the send queue is empty
+     */
+    public boolean isIdle() {
+        return this.sendQueue.isEmpty();
+    }
+
     /**
      * Returns configured timeout value.
      *
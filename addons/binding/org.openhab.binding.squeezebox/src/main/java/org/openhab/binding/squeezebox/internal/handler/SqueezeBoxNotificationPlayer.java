@@ -105,7 +105,7 @@ class SqueezeBoxNotificationPlayer implements Closeable {
         SqueezeBoxNotificationListener listener = new SqueezeBoxNotificationListener(mac);
         listener.resetVolumeUpdated();
 
-        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(listener);
+        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(mac, listener);
         squeezeBoxServerHandler.setVolume(mac, requestedVolume);
 
         logger.trace("Waiting up to {} s for volume to be updated...", VOLUME_COMMAND_TIMEOUT);
@@ -129,7 +129,7 @@ class SqueezeBoxNotificationPlayer implements Closeable {
         SqueezeBoxNotificationListener listener = new SqueezeBoxNotificationListener(mac);
         listener.resetPlaylistUpdated();
 
-        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(listener);
+        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(mac, listener);
         squeezeBoxServerHandler.addPlaylistItem(mac, uri.toString(), "Notification");
 
         try {
@@ -145,7 +145,7 @@ class SqueezeBoxNotificationPlayer implements Closeable {
         SqueezeBoxNotificationListener listener = new SqueezeBoxNotificationListener(mac);
         listener.resetPlaylistUpdated();
 
-        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(listener);
+        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(mac, listener);
         squeezeBoxServerHandler.deletePlaylistItem(mac, notificationMessagePlaylistsIndex);
 
         try {
@@ -187,7 +187,7 @@ class SqueezeBoxNotificationPlayer implements Closeable {
         SqueezeBoxNotificationListener listener = new SqueezeBoxNotificationListener(mac);
         listener.resetStopped();
 
-        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(listener);
+        squeezeBoxServerHandler.registerSqueezeBoxPlayerListener(mac, listener);
         squeezeBoxServerHandler.playPlaylistItem(mac, notificationMessagePlaylistsIndex);
 
         try {
@@ -17,7 +17,6 @@ import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
 import java.net.Socket;
-import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -27,8 +26,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.smarthome.core.library.types.StringType;
@@ -43,8 +45,10 @@ import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.UnDefType;
+import org.openhab.binding.squeezebox.internal.config.SqueezeBoxPlayerConfig;
 import org.openhab.binding.squeezebox.internal.config.SqueezeBoxServerConfig;
 import org.openhab.binding.squeezebox.internal.model.Favorite;
+import org.openhab.binding.squeezebox.internal.utils.SqueezeBoxCliDecoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,6 +66,7 @@ import org.slf4j.LoggerFactory;
  * @author Philippe Siem - Improve refresh of cover art url,remote title, artist, album, genre, year.
  * @author Patrik Gfeller - Support for mixer volume message added
  * @author Mark Hilbush - Get favorites from LMS; update channel and send to players
+ * @author agent - Subscribe to status of player things only; route player events by MAC address
  */
 public class SqueezeBoxServerHandler extends BaseBridgeHandler {
     private Logger logger = LoggerFactory.getLogger(SqueezeBoxServerHandler.class);
@@ -82,9 +87,33 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
 
     private static final String CHANNEL_CONFIG_QUOTE_LIST = "quoteList";
 
+    // notifications we handle, the server does not send the others
+    private static final String SUBSCRIBE_NOTIFICATIONS = "subscribe mixer,playlist,prefset,ir,favorites";
+
+    // status tags mapped to channels: year, artist, genre, album, remote title, artwork url, coverart, coverid
+    private static final String STATUS_TAGS = "yaglNKjc";
+
+    // separator of tag and value in a status message ("%3A" is an encoded ':')
+    private static final String TAG_SEPARATOR = "%3A";
+
+    // interval in which the message statistics are logged
+    private static final long STATISTICS_INTERVAL = TimeUnit.MINUTES.toMillis(5);
+
     private List<SqueezeBoxPlayerEventListener> squeezeBoxPlayerListeners = Collections
             .synchronizedList(new ArrayList<SqueezeBoxPlayerEventListener>());
 
+    // listeners only interested in the events of one player, by MAC address
+    private final Map<String, List<SqueezeBoxPlayerEventListener>> playerEventListeners = new ConcurrentHashMap<>();
+
+    // handlers of our child player things, by MAC address
+    private final Map<String, SqueezeBoxPlayerEventListener> playerHandlers = new ConcurrentHashMap<>();
+
+    // players whose status we have subscribed to
+    private final Set<String> subscribedPlayers = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong receivedMessages = new AtomicLong();
+    private final Map<String, AtomicLong> playerEventCounts = new ConcurrentHashMap<>();
+
     private Map<String, SqueezeBoxPlayer> players = Collections
             .synchronizedMap(new HashMap<String, SqueezeBoxPlayer>());
 
@@ -124,6 +153,27 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
     public void handleCommand(ChannelUID channelUID, Command command) {
     }
 
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof SqueezeBoxPlayerEventListener) {
+            String mac = childThing.getConfiguration().as(SqueezeBoxPlayerConfig.class).mac;
+            if (mac != null) {
+                playerHandlers.put(mac, (SqueezeBoxPlayerEventListener) childHandler);
+                subscribePlayerStatus(mac);
+            }
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof SqueezeBoxPlayerEventListener) {
+            String mac = childThing.getConfiguration().as(SqueezeBoxPlayerConfig.class).mac;
+            if (mac != null && playerHandlers.remove(mac, childHandler)) {
+                unsubscribePlayerStatus(mac);
+            }
+        }
+    }
+
     /**
      * Checks if we have a connection to the Server
      *
@@ -296,6 +346,22 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         sendCommand("favorites items 0 100");
     }
 
+    /**
+     * Subscribe to the status of a player, limited to the tags we map to channels. The server sends the status on
+     * changes and every 10 seconds.
+     */
+    private void subscribePlayerStatus(String mac) {
+        if (isConnected() && getThing().getStatus() == ThingStatus.ONLINE && subscribedPlayers.add(mac)) {
+            sendCommand(mac + " status - 1 subscribe:10 tags:" + STATUS_TAGS);
+        }
+    }
+
+    private void unsubscribePlayerStatus(String mac) {
+        if (subscribedPlayers.remove(mac)) {
+            sendCommand(mac + " status - 1 subscribe:-");
+        }
+    }
+
     /**
      * Login to server
      */
@@ -388,11 +454,14 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             listener = null;
         }
         players.clear();
+        subscribedPlayers.clear();
         logger.trace("Squeeze Server connection stopped.");
     }
 
     private class SqueezeServerListener extends Thread {
         private boolean terminate = false;
+        private long lastStatisticsTime;
+        private long lastStatisticsMessages;
 
         public SqueezeServerListener() {
             super("Squeeze Server Listener");
@@ -414,15 +483,17 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                 updateStatus(ThingStatus.ONLINE);
                 requestPlayers();
                 requestFavorites();
-                sendCommand("listen 1");
+                sendCommand(SUBSCRIBE_NOTIFICATIONS);
 
                 String message = null;
                 while (!terminate && (message = reader.readLine()) != null) {
                     // Message is very long and frequent; only show when running at trace level logging
                     logger.trace("Message received: {}", message);
+                    receivedMessages.incrementAndGet();
+                    checkStatistics();
 
-                    // Fix for some third-party apps that are sending "subscribe playlist"
-                    if (message.startsWith("listen 1") || message.startsWith("subscribe playlist")) {
+                    // Skip our own subscription and the ones of some third-party apps (e.g. "subscribe playlist")
+                    if (message.startsWith("listen 1") || message.startsWith("subscribe ")) {
                         continue;
                     }
 
@@ -466,12 +537,24 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         }
 
         private String decode(String raw) {
-            try {
-                return URLDecoder.decode(raw, UTF8_NAME);
-            } catch (UnsupportedEncodingException e) {
-                logger.debug("Failed to decode '{}' ", raw, e);
-                return null;
+            return SqueezeBoxCliDecoder.decode(raw);
+        }
+
+        private void checkStatistics() {
+            long now = System.currentTimeMillis();
+            if (now - lastStatisticsTime < STATISTICS_INTERVAL) {
+                return;
+            }
+            if (lastStatisticsTime > 0) {
+                long messages = receivedMessages.get();
+                logger.debug("Squeeze Server {} sent {} messages ({} per minute), player events: {}",
+                        getThing().getUID(), messages,
+                        (messages - lastStatisticsMessages) * TimeUnit.MINUTES.toMillis(1)
+                                / (now - lastStatisticsTime),
+                        playerEventCounts);
+                lastStatisticsMessages = messages;
             }
+            lastStatisticsTime = now;
         }
 
         private String encode(String raw) {
@@ -489,7 +572,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             for (String playerParams : playersList) {
 
                 // For each player, split out parameters and decode parameter
-                String[] parameterList = playerParams.split("\\s");
+                String[] parameterList = SqueezeBoxCliDecoder.split(playerParams);
                 for (int i = 0; i < parameterList.length; i++) {
                     parameterList[i] = decode(parameterList[i]);
                 }
@@ -532,14 +615,17 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                             listener.playerAdded(player);
                         }
                     });
-                    // tell the server we want to subscribe to player updates
-                    sendCommand(player.getMacAddress() + " status - 1 subscribe:10 tags:yagJlNKjc");
+                }
+
+                // tell the server we want to subscribe to updates of our player things
+                if (getPlayerHandler(macAddress) != null) {
+                    subscribePlayerStatus(macAddress);
                 }
             }
         }
 
         private void handlePlayerUpdate(String message) {
-            String[] messageParts = message.split("\\s");
+            String[] messageParts = SqueezeBoxCliDecoder.split(message);
             if (messageParts.length < 2) {
                 logger.warn("Invalid message - expecting at least 2 parts. Ignoring.");
                 return;
@@ -564,7 +650,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     break;
                 case "ir":
                     final String ircode = messageParts[2];
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(mac, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.irCodeChangeEvent(mac, ircode);
@@ -587,7 +673,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                 case "volume":
                     String volumeStringValue = decode(messageParts[3]);
 
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(mac, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             try {
@@ -619,167 +705,159 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             String coverid = null;
             String artworkUrl = null;
 
-            for (String messagePart : messageParts) {
-                // Parameter Power
-                if (messagePart.startsWith("power%3A")) {
-                    final boolean power = "1".matches(messagePart.substring("power%3A".length()));
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.powerChangeEvent(mac, power);
-                        }
-                    });
-                }
-                // Parameter Volume
-                else if (messagePart.startsWith("mixer%20volume%3A")) {
-                    String value = messagePart.substring("mixer%20volume%3A".length());
-                    final int volume = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.absoluteVolumeChangeEvent(mac, volume);
-                        }
-                    });
-                }
-                // Parameter Mode
-                else if (messagePart.startsWith("mode%3A")) {
-                    final String mode = messagePart.substring("mode%3A".length());
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.modeChangeEvent(mac, mode);
-                        }
-                    });
-                }
-                // Parameter Playing Time
-                else if (messagePart.startsWith("time%3A")) {
-                    String value = messagePart.substring("time%3A".length());
-                    final int time = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.currentPlayingTimeEvent(mac, time);
-                        }
-                    });
-                }
-                // Parameter duration
-                else if (messagePart.startsWith("duration%3A")) {
-                    String value = messagePart.substring("duration%3A".length());
-                    final int duration = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.durationEvent(mac, duration);
-                        }
-                    });
-                }
-                // Parameter Playing Playlist Index
-                else if (messagePart.startsWith("playlist_cur_index%3A")) {
-                    String value = messagePart.substring("playlist_cur_index%3A".length());
-                    final int index = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.currentPlaylistIndexEvent(mac, index);
-                        }
-                    });
-                }
-                // Parameter Playlist Number Tracks
-                else if (messagePart.startsWith("playlist_tracks%3A")) {
-                    String value = messagePart.substring("playlist_tracks%3A".length());
-                    final int track = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.numberPlaylistTracksEvent(mac, track);
-                        }
-                    });
-                }
-                // Parameter Playlist Repeat Mode
-                else if (messagePart.startsWith("playlist%20repeat%3A")) {
-                    String value = messagePart.substring("playlist%20repeat%3A".length());
-                    final int repeat = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.currentPlaylistRepeatEvent(mac, repeat);
-                        }
-                    });
-                }
-                // Parameter Playlist Shuffle Mode
-                else if (messagePart.startsWith("playlist%20shuffle%3A")) {
-                    String value = messagePart.substring("playlist%20shuffle%3A".length());
-                    final int shuffle = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.currentPlaylistShuffleEvent(mac, shuffle);
-                        }
-                    });
-                }
-                // Parameter Title
-                else if (messagePart.startsWith("title%3A")) {
-                    final String value = messagePart.substring("title%3A".length());
-                    updatePlayer(new PlayerUpdateEvent() {
-                        @Override
-                        public void updateListener(SqueezeBoxPlayerEventListener listener) {
-                            listener.titleChangeEvent(mac, decode(value));
-                        }
-                    });
-                }
-                // Parameter Remote Title (radio)
-                else if (messagePart.startsWith("remote_title%3A")) {
-                    remoteTitle = messagePart.substring("remote_title%3A".length());
-                }
-                // Parameter Artist
-                else if (messagePart.startsWith("artist%3A")) {
-                    artist = messagePart.substring("artist%3A".length());
-                }
-                // Parameter Album
-                else if (messagePart.startsWith("album%3A")) {
-                    album = messagePart.substring("album%3A".length());
-                }
-                // Parameter Genre
-                else if (messagePart.startsWith("genre%3A")) {
-                    genre = messagePart.substring("genre%3A".length());
-                }
-                // Parameter Year
-                else if (messagePart.startsWith("year%3A")) {
-                    year = messagePart.substring("year%3A".length());
-                }
-                // Parameter artwork_url contains url to cover art
-                else if (messagePart.startsWith("artwork_url%3A")) {
-                    artworkUrl = messagePart.substring("artwork_url%3A".length());
-                }
-                // When coverart is "1" coverid will contain a unique coverart id
-                else if (messagePart.startsWith("coverart%3A")) {
-                    coverart = "1".matches(messagePart.substring("coverart%3A".length()));
+            // the first two parts are the MAC address and "status"
+            for (int i = 2; i < messageParts.length; i++) {
+                String messagePart = messageParts[i];
+                int separator = messagePart.indexOf(TAG_SEPARATOR);
+                if (separator < 0) {
+                    logger.trace("Unhandled status message part '{}'", messagePart);
+                    continue;
                 }
-                // Id for covert art (only valid when coverart is "1")
-                else if (messagePart.startsWith("coverid%3A")) {
-                    coverid = messagePart.substring("coverid%3A".length());
-                } else {
-                    // Added to be able to see additional status message types
-                    logger.trace("Unhandled status message type '{}'", messagePart);
+                // tags with spaces like "mixer volume" are encoded, values are decoded only where needed
+                String tag = decode(messagePart.substring(0, separator));
+                String value = messagePart.substring(separator + TAG_SEPARATOR.length());
+
+                switch (tag) {
+                    case "power":
+                        final boolean power = "1".equals(value);
+                        updatePlayer(mac, new PlayerUpdateEvent() {
+                            @Override
+                            public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                                listener.powerChangeEvent(mac, power);
+                            }
+                        });
+                        break;
+                    case "mixer volume":
+                        final int volume = (int) Double.parseDouble(value);
+                        updatePlayer(mac, new PlayerUpdateEvent() {
+                            @Override
+                            public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                                listener.absoluteVolumeChangeEvent(mac, volume);
+                            }
+                        });
+                        break;
+                    case "mode":
+                        final String mode = value;
+                        updatePlayer(mac, new PlayerUpdateEvent() {
+                            @Override
+                            public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                                listener.modeChangeEvent(mac, mode);
+                            }
+                        });
+                        break;
+                    case "time":
+                        final int time = (int) Double.parseDouble(value);
+                        updatePlayer(mac, new PlayerUpdateEvent() {
+                            @Override
+                            public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                                listener.currentPlayingTimeEvent(mac, time);
+                            }
+                        });
+                        break;
+                    case "duration":
+                        final int duration = (int) Double.parseDouble(value);
+                        updatePlayer(mac, new PlayerUpdateEvent() {
+                            @Override
+                            public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                                listener.durationEvent(mac, duration);
+                            }
+                        });
+                        break;
+                    case "playlist_cur_index":
+                        final int index = (int) Double.parseDouble(value);
+                        updatePlayer(mac, new PlayerUpdateEvent() {
+                            @Override
+                            public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                                listener.currentPlaylistIndexEvent(mac, index);
+                            }
+                        });
+                        break;
+                    case "playlist_tracks":
+                        final int track = (int) Double.parseDouble(value);
+                        updatePlayer(mac, new PlayerUpdateEvent() {
+                            @Override
+                            public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                                listener.numberPlaylistTracksEvent(mac, track);
+                            }
+                        });
+                        break;
+                    case "playlist repeat":
+                        final int repeat = (int) Double.parseDouble(value);
+                        updatePlayer(mac, new PlayerUpdateEvent() {
+                            @Override
+                            public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                                listener.currentPlaylistRepeatEvent(mac, repeat);
+                            }
+                        });
+                        break;
+                    case "playlist shuffle":
+                        final int shuffle = (int) Double.parseDouble(value);
+                        updatePlayer(mac, new PlayerUpdateEvent() {
+                            @Override
+                            public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                                listener.currentPlaylistShuffleEvent(mac, shuffle);
+                            }
+                        });
+                        break;
+                    case "title":
+                        final String title = decode(value);
+                        updatePlayer(mac, new PlayerUpdateEvent() {
+                            @Override
+                            public void updateListener(SqueezeBoxPlayerEventListener listener) {
+                                listener.titleChangeEvent(mac, title);
+                            }
+                        });
+                        break;
+                    // Remote title (radio)
+                    case "remote_title":
+                        remoteTitle = value;
+                        break;
+                    case "artist":
+                        artist = value;
+                        break;
+                    case "album":
+                        album = value;
+                        break;
+                    case "genre":
+                        genre = value;
+                        break;
+                    case "year":
+                        year = value;
+                        break;
+                    // artwork_url contains url to cover art
+                    case "artwork_url":
+                        artworkUrl = value;
+                        break;
+                    // When coverart is "1" coverid will contain a unique coverart id
+                    case "coverart":
+                        coverart = "1".equals(value);
+                        break;
+                    // Id for covert art (only valid when coverart is "1")
+                    case "coverid":
+                        coverid = value;
+                        break;
+                    default:
+                        // Added to be able to see additional status message types
+                        logger.trace("Unhandled status message type '{}'", messagePart);
                 }
             }
 
             final String finalUrl = constructCoverArtUrl(mac, coverart, coverid, artworkUrl);
-            final String finalRemoteTitle = remoteTitle;
-            final String finalArtist = artist;
-            final String finalAlbum = album;
-            final String finalGenre = genre;
-            final String finalYear = year;
+            final String finalRemoteTitle = decode(remoteTitle);
+            final String finalArtist = decode(artist);
+            final String finalAlbum = decode(album);
+            final String finalGenre = decode(genre);
+            final String finalYear = decode(year);
 
-            updatePlayer(new PlayerUpdateEvent() {
+            updatePlayer(mac, new PlayerUpdateEvent() {
                 @Override
                 public void updateListener(SqueezeBoxPlayerEventListener listener) {
                     listener.coverArtChangeEvent(mac, finalUrl);
-                    listener.remoteTitleChangeEvent(mac, decode(finalRemoteTitle));
-                    listener.artistChangeEvent(mac, decode(finalArtist));
-                    listener.albumChangeEvent(mac, decode(finalAlbum));
-                    listener.genreChangeEvent(mac, decode(finalGenre));
-                    listener.yearChangeEvent(mac, decode(finalYear));
+                    listener.remoteTitleChangeEvent(mac, finalRemoteTitle);
+                    listener.artistChangeEvent(mac, finalArtist);
+                    listener.albumChangeEvent(mac, finalAlbum);
+                    listener.genreChangeEvent(mac, finalGenre);
+                    listener.yearChangeEvent(mac, finalYear);
                 }
             });
         }
@@ -821,7 +899,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
             if (action.equals("newsong")) {
                 mode = "play";
                 // Set the track duration to 0
-                updatePlayer(new PlayerUpdateEvent() {
+                updatePlayer(mac, new PlayerUpdateEvent() {
                     @Override
                     public void updateListener(SqueezeBoxPlayerEventListener listener) {
                         listener.durationEvent(mac, 0);
@@ -840,7 +918,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                 return;
             }
             final String value = mode;
-            updatePlayer(new PlayerUpdateEvent() {
+            updatePlayer(mac, new PlayerUpdateEvent() {
 
                 @Override
                 public void updateListener(SqueezeBoxPlayerEventListener listener) {
@@ -862,7 +940,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
 
                 if (function.equals("power")) {
                     final boolean power = value.equals("1");
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(mac, new PlayerUpdateEvent() {
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
                             listener.powerChangeEvent(mac, power);
@@ -870,7 +948,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
                     });
                 } else if (function.equals("volume")) {
                     final int volume = (int) Double.parseDouble(value);
-                    updatePlayer(new PlayerUpdateEvent() {
+                    updatePlayer(mac, new PlayerUpdateEvent() {
 
                         @Override
                         public void updateListener(SqueezeBoxPlayerEventListener listener) {
@@ -885,7 +963,7 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         private void handleFavorites(String message) {
             logger.trace("Handle favorites message: {}", message);
 
-            String[] messageParts = message.split("\\s");
+            String[] messageParts = SqueezeBoxCliDecoder.split(message);
             if (messageParts.length == 2 && "changed".equals(messageParts[1])) {
                 // LMS informing us that favorites have changed; request an update to the favorites list
                 requestFavorites();
@@ -1004,6 +1082,60 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Update the listeners of one player, the listeners of all players and the child Squeeze Player Thing of the
+     * player
+     *
+     * @param mac
+     * @param event
+     */
+    private void updatePlayer(String mac, PlayerUpdateEvent event) {
+        playerEventCounts.computeIfAbsent(mac, m -> new AtomicLong()).incrementAndGet();
+
+        // update listeners like disco services
+        synchronized (squeezeBoxPlayerListeners) {
+            for (SqueezeBoxPlayerEventListener listener : squeezeBoxPlayerListeners) {
+                event.updateListener(listener);
+            }
+        }
+        // update listeners of this player like notifications
+        List<SqueezeBoxPlayerEventListener> listeners = playerEventListeners.get(mac);
+        if (listeners != null) {
+            for (SqueezeBoxPlayerEventListener listener : listeners) {
+                event.updateListener(listener);
+            }
+        }
+        // update our child
+        SqueezeBoxPlayerEventListener handler = getPlayerHandler(mac);
+        if (handler != null && !squeezeBoxPlayerListeners.contains(handler)) {
+            event.updateListener(handler);
+        }
+    }
+
+    /**
+     * Returns the handler of the child Squeeze Player Thing with the given MAC address
+     *
+     * @param mac
+     * @return the handler or null, if there is no such player thing
+     */
+    private SqueezeBoxPlayerEventListener getPlayerHandler(String mac) {
+        SqueezeBoxPlayerEventListener handler = playerHandlers.get(mac);
+        if (handler != null) {
+            return handler;
+        }
+        // children initialized before this handler are not known yet
+        for (Thing thing : getThing().getThings()) {
+            ThingHandler thingHandler = thing.getHandler();
+            if (thingHandler instanceof SqueezeBoxPlayerEventListener
+                    && mac.equals(thing.getConfiguration().as(SqueezeBoxPlayerConfig.class).mac)) {
+                handler = (SqueezeBoxPlayerEventListener) thingHandler;
+                playerHandlers.put(mac, handler);
+                return handler;
+            }
+        }
+        return null;
+    }
+
     /**
      * Adds a listener for player events
      *
@@ -1015,6 +1147,20 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
         return squeezeBoxPlayerListeners.add(squeezeBoxPlayerListener);
     }
 
+    /**
+     * Adds a listener for the events of one player
+     *
+     * @param mac
+     * @param squeezeBoxPlayerListener
+     * @return
+     */
+    public boolean registerSqueezeBoxPlayerListener(String mac,
+            SqueezeBoxPlayerEventListener squeezeBoxPlayerListener) {
+        logger.trace("Registering player listener for {}", mac);
+        return playerEventListeners.computeIfAbsent(mac, m -> new CopyOnWriteArrayList<>())
+                .add(squeezeBoxPlayerListener);
+    }
+
     /**
      * Removes a listener from player events
      *
@@ -1023,7 +1169,11 @@ public class SqueezeBoxServerHandler extends BaseBridgeHandler {
      */
     public boolean unregisterSqueezeBoxPlayerListener(SqueezeBoxPlayerEventListener squeezeBoxPlayerListener) {
         logger.trace("Unregistering player listener");
-        return squeezeBoxPlayerListeners.remove(squeezeBoxPlayerListener);
+        boolean removed = squeezeBoxPlayerListeners.remove(squeezeBoxPlayerListener);
+        for (List<SqueezeBoxPlayerEventListener> listeners : playerEventListeners.values()) {
+            removed |= listeners.remove(squeezeBoxPlayerListener);
+        }
+        return removed;
     }
 
     /**
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.squeezebox.internal.utils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Splits and decodes the lines received on the CLI connection of a SqueezeServer. The CLI separates the parameters of
+ * a line by spaces and URL encodes each parameter. Most values like numbers and modes contain nothing to decode and
+ * are returned without copying.
+ *
+ * @author agent - Initial contribution
+ */
+public class SqueezeBoxCliDecoder {
+
+    private static final String[] NO_PARTS = new String[0];
+
+    private SqueezeBoxCliDecoder() {
+    }
+
+    /**
+     * Splits a CLI line into its parameters. Unlike {@link String#split(String)} no regular expression and no
+     * intermediate list is involved.
+     *
+     * @param line line received from the server
+     * @return the (still encoded) parameters of the line, empty parameters are skipped
+     */
+    public static String[] split(String line) {
+        int length = line.length();
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (line.charAt(i) != ' ' && (i == 0 || line.charAt(i - 1) == ' ')) {
+                count++;
+            }
+        }
+        if (count == 0) {
+            return NO_PARTS;
+        }
+
+        String[] parts = new String[count];
+        int part = 0;
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            if (i == length || line.charAt(i) == ' ') {
+                if (start >= 0) {
+                    parts[part++] = line.substring(start, i);
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+        return parts;
+    }
+
+    /**
+     * Decodes a URL encoded parameter. Behaves like {@link java.net.URLDecoder#decode(String, String)} with UTF-8,
+     * but returns the parameter itself if there is nothing to decode and the raw parameter if it is malformed.
+     *
+     * @param raw URL encoded parameter
+     * @return the decoded parameter
+     */
+    public static String decode(String raw) {
+        int length = raw.length();
+        int first = 0;
+        while (first < length && raw.charAt(first) != '%' && raw.charAt(first) != '+') {
+            first++;
+        }
+        if (first == length) {
+            return raw;
+        }
+
+        StringBuilder decoded = new StringBuilder(length);
+        decoded.append(raw, 0, first);
+        byte[] bytes = null;
+        int i = first;
+        while (i < length) {
+            char c = raw.charAt(i);
+            if (c == '+') {
+                decoded.append(' ');
+                i++;
+            } else if (c == '%') {
+                // collect all consecutive escapes, they may form one multi-byte UTF-8 character
+                if (bytes == null) {
+                    bytes = new byte[(length - i) / 3];
+                }
+                int count = 0;
+                while (i + 2 < length && raw.charAt(i) == '%') {
+                    int high = Character.digit(raw.charAt(i + 1), 16);
+                    int low = Character.digit(raw.charAt(i + 2), 16);
+                    if (high < 0 || low < 0) {
+                        return raw;
+                    }
+                    bytes[count++] = (byte) ((high << 4) + low);
+                    i += 3;
+                }
+                if (i < length && raw.charAt(i) == '%') {
+                    // incomplete escape at the end
+                    return raw;
+                }
+                decoded.append(new String(bytes, 0, count, StandardCharsets.UTF_8));
+            } else {
+                decoded.append(c);
+                i++;
+            }
+        }
+        return decoded.toString();
+    }
+}
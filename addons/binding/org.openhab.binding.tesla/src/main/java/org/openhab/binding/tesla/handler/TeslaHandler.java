@@ -23,6 +23,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
@@ -102,6 +103,17 @@ public class TeslaHandler extends BaseThingHandler {
     private static final int EVENT_ERROR_INTERVAL_SECONDS = 15;
     private static final int API_SLEEP_INTERVAL_MINUTES = 15;
     private static final int MOVE_THRESHOLD_INTERVAL_MINUTES = 5;
+    private static final String NULL_VALUE = "\u0000";
+
+    // selectors of the event stream values, in the order of the EventKeys
+    private static final TeslaChannelSelector[] EVENT_SELECTORS = new TeslaChannelSelector[EventKeys.values().length];
+    private static final String EVENT_VALUES = StringUtils.join(EventKeys.values(), ',', 1, EventKeys.values().length);
+
+    static {
+        for (EventKeys key : EventKeys.values()) {
+            EVENT_SELECTORS[key.ordinal()] = TeslaChannelSelector.findValueSelectorFromRESTID(key.toString());
+        }
+    }
 
     private final Logger logger = LoggerFactory.getLogger(TeslaHandler.class);
 
@@ -151,7 +163,10 @@ public class TeslaHandler extends BaseThingHandler {
 
     private StorageService storageService;
     protected Gson gson = new Gson();
+    protected JsonParser parser = new JsonParser();
     protected TeslaChannelSelectorProxy teslaChannelSelectorProxy = new TeslaChannelSelectorProxy();
+    // last raw value per channel, used to suppress updates of unchanged values
+    protected final Map<String, String> lastValues = new ConcurrentHashMap<>();
     private TokenResponse logonToken;
 
     public TeslaHandler(Thing thing, StorageService storageService) {
@@ -166,6 +181,7 @@ public class TeslaHandler extends BaseThingHandler {
         updateStatus(ThingStatus.UNKNOWN);
 
         lock = new ReentrantLock();
+        lastValues.clear();
 
         lock.lock();
         try {
@@ -233,6 +249,7 @@ public class TeslaHandler extends BaseThingHandler {
         TeslaChannelSelector selector = TeslaChannelSelector.getValueSelectorFromChannelID(channelID);
 
         if (command instanceof RefreshType) {
+            lastValues.clear();
             if (isAwake()) {
                 // Request the state of all known variables. This is sub-optimal, but the requests get scheduled and
                 // throttled so we are safe not to break the Tesla SLA
@@ -530,8 +547,6 @@ public class TeslaHandler extends BaseThingHandler {
                 }
             }
 
-            JsonParser parser = new JsonParser();
-
             if (!checkResponse(response, false)) {
                 logger.error("An error occurred while communicating with the vehicle during request {} : {}:{}",
                         new Object[] { command, (response != null) ? response.getStatus() : "",
@@ -555,15 +570,28 @@ public class TeslaHandler extends BaseThingHandler {
     public void parseAndUpdate(String request, String payLoad, String result) {
         final Double LOCATION_THRESHOLD = .0000001;
 
-        JsonParser parser = new JsonParser();
         JsonObject jsonObject = null;
 
         try {
             if (request != null && result != null && !"null".equals(result)) {
-                // first, update state objects
+                // first, parse the response once, reformatting the response string to a JSON compliant
+                // object for some specific non-JSON compatible requests
+                switch (request) {
+                    case MOBILE_ENABLED_STATE: {
+                        jsonObject = new JsonObject();
+                        jsonObject.addProperty(MOBILE_ENABLED_STATE, result);
+                        break;
+                    }
+                    default: {
+                        jsonObject = parser.parse(result).getAsJsonObject();
+                        break;
+                    }
+                }
+
+                // secondly, update state objects from the parsed tree
                 switch (request) {
                     case DRIVE_STATE: {
-                        driveState = gson.fromJson(result, DriveState.class);
+                        driveState = gson.fromJson(jsonObject, DriveState.class);
 
                         if (Math.abs(lastLatitude - driveState.latitude) > LOCATION_THRESHOLD
                                 || Math.abs(lastLongitude - driveState.longitude) > LOCATION_THRESHOLD) {
@@ -577,15 +605,17 @@ public class TeslaHandler extends BaseThingHandler {
                         break;
                     }
                     case GUI_STATE: {
-                        guiState = gson.fromJson(result, GUIState.class);
+                        guiState = gson.fromJson(jsonObject, GUIState.class);
+                        // the unit settings influence the conversion of all values
+                        lastValues.clear();
                         break;
                     }
                     case VEHICLE_STATE: {
-                        vehicleState = gson.fromJson(result, VehicleState.class);
+                        vehicleState = gson.fromJson(jsonObject, VehicleState.class);
                         break;
                     }
                     case CHARGE_STATE: {
-                        chargeState = gson.fromJson(result, ChargeState.class);
+                        chargeState = gson.fromJson(jsonObject, ChargeState.class);
                         if (isCharging()) {
                             updateState(CHANNEL_CHARGE, OnOffType.ON);
                         } else {
@@ -595,7 +625,7 @@ public class TeslaHandler extends BaseThingHandler {
                         break;
                     }
                     case CLIMATE_STATE: {
-                        climateState = gson.fromJson(result, ClimateState.class);
+                        climateState = gson.fromJson(jsonObject, ClimateState.class);
                         break;
                     }
                     case "queryVehicle": {
@@ -630,20 +660,6 @@ public class TeslaHandler extends BaseThingHandler {
                         break;
                     }
                 }
-
-                // secondly, reformat the response string to a JSON compliant
-                // object for some specific non-JSON compatible requests
-                switch (request) {
-                    case MOBILE_ENABLED_STATE: {
-                        jsonObject = new JsonObject();
-                        jsonObject.addProperty(MOBILE_ENABLED_STATE, result);
-                        break;
-                    }
-                    default: {
-                        jsonObject = parser.parse(result).getAsJsonObject();
-                        break;
-                    }
-                }
             }
 
             // process the result
@@ -683,11 +699,21 @@ public class TeslaHandler extends BaseThingHandler {
                             for (Map.Entry<String, JsonElement> entry : entrySet) {
                                 try {
                                     TeslaChannelSelector selector = TeslaChannelSelector
-                                            .getValueSelectorFromRESTID(entry.getKey());
+                                            .findValueSelectorFromRESTID(entry.getKey());
+                                    if (selector == null) {
+                                        logger.trace("The variable/value pair '{}':'{}' is not (yet) supported",
+                                                entry.getKey(), entry.getValue());
+                                        continue;
+                                    }
+                                    String value = entry.getValue().isJsonNull() ? null
+                                            : entry.getValue().getAsString();
+                                    if (!hasValueChanged(selector, value)) {
+                                        continue;
+                                    }
                                     if (!selector.isProperty()) {
-                                        if (!entry.getValue().isJsonNull()) {
-                                            updateState(selector.getChannelID(), teslaChannelSelectorProxy.getState(
-                                                    entry.getValue().getAsString(), selector, editProperties()));
+                                        if (value != null) {
+                                            updateState(selector.getChannelID(),
+                                                    teslaChannelSelectorProxy.getState(value, selector, editProperties()));
                                             if (logger.isTraceEnabled()) {
                                                 logger.trace(
                                                         "The variable/value pair '{}':'{}' is successfully processed",
@@ -697,9 +723,9 @@ public class TeslaHandler extends BaseThingHandler {
                                             updateState(selector.getChannelID(), UnDefType.UNDEF);
                                         }
                                     } else {
-                                        if (!entry.getValue().isJsonNull()) {
+                                        if (value != null) {
                                             Map<String, String> properties = editProperties();
-                                            properties.put(selector.getChannelID(), entry.getValue().getAsString());
+                                            properties.put(selector.getChannelID(), value);
                                             updateProperties(properties);
                                             if (logger.isTraceEnabled()) {
                                                 logger.trace(
@@ -708,9 +734,6 @@ public class TeslaHandler extends BaseThingHandler {
                                             }
                                         }
                                     }
-                                } catch (IllegalArgumentException e) {
-                                    logger.trace("The variable/value pair '{}':'{}' is not (yet) supported",
-                                            entry.getKey(), entry.getValue());
                                 } catch (ClassCastException | IllegalStateException e) {
                                     logger.trace("An exception occurred while converting the JSON data : '{}'",
                                             e.getMessage(), e);
@@ -730,6 +753,16 @@ public class TeslaHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Remembers the raw value of a channel or property
+     *
+     * @return true if the value differs from the last value received for the same channel
+     */
+    protected boolean hasValueChanged(TeslaChannelSelector selector, String value) {
+        String lastValue = lastValues.put(selector.getChannelID(), value != null ? value : NULL_VALUE);
+        return lastValue == null || !lastValue.equals(value != null ? value : NULL_VALUE);
+    }
+
     protected boolean isAwake() {
         return vehicle != null && "online".equals(vehicle.state) && vehicle.vehicle_id != null;
     }
@@ -929,8 +962,6 @@ public class TeslaHandler extends BaseThingHandler {
             return null;
         }
 
-        JsonParser parser = new JsonParser();
-
         JsonObject jsonObject = parser.parse(response.readEntity(String.class)).getAsJsonObject();
         Vehicle[] vehicleArray = gson.fromJson(jsonObject.getAsJsonArray("response"), Vehicle[].class);
 
@@ -1196,7 +1227,7 @@ public class TeslaHandler extends BaseThingHandler {
                             .property(ClientProperties.READ_TIMEOUT, EVENT_STREAM_READ_TIMEOUT)
                             .register(new Authenticator((String) getConfig().get(USERNAME), vehicle.tokens[0]));
                     eventTarget = eventClient.target(URI_EVENT).path(vehicle.vehicle_id + "/").queryParam("values",
-                            StringUtils.join(EventKeys.values(), ',', 1, EventKeys.values().length));
+                            EVENT_VALUES);
                     eventResponse = eventTarget.request(MediaType.TEXT_PLAIN_TYPE).get();
 
                     logger.debug("Event Stream : Establishing the event stream : Response : {}:{}",
@@ -1273,9 +1304,11 @@ public class TeslaHandler extends BaseThingHandler {
                                                 logger.debug("Event Stream : Event stamp is {}",
                                                         dateFormatter.format(new Date(lastTimeStamp)));
                                             }
-                                            for (int i = 0; i < EventKeys.values().length; i++) {
-                                                TeslaChannelSelector selector = TeslaChannelSelector
-                                                        .getValueSelectorFromRESTID((EventKeys.values()[i]).toString());
+                                            for (int i = 0; i < EVENT_SELECTORS.length && i < vals.length; i++) {
+                                                TeslaChannelSelector selector = EVENT_SELECTORS[i];
+                                                if (selector == null || !hasValueChanged(selector, vals[i])) {
+                                                    continue;
+                                                }
                                                 if (!selector.isProperty()) {
                                                     State newState = teslaChannelSelectorProxy.getState(vals[i],
                                                             selector, editProperties());
@@ -12,6 +12,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.smarthome.core.library.types.DateTimeType;
@@ -1122,6 +1123,18 @@ public class TeslaChannelSelectorProxy {
         },
         WHEEL_TYPE("wheel_type", "wheeltype", StringType.class, true);
 
+        private static final Map<String, TeslaChannelSelector> REST_ID_INDEX = new HashMap<>();
+        private static final Map<String, TeslaChannelSelector> CHANNEL_ID_INDEX = new HashMap<>();
+
+        static {
+            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
+                if (c.restID != null) {
+                    REST_ID_INDEX.putIfAbsent(c.restID, c);
+                }
+                CHANNEL_ID_INDEX.putIfAbsent(c.channelID, c);
+            }
+        }
+
         private final String restID;
         private final String channelID;
         private Class<? extends Type> typeClass;
@@ -1174,10 +1187,9 @@ public class TeslaChannelSelectorProxy {
 
         public static TeslaChannelSelector getValueSelectorFromChannelID(String valueSelectorText)
                 throws IllegalArgumentException {
-            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
-                if (c.channelID.equals(valueSelectorText)) {
-                    return c;
-                }
+            TeslaChannelSelector c = CHANNEL_ID_INDEX.get(valueSelectorText);
+            if (c != null) {
+                return c;
             }
 
             throw new IllegalArgumentException("Not valid value selector");
@@ -1185,14 +1197,22 @@ public class TeslaChannelSelectorProxy {
 
         public static TeslaChannelSelector getValueSelectorFromRESTID(String valueSelectorText)
                 throws IllegalArgumentException {
-            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
-                if (c.restID != null && c.restID.equals(valueSelectorText)) {
-                    return c;
-                }
+            TeslaChannelSelector c = findValueSelectorFromRESTID(valueSelectorText);
+            if (c != null) {
+                return c;
             }
 
             throw new IllegalArgumentException("Not valid value selector");
         }
+
+        /**
+         * Looks up the selector for a key of the REST API or the event stream
+         *
+         * @return the selector, or null if the key is not (yet) supported
+         */
+        public static TeslaChannelSelector findValueSelectorFromRESTID(String valueSelectorText) {
+            return REST_ID_INDEX.get(valueSelectorText);
+        }
     }
 
     public String latitude = "0";
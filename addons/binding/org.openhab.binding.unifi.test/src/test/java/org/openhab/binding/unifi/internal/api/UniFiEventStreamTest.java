@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.unifi.internal.api;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.binding.unifi.internal.api.model.UniFiClient;
+import org.openhab.binding.unifi.internal.api.model.UniFiSite;
+import org.openhab.binding.unifi.internal.api.model.UniFiWiredClient;
+import org.openhab.binding.unifi.internal.api.model.UniFiWirelessClient;
+import org.openhab.binding.unifi.internal.api.util.UniFiClientDeserializer;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Test class for {@link UniFiEventStream} fed with messages recorded from the event websocket of a controller.
+ *
+ * @author agent - Initial contribution
+ */
+public class UniFiEventStreamTest {
+
+    private final Gson gson = new GsonBuilder().setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+            .registerTypeAdapter(UniFiClient.class, new UniFiClientDeserializer()).create();
+
+    private final UniFiEventListener listener = mock(UniFiEventListener.class);
+
+    private UniFiSite site;
+
+    private UniFiEventStream eventStream;
+
+    @Before
+    public void setUp() {
+        site = gson.fromJson("{\"_id\":\"5c1e4a7be4b0c1b3a8d2f001\",\"name\":\"default\",\"desc\":\"Default\"}",
+                UniFiSite.class);
+        eventStream = new UniFiEventStream(site, gson, listener);
+    }
+
+    @Test
+    public void testConnectedAndRoamedClients() throws IOException {
+        eventStream.handleMessage(readMessage("events_connected"));
+
+        verify(listener).onClientConnected(site, "a4:83:e7:1b:2c:3d");
+        verify(listener).onClientConnected(site, "a4:83:e7:1b:2c:3e");
+        verify(listener).onClientConnected(site, "3c:28:6d:40:50:60");
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    public void testDisconnectedClients() throws IOException {
+        eventStream.handleMessage(readMessage("events_disconnected"));
+
+        verify(listener).onClientDisconnected(site, "a4:83:e7:1b:2c:3d");
+        verify(listener).onClientDisconnected(site, "00:11:32:aa:bb:cc");
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    public void testIgnoredEvents() throws IOException {
+        eventStream.handleMessage(readMessage("events_ignored"));
+
+        verifyZeroInteractions(listener);
+    }
+
+    @Test
+    public void testClientSync() throws IOException {
+        eventStream.handleMessage(readMessage("sta_sync"));
+
+        ArgumentCaptor<UniFiClient> clients = ArgumentCaptor.forClass(UniFiClient.class);
+        verify(listener, times(2)).onClientUpdated(eq(site), clients.capture());
+        verifyNoMoreInteractions(listener);
+
+        List<UniFiClient> updated = clients.getAllValues();
+        UniFiClient wireless = updated.get(0);
+        assertTrue("First client should be wireless", wireless instanceof UniFiWirelessClient);
+        assertEquals("a4:83:e7:1b:2c:3d", wireless.getMac());
+        assertEquals("192.168.1.23", wireless.getIp());
+        assertEquals("phone-anna", wireless.getHostname());
+        assertEquals("f0:9f:c2:10:20:30", wireless.getDeviceMac());
+        assertEquals(1550154020000L, wireless.getLastSeen().getTimeInMillis());
+        UniFiClient wired = updated.get(1);
+        assertTrue("Second client should be wired", wired instanceof UniFiWiredClient);
+        assertEquals("00:11:32:aa:bb:cc", wired.getMac());
+        assertEquals("78:8a:20:01:02:03", wired.getDeviceMac());
+    }
+
+    @Test
+    public void testOtherMessage() throws IOException {
+        eventStream.handleMessage(readMessage("device_sync"));
+
+        verifyZeroInteractions(listener);
+    }
+
+    @Test
+    public void testMalformedMessages() {
+        eventStream.onMessage("{\"meta\":{\"rc\":\"ok\",\"message\":\"events\"},\"data\":[\"EVT_WU_Connected\"]}");
+        eventStream.onMessage("{\"meta\":{\"rc\":\"ok\",\"message\":\"events\"}}");
+        eventStream.onMessage("not json");
+
+        verifyZeroInteractions(listener);
+    }
+
+    private static String readMessage(String filename) throws IOException {
+        return IOUtils.toString(UniFiEventStreamTest.class.getResourceAsStream(filename + ".json"),
+                StandardCharsets.UTF_8.name());
+    }
+
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.unifi.internal.api.cache;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.openhab.binding.unifi.internal.api.model.UniFiClient;
+import org.openhab.binding.unifi.internal.api.util.UniFiClientDeserializer;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Test class for {@link UniFiClientCache} class.
+ *
+ * @author agent - Initial contribution
+ */
+public class UniFiClientCacheTest {
+
+    private final Gson gson = new GsonBuilder().setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+            .registerTypeAdapter(UniFiClient.class, new UniFiClientDeserializer()).create();
+
+    private final UniFiClientCache cache = new UniFiClientCache();
+
+    @Test
+    public void testGetByAnyKey() {
+        UniFiClient client = client("a4:83:e7:1b:2c:3d", "192.168.1.23", "phone-anna", "anna");
+        cache.put(client);
+
+        assertSame(client, cache.get("a4:83:e7:1b:2c:3d"));
+        assertSame(client, cache.get("192.168.1.23"));
+        assertSame(client, cache.get("phone-anna"));
+        assertSame(client, cache.get("anna"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testPutRekeysChangedClient() {
+        cache.put(client("a4:83:e7:1b:2c:3d", "192.168.1.23", "phone-anna", "anna"));
+        UniFiClient updated = client("a4:83:e7:1b:2c:3d", "192.168.1.42", "phone-anna-2", null);
+        cache.put(updated);
+
+        assertSame(updated, cache.get("a4:83:e7:1b:2c:3d"));
+        assertSame(updated, cache.get("192.168.1.42"));
+        assertSame(updated, cache.get("phone-anna-2"));
+        assertNull("Old ip should no longer be indexed", cache.get("192.168.1.23"));
+        assertNull("Old hostname should no longer be indexed", cache.get("phone-anna"));
+        assertNull("Old alias should no longer be indexed", cache.get("anna"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testPutKeepsKeyTakenOverByOtherClient() {
+        UniFiClient anna = client("a4:83:e7:1b:2c:3d", "192.168.1.23", "phone-anna", null);
+        cache.put(anna);
+        // the ip was handed over to another client before the first one got a new one
+        UniFiClient bob = client("3c:28:6d:40:50:60", "192.168.1.23", "phone-bob", null);
+        cache.put(bob);
+        cache.put(client("a4:83:e7:1b:2c:3d", "192.168.1.24", "phone-anna", null));
+
+        assertSame(bob, cache.get("192.168.1.23"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testRemove() {
+        UniFiClient anna = client("a4:83:e7:1b:2c:3d", "192.168.1.23", "phone-anna", "anna");
+        UniFiClient bob = client("3c:28:6d:40:50:60", "192.168.1.30", "phone-bob", null);
+        cache.put(anna);
+        cache.put(bob);
+
+        assertSame(anna, cache.remove("a4:83:e7:1b:2c:3d"));
+
+        assertNull(cache.get("a4:83:e7:1b:2c:3d"));
+        assertNull(cache.get("192.168.1.23"));
+        assertNull(cache.get("phone-anna"));
+        assertNull(cache.get("anna"));
+        assertSame(bob, cache.get("phone-bob"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testRemoveKeepsKeysOfOtherClient() {
+        UniFiClient anna = client("a4:83:e7:1b:2c:3d", "192.168.1.23", "phone-anna", null);
+        cache.put(anna);
+        UniFiClient bob = client("3c:28:6d:40:50:60", "192.168.1.23", "phone-bob", null);
+        cache.put(bob);
+
+        assertSame(anna, cache.remove("a4:83:e7:1b:2c:3d"));
+
+        assertSame("Ip taken over by another client should still be indexed", bob, cache.get("192.168.1.23"));
+    }
+
+    @Test
+    public void testRemoveUnknown() {
+        cache.put(client("a4:83:e7:1b:2c:3d", "192.168.1.23", "phone-anna", null));
+
+        assertNull(cache.remove("3c:28:6d:40:50:60"));
+        assertNull(cache.remove(null));
+        assertNull(cache.remove(""));
+        assertEquals(1, cache.size());
+    }
+
+    private UniFiClient client(String mac, String ip, String hostname, String alias) {
+        StringBuilder json = new StringBuilder("{\"is_wired\":false,\"mac\":\"").append(mac).append("\",\"ip\":\"")
+                .append(ip).append("\",\"hostname\":\"").append(hostname).append('"');
+        if (alias != null) {
+            json.append(",\"name\":\"").append(alias).append('"');
+        }
+        return gson.fromJson(json.append('}').toString(), UniFiClient.class);
+    }
+
+}
@@ -29,6 +29,10 @@ public class UniFiControllerThingConfig {
 
     private int refresh = 10;
 
+    private boolean eventStream = false;
+
+    private int resync = 600;
+
     public String getHost() {
         return host;
     }
@@ -49,6 +53,14 @@ public class UniFiControllerThingConfig {
         return refresh;
     }
 
+    public boolean isEventStream() {
+        return eventStream;
+    }
+
+    public int getResync() {
+        return resync;
+    }
+
     public boolean isValid() {
         return StringUtils.isNotBlank(host) && StringUtils.isNotBlank(username) && StringUtils.isNotBlank(password);
     }
@@ -56,6 +68,7 @@ public class UniFiControllerThingConfig {
     @Override
     public String toString() {
         return "UniFiControllerConfig{host = " + host + ", port = " + port + ", username = " + username
-                + ", password = *****, refresh = " + refresh + "}";
+                + ", password = *****, refresh = " + refresh + ", eventStream = " + eventStream + ", resync = " + resync
+                + "}";
     }
 }
@@ -8,8 +8,17 @@
  */
 package org.openhab.binding.unifi.internal.api;
 
+import java.net.HttpCookie;
+import java.net.URI;
+import java.util.List;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.http.HttpScheme;
+import org.eclipse.jetty.http.HttpURI;
+import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.websocket.client.WebSocketClient;
 import org.openhab.binding.unifi.internal.api.model.UniFiClient;
 import org.openhab.binding.unifi.internal.api.model.UniFiDevice;
 import org.openhab.binding.unifi.internal.api.model.UniFiSite;
@@ -40,6 +49,8 @@ public class UniFiController {
 
     private final Gson gson;
 
+    private @Nullable WebSocketClient webSocketClient;
+
     public UniFiController(HttpClient httpClient, String host, int port, String username, String password) {
         this.httpClient = httpClient;
         this.host = host;
@@ -57,6 +68,7 @@ public class UniFiController {
     }
 
     public void stop() throws UniFiException {
+        stopWebSocketClient();
         logout();
     }
 
@@ -88,6 +100,13 @@ public class UniFiController {
         return executeRequest(req);
     }
 
+    public @Nullable UniFiClient getClient(UniFiSite site, String mac) throws UniFiException {
+        UniFiControllerRequest<UniFiClient[]> req = newRequest(UniFiClient[].class);
+        req.setPath("/api/s/" + site.getName() + "/stat/sta/" + mac);
+        UniFiClient[] clients = executeRequest(req);
+        return clients != null && clients.length > 0 ? clients[0] : null;
+    }
+
     public UniFiClient[] getInsights(UniFiSite site) throws UniFiException {
         UniFiControllerRequest<UniFiClient[]> req = newRequest(UniFiClient[].class);
         req.setPath("/api/s/" + site.getName() + "/stat/alluser");
@@ -101,8 +120,52 @@ public class UniFiController {
         executeRequest(req);
     }
 
+    /**
+     * Opens the event websocket of a site using the session of the last login.
+     *
+     * @param site the site to subscribe to
+     * @param listener notified about client changes
+     * @return the connected event stream
+     */
+    public UniFiEventStream openEventStream(UniFiSite site, UniFiEventListener listener) throws UniFiException {
+        UniFiEventStream eventStream = new UniFiEventStream(site, gson, listener);
+        String path = "/wss/s/" + site.getName() + "/events";
+        URI uri = URI.create(new HttpURI("wss", host, port, path).toString());
+        URI sessionUri = URI.create(new HttpURI(HttpScheme.HTTPS.asString(), host, port, "/").toString());
+        List<HttpCookie> cookies = httpClient.getCookieStore().get(sessionUri);
+        eventStream.connect(getWebSocketClient(), uri, cookies);
+        return eventStream;
+    }
+
     // Private API
 
+    private synchronized WebSocketClient getWebSocketClient() throws UniFiException {
+        WebSocketClient client = webSocketClient;
+        if (client == null) {
+            // same ssl work around as the http client, the controller uses a self signed certificate
+            client = new WebSocketClient(new SslContextFactory(true));
+            try {
+                client.start();
+            } catch (Exception e) {
+                throw new UniFiException(e);
+            }
+            webSocketClient = client;
+        }
+        return client;
+    }
+
+    private synchronized void stopWebSocketClient() {
+        WebSocketClient client = webSocketClient;
+        webSocketClient = null;
+        if (client != null) {
+            try {
+                client.stop();
+            } catch (Exception e) {
+                // nop as we're stopping
+            }
+        }
+    }
+
     private <T> UniFiControllerRequest<T> newRequest(Class<T> responseType) {
         return new UniFiControllerRequest<T>(responseType, gson, httpClient, host, port);
     }
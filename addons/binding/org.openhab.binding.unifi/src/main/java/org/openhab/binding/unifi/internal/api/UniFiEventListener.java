@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.unifi.internal.api;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.unifi.internal.api.model.UniFiClient;
+import org.openhab.binding.unifi.internal.api.model.UniFiSite;
+
+/**
+ * The {@link UniFiEventListener} is notified about the client changes pushed by a {@link UniFiEventStream}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface UniFiEventListener {
+
+    /**
+     * Called when the controller pushes the complete data of a connected client.
+     */
+    void onClientUpdated(UniFiSite site, UniFiClient client);
+
+    /**
+     * Called when a client connected to or roamed within the network of the site.
+     */
+    void onClientConnected(UniFiSite site, String mac);
+
+    /**
+     * Called when a client disconnected from the network of the site.
+     */
+    void onClientDisconnected(UniFiSite site, String mac);
+
+    /**
+     * Called when the event stream of the site was closed.
+     */
+    void onEventStreamClosed(UniFiSite site);
+
+}
@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.unifi.internal.api;
+
+import java.io.IOException;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketError;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketMessage;
+import org.eclipse.jetty.websocket.api.annotations.WebSocket;
+import org.eclipse.jetty.websocket.client.ClientUpgradeRequest;
+import org.eclipse.jetty.websocket.client.WebSocketClient;
+import org.openhab.binding.unifi.internal.api.model.UniFiClient;
+import org.openhab.binding.unifi.internal.api.model.UniFiSite;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * The {@link UniFiEventStream} subscribes to the event websocket of a UniFi site and translates the pushed client
+ * connect, roam, disconnect and sync messages into calls of a {@link UniFiEventListener}.
+ *
+ * @author agent - Initial contribution
+ */
+@WebSocket
+@NonNullByDefault
+public class UniFiEventStream {
+
+    private static final long CONNECT_TIMEOUT_SECONDS = 10;
+
+    private static final String PROPERTY_META = "meta";
+
+    private static final String PROPERTY_MESSAGE = "message";
+
+    private static final String PROPERTY_DATA = "data";
+
+    private static final String PROPERTY_KEY = "key";
+
+    private static final String PROPERTY_USER = "user";
+
+    private static final String PROPERTY_GUEST = "guest";
+
+    private static final String MESSAGE_EVENTS = "events";
+
+    private static final String MESSAGE_CLIENT_SYNC = "sta:sync";
+
+    private final Logger logger = LoggerFactory.getLogger(UniFiEventStream.class);
+
+    private final UniFiSite site;
+
+    private final Gson gson;
+
+    private final UniFiEventListener listener;
+
+    private final JsonParser parser = new JsonParser();
+
+    private @Nullable volatile Session session;
+
+    public UniFiEventStream(UniFiSite site, Gson gson, UniFiEventListener listener) {
+        this.site = site;
+        this.gson = gson;
+        this.listener = listener;
+    }
+
+    public UniFiSite getSite() {
+        return site;
+    }
+
+    public void connect(WebSocketClient client, URI uri, List<HttpCookie> cookies) throws UniFiException {
+        ClientUpgradeRequest request = new ClientUpgradeRequest();
+        request.setCookies(cookies);
+        logger.debug("Connecting to the event stream of {} at {}", site, uri);
+        try {
+            session = client.connect(this, uri, request).get(CONNECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (IOException | ExecutionException | TimeoutException e) {
+            throw new UniFiCommunicationException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UniFiCommunicationException(e);
+        }
+    }
+
+    public boolean isOpen() {
+        Session session = this.session;
+        return session != null && session.isOpen();
+    }
+
+    public void close() {
+        Session session = this.session;
+        this.session = null;
+        if (session != null) {
+            session.close();
+        }
+    }
+
+    @OnWebSocketClose
+    public void onClose(int statusCode, String reason) {
+        logger.debug("Event stream of {} closed (code: {}): {}", site, statusCode, reason);
+        if (session != null) {
+            session = null;
+            listener.onEventStreamClosed(site);
+        }
+    }
+
+    @OnWebSocketError
+    public void onError(Throwable cause) {
+        logger.debug("Event stream of {} failed: {}", site, cause.getMessage());
+    }
+
+    @OnWebSocketMessage
+    public void onMessage(String message) {
+        logger.trace("Event stream of {} received: {}", site, message);
+        try {
+            handleMessage(message);
+        } catch (JsonParseException | IllegalStateException | ClassCastException e) {
+            logger.debug("Ignoring malformed message from the event stream of {}: {}", site, e.getMessage());
+        }
+    }
+
+    void handleMessage(String message) {
+        JsonObject jsonObject = parser.parse(message).getAsJsonObject();
+        JsonElement meta = jsonObject.get(PROPERTY_META);
+        JsonElement data = jsonObject.get(PROPERTY_DATA);
+        if (meta == null || !meta.isJsonObject() || data == null || !data.isJsonArray()) {
+            return;
+        }
+        String type = getString(meta.getAsJsonObject(), PROPERTY_MESSAGE);
+        if (MESSAGE_CLIENT_SYNC.equals(type)) {
+            for (JsonElement element : data.getAsJsonArray()) {
+                UniFiClient client = gson.fromJson(element, UniFiClient.class);
+                if (client != null && client.getMac() != null) {
+                    listener.onClientUpdated(site, client);
+                }
+            }
+        } else if (MESSAGE_EVENTS.equals(type)) {
+            for (JsonElement element : data.getAsJsonArray()) {
+                handleEvent(element.getAsJsonObject());
+            }
+        }
+    }
+
+    private void handleEvent(JsonObject event) {
+        String key = getString(event, PROPERTY_KEY);
+        String mac = getString(event, PROPERTY_USER);
+        if (mac == null) {
+            mac = getString(event, PROPERTY_GUEST);
+        }
+        if (key == null || mac == null) {
+            return;
+        }
+        mac = mac.trim().toLowerCase();
+        switch (key) {
+            case "EVT_WU_Connected":
+            case "EVT_WG_Connected":
+            case "EVT_LU_Connected":
+            case "EVT_LG_Connected":
+            case "EVT_WU_Roam":
+            case "EVT_WG_Roam":
+            case "EVT_WU_RoamRadio":
+            case "EVT_WG_RoamRadio":
+                listener.onClientConnected(site, mac);
+                break;
+            case "EVT_WU_Disconnected":
+            case "EVT_WG_Disconnected":
+            case "EVT_LU_Disconnected":
+            case "EVT_LG_Disconnected":
+                listener.onClientDisconnected(site, mac);
+                break;
+            default:
+                logger.trace("Ignoring event {} for client {}", key, mac);
+                break;
+        }
+    }
+
+    private static @Nullable String getString(JsonObject jsonObject, String property) {
+        JsonElement element = jsonObject.get(property);
+        return element != null && element.isJsonPrimitive() ? element.getAsString() : null;
+    }
+
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.unifi.internal.api.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang.StringUtils;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.unifi.internal.api.model.UniFiClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link UniFiClientCache} indexes {@link UniFiClient} instances by their MAC address, IP address, hostname and
+ * alias, so that a client can be looked up by any of them and single clients can be added or removed incrementally.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class UniFiClientCache {
+
+    private static final String PREFIX_MAC = "mac";
+
+    private static final String PREFIX_IP = "ip";
+
+    private static final String PREFIX_HOSTNAME = "hostname";
+
+    private static final String PREFIX_ALIAS = "alias";
+
+    private static final List<String> PREFIXES = Arrays.asList(PREFIX_MAC, PREFIX_IP, PREFIX_HOSTNAME, PREFIX_ALIAS);
+
+    private static final String SEPARATOR = ":";
+
+    private final Logger logger = LoggerFactory.getLogger(UniFiClientCache.class);
+
+    private final Map<String, UniFiClient> index = new HashMap<>();
+
+    public synchronized void put(UniFiClient client) {
+        // drop the keys of a previous instance first, the ip or hostname may have changed
+        remove(client.getMac());
+        for (String prefix : PREFIXES) {
+            String suffix = getSuffix(prefix, client);
+            if (StringUtils.isNotBlank(suffix)) {
+                index.put(prefix + SEPARATOR + suffix, client);
+            }
+        }
+    }
+
+    public synchronized @Nullable UniFiClient get(String cid) {
+        for (String prefix : PREFIXES) {
+            String key = prefix + SEPARATOR + cid;
+            UniFiClient client = index.get(key);
+            if (client != null) {
+                logger.debug("Found client '{}' = {}", key, client);
+                return client;
+            }
+        }
+        return null;
+    }
+
+    public synchronized @Nullable UniFiClient remove(@Nullable String mac) {
+        if (StringUtils.isBlank(mac)) {
+            return null;
+        }
+        UniFiClient client = index.remove(PREFIX_MAC + SEPARATOR + mac);
+        if (client != null) {
+            for (String prefix : PREFIXES) {
+                String suffix = getSuffix(prefix, client);
+                if (StringUtils.isNotBlank(suffix)) {
+                    // only remove the keys still pointing to this client
+                    index.remove(prefix + SEPARATOR + suffix, client);
+                }
+            }
+        }
+        return client;
+    }
+
+    public synchronized Collection<UniFiClient> values() {
+        List<UniFiClient> clients = new ArrayList<>();
+        for (Map.Entry<String, UniFiClient> entry : index.entrySet()) {
+            if (entry.getKey().startsWith(PREFIX_MAC + SEPARATOR)) {
+                clients.add(entry.getValue());
+            }
+        }
+        return clients;
+    }
+
+    /**
+     * Marks all cached clients as seen at the given time.
+     */
+    public synchronized void touch(Calendar lastSeen) {
+        for (UniFiClient client : values()) {
+            client.setLastSeen((Calendar) lastSeen.clone());
+        }
+    }
+
+    public synchronized int size() {
+        return values().size();
+    }
+
+    private static @Nullable String getSuffix(String prefix, UniFiClient client) {
+        switch (prefix) {
+            case PREFIX_MAC:
+                return client.getMac();
+            case PREFIX_IP:
+                return client.getIp();
+            case PREFIX_HOSTNAME:
+                return client.getHostname();
+            case PREFIX_ALIAS:
+                return client.getAlias();
+            default:
+                return null;
+        }
+    }
+
+}
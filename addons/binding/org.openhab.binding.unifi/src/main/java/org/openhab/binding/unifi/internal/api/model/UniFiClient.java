@@ -80,6 +80,10 @@ public abstract class UniFiClient {
         return lastSeen;
     }
 
+    public void setLastSeen(Calendar lastSeen) {
+        this.lastSeen = lastSeen;
+    }
+
     public UniFiDevice getDevice() {
         return device;
     }
@@ -130,6 +130,19 @@ public class UniFiClientThingHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Returns true if this thing's client ID refers to the given client.
+     */
+    boolean matches(UniFiClient client) {
+        UniFiClientThingConfig config = this.config;
+        if (config == null) {
+            return false;
+        }
+        String cid = config.getClientID();
+        return StringUtils.equals(cid, client.getMac()) || StringUtils.equals(cid, client.getIp())
+                || StringUtils.equals(cid, client.getHostname()) || StringUtils.equals(cid, client.getAlias());
+    }
+
     private @Nullable UniFiClient getClient() {
         UniFiClient client = null;
 
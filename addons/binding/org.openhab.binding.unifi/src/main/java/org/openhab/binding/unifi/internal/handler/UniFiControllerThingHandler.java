@@ -12,13 +12,13 @@ import static org.eclipse.smarthome.core.thing.ThingStatus.OFFLINE;
 import static org.eclipse.smarthome.core.thing.ThingStatus.ONLINE;
 import static org.eclipse.smarthome.core.thing.ThingStatusDetail.*;
 
-import java.util.Arrays;
+import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -42,10 +42,13 @@ import org.openhab.binding.unifi.internal.UniFiBindingConstants;
 import org.openhab.binding.unifi.internal.UniFiControllerThingConfig;
 import org.openhab.binding.unifi.internal.api.UniFiCommunicationException;
 import org.openhab.binding.unifi.internal.api.UniFiController;
+import org.openhab.binding.unifi.internal.api.UniFiEventListener;
+import org.openhab.binding.unifi.internal.api.UniFiEventStream;
 import org.openhab.binding.unifi.internal.api.UniFiException;
 import org.openhab.binding.unifi.internal.api.UniFiInvalidCredentialsException;
 import org.openhab.binding.unifi.internal.api.UniFiInvalidHostException;
 import org.openhab.binding.unifi.internal.api.UniFiSSLException;
+import org.openhab.binding.unifi.internal.api.cache.UniFiClientCache;
 import org.openhab.binding.unifi.internal.api.model.UniFiClient;
 import org.openhab.binding.unifi.internal.api.model.UniFiDevice;
 import org.openhab.binding.unifi.internal.api.model.UniFiSite;
@@ -60,7 +63,7 @@ import org.slf4j.LoggerFactory;
  * @author Matthew Bowman - Initial contribution
  */
 @NonNullByDefault
-public class UniFiControllerThingHandler extends BaseBridgeHandler {
+public class UniFiControllerThingHandler extends BaseBridgeHandler implements UniFiEventListener {
 
     public static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Stream
             .of(UniFiBindingConstants.THING_TYPE_CONTROLLER).collect(Collectors.toSet());
@@ -73,19 +76,6 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
 
     private static final String STATUS_DESCRIPTION_INVALID_HOSTNAME = "Invalid hostname - please double-check your configuration";
 
-    private static final String CACHE_KEY_PREFIX_MAC = "mac";
-
-    private static final String CACHE_KEY_PREFIX_IP = "ip";
-
-    private static final String CACHE_KEY_PREFIX_HOSTNAME = "hostname";
-
-    private static final String CACHE_KEY_PREFIX_ALIAS = "alias";
-
-    private static final List<String> CACHE_KEY_PREFIXES = Arrays.asList(CACHE_KEY_PREFIX_MAC, CACHE_KEY_PREFIX_IP,
-            CACHE_KEY_PREFIX_HOSTNAME, CACHE_KEY_PREFIX_ALIAS);
-
-    private static final String CACHE_KEY_SEPARATOR = ":";
-
     private final Logger logger = LoggerFactory.getLogger(UniFiControllerThingHandler.class);
 
     private @Nullable UniFiControllerThingConfig config;
@@ -98,9 +88,13 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
 
     private Map<String, UniFiDevice> devicesCache = Collections.emptyMap();
 
-    private Map<String, UniFiClient> clientsCache = Collections.emptyMap();
+    private UniFiClientCache clientsCache = new UniFiClientCache();
+
+    private UniFiClientCache insightsCache = new UniFiClientCache();
 
-    private Map<String, UniFiClient> insightsCache = Collections.emptyMap();
+    private final Map<String, UniFiEventStream> eventStreams = new ConcurrentHashMap<>();
+
+    private volatile long lastFullRefresh;
 
     private final HttpClient httpClient;
 
@@ -115,6 +109,8 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
     public void initialize() {
         // mgb: called when the config changes
         cancelRefreshJob();
+        closeEventStreams();
+        lastFullRefresh = 0;
         config = getConfig().as(UniFiControllerThingConfig.class);
         logger.debug("Initializing the UniFi Controller Handler with config = {}", config);
         try {
@@ -154,6 +150,7 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
     @Override
     public void dispose() {
         cancelRefreshJob();
+        closeEventStreams();
         if (controller != null) {
             try {
                 controller.stop();
@@ -174,55 +171,14 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
         return config.getRefresh();
     }
 
-    private void cachePut(Map<String, UniFiClient> cache, UniFiClient client) {
-        synchronized (cache) {
-            for (String prefix : CACHE_KEY_PREFIXES) {
-                String suffix = null;
-                switch (prefix) {
-                    case CACHE_KEY_PREFIX_MAC:
-                        suffix = client.getMac();
-                        break;
-                    case CACHE_KEY_PREFIX_IP:
-                        suffix = client.getIp();
-                        break;
-                    case CACHE_KEY_PREFIX_HOSTNAME:
-                        suffix = client.getHostname();
-                        break;
-                    case CACHE_KEY_PREFIX_ALIAS:
-                        suffix = client.getAlias();
-                        break;
-                }
-                if (StringUtils.isNotBlank(suffix)) {
-                    String key = prefix + CACHE_KEY_SEPARATOR + suffix;
-                    cache.put(key, client);
-                }
-            }
-        }
-    }
-
-    private @Nullable UniFiClient cacheGet(Map<String, UniFiClient> cache, String cid) {
-        UniFiClient client = null;
-        synchronized (cache) {
-            for (String prefix : CACHE_KEY_PREFIXES) {
-                String key = prefix + CACHE_KEY_SEPARATOR + cid;
-                if (cache.containsKey(key)) {
-                    client = cache.get(key);
-                    logger.debug("Found client '{}' = {}", key, client);
-                    break;
-                }
-            }
-        }
-        return client;
-    }
-
     public @Nullable UniFiClient getClient(String cid, String site) {
         // mgb: first check active clients and fallback to insights if not found
         UniFiClient client = null;
 
         // mgb: first check active clients and fallback to insights if not found
-        client = cacheGet(clientsCache, cid);
+        client = clientsCache.get(cid);
         if (client == null) {
-            client = cacheGet(insightsCache, cid);
+            client = insightsCache.get(cid);
         }
 
         // mgb: short circuit
@@ -234,6 +190,54 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
         return (client instanceof UniFiWirelessClient ? (UniFiWirelessClient) client : null);
     }
 
+    // Event Stream API
+
+    @Override
+    public void onClientUpdated(UniFiSite site, UniFiClient client) {
+        client.setDevice(devicesCache.get(client.getDeviceMac()));
+        if (client.getLastSeen() == null) {
+            client.setLastSeen(Calendar.getInstance());
+        }
+        clientsCache.put(client);
+        refreshClientThings(client);
+    }
+
+    @Override
+    public void onClientConnected(UniFiSite site, String mac) {
+        // the event only carries the mac, fetch the single client off the websocket thread
+        scheduler.execute(() -> {
+            UniFiController controller = this.controller;
+            if (controller == null) {
+                return;
+            }
+            try {
+                UniFiClient client = controller.getClient(site, mac);
+                if (client != null) {
+                    onClientUpdated(site, client);
+                }
+            } catch (UniFiException e) {
+                logger.debug("Failed to fetch connected client {} of {}: {}", mac, site, e.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public void onClientDisconnected(UniFiSite site, String mac) {
+        UniFiClient client = clientsCache.remove(mac);
+        if (client != null) {
+            // the client was seen until now, keep it as insight so 'considerHome' applies
+            client.setLastSeen(Calendar.getInstance());
+            insightsCache.put(client);
+            refreshClientThings(client);
+        }
+    }
+
+    @Override
+    public void onEventStreamClosed(UniFiSite site) {
+        logger.debug("The event stream of {} was closed, falling back to a full refresh", site);
+        eventStreams.remove(site.getId());
+    }
+
     // Private API
 
     private void scheduleRefreshJob() {
@@ -273,13 +277,24 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
 
     private void refresh() throws UniFiException {
         if (controller != null) {
-            logger.debug("Refreshing the UniFi Controller {}", getThing().getUID());
-            // mgb: refresh the controller thing
-            synchronized (this) {
-                sitesCache = getSites();
-                devicesCache = getDevices();
-                clientsCache = getClients();
-                insightsCache = getInsights();
+            if (isFullRefreshRequired()) {
+                logger.debug("Refreshing the UniFi Controller {}", getThing().getUID());
+                // refresh the controller thing
+                synchronized (this) {
+                    sitesCache = getSites();
+                    devicesCache = getDevices();
+                    clientsCache = getClients();
+                    insightsCache = getInsights();
+                }
+                lastFullRefresh = System.currentTimeMillis();
+                if (config.isEventStream()) {
+                    openEventStreams();
+                }
+            } else {
+                // the event streams remove disconnected clients, so all remaining clients are still connected
+                logger.trace("Skipping the full refresh of {}, {} active client(s) tracked by events",
+                        getThing().getUID(), clientsCache.size());
+                clientsCache.touch(Calendar.getInstance());
             }
             // mgb: then refresh all the client things
             getThing().getThings().forEach((thing) -> {
@@ -290,6 +305,53 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
         }
     }
 
+    private boolean isFullRefreshRequired() {
+        if (!config.isEventStream() || eventStreams.isEmpty() || eventStreams.size() < sitesCache.size()) {
+            return true;
+        }
+        for (UniFiEventStream eventStream : eventStreams.values()) {
+            if (!eventStream.isOpen()) {
+                return true;
+            }
+        }
+        return System.currentTimeMillis() - lastFullRefresh >= TimeUnit.SECONDS.toMillis(config.getResync());
+    }
+
+    private void openEventStreams() {
+        UniFiController controller = this.controller;
+        if (controller == null) {
+            return;
+        }
+        for (UniFiSite site : sitesCache.values()) {
+            UniFiEventStream eventStream = eventStreams.get(site.getId());
+            if (eventStream == null || !eventStream.isOpen()) {
+                try {
+                    eventStreams.put(site.getId(), controller.openEventStream(site, this));
+                } catch (UniFiException e) {
+                    logger.debug("Failed to open the event stream of {}: {}", site, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void closeEventStreams() {
+        for (UniFiEventStream eventStream : eventStreams.values()) {
+            eventStream.close();
+        }
+        eventStreams.clear();
+    }
+
+    private void refreshClientThings(UniFiClient client) {
+        getThing().getThings().forEach((thing) -> {
+            if (thing.getHandler() instanceof UniFiClientThingHandler) {
+                UniFiClientThingHandler handler = (UniFiClientThingHandler) thing.getHandler();
+                if (handler.matches(client)) {
+                    handler.refresh();
+                }
+            }
+        });
+    }
+
     private Map<String, UniFiSite> getSites() throws UniFiException {
         Map<String, UniFiSite> siteMap = new HashMap<>();
         UniFiSite[] sites = controller.getSites();
@@ -321,45 +383,31 @@ public class UniFiControllerThingHandler extends BaseBridgeHandler {
         return deviceMap;
     }
 
-    private Map<String, UniFiClient> getClients() throws UniFiException {
-        Map<String, UniFiClient> clientMap = new HashMap<>();
+    private UniFiClientCache getClients() throws UniFiException {
+        UniFiClientCache cache = new UniFiClientCache();
         Collection<UniFiSite> sites = sitesCache.values();
         for (UniFiSite site : sites) {
-            Map<String, UniFiClient> siteClientMap = getClients(site);
-            clientMap.putAll(siteClientMap);
-        }
-        return clientMap;
-    }
-
-    private Map<String, UniFiClient> getClients(UniFiSite site) throws UniFiException {
-        Map<String, UniFiClient> clientMap = new HashMap<>();
-        UniFiClient[] clients = controller.getClients(site);
-        logger.debug("Found {} UniFi Client(s): {}", clients.length, lazyFormatAsList(clients));
-        for (UniFiClient client : clients) {
-            client.setDevice(devicesCache.get(client.getDeviceMac()));
-            cachePut(clientMap, client);
+            UniFiClient[] clients = controller.getClients(site);
+            logger.debug("Found {} UniFi Client(s): {}", clients.length, lazyFormatAsList(clients));
+            for (UniFiClient client : clients) {
+                client.setDevice(devicesCache.get(client.getDeviceMac()));
+                cache.put(client);
+            }
         }
-        return clientMap;
+        return cache;
     }
 
-    private Map<String, UniFiClient> getInsights() throws UniFiException {
-        Map<String, UniFiClient> insightsMap = new HashMap<>();
+    private UniFiClientCache getInsights() throws UniFiException {
+        UniFiClientCache cache = new UniFiClientCache();
         Collection<UniFiSite> sites = sitesCache.values();
         for (UniFiSite site : sites) {
-            Map<String, UniFiClient> siteInsightsMap = getInsights(site);
-            insightsMap.putAll(siteInsightsMap);
-        }
-        return insightsMap;
-    }
-
-    private Map<String, UniFiClient> getInsights(UniFiSite site) throws UniFiException {
-        Map<String, UniFiClient> insightsMap = new HashMap<>();
-        UniFiClient[] clients = controller.getInsights(site);
-        logger.debug("Found {} UniFi Insights(s): {}", clients.length, lazyFormatAsList(clients));
-        for (UniFiClient client : clients) {
-            cachePut(insightsMap, client);
+            UniFiClient[] clients = controller.getInsights(site);
+            logger.debug("Found {} UniFi Insights(s): {}", clients.length, lazyFormatAsList(clients));
+            for (UniFiClient client : clients) {
+                cache.put(client);
+            }
         }
-        return insightsMap;
+        return cache;
     }
 
     private boolean belongsToSite(UniFiClient client, String siteName) {
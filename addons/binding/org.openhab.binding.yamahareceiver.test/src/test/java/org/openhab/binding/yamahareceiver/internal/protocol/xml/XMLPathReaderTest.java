@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.yamahareceiver.internal.protocol.xml;
+
+import org.junit.Test;
+import org.openhab.binding.yamahareceiver.internal.ResponseLoader;
+import org.openhab.binding.yamahareceiver.internal.protocol.ReceivedMessageParseException;
+import org.w3c.dom.Document;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.openhab.binding.yamahareceiver.internal.TestModels.*;
+
+/**
+ * Unit test for {@link XMLPathReader}.
+ *
+ * @author agent - Initial contribution
+ */
+public class XMLPathReaderTest {
+
+    private final ResponseLoader responseLoader = new ResponseLoader();
+
+    private void assertSameAsDocument(String model, String file, String basePath, String... paths) throws Exception {
+        String response = responseLoader.load(file, model);
+        Document doc = XMLUtils.xml(response);
+
+        Map<String, String> values = new XMLPathReader(basePath, paths).read(response);
+
+        for (String path : paths) {
+            String expected = XMLUtils.getNodeContentOrDefault(XMLUtils.getNode(doc.getFirstChild(), basePath), path,
+                    (String) null);
+            assertEquals(path, expected, values.get(path));
+        }
+    }
+
+    @Test
+    public void given_RX_S601D_when_readBasicStatus_then_sameAsDocument() throws Exception {
+        assertSameAsDocument(RX_S601D, "Main_Zone_Basic_Status.xml", "Main_Zone/Basic_Status", "Power_Control/Power",
+                "Volume/Mute", "Volume/Lvl/Val", "Input/Input_Sel", "Input/Input_Sel_Item_Info/Title",
+                "Surround/Program_Sel/Current/Straight", "Surround/Program_Sel/Current/Sound_Program",
+                "Sound_Video/Dialogue_Adjust/Dialogue_Lvl", "Surr/Pgm_Sel/Pgm");
+    }
+
+    @Test
+    public void given_RX_V3900_when_readBasicStatus_then_sameAsDocument() throws Exception {
+        assertSameAsDocument(RX_V3900, "Main_Zone_Basic_Status.xml", "Main_Zone/Basic_Status", "Power_Control/Power",
+                "Vol/Mute", "Vol/Lvl/Val", "Input/Input_Sel", "Surr/Pgm_Sel/Straight", "Surr/Pgm_Sel/Pgm",
+                "Lvl/Val", "Vol/Lvl", "Missing/Val");
+    }
+
+    @Test
+    public void given_RX_V3900_when_readTunerPlayInfo_then_sameAsDocument() throws Exception {
+        assertSameAsDocument(RX_V3900, "Tuner_Play_Info.xml", "Tuner", "Play_Info/Meta_Info/Radio_Text_A",
+                "Play_Info/RDS/Program_Service", "Play_Info/RDS/Radio_Text_A", "Play_Info/RDS/Program_Type",
+                "Play_Info/Album_ART/URL", "Play_Info/Tuning/Freq/Val");
+    }
+
+    @Test
+    public void given_missingPaths_when_read_then_notContained() throws Exception {
+        Map<String, String> values = new XMLPathReader("Main_Zone/Basic_Status", "Volume/Mute", "Volume/Lvl/Val")
+                .read("<YAMAHA_AV rsp=\"GET\" RC=\"0\"><Main_Zone><Basic_Status><Volume><Mute>On</Mute></Volume>"
+                        + "</Basic_Status></Main_Zone></YAMAHA_AV>");
+
+        assertEquals("On", values.get("Volume/Mute"));
+        assertFalse(values.containsKey("Volume/Lvl/Val"));
+    }
+
+    @Test(expected = ReceivedMessageParseException.class)
+    public void given_invalidResponse_when_read_then_fails() throws Exception {
+        new XMLPathReader("Main_Zone", "Basic_Status").read("<YAMAHA_AV rsp=\"GET\" RC=\"0\"><Main_Zone>");
+    }
+}
@@ -37,6 +37,8 @@ import java.util.Arrays;
 import java.util.Hashtable;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * The {@link YamahaZoneThingHandler} is managing one zone of an Yamaha AVR.
@@ -81,6 +83,11 @@ public class YamahaZoneThingHandler extends BaseThingHandler implements
     protected InputWithPresetControl inputWithPresetControl;
     protected InputWithTunerBandControl inputWithDabBandControl;
 
+    /// Refresh
+    private final AtomicBoolean refreshRunning = new AtomicBoolean();
+    private volatile long lastRefreshDuration;
+    private Map<String, String> availableInputs;
+
     public YamahaZoneThingHandler(Thing thing) {
         super(thing);
     }
@@ -158,6 +165,7 @@ public class YamahaZoneThingHandler extends BaseThingHandler implements
             channelsTypeProviderPreset = null;
             servicePreset = null;
         }
+        availableInputs = null;
     }
 
     protected YamahaBridgeHandler getBridgeHandler() {
@@ -204,29 +212,60 @@ public class YamahaZoneThingHandler extends BaseThingHandler implements
     }
 
     /**
-     * Request new zone and available input information
+     * Request new zone and available input information. All requests of a zone refresh are sent one after another
+     * by a single task and a refresh is skipped while the previous one of this zone is still running.
      */
     void updateZoneInformation() {
-        updateAsyncMakeOfflineIfFail(zoneAvailableInputs);
-        updateAsyncMakeOfflineIfFail(zoneControl);
-
-        if (inputWithPlayControl != null) {
-            updateAsyncMakeOfflineIfFail(inputWithPlayControl);
+        if (!refreshRunning.compareAndSet(false, true)) {
+            logger.debug("Zone {} refresh skipped, the previous refresh is still running", zoneConfig.getZone());
+            return;
         }
-
-        if (inputWithNavigationControl != null) {
-            updateAsyncMakeOfflineIfFail(inputWithNavigationControl);
+        try {
+            scheduler.submit(this::refreshZone);
+        } catch (RuntimeException e) {
+            refreshRunning.set(false);
+            throw e;
         }
+    }
 
-        if (inputWithPresetControl != null) {
-            updateAsyncMakeOfflineIfFail(inputWithPresetControl);
-        }
+    private void refreshZone() {
+        long start = System.nanoTime();
+        try {
+            // Controls of the input before the zone status update, a changed input replaces them
+            String inputID = zoneState.inputID;
+            IStateUpdatable[] inputControls = { inputWithPlayControl, inputWithNavigationControl,
+                    inputWithPresetControl, inputWithDabBandControl };
 
-        if (inputWithDabBandControl != null) {
-            updateAsyncMakeOfflineIfFail(inputWithDabBandControl);
+            if (!updateMakeOfflineIfFail(zoneAvailableInputs) || !updateMakeOfflineIfFail(zoneControl)) {
+                return;
+            }
+
+            if (!inputID.equals(zoneState.inputID)) {
+                // inputChanged() created and updated the controls of the new input already
+                logger.trace("Zone {} input changed, skipping refresh of the input controls", zoneConfig.getZone());
+                return;
+            }
+            for (IStateUpdatable inputControl : inputControls) {
+                if (!updateMakeOfflineIfFail(inputControl)) {
+                    return;
+                }
+            }
+        } finally {
+            lastRefreshDuration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            refreshRunning.set(false);
+            logger.debug("Zone {} refreshed in {} ms", zoneConfig.getZone(), lastRefreshDuration);
         }
     }
 
+    /**
+     * Returns the time the last refresh of the zone took.
+     *
+     * @return duration in milliseconds
+     */
+    public long getLastRefreshDuration() {
+        return lastRefreshDuration;
+    }
+
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
         if (zoneControl == null) {
@@ -682,17 +721,30 @@ public class YamahaZoneThingHandler extends BaseThingHandler implements
     }
 
     protected void updateAsyncMakeOfflineIfFail(IStateUpdatable stateUpdatable) {
-        scheduler.submit(() -> {
-            try {
-                stateUpdatable.update();
-            } catch (IOException e) {
-                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
-            } catch (ReceivedMessageParseException e) {
-                updateProperty(PROPERTY_LAST_PARSE_ERROR, e.getMessage());
-                // Some AVRs send unexpected responses. We log parser exceptions therefore.
-                logger.debug("Parse error!", e);
-            }
-        });
+        scheduler.submit(() -> updateMakeOfflineIfFail(stateUpdatable));
+    }
+
+    /**
+     * Updates the state, the thing is made offline if the AVR cannot be reached.
+     *
+     * @param stateUpdatable the control to update, may be null
+     * @return false if the AVR could not be reached
+     */
+    private boolean updateMakeOfflineIfFail(IStateUpdatable stateUpdatable) {
+        if (stateUpdatable == null) {
+            return true;
+        }
+        try {
+            stateUpdatable.update();
+        } catch (IOException e) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
+            return false;
+        } catch (ReceivedMessageParseException e) {
+            updateProperty(PROPERTY_LAST_PARSE_ERROR, e.getMessage());
+            // Some AVRs send unexpected responses. We log parser exceptions therefore.
+            logger.debug("Parse error!", e);
+        }
+        return true;
     }
 
     /**
@@ -701,6 +753,12 @@ public class YamahaZoneThingHandler extends BaseThingHandler implements
      */
     @Override
     public void availableInputsChanged(AvailableInputState msg) {
+        if (msg.availableInputs.equals(availableInputs)) {
+            // Nothing changed, avoid rebuilding the thing on every refresh
+            return;
+        }
+        availableInputs = msg.availableInputs;
+
         // Update channel type provider with a list of available inputs
         channelsTypeProviderAvailableInputs.changeAvailableInputs(msg.availableInputs);
 
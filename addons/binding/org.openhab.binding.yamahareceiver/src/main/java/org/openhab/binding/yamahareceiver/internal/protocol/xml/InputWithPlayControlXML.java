@@ -19,14 +19,16 @@ import org.openhab.binding.yamahareceiver.internal.state.PlayInfoStateListener;
 import org.openhab.binding.yamahareceiver.internal.state.PresetInfoState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Node;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.openhab.binding.yamahareceiver.internal.YamahaReceiverBindingConstants.Inputs.*;
 import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLConstants.Commands.PLAYBACK_STATUS_CMD;
-import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLProtocolService.getResponse;
-import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLUtils.*;
+import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLProtocolService.getValues;
+import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLPathReader.getAnyOrDefault;
 
 /**
  * This class implements the Yamaha Receiver protocol related to navigation functionally. USB, NET_RADIO, IPOD and
@@ -48,6 +50,17 @@ import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLUtils.
  */
 public class InputWithPlayControlXML extends AbstractInputControlXML implements InputWithPlayControl {
 
+    // elements for these are named differently per model and per input, so we try to match any known element
+    private static final String[] STATION_PATHS = { "Play_Info/Meta_Info/Radio_Text_A", "Play_Info/Meta_Info/Station",
+            "Play_Info/RDS/Program_Service" };
+    private static final String[] ARTIST_PATHS = { "Play_Info/Meta_Info/Artist", "Play_Info/Title/Artist",
+            "Play_Info/RDS/Radio_Text_A" };
+    private static final String[] ALBUM_PATHS = { "Play_Info/Meta_Info/Album", "Play_Info/Title/Album",
+            "Play_Info/RDS/Program_Type" };
+    private static final String[] SONG_PATHS = { "Play_Info/Meta_Info/Track", "Play_Info/Meta_Info/Song",
+            "Play_Info/Title/Song", "Play_Info/RDS/Radio_Text_B" };
+    private static final String SONG_IMAGE_URL_PATH = "Play_Info/Album_ART/URL";
+
     private final PlayInfoStateListener observer;
     private final YamahaBridgeConfig bridgeConfig;
 
@@ -225,20 +238,21 @@ public class InputWithPlayControlXML extends AbstractInputControlXML implements
         //</YAMAHA_AV>
 
         AbstractConnection con = comReference.get();
-        Node node = getResponse(con, wrInput(PLAYBACK_STATUS_CMD), inputElement);
+        String[] paths = Stream.of(new String[] { playCmd.getPath(), SONG_IMAGE_URL_PATH }, STATION_PATHS, ARTIST_PATHS,
+                ALBUM_PATHS, SONG_PATHS).flatMap(Arrays::stream).toArray(String[]::new);
+        Map<String, String> values = getValues(con, wrInput(PLAYBACK_STATUS_CMD), inputElement, paths);
 
         PlayInfoState msg = new PlayInfoState();
 
-        msg.playbackMode = getNodeContentOrDefault(node, playCmd.getPath(), msg.playbackMode);
+        msg.playbackMode = values.getOrDefault(playCmd.getPath(), msg.playbackMode);
 
-        // elements for these are named differently per model and per input, so we try to match any known element
-        msg.station = getAnyNodeContentOrDefault(node, msg.station, "Play_Info/Meta_Info/Radio_Text_A", "Play_Info/Meta_Info/Station", "Play_Info/RDS/Program_Service");
-        msg.artist = getAnyNodeContentOrDefault(node, msg.artist, "Play_Info/Meta_Info/Artist", "Play_Info/Title/Artist", "Play_Info/RDS/Radio_Text_A");
-        msg.album = getAnyNodeContentOrDefault(node, msg.album, "Play_Info/Meta_Info/Album", "Play_Info/Title/Album", "Play_Info/RDS/Program_Type");
-        msg.song = getAnyNodeContentOrDefault(node, msg.song, "Play_Info/Meta_Info/Track", "Play_Info/Meta_Info/Song", "Play_Info/Title/Song", "Play_Info/RDS/Radio_Text_B");
+        msg.station = getAnyOrDefault(values, msg.station, STATION_PATHS);
+        msg.artist = getAnyOrDefault(values, msg.artist, ARTIST_PATHS);
+        msg.album = getAnyOrDefault(values, msg.album, ALBUM_PATHS);
+        msg.song = getAnyOrDefault(values, msg.song, SONG_PATHS);
 
         // Spotify and NET RADIO input supports song cover image (at least on RX-S601D)
-        String songImageUrl = getNodeContentOrEmpty(node, "Play_Info/Album_ART/URL");
+        String songImageUrl = values.getOrDefault(SONG_IMAGE_URL_PATH, "");
         msg.songImageUrl = StringUtils.isNotEmpty(songImageUrl)
                 ? String.format("http://%s%s", con.getHost(), songImageUrl)
                 : bridgeConfig.getAlbumUrl();
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.yamahareceiver.internal.protocol.xml;
+
+import org.openhab.binding.yamahareceiver.internal.protocol.ReceivedMessageParseException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the inner text of a set of element paths from a response in a single streaming pass, without building a
+ * document. A path is resolved like {@link XMLUtils#getNode(org.w3c.dom.Node, String)} does it: every path element
+ * is the first descendant with that name of the element found for the previous path element. Reading stops as soon
+ * as all paths are resolved.
+ *
+ * @author agent - Initial contribution
+ */
+public class XMLPathReader {
+
+    private static final XMLInputFactory FACTORY = XMLInputFactory.newInstance();
+
+    static {
+        FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        FACTORY.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+
+    private final Map<String, String[]> pathNames = new LinkedHashMap<>();
+
+    private static class PathMatch {
+        final String path;
+        final String[] names;
+        /** Depths of the elements matched so far, the first entry is the (virtual) root match */
+        final int[] depths;
+        int matched;
+        StringBuilder text;
+        boolean done;
+
+        PathMatch(String path, String[] names) {
+            this.path = path;
+            this.names = names;
+            this.depths = new int[names.length + 1];
+            this.depths[0] = 1;
+        }
+    }
+
+    /**
+     * Creates a reader for the given paths.
+     *
+     * @param basePath path of the response element the paths are relative to, e.g. "Main_Zone/Basic_Status"
+     * @param paths element paths relative to the base path, e.g. "Power_Control/Power"
+     */
+    public XMLPathReader(String basePath, String... paths) {
+        for (String path : paths) {
+            String fullPath = basePath == null || basePath.isEmpty() ? path : basePath + "/" + path;
+            pathNames.put(path, fullPath.split("/"));
+        }
+    }
+
+    /**
+     * Reads the paths from the given message.
+     *
+     * @param message XML formatted message
+     * @return The inner text by path. Paths that do not exist in the message are missing in the map.
+     * @throws ReceivedMessageParseException if the message is not well formed or has no root element
+     */
+    public Map<String, String> read(String message) throws ReceivedMessageParseException {
+        Map<String, String> values = new HashMap<>();
+        List<PathMatch> matches = new ArrayList<>(pathNames.size());
+        pathNames.forEach((path, names) -> matches.add(new PathMatch(path, names)));
+
+        XMLStreamReader reader = null;
+        try {
+            reader = FACTORY.createXMLStreamReader(new StringReader(message));
+            int depth = 0;
+            int pending = matches.size();
+            while (pending > 0 && reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        depth++;
+                        if (depth > 1) {
+                            String name = reader.getLocalName();
+                            for (PathMatch match : matches) {
+                                if (!match.done && match.matched < match.names.length
+                                        && name.equals(match.names[match.matched])) {
+                                    match.matched++;
+                                    match.depths[match.matched] = depth;
+                                    if (match.matched == match.names.length) {
+                                        match.text = new StringBuilder();
+                                    }
+                                }
+                            }
+                        }
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                        for (PathMatch match : matches) {
+                            if (!match.done && match.text != null) {
+                                match.text.append(reader.getText());
+                            }
+                        }
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        for (PathMatch match : matches) {
+                            // the innermost match ends, either the path is complete or it cannot be found anymore
+                            if (!match.done && match.depths[match.matched] == depth) {
+                                match.done = true;
+                                pending--;
+                                if (match.text != null) {
+                                    values.put(match.path, match.text.toString());
+                                }
+                            }
+                        }
+                        depth--;
+                        break;
+                    default:
+                        break;
+                }
+            }
+            if (depth == 0 && pending > 0) {
+                throw new ReceivedMessageParseException("The response has no root element: " + message);
+            }
+        } catch (XMLStreamException e) {
+            throw new ReceivedMessageParseException(e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // nothing to release for a string reader
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns the value of the first path that exists.
+     *
+     * @param values values returned by {@link #read(String)}
+     * @param defaultValue value returned if none of the paths exists
+     * @param paths paths to check in order
+     * @return the value of the first existing path or the default value
+     */
+    public static String getAnyOrDefault(Map<String, String> values, String defaultValue, String... paths) {
+        for (String path : paths) {
+            String value = values.get(path);
+            if (value != null) {
+                return value;
+            }
+        }
+        return defaultValue;
+    }
+}
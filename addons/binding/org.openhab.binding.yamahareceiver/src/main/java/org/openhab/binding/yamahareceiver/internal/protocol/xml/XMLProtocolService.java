@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.stream.Collectors.joining;
 import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLConstants.Commands.ZONE_INPUT_PATH;
@@ -83,6 +84,39 @@ public class XMLProtocolService {
         return content;
     }
 
+    /**
+     * Sends a command to the specified zone and reads the inner text of the given element paths from the response
+     * with a single streaming pass, see {@link XMLPathReader}.
+     * @param con
+     * @param zone
+     * @param cmd
+     * @param path XML tree path of the response element (specific to the command sent)
+     * @param valuePaths XML tree paths to read, relative to the response element
+     * @return The inner text by path, paths missing in the response are not contained.
+     * @throws IOException
+     * @throws ReceivedMessageParseException
+     */
+    public static Map<String, String> getZoneValues(AbstractConnection con, Zone zone, String cmd, String path,
+            String... valuePaths) throws IOException, ReceivedMessageParseException {
+        return getValues(con, XMLUtils.wrZone(zone, cmd), zone + "/" + path, valuePaths);
+    }
+
+    /**
+     * Send the command and read the inner text of the given element paths from the response.
+     * @param con
+     * @param cmd
+     * @param path XML tree path of the response element (specific to the command sent)
+     * @param valuePaths XML tree paths to read, relative to the response element
+     * @return The inner text by path, paths missing in the response are not contained.
+     * @throws IOException
+     * @throws ReceivedMessageParseException
+     */
+    public static Map<String, String> getValues(AbstractConnection con, String cmd, String path, String... valuePaths)
+            throws IOException, ReceivedMessageParseException {
+        String response = con.sendReceive(cmd);
+        return new XMLPathReader(path, valuePaths).read(response);
+    }
+
     /**
      * Sends a request to retrieve the input values available for the zone.
      * @param con
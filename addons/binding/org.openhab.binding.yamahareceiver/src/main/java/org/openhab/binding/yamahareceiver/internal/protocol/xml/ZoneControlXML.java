@@ -24,6 +24,7 @@ import org.w3c.dom.Node;
 
 import java.io.IOException;
 import java.lang.ref.WeakReference;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLConstants.Commands.ZONE_BASIC_STATUS_CMD;
@@ -32,7 +33,7 @@ import static org.openhab.binding.yamahareceiver.internal.YamahaReceiverBindingC
 import static org.openhab.binding.yamahareceiver.internal.YamahaReceiverBindingConstants.CHANNEL_SCENE;
 import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLConstants.*;
 import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLProtocolService.getZoneResponse;
-import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLUtils.getNodeContentOrDefault;
+import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLProtocolService.getZoneValues;
 import static org.openhab.binding.yamahareceiver.internal.protocol.xml.XMLUtils.getNodeContentOrEmpty;
 
 /**
@@ -259,40 +260,42 @@ public class ZoneControlXML implements ZoneControl {
             return;
         }
 
-        Node statusNode = getZoneResponse(comReference.get(), zone, ZONE_BASIC_STATUS_CMD, ZONE_BASIC_STATUS_PATH);
+        Map<String, String> status = getZoneValues(comReference.get(), zone, ZONE_BASIC_STATUS_CMD,
+                ZONE_BASIC_STATUS_PATH, power.getPath(), mute.getPath(), volume.getPath(), inputSel.getPath(),
+                inputSelNamePath, surroundSelStraight.getPath(), surroundSelProgram.getPath(), dialogueLevel.getPath());
 
         String value;
 
         ZoneControlState state = new ZoneControlState();
 
-        value = getNodeContentOrEmpty(statusNode, power.getPath());
+        value = status.getOrDefault(power.getPath(), "");
         state.power = ON.equalsIgnoreCase(value);
 
-        value = getNodeContentOrEmpty(statusNode, mute.getPath());
+        value = status.getOrDefault(mute.getPath(), "");
         state.mute = ON.equalsIgnoreCase(value);
 
         // The value comes in dB x 10, on AVR it says -30.5dB, the values comes as -305
-        value = getNodeContentOrDefault(statusNode, volume.getPath(), String.valueOf(zoneConfig.getVolumeDbMin()));
+        value = status.getOrDefault(volume.getPath(), String.valueOf(zoneConfig.getVolumeDbMin()));
         state.volumeDB = Float.parseFloat(value) * .1f; // in dB
 
-        value = getNodeContentOrEmpty(statusNode, inputSel.getPath());
+        value = status.getOrDefault(inputSel.getPath(), "");
         state.inputID = inputConverterSupplier.get().fromStateName(value);
         if (StringUtils.isBlank(state.inputID)) {
             throw new ReceivedMessageParseException("Expected inputID. Failed to read Input/Input_Sel");
         }
 
         // Some receivers may use Src_Name instead?
-        value = getNodeContentOrEmpty(statusNode, inputSelNamePath);
+        value = status.getOrDefault(inputSelNamePath, "");
         state.inputName = value;
 
-        value = getNodeContentOrEmpty(statusNode, surroundSelStraight.getPath());
+        value = status.getOrDefault(surroundSelStraight.getPath(), "");
         boolean straightOn = ON.equalsIgnoreCase(value);
 
-        value = getNodeContentOrEmpty(statusNode, surroundSelProgram.getPath());
+        value = status.getOrDefault(surroundSelProgram.getPath(), "");
         // Surround is either in straight mode or sound program
         state.surroundProgram = straightOn ? SURROUND_PROGRAM_STRAIGHT : value;
 
-        value = getNodeContentOrDefault(statusNode, dialogueLevel.getPath(), "0");
+        value = status.getOrDefault(dialogueLevel.getPath(), "0");
         state.dialogueLevel = Integer.parseInt(value);
 
         logger.debug("Zone {} state - power: {}, mute: {}, volumeDB: {}, input: {}, surroundProgram: {}",
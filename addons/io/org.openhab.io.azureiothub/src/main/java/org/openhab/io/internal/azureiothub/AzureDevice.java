@@ -17,6 +17,7 @@ import org.slf4j.LoggerFactory;
 
 import com.microsoft.azure.sdk.iot.device.DeviceClient;
 import com.microsoft.azure.sdk.iot.device.IotHubClientProtocol;
+import com.microsoft.azure.sdk.iot.device.IotHubEventCallback;
 import com.microsoft.azure.sdk.iot.device.Message;
 import com.microsoft.azure.sdk.iot.service.Device;
 import com.microsoft.azure.sdk.iot.service.RegistryManager;
@@ -56,15 +57,30 @@ public class AzureDevice {
         return device;
     }
 
-    public void sendMessage(Message msg, AzureEventCallback callback, Object lockobj) {
+    /**
+     * Queues a message for sending without waiting for the acknowledgement. The connection opened on creation is
+     * reused, it is only reopened if it was closed in the meantime.
+     *
+     * @param msg the message to send
+     * @param callback called when the IoT Hub acknowledged the message
+     * @param context passed to the callback
+     * @return true if the message was queued
+     */
+    public boolean sendMessage(Message msg, IotHubEventCallback callback, Object context) {
+        try {
+            client.sendEventAsync(msg, callback, context);
+            return true;
+        } catch (IllegalStateException e) {
+            logger.debug("Connection to Azure IoT Hub device {} is closed, reopening it", device.getDeviceId());
+        }
         try {
-            // keep connection open,
-            // according to inline comments, calling open on an already open connection does nothing.
             client.open();
-        } catch (IOException e) {
-            logger.warn("Failed to connect to Azure IoT Hub device", e);
+            client.sendEventAsync(msg, callback, context);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            logger.warn("Failed to send message to Azure IoT Hub device {}: {}", device.getDeviceId(), e.getMessage());
+            return false;
         }
-        client.sendEventAsync(msg, callback, lockobj);
     }
 
     public void close() {
@@ -66,6 +66,14 @@ public class AzureDevices {
         return device;
     }
 
+    /**
+     * Closes the connections of all devices.
+     */
+    public void close() {
+        map.values().forEach(AzureDevice::close);
+        map.clear();
+    }
+
     private Device getAzureDevice(String deviceId) throws IllegalArgumentException, NoSuchAlgorithmException,
             IotHubException, JsonSyntaxException, IOException {
         Device device = Device.createFromId(deviceId, null, null);
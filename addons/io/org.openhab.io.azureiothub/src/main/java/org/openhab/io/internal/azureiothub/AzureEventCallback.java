@@ -8,6 +8,8 @@
  */
 package org.openhab.io.internal.azureiothub;
 
+import java.util.function.BiConsumer;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,7 +17,8 @@ import com.microsoft.azure.sdk.iot.device.IotHubEventCallback;
 import com.microsoft.azure.sdk.iot.device.IotHubStatusCode;
 
 /**
- * This triggered in case of cloud to device communication
+ * This triggered in case of cloud to device communication.
+ * Passes the acknowledgement of a sent message and its context on to a listener.
  *
  * @author Niko Tanghe - Initial contribution
  * @author Kai Kreuzer - code cleanup
@@ -24,14 +27,15 @@ import com.microsoft.azure.sdk.iot.device.IotHubStatusCode;
 public class AzureEventCallback implements IotHubEventCallback {
     private final Logger logger = LoggerFactory.getLogger(AzureEventCallback.class);
 
+    private final BiConsumer<IotHubStatusCode, Object> listener;
+
+    public AzureEventCallback(BiConsumer<IotHubStatusCode, Object> listener) {
+        this.listener = listener;
+    }
+
     @Override
     public void execute(IotHubStatusCode status, Object context) {
-        logger.debug("IoT Hub responded to message with status {}", status.name());
-
-        if (context != null) {
-            synchronized (context) {
-                context.notify();
-            }
-        }
+        logger.trace("IoT Hub responded to message with status {}", status.name());
+        listener.accept(status, context);
     }
 }
@@ -11,6 +11,15 @@ package org.openhab.io.internal.azureiothub;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.eclipse.smarthome.core.events.EventPublisher;
@@ -24,6 +33,7 @@ import com.google.gson.JsonObject;
 import com.microsoft.azure.eventhubs.EventData;
 import com.microsoft.azure.eventhubs.EventHubClient;
 import com.microsoft.azure.eventhubs.PartitionReceiver;
+import com.microsoft.azure.sdk.iot.device.IotHubStatusCode;
 import com.microsoft.azure.sdk.iot.device.Message;
 import com.microsoft.azure.sdk.iot.service.Device;
 import com.microsoft.azure.servicebus.ServiceBusException;
@@ -33,6 +43,10 @@ import com.microsoft.azure.servicebus.ServiceBusException;
  * This class provides communication between openHAB and Azure IoT Hub.
  * implementation is taken from https://docs.microsoft.com/en-us/azure/iot-hub/iot-hub-java-java-getstarted
  *
+ * Item states are put into a bounded queue and sent by a separate uplink thread, so the event dispatching is never
+ * blocked by the IoT Hub. The uplink thread sends all queued states grouped by device without waiting for the
+ * acknowledgements. If the queue is full, new states are dropped.
+ *
  * @author Niko Tanghe - Initial contribution
  * @author Kai Kreuzer - Code cleanup
  *
@@ -43,6 +57,9 @@ public class CloudClient {
     private static final String DATAPOINT_VALUE = "value";
     private static final String DATAPOINT_DEVICE_ID = "deviceId";
 
+    private static final int QUEUE_CAPACITY = 1000;
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final Logger logger = LoggerFactory.getLogger(CloudClient.class);
 
     private String connectionstring;
@@ -51,9 +68,33 @@ public class CloudClient {
 
     private AzureDevices azureDeviceStore;
     private EventHubClient azureClient;
-    private Object lockobj = new Object();
     private Gson gson = new Gson();
 
+    private final BlockingQueue<ItemUpdate> uplinkQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AzureEventCallback callback = new AzureEventCallback(this::messageAcknowledged);
+    private final Thread uplinkThread;
+
+    private final AtomicLong droppedMessages = new AtomicLong();
+    private final AtomicLong sentMessages = new AtomicLong();
+    private final AtomicLong respondedMessages = new AtomicLong();
+    private final AtomicLong acknowledgedMessages = new AtomicLong();
+    private final AtomicLong failedMessages = new AtomicLong();
+    private final AtomicLong totalAckLatency = new AtomicLong();
+    private final AtomicLong maxAckLatency = new AtomicLong();
+
+    /**
+     * An item state waiting to be sent
+     */
+    private static class ItemUpdate {
+        private final String deviceId;
+        private final String state;
+
+        ItemUpdate(String deviceId, String state) {
+            this.deviceId = deviceId;
+            this.state = state;
+        }
+    }
+
     /**
      * Constructor of CloudClient
      *
@@ -74,26 +115,77 @@ public class CloudClient {
         if (this.commandEnabled) {
             azureClient = receiveMessages("0");
         }
+
+        uplinkThread = new Thread(this::runUplink, "Azure IoT Hub uplink");
+        uplinkThread.setDaemon(true);
+        uplinkThread.start();
     }
 
+    /**
+     * Queues an item state for sending, returns immediately.
+     *
+     * @param deviceId the item name, which is used as device id
+     * @param state the item state
+     */
     public void sendItemUpdate(String deviceId, String state) {
-        AzureDevice device;
-        try {
-            device = azureDeviceStore.getDevice(deviceId);
-        } catch (Exception e) {
-            logger.error("Failed to obtain azure device", e);
-            return;
+        if (!uplinkQueue.offer(new ItemUpdate(deviceId, state))) {
+            long dropped = droppedMessages.incrementAndGet();
+            logger.warn("Azure IoT Hub uplink queue is full, dropped state of item {} ({} dropped in total)", deviceId,
+                    dropped);
         }
+    }
 
-        setItemState(device, state);
+    private void runUplink() {
+        logger.debug("Starting Azure IoT Hub uplink");
+        List<ItemUpdate> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(uplinkQueue.take());
+                uplinkQueue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                sendBatch(batch);
+            } catch (InterruptedException e) {
+                // That's our signal to stop
+                break;
+            } catch (RuntimeException e) {
+                logger.warn("Failed to send item states to Azure IoT Hub", e);
+            } finally {
+                batch.clear();
+            }
+        }
+        logger.debug("Finished Azure IoT Hub uplink");
     }
 
-    private void setItemState(AzureDevice azureDevice, String state) {
-        AzureEventCallback callback = new AzureEventCallback();
+    private void sendBatch(List<ItemUpdate> batch) {
+        Map<String, List<ItemUpdate>> updatesByDevice = new LinkedHashMap<>();
+        for (ItemUpdate update : batch) {
+            updatesByDevice.computeIfAbsent(update.deviceId, id -> new ArrayList<>()).add(update);
+        }
+
+        for (Entry<String, List<ItemUpdate>> entry : updatesByDevice.entrySet()) {
+            AzureDevice device;
+            try {
+                device = azureDeviceStore.getDevice(entry.getKey());
+            } catch (Exception e) {
+                logger.error("Failed to obtain azure device", e);
+                failedMessages.addAndGet(entry.getValue().size());
+                continue;
+            }
+            for (ItemUpdate update : entry.getValue()) {
+                setItemState(device, update.state);
+            }
+        }
 
+        logger.debug("Sent {} item states of {} devices (queue depth {}, awaiting ack {}, dropped {}, failed {}, "
+                + "average ack latency {} ms, max {} ms)", batch.size(), updatesByDevice.size(), getQueueDepth(),
+                getPendingAcknowledgements(), droppedMessages.get(), failedMessages.get(), getAverageAckLatency(),
+                maxAckLatency.get());
+    }
+
+    private void setItemState(AzureDevice azureDevice, String state) {
         Device device = azureDevice.getDevice();
         if (device == null) {
             logger.error("Invalid device connection for device, can not send item state update");
+            failedMessages.incrementAndGet();
             return;
         }
 
@@ -103,18 +195,72 @@ public class CloudClient {
 
         Message msg = new Message(gson.toJson(datapoint));
 
-        azureDevice.sendMessage(msg, callback, lockobj);
+        // the send time is the context of the acknowledgement
+        if (azureDevice.sendMessage(msg, callback, System.nanoTime())) {
+            sentMessages.incrementAndGet();
+        } else {
+            failedMessages.incrementAndGet();
+        }
+    }
 
-        synchronized (lockobj) {
-            try {
-                lockobj.wait();
-            } catch (InterruptedException e) {
-                // done
-            }
+    private void messageAcknowledged(IotHubStatusCode status, Object context) {
+        if (context instanceof Long) {
+            long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - (Long) context);
+            totalAckLatency.addAndGet(latency);
+            maxAckLatency.accumulateAndGet(latency, Math::max);
+        }
+        respondedMessages.incrementAndGet();
+        if (status == IotHubStatusCode.OK || status == IotHubStatusCode.OK_EMPTY) {
+            acknowledgedMessages.incrementAndGet();
+        } else {
+            failedMessages.incrementAndGet();
+            logger.debug("IoT Hub responded to message with status {}", status);
         }
     }
 
+    public int getQueueDepth() {
+        return uplinkQueue.size();
+    }
+
+    public long getDroppedMessages() {
+        return droppedMessages.get();
+    }
+
+    public long getSentMessages() {
+        return sentMessages.get();
+    }
+
+    public long getAcknowledgedMessages() {
+        return acknowledgedMessages.get();
+    }
+
+    public long getFailedMessages() {
+        return failedMessages.get();
+    }
+
+    public long getPendingAcknowledgements() {
+        return sentMessages.get() - respondedMessages.get();
+    }
+
+    public long getAverageAckLatency() {
+        long count = respondedMessages.get();
+        return count == 0 ? 0 : totalAckLatency.get() / count;
+    }
+
+    public long getMaxAckLatency() {
+        return maxAckLatency.get();
+    }
+
     public void shutdown() {
+        uplinkThread.interrupt();
+        try {
+            uplinkThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        uplinkQueue.clear();
+        azureDeviceStore.close();
+
         if (azureClient != null) {
             try {
                 azureClient.closeSync();
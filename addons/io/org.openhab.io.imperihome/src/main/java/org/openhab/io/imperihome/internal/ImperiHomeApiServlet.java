@@ -111,7 +111,7 @@ public class ImperiHomeApiServlet extends HttpServlet {
         actionRegistry = new ActionRegistry(eventPublisher, deviceRegistry);
         itemProcessor = new ItemProcessor(itemRegistry, deviceRegistry, actionRegistry, imperiHomeConfig);
         roomListHandler = new RoomListHandler(deviceRegistry);
-        devicesListHandler = new DevicesListHandler(deviceRegistry);
+        devicesListHandler = new DevicesListHandler(deviceRegistry, gson);
         deviceActionHandler = new DeviceActionHandler(deviceRegistry);
         deviceHistoryHandler = new DeviceHistoryHandler(deviceRegistry, persistenceServiceRegistry);
 
@@ -201,7 +201,12 @@ public class ImperiHomeApiServlet extends HttpServlet {
         if (URL_PATTERN_ROOMS.matcher(path).matches()) {
             response = roomListHandler.handle(req);
         } else if (URL_PATTERN_DEVICES.matcher(path).matches()) {
-            response = devicesListHandler.handle(req);
+            // the device list is serialized and cached by its handler
+            String devices = devicesListHandler.handle(req, resp);
+            if (devices != null) {
+                resp.getWriter().write(devices);
+            }
+            return;
         } else if (actionMatcher.matches()) {
             deviceActionHandler.handle(req, actionMatcher);
         } else if (historyMatcher.matches()) {
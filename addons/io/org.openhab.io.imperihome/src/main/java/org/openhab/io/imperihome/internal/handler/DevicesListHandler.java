@@ -9,42 +9,174 @@
 package org.openhab.io.imperihome.internal.handler;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.openhab.io.imperihome.internal.model.device.AbstractDevice;
-import org.openhab.io.imperihome.internal.model.device.DeviceList;
 import org.openhab.io.imperihome.internal.processor.DeviceRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.Gson;
+
 /**
  * Device list request handler.
+ * The JSON of every device is cached and only serialized again after its parameters changed. The complete list is
+ * cached as well and only assembled again after the device registry changed. The version of the list is sent as ETag,
+ * so clients sending it in an If-None-Match header get a 304 response if nothing changed.
  *
  * @author Pepijn de Geus - Initial contribution
  */
 public class DevicesListHandler {
 
+    private static final String HEADER_ETAG = "ETag";
+    private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+
     private final Logger logger = LoggerFactory.getLogger(DevicesListHandler.class);
 
     private final DeviceRegistry deviceRegistry;
+    private final Gson gson;
+
+    /**
+     * Distinguishes the ETags of different instances, as the registry version starts at 0 again after a restart
+     */
+    private final String instanceTag = Long.toHexString(System.currentTimeMillis());
+
+    private Map<String, DeviceJson> deviceJsonCache = new HashMap<>();
+    private long listVersion = -1;
+    private String listJson;
+    private String listETag;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong notModifiedResponses = new AtomicLong();
+    private final AtomicLong rebuiltLists = new AtomicLong();
+    private final AtomicLong serializedDevices = new AtomicLong();
+    private final AtomicLong totalRequestTime = new AtomicLong();
+    private final AtomicLong maxRequestTime = new AtomicLong();
 
-    public DevicesListHandler(DeviceRegistry deviceRegistry) {
+    /**
+     * Cached JSON of a device and the parameter version it was serialized at.
+     */
+    private static class DeviceJson {
+        private final AbstractDevice device;
+        private final long paramsVersion;
+        private final String json;
+
+        DeviceJson(AbstractDevice device, long paramsVersion, String json) {
+            this.device = device;
+            this.paramsVersion = paramsVersion;
+            this.json = json;
+        }
+
+        boolean isValidFor(AbstractDevice device) {
+            return this.device == device && paramsVersion == device.getParamsVersion();
+        }
+    }
+
+    public DevicesListHandler(DeviceRegistry deviceRegistry, Gson gson) {
         this.deviceRegistry = deviceRegistry;
+        this.gson = gson;
     }
 
-    public DeviceList handle(HttpServletRequest req) {
-        DeviceList response = new DeviceList();
+    /**
+     * Handles a device list request.
+     *
+     * @param req Request.
+     * @param resp Response, the ETag header is set on it.
+     * @return JSON of the device list, or null if the client has the current list and a 304 status was set.
+     */
+    public synchronized String handle(HttpServletRequest req, HttpServletResponse resp) {
+        long start = System.nanoTime();
+        long count = requests.incrementAndGet();
+
+        if (listVersion != deviceRegistry.getVersion()) {
+            rebuild();
+        }
+
+        String result = listJson;
+        resp.setHeader(HEADER_ETAG, listETag);
+        if (listETag.equals(req.getHeader(HEADER_IF_NONE_MATCH))) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            notModifiedResponses.incrementAndGet();
+            result = null;
+        }
+
+        long requestTime = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        totalRequestTime.addAndGet(requestTime);
+        maxRequestTime.accumulateAndGet(requestTime, Math::max);
+        logger.debug(
+                "Device list request {} handled in {} us ({} not modified, {} lists and {} devices serialized, "
+                        + "average {} us, max {} us)",
+                count, requestTime, notModifiedResponses.get(), rebuiltLists.get(), serializedDevices.get(),
+                totalRequestTime.get() / count, maxRequestTime.get());
+        return result;
+    }
 
+    private void rebuild() {
         Collection<AbstractDevice> devices = deviceRegistry.getDevices().values();
+
+        // Linked parameters depend on other devices, so they are only up to date after all devices were updated
         for (AbstractDevice device : devices) {
             device.updateParams();
         }
+        long version = deviceRegistry.getVersion();
+
+        Map<String, DeviceJson> newCache = new HashMap<>();
+        StringBuilder json = new StringBuilder("{\"devices\":[");
+        boolean first = true;
+        for (AbstractDevice device : devices) {
+            DeviceJson deviceJson = deviceJsonCache.get(device.getId());
+            if (deviceJson == null || !deviceJson.isValidFor(device)) {
+                long paramsVersion = device.getParamsVersion();
+                deviceJson = new DeviceJson(device, paramsVersion, gson.toJson(device));
+                serializedDevices.incrementAndGet();
+            }
+            newCache.put(device.getId(), deviceJson);
+
+            if (!first) {
+                json.append(',');
+            }
+            json.append(deviceJson.json);
+            first = false;
+        }
+        json.append("]}");
+
+        deviceJsonCache = newCache;
+        listJson = json.toString();
+        listVersion = version;
+        listETag = "\"" + instanceTag + "-" + version + "\"";
+        rebuiltLists.incrementAndGet();
+
+        logger.trace("Device list response: {}", listJson);
+    }
 
-        response.setDevices(devices);
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getNotModifiedResponses() {
+        return notModifiedResponses.get();
+    }
+
+    public long getRebuiltLists() {
+        return rebuiltLists.get();
+    }
+
+    public long getSerializedDevices() {
+        return serializedDevices.get();
+    }
 
-        logger.debug("Device list response: {}", response);
-        return response;
+    public long getAverageRequestTime() {
+        long count = requests.get();
+        return count == 0 ? 0 : totalRequestTime.get() / count;
     }
 
+    public long getMaxRequestTime() {
+        return maxRequestTime.get();
+    }
 }
@@ -53,6 +53,8 @@ public abstract class AbstractDevice implements StateChangeListener {
     private transient DeviceRegistry deviceRegistry;
     private transient ActionRegistry actionRegistry;
 
+    private transient volatile long paramsVersion;
+
     public AbstractDevice(DeviceType type, Item item) {
         this.type = type;
         this.item = item;
@@ -134,9 +136,32 @@ public abstract class AbstractDevice implements StateChangeListener {
         return params;
     }
 
-    public void addParam(DeviceParam param) {
+    /**
+     * Sets a parameter. If the parameter changed, the parameter version is incremented and the device registry is
+     * notified.
+     *
+     * @param param Parameter to set.
+     */
+    public synchronized void addParam(DeviceParam param) {
+        if (param.equals(params.get(param.getKey()))) {
+            return;
+        }
+
         logger.trace("Setting param for device {}: {}", this, param);
         params.set(param);
+        paramsVersion++;
+
+        DeviceRegistry registry = deviceRegistry;
+        if (registry != null) {
+            registry.paramsChanged(this);
+        }
+    }
+
+    /**
+     * @return Version of the parameters, incremented on every change.
+     */
+    public long getParamsVersion() {
+        return paramsVersion;
     }
 
     public Map<String, String> getLinks() {
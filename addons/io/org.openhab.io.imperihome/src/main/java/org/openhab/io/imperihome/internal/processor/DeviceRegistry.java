@@ -15,6 +15,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.openhab.io.imperihome.internal.model.Room;
 import org.openhab.io.imperihome.internal.model.device.AbstractDevice;
@@ -33,6 +34,8 @@ public class DeviceRegistry implements Iterable<AbstractDevice> {
     private final Map<String, AbstractDevice> devices;
     private Set<Room> rooms;
 
+    private final AtomicLong version = new AtomicLong();
+
     public DeviceRegistry() {
         devices = new ConcurrentHashMap<>();
     }
@@ -65,7 +68,9 @@ public class DeviceRegistry implements Iterable<AbstractDevice> {
             return;
         }
 
+        device.setDeviceRegistry(this);
         devices.put(device.getId(), device);
+        version.incrementAndGet();
         updateRooms();
 
         logger.debug("Device {} added, registry now contains {} total", device.getName(), devices.size());
@@ -74,12 +79,29 @@ public class DeviceRegistry implements Iterable<AbstractDevice> {
     public AbstractDevice remove(String deviceId) {
         AbstractDevice removed = devices.remove(deviceId);
         if (removed != null) {
+            version.incrementAndGet();
             updateRooms();
             logger.debug("Device {} removed, registry now contains {} total", removed.getName(), devices.size());
         }
         return removed;
     }
 
+    /**
+     * Called by a device when one of its parameters changed.
+     *
+     * @param device Changed device.
+     */
+    public void paramsChanged(AbstractDevice device) {
+        version.incrementAndGet();
+    }
+
+    /**
+     * @return Version of the registry, incremented whenever a device is added or removed or its parameters changed.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
     @Override
     public Iterator<AbstractDevice> iterator() {
         return devices.values().iterator();
@@ -90,6 +112,7 @@ public class DeviceRegistry implements Iterable<AbstractDevice> {
             device.destroy();
         }
         devices.clear();
+        version.incrementAndGet();
 
         if (rooms != null) {
             rooms.clear();
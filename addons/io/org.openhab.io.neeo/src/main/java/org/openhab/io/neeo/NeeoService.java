@@ -454,6 +454,7 @@ public class NeeoService implements EventSubscriber, NetworkAddressChangeListene
             }
             servlets.clear();
 
+            NeeoUtil.close(localContext.getSearchIndex());
             context = null;
         }
 
@@ -145,6 +145,7 @@ public class NeeoDeviceDefinitions {
 
         uidToDevice.put(device.getUid(), device);
         save();
+        context.getSearchIndex().update(device.getUid());
     }
 
     /**
@@ -159,6 +160,7 @@ public class NeeoDeviceDefinitions {
         final boolean found = uidToDevice.remove(uid) != null;
         if (found) {
             save();
+            context.getSearchIndex().update(uid);
         }
         return found;
     }
@@ -171,8 +173,7 @@ public class NeeoDeviceDefinitions {
     public List<NeeoDevice> getExposed() {
         final List<NeeoDevice> devices = new ArrayList<>();
         for (NeeoDevice device : exposeAll || exposeNeeoBinding ? getAllDevices() : uidToDevice.values()) {
-            if (device.getExposedChannels().length > 0 && !NeeoDeviceType.EXCLUDE.equals(device.getType())
-                    && StringUtils.isNotEmpty(device.getType().toString())) {
+            if (isExposed(device)) {
                 devices.add(device);
             }
         }
@@ -180,6 +181,41 @@ public class NeeoDeviceDefinitions {
         return devices;
     }
 
+    /**
+     * Returns the exposed {@link NeeoDevice} for the given {@link NeeoThingUID}. This is the single device version of
+     * {@link #getExposed()} and is used to incrementally update the search index.
+     *
+     * @param uid the non-null uid
+     * @return the exposed device or null if the device doesn't exist or isn't exposed
+     */
+    @Nullable
+    public NeeoDevice getExposedDevice(NeeoThingUID uid) {
+        Objects.requireNonNull(uid, "uid cannot be null");
+
+        NeeoDevice device = uidToDevice.get(uid);
+        if (exposeAll || exposeNeeoBinding) {
+            if (device == null) {
+                final Thing thing = context.getThingRegistry().get(uid.asThingUID());
+                device = thing == null ? null : converter.convert(thing);
+            } else if (!StringUtils.equalsIgnoreCase(NeeoConstants.NEEOIO_BINDING_ID, uid.getBindingId())) {
+                device = context.getThingRegistry().get(uid.asThingUID()) == null ? null : device.merge(context);
+            }
+        }
+
+        return device != null && isExposed(device) ? device : null;
+    }
+
+    /**
+     * Whether the device has exposed channels and the type isn't {@link NeeoDeviceType#EXCLUDE}
+     *
+     * @param device the non-null device
+     * @return true if exposed, false otherwise
+     */
+    private boolean isExposed(NeeoDevice device) {
+        return device.getExposedChannels().length > 0 && !NeeoDeviceType.EXCLUDE.equals(device.getType())
+                && StringUtils.isNotEmpty(device.getType().toString());
+    }
+
     /**
      *
      * Checks to see if the specified itemName is bound given the {@link NeeoDeviceKeys}. This method will find any
@@ -67,6 +67,9 @@ public class ServiceContext {
     /** The definitions. */
     private final NeeoDeviceDefinitions definitions;
 
+    /** The search index of the exposed definitions. */
+    private final TokenSearchIndex searchIndex;
+
     /** The network address service. */
     private final NetworkAddressService networkAddressService;
 
@@ -112,9 +115,19 @@ public class ServiceContext {
         this.mdnsClient = mdnsClient;
         this.eventPublisher = eventPublisher;
         this.networkAddressService = networkAddressService;
+        this.searchIndex = new TokenSearchIndex(this);
         this.definitions = new NeeoDeviceDefinitions(this);
     }
 
+    /**
+     * Gets the search index.
+     *
+     * @return the search index
+     */
+    public TokenSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
     /**
      * Gets the definitions.
      *
@@ -9,18 +9,15 @@
 package org.openhab.io.neeo.internal;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.PriorityQueue;
 
 import org.apache.commons.lang.StringUtils;
-import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
-import org.eclipse.smarthome.core.binding.BindingInfo;
-import org.eclipse.smarthome.core.thing.Thing;
-import org.eclipse.smarthome.core.thing.type.ThingType;
 import org.openhab.io.neeo.internal.models.NeeoDevice;
 import org.openhab.io.neeo.internal.models.TokenScore;
 import org.slf4j.Logger;
@@ -86,59 +83,28 @@ public class TokenSearch {
     public Result search(String query) {
         NeeoUtil.requireNotEmpty(query, "query cannot be empty");
 
-        final List<TokenScore<NeeoDevice>> results = new ArrayList<>();
+        final long start = System.nanoTime();
+        final TokenSearchIndex index = context.getSearchIndex();
 
         final String[] needles = StringUtils.split(query, DELIMITER);
-        int maxScore = -1;
-
-        for (NeeoDevice device : context.getDefinitions().getExposed()) {
-            int score = search(device.getName(), needles);
-            score += search("openhab", needles);
-            // score += searchAlgorithm(thing.getLocation(), needles);
-            score += search(device.getUid().getBindingId(), needles);
-
-            final Thing thing = context.getThingRegistry().get(device.getUid().asThingUID());
-            if (thing != null) {
-                final String location = thing.getLocation();
-                if (location != null && StringUtils.isNotEmpty(location)) {
-                    score += search(location, needles);
-                }
-
-                final Map<@NonNull String, String> properties = thing.getProperties();
-                final String vendor = properties.get(Thing.PROPERTY_VENDOR);
-                if (StringUtils.isNotEmpty(vendor)) {
-                    score += search(vendor, needles);
-                }
-
-                final ThingType tt = context.getThingTypeRegistry().getThingType(thing.getThingTypeUID());
-                if (tt != null) {
-                    score += search(tt.getLabel(), needles);
+        final Map<NeeoDevice, Integer> scores = new HashMap<>();
+        final int maxScore = index.score(needles, scores);
 
-                    final BindingInfo bi = context.getBindingInfoRegistry().getBindingInfo(tt.getBindingId());
-                    if (bi != null) {
-                        score += search(bi.getName(), needles);
-                    }
-                }
+        // Devices that didn't match any needle only pass a threshold of 1 (and only if something matched)
+        if (maxScore > 0 && threshold >= 1) {
+            for (NeeoDevice device : index.getDevices()) {
+                scores.putIfAbsent(device, 0);
             }
-
-            maxScore = Math.max(maxScore, score);
-
-            results.add(new TokenScore<>(score, device));
         }
 
-        return new Result(applyThreshold(results, maxScore, threshold), maxScore);
-    }
+        final List<TokenScore<NeeoDevice>> results = new ArrayList<>();
+        for (Map.Entry<NeeoDevice, Integer> entry : scores.entrySet()) {
+            results.add(new TokenScore<>(entry.getValue(), entry.getKey()));
+        }
 
-    /**
-     * Search the 'haystack' for the needles. The 'haystack' will be broken up by delimiter and each part will be
-     * compared to the needles array and the resulting score summation returned.
-     *
-     * @param haystack the search term
-     * @param needles the items to search
-     * @return the score of the match
-     */
-    private int search(String haystack, String[] needles) {
-        return Arrays.stream(StringUtils.split(haystack, DELIMITER)).mapToInt(hs -> searchAlgorithm(hs, needles)).sum();
+        final Result result = new Result(applyThreshold(results, maxScore, threshold), maxScore);
+        index.recordQuery(System.nanoTime() - start);
+        return result;
     }
 
     /**
@@ -148,7 +114,7 @@ public class TokenSearch {
      * @param needles the items to search
      * @return the score of the match
      */
-    private int searchAlgorithm(String haystack, String[] needles) {
+    static int searchAlgorithm(String haystack, String[] needles) {
         Objects.requireNonNull(needles, "needles cannot be null");
 
         int score = 0;
@@ -189,17 +155,26 @@ public class TokenSearch {
         Objects.requireNonNull(collection, "collection cannot be null");
 
         final double normalizedScore = 1d / maxScore;
-        final List<TokenScore<NeeoDevice>> results = new ArrayList<>();
+        if (searchLimit <= 0) {
+            return new ArrayList<>();
+        }
 
+        // Keep the best 'searchLimit' results in a heap whose head is the worst of them
+        final PriorityQueue<TokenScore<NeeoDevice>> best = new PriorityQueue<>(searchLimit,
+                Collections.reverseOrder());
         for (TokenScore<NeeoDevice> ts : collection) {
             double score = 1 - ts.getScore() * normalizedScore;
             if (score <= threshold) {
-                results.add(new TokenScore<>(score, ts.getItem()));
+                best.add(new TokenScore<>(score, ts.getItem()));
+                if (best.size() > searchLimit) {
+                    best.poll();
+                }
             }
         }
 
-        // Sort and then limit by search limit
-        return results.stream().sorted().limit(searchLimit).collect(Collectors.toList());
+        final List<TokenScore<NeeoDevice>> results = new ArrayList<>(best);
+        Collections.sort(results);
+        return results;
     }
 
     /**
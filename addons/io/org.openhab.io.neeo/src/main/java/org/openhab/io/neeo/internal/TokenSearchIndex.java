@@ -0,0 +1,391 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.neeo.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang.StringUtils;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.binding.BindingInfo;
+import org.eclipse.smarthome.core.common.registry.RegistryChangeListener;
+import org.eclipse.smarthome.core.thing.Thing;
+import org.eclipse.smarthome.core.thing.link.ItemChannelLink;
+import org.eclipse.smarthome.core.thing.type.ThingType;
+import org.openhab.io.neeo.internal.models.NeeoDevice;
+import org.openhab.io.neeo.internal.models.NeeoThingUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An inverted index of the search tokens of all exposed {@link NeeoDevice}. Every device is tokenized once (name,
+ * binding, location, vendor, thing type and binding labels) and the index is kept up to date as definitions, things
+ * and item links change. A query only has to score each distinct token once instead of every device.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TokenSearchIndex implements AutoCloseable {
+
+    /** The logger */
+    private final Logger logger = LoggerFactory.getLogger(TokenSearchIndex.class);
+
+    /** The delimiter used to split search terms */
+    private static final char DELIMITER = ' ';
+
+    /** The service context */
+    private final ServiceContext context;
+
+    /** The indexed devices by their uid */
+    private final Map<NeeoThingUID, Document> documents = new HashMap<>();
+
+    /** The posting lists - the number of occurrences of a token per device */
+    private final Map<String, Map<NeeoThingUID, Integer>> postings = new HashMap<>();
+
+    /** Whether the index has been built (it's built lazily on the first query) */
+    private boolean built;
+
+    /** The number of queries */
+    private final AtomicLong queries = new AtomicLong();
+
+    /** The total query time in nanoseconds */
+    private final AtomicLong totalQueryTime = new AtomicLong();
+
+    /** The last query time in nanoseconds */
+    private final AtomicLong lastQueryTime = new AtomicLong();
+
+    /** Listens for thing changes to update the index */
+    private final RegistryChangeListener<Thing> thingListener = new RegistryChangeListener<Thing>() {
+        @Override
+        public void added(Thing element) {
+            update(new NeeoThingUID(element.getUID()));
+        }
+
+        @Override
+        public void removed(Thing element) {
+            remove(new NeeoThingUID(element.getUID()));
+        }
+
+        @Override
+        public void updated(Thing oldElement, Thing element) {
+            update(new NeeoThingUID(element.getUID()));
+        }
+    };
+
+    /** Listens for item link changes (which change the exposed channels) to update the index */
+    private final RegistryChangeListener<ItemChannelLink> linkListener = new RegistryChangeListener<ItemChannelLink>() {
+        @Override
+        public void added(ItemChannelLink element) {
+            update(new NeeoThingUID(element.getLinkedUID().getThingUID()));
+        }
+
+        @Override
+        public void removed(ItemChannelLink element) {
+            update(new NeeoThingUID(element.getLinkedUID().getThingUID()));
+        }
+
+        @Override
+        public void updated(ItemChannelLink oldElement, ItemChannelLink element) {
+            update(new NeeoThingUID(oldElement.getLinkedUID().getThingUID()));
+            update(new NeeoThingUID(element.getLinkedUID().getThingUID()));
+        }
+    };
+
+    /**
+     * Creates the index and starts listening to the thing and item link registries
+     *
+     * @param context the non-null service context
+     */
+    TokenSearchIndex(ServiceContext context) {
+        Objects.requireNonNull(context, "context cannot be null");
+        this.context = context;
+
+        context.getThingRegistry().addRegistryChangeListener(thingListener);
+        context.getItemChannelLinkRegistry().addRegistryChangeListener(linkListener);
+    }
+
+    /**
+     * Re-indexes the device with the given uid (or removes it if it's no longer exposed)
+     *
+     * @param uid the non-null uid
+     */
+    public synchronized void update(NeeoThingUID uid) {
+        Objects.requireNonNull(uid, "uid cannot be null");
+        if (!built) {
+            return;
+        }
+
+        removeDocument(uid);
+        final NeeoDevice device = context.getDefinitions().getExposedDevice(uid);
+        if (device != null) {
+            addDocument(device);
+        }
+    }
+
+    /**
+     * Removes the device with the given uid from the index
+     *
+     * @param uid the non-null uid
+     */
+    public synchronized void remove(NeeoThingUID uid) {
+        Objects.requireNonNull(uid, "uid cannot be null");
+        removeDocument(uid);
+    }
+
+    /**
+     * Scores all indexed devices against the needles (lifted from tokensearch.js)
+     *
+     * @param needles the non-null needles
+     * @param scores the non-null map the scores of all devices matching at least one needle are put in
+     * @return the maximum score over all devices (negative if there are no devices)
+     */
+    synchronized int score(String[] needles, Map<NeeoDevice, Integer> scores) {
+        Objects.requireNonNull(needles, "needles cannot be null");
+        Objects.requireNonNull(scores, "scores cannot be null");
+        build();
+
+        final Map<NeeoThingUID, Integer> uidScores = new HashMap<>();
+        for (Map.Entry<String, Map<NeeoThingUID, Integer>> posting : postings.entrySet()) {
+            final int tokenScore = TokenSearch.searchAlgorithm(posting.getKey(), needles);
+            if (tokenScore > 0) {
+                for (Map.Entry<NeeoThingUID, Integer> entry : posting.getValue().entrySet()) {
+                    uidScores.merge(entry.getKey(), tokenScore * entry.getValue(), Integer::sum);
+                }
+            }
+        }
+
+        int maxScore = documents.isEmpty() ? -1 : 0;
+        for (Map.Entry<NeeoThingUID, Integer> entry : uidScores.entrySet()) {
+            final Document document = documents.get(entry.getKey());
+            if (document != null) {
+                scores.put(document.device, entry.getValue());
+                maxScore = Math.max(maxScore, entry.getValue());
+            }
+        }
+        return maxScore;
+    }
+
+    /**
+     * Returns all indexed devices
+     *
+     * @return a non-null, possibly empty list of devices
+     */
+    synchronized List<NeeoDevice> getDevices() {
+        build();
+        final List<NeeoDevice> devices = new ArrayList<>();
+        for (Document document : documents.values()) {
+            devices.add(document.device);
+        }
+        return devices;
+    }
+
+    /**
+     * Records the duration of a query
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    void recordQuery(long nanos) {
+        queries.incrementAndGet();
+        totalQueryTime.addAndGet(nanos);
+        lastQueryTime.set(nanos);
+    }
+
+    /**
+     * Returns the statistics of the index
+     *
+     * @return the non-null statistics
+     */
+    public synchronized Statistics getStatistics() {
+        int postingCount = 0;
+        for (Map<NeeoThingUID, Integer> posting : postings.values()) {
+            postingCount += posting.size();
+        }
+        final long queryCount = queries.get();
+        return new Statistics(documents.size(), postings.size(), postingCount, queryCount,
+                queryCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalQueryTime.get() / queryCount),
+                TimeUnit.NANOSECONDS.toMicros(lastQueryTime.get()));
+    }
+
+    @Override
+    public void close() {
+        context.getThingRegistry().removeRegistryChangeListener(thingListener);
+        context.getItemChannelLinkRegistry().removeRegistryChangeListener(linkListener);
+        synchronized (this) {
+            documents.clear();
+            postings.clear();
+            built = false;
+        }
+    }
+
+    /**
+     * Builds the index from all exposed devices if it hasn't been built yet
+     */
+    private void build() {
+        if (!built) {
+            final long start = System.nanoTime();
+            for (NeeoDevice device : context.getDefinitions().getExposed()) {
+                addDocument(device);
+            }
+            built = true;
+            logger.debug("Built search index with {} devices and {} tokens in {}ms", documents.size(),
+                    postings.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Tokenizes the device and adds it to the posting lists
+     *
+     * @param device the non-null device
+     */
+    private void addDocument(NeeoDevice device) {
+        final Map<String, Integer> tokens = new HashMap<>();
+        addTokens(tokens, device.getName());
+        addTokens(tokens, "openhab");
+        addTokens(tokens, device.getUid().getBindingId());
+
+        final Thing thing = context.getThingRegistry().get(device.getUid().asThingUID());
+        if (thing != null) {
+            addTokens(tokens, thing.getLocation());
+
+            final Map<@NonNull String, String> properties = thing.getProperties();
+            addTokens(tokens, properties.get(Thing.PROPERTY_VENDOR));
+
+            final ThingType tt = context.getThingTypeRegistry().getThingType(thing.getThingTypeUID());
+            if (tt != null) {
+                addTokens(tokens, tt.getLabel());
+
+                final BindingInfo bi = context.getBindingInfoRegistry().getBindingInfo(tt.getBindingId());
+                if (bi != null) {
+                    addTokens(tokens, bi.getName());
+                }
+            }
+        }
+
+        final NeeoThingUID uid = device.getUid();
+        documents.put(uid, new Document(device, tokens));
+        for (Map.Entry<String, Integer> token : tokens.entrySet()) {
+            postings.computeIfAbsent(token.getKey(), k -> new HashMap<>()).put(uid, token.getValue());
+        }
+    }
+
+    /**
+     * Removes the device from the posting lists
+     *
+     * @param uid the non-null uid
+     */
+    private void removeDocument(NeeoThingUID uid) {
+        final Document document = documents.remove(uid);
+        if (document != null) {
+            for (String token : document.tokens.keySet()) {
+                final Map<NeeoThingUID, Integer> posting = postings.get(token);
+                if (posting != null) {
+                    posting.remove(uid);
+                    if (posting.isEmpty()) {
+                        postings.remove(token);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Splits the text by the delimiter and counts the lower case tokens
+     *
+     * @param tokens the non-null token counts
+     * @param text the possibly null, possibly empty text
+     */
+    private static void addTokens(Map<String, Integer> tokens, @Nullable String text) {
+        if (text == null || StringUtils.isEmpty(text)) {
+            return;
+        }
+        for (String token : StringUtils.split(text, DELIMITER)) {
+            tokens.merge(token.toLowerCase(Locale.ROOT), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * An indexed device with its token counts
+     */
+    private static class Document {
+        private final NeeoDevice device;
+        private final Map<String, Integer> tokens;
+
+        private Document(NeeoDevice device, Map<String, Integer> tokens) {
+            this.device = device;
+            this.tokens = tokens;
+        }
+    }
+
+    /**
+     * The statistics of the index
+     *
+     * @author agent - Initial contribution
+     */
+    public static class Statistics {
+        /** The number of indexed devices */
+        private final int devices;
+
+        /** The number of distinct tokens */
+        private final int tokens;
+
+        /** The number of postings (device/token pairs) */
+        private final int postings;
+
+        /** The number of queries */
+        private final long queries;
+
+        /** The average query time in microseconds */
+        private final long averageQueryMicros;
+
+        /** The last query time in microseconds */
+        private final long lastQueryMicros;
+
+        private Statistics(int devices, int tokens, int postings, long queries, long averageQueryMicros,
+                long lastQueryMicros) {
+            this.devices = devices;
+            this.tokens = tokens;
+            this.postings = postings;
+            this.queries = queries;
+            this.averageQueryMicros = averageQueryMicros;
+            this.lastQueryMicros = lastQueryMicros;
+        }
+
+        public int getDevices() {
+            return devices;
+        }
+
+        public int getTokens() {
+            return tokens;
+        }
+
+        public int getPostings() {
+            return postings;
+        }
+
+        public long getQueries() {
+            return queries;
+        }
+
+        public long getAverageQueryMicros() {
+            return averageQueryMicros;
+        }
+
+        public long getLastQueryMicros() {
+            return lastQueryMicros;
+        }
+    }
+}
@@ -83,6 +83,7 @@ public class ThingDashboardService extends DefaultServletService {
         return paths.length >= 1 && (StringUtils.equalsIgnoreCase(paths[0], "thingstatus")
                 || StringUtils.equalsIgnoreCase(paths[0], "getchannel")
                 || StringUtils.equalsIgnoreCase(paths[0], "getvirtualdevice")
+                || StringUtils.equalsIgnoreCase(paths[0], "searchstats")
                 || StringUtils.equalsIgnoreCase(paths[0], "restoredevice")
                 || StringUtils.equalsIgnoreCase(paths[0], "refreshdevice")
                 || StringUtils.equalsIgnoreCase(paths[0], "deletedevice")
@@ -118,6 +119,8 @@ public class ThingDashboardService extends DefaultServletService {
                 final NeeoDevice device = new NeeoDevice(uid, 0, NeeoDeviceType.EXCLUDE, "NEEO Integration",
                         "New Virtual Thing", new ArrayList<>(), null, null, null, null);
                 NeeoUtil.write(resp, gson.toJson(new ReturnStatus(device)));
+            } else if (StringUtils.equalsIgnoreCase(paths[0], "searchstats")) {
+                NeeoUtil.write(resp, gson.toJson(context.getSearchIndex().getStatistics()));
             } else {
                 logger.debug("Unknown get path: {}", StringUtils.join(paths, ','));
             }
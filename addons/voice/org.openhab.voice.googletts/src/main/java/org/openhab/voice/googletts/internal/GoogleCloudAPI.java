@@ -27,10 +27,18 @@ import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.io.FilenameUtils;
 import org.eclipse.smarthome.core.audio.AudioFormat;
@@ -89,6 +97,16 @@ class GoogleCloudAPI {
      */
     private static final String SYTNHESIZE_SPEECH_URL = "https://texttospeech.googleapis.com/v1/text:synthesize";
 
+    /**
+     * Time in seconds to wait for a request of the same audio running in another thread
+     */
+    private static final long PENDING_REQUEST_TIMEOUT = 30;
+
+    /**
+     * Maximum size of the audio kept in memory
+     */
+    private static final long MAX_MEMORY_CACHE_BYTES = 16 * 1024 * 1024;
+
     /**
      * Logger
      */
@@ -118,6 +136,28 @@ class GoogleCloudAPI {
 
     private final Gson gson = new GsonBuilder().create();
 
+    /**
+     * Least recently used audio, in front of the cache folder
+     */
+    private final LinkedHashMap<String, byte[]> memoryCache = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryCacheBytes;
+
+    /**
+     * Running requests, so the same audio is never requested twice at the same time
+     */
+    private final Map<String, CompletableFuture<byte[]>> pendingRequests = new ConcurrentHashMap<>();
+
+    /**
+     * Statistics
+     */
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong mergedRequests = new AtomicLong();
+    private final AtomicLong fetches = new AtomicLong();
+    private final AtomicLong totalFetchTime = new AtomicLong();
+    private final AtomicLong maxFetchTime = new AtomicLong();
+
     /**
      * Constructor.
      *
@@ -156,6 +196,7 @@ class GoogleCloudAPI {
             if (files != null && files.length > 0) {
                 Arrays.stream(files).forEach(File::delete);
             }
+            clearMemoryCache();
             logger.debug("Cache purged.");
         }
     }
@@ -270,19 +311,72 @@ class GoogleCloudAPI {
         }
     }
 
+    /**
+     * Synthesizes a text. The audio is looked up in memory first, then in the cache folder and is only requested from
+     * Google if it is in neither of them. Concurrent requests for the same audio share one lookup.
+     *
+     * @param text Text to synthesize
+     * @param voice Voice
+     * @param codec Requested codec
+     * @return Audio data or {@code null} in case of errors
+     */
     byte[] synthesizeSpeech(String text, GoogleTTSVoice voice, String codec) {
         String[] format = getFormatForCodec(codec);
         String fileNameInCache = getUniqueFilenameForText(text, voice.getTechnicalName());
         File audioFileInCache = new File(cacheFolder, fileNameInCache + "." + format[1]);
+        String key = audioFileInCache.getName();
+        requests.incrementAndGet();
+
+        byte[] audio = getFromMemoryCache(key);
+        if (audio != null) {
+            memoryHits.incrementAndGet();
+            return audio;
+        }
+
+        CompletableFuture<byte[]> request = new CompletableFuture<>();
+        CompletableFuture<byte[]> runningRequest = pendingRequests.putIfAbsent(key, request);
+        if (runningRequest != null) {
+            mergedRequests.incrementAndGet();
+            try {
+                return runningRequest.get(PENDING_REQUEST_TIMEOUT, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (ExecutionException | TimeoutException e) {
+                logger.debug("Waiting for the running request of audio file {} failed: {}", key, e.toString());
+                return null;
+            }
+        }
+        try {
+            audio = loadAudio(text, voice, format[0], audioFileInCache);
+            if (audio != null) {
+                putToMemoryCache(key, audio);
+            }
+            return audio;
+        } finally {
+            pendingRequests.remove(key, request);
+            request.complete(audio);
+        }
+    }
+
+    private byte[] loadAudio(String text, GoogleTTSVoice voice, String audioFormat, File audioFileInCache) {
         try {
             // check if in cache
             if (audioFileInCache.exists()) {
                 logger.debug("Audio file {} was found in cache.", audioFileInCache.getName());
+                diskHits.incrementAndGet();
                 return Files.readAllBytes(audioFileInCache.toPath());
             }
 
             // if not in cache, get audio data and put to cache
-            byte[] audio = synthesizeSpeechByGoogle(text, voice, format[0]);
+            long start = System.nanoTime();
+            byte[] audio = synthesizeSpeechByGoogle(text, voice, audioFormat);
+            long fetchTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            fetches.incrementAndGet();
+            totalFetchTime.addAndGet(fetchTime);
+            maxFetchTime.accumulateAndGet(fetchTime, Math::max);
+            logger.debug("Fetched audio file {} from Google in {} ms.", audioFileInCache.getName(), fetchTime);
+
             if (audio != null) {
                 saveAudioAndTextToFile(text, audioFileInCache, audio, voice.getTechnicalName());
             }
@@ -389,6 +483,58 @@ class GoogleCloudAPI {
         }
     }
 
+    private byte[] getFromMemoryCache(String key) {
+        synchronized (memoryCache) {
+            return memoryCache.get(key);
+        }
+    }
+
+    private void putToMemoryCache(String key, byte[] audio) {
+        if (audio.length > MAX_MEMORY_CACHE_BYTES) {
+            return;
+        }
+        synchronized (memoryCache) {
+            byte[] previous = memoryCache.put(key, audio);
+            if (previous != null) {
+                memoryCacheBytes -= previous.length;
+            }
+            memoryCacheBytes += audio.length;
+
+            // evict the least recently used audio
+            Iterator<byte[]> iterator = memoryCache.values().iterator();
+            while (memoryCacheBytes > MAX_MEMORY_CACHE_BYTES && iterator.hasNext()) {
+                memoryCacheBytes -= iterator.next().length;
+                iterator.remove();
+            }
+        }
+    }
+
+    void clearMemoryCache() {
+        synchronized (memoryCache) {
+            memoryCache.clear();
+            memoryCacheBytes = 0;
+        }
+    }
+
+    /**
+     * Logs the cache hit ratios and the latency of the Google requests.
+     */
+    void logStatistics() {
+        if (!logger.isDebugEnabled()) {
+            return;
+        }
+        long requestCount = requests.get();
+        long fetchCount = fetches.get();
+        long memoryCacheSize;
+        synchronized (memoryCache) {
+            memoryCacheSize = memoryCacheBytes;
+        }
+        logger.debug("Requests: {}, memory hits: {}%, disk hits: {}%, merged: {}, fetches: {} ({} ms avg, {} ms max), "
+                + "memory cache: {} bytes", requestCount, requestCount == 0 ? 0 : memoryHits.get() * 100 / requestCount,
+                requestCount == 0 ? 0 : diskHits.get() * 100 / requestCount, mergedRequests.get(), fetchCount,
+                fetchCount == 0 ? 0 : totalFetchTime.get() / fetchCount, maxFetchTime.get(), memoryCacheSize);
+    }
+
     boolean isInitialized() {
         return initialized;
     }
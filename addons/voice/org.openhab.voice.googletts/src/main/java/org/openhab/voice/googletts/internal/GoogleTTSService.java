@@ -10,11 +10,21 @@ package org.openhab.voice.googletts.internal;
 
 import static org.openhab.voice.googletts.internal.GoogleTTSService.*;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.text.BreakIterator;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.smarthome.config.core.ConfigConstants;
 import org.eclipse.smarthome.config.core.ConfigurableService;
@@ -28,6 +38,7 @@ import org.openhab.voice.googletts.internal.protocol.AudioEncoding;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -67,6 +78,21 @@ public class GoogleTTSService implements TTSService {
      */
     private static final String CACHE_FOLDER_NAME = "cache";
 
+    /**
+     * Number of sentences requested from Google in parallel
+     */
+    private static final int SYNTHESIS_THREADS = 4;
+
+    /**
+     * Time in seconds to wait for the audio of all sentences of a text
+     */
+    private static final long SYNTHESIS_TIMEOUT = 60;
+
+    /**
+     * Size of a RIFF chunk header: chunk id and chunk size
+     */
+    private static final int CHUNK_HEADER_SIZE = 8;
+
     /**
      * Configuration parameters
      */
@@ -101,6 +127,11 @@ public class GoogleTTSService implements TTSService {
      */
     private GoogleTTSConfig config = new GoogleTTSConfig();
 
+    /**
+     * Synthesizes the sentences of a text in parallel
+     */
+    private ExecutorService executor;
+
     /**
      * DS activate, with access to ConfigAdmin
      */
@@ -115,9 +146,21 @@ public class GoogleTTSService implements TTSService {
         logger.info("Using cache folder {}", cacheFolder.getAbsolutePath());
 
         apiImpl = new GoogleCloudAPI(cacheFolder);
+        executor = Executors.newFixedThreadPool(SYNTHESIS_THREADS);
         updateConfig(config);
     }
 
+    @Deactivate
+    protected void deactivate() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        if (apiImpl != null) {
+            apiImpl.clearMemoryCache();
+        }
+    }
+
     /**
      * Initializing audio formats. Google supports 3 formats:
      * LINEAR16
@@ -302,11 +345,145 @@ public class GoogleTTSService implements TTSService {
             throw new TTSException("The passed AudioFormat is unsupported");
         }
 
-        // create the audio byte array for given text, locale, format
-        byte[] audio = apiImpl.synthesizeSpeech(trimmedText, (GoogleTTSVoice) voice, requestedFormat.getCodec());
+        ExecutorService executor = this.executor;
+        if (executor == null) {
+            throw new TTSException("The service is not active.");
+        }
+
+        // create the audio byte array, the sentences are requested in parallel and joined to one stream of known
+        // length, as most sinks only accept a FixedLengthAudioStream
+        GoogleTTSVoice googleVoice = (GoogleTTSVoice) voice;
+        String codec = requestedFormat.getCodec();
+        List<String> sentences = splitSentences(trimmedText, googleVoice.getLocale());
+        byte[] audio;
+        if (sentences.size() == 1) {
+            audio = apiImpl.synthesizeSpeech(sentences.get(0), googleVoice, codec);
+        } else {
+            List<CompletableFuture<byte[]>> segments = new ArrayList<>(sentences.size());
+            for (String sentence : sentences) {
+                segments.add(CompletableFuture.supplyAsync(
+                        () -> apiImpl.synthesizeSpeech(sentence, googleVoice, codec), executor));
+            }
+            audio = joinSegments(segments, AudioFormat.CONTAINER_WAVE.equals(requestedFormat.getContainer()));
+        }
+        apiImpl.logStatistics();
         if (audio == null) {
             throw new TTSException("Could not read from Google Cloud TTS Service");
         }
         return new ByteArrayAudioStream(audio, requestedFormat);
     }
+
+    /**
+     * Waits for the audio of all sentences and joins it. Google returns a complete WAV file for every LINEAR16
+     * sentence, only the header of the first sentence is kept and its length fields are updated. MP3 sentences are
+     * simply concatenated.
+     *
+     * @param segments The audio of the sentences in playback order
+     * @param wave true if the sentences are WAV files
+     * @return The joined audio or {@code null} if a sentence could not be synthesized
+     * @throws TTSException if the synthesis took too long or has been interrupted
+     */
+    private byte[] joinSegments(List<CompletableFuture<byte[]>> segments, boolean wave) throws TTSException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(SYNTHESIS_TIMEOUT);
+        ByteArrayOutputStream joined = new ByteArrayOutputStream();
+        int dataOffset = 0;
+        try {
+            for (CompletableFuture<byte[]> segment : segments) {
+                byte[] audio = segment.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                if (audio == null) {
+                    return null;
+                }
+                int offset = wave ? getDataOffset(audio) : 0;
+                if (joined.size() == 0) {
+                    dataOffset = offset;
+                    joined.write(audio, 0, audio.length);
+                } else {
+                    joined.write(audio, offset, audio.length - offset);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TTSException("Interrupted while waiting for Google Cloud TTS Service", e);
+        } catch (ExecutionException e) {
+            logger.debug("Synthesizing a sentence failed: {}", e.getCause().toString());
+            return null;
+        } catch (TimeoutException e) {
+            throw new TTSException("Google Cloud TTS Service did not answer within " + SYNTHESIS_TIMEOUT + " seconds");
+        } finally {
+            segments.forEach(segment -> segment.cancel(false));
+        }
+
+        byte[] audio = joined.toByteArray();
+        if (dataOffset > 0) {
+            writeInt(audio, 4, audio.length - 8);
+            writeInt(audio, dataOffset - 4, audio.length - dataOffset);
+        }
+        return audio;
+    }
+
+    /**
+     * Finds the start of the sample data in a WAV file.
+     *
+     * @param audio WAV file content
+     * @return Offset of the payload of the data chunk, 0 if the content is not a WAV file
+     */
+    static int getDataOffset(byte[] audio) {
+        if (audio.length < 12 || audio[0] != 'R' || audio[1] != 'I' || audio[2] != 'F' || audio[3] != 'F') {
+            return 0;
+        }
+        int offset = 12;
+        while (offset + CHUNK_HEADER_SIZE <= audio.length) {
+            long chunkSize = readInt(audio, offset + 4) & 0xFFFFFFFFL;
+            if (audio[offset] == 'd' && audio[offset + 1] == 'a' && audio[offset + 2] == 't'
+                    && audio[offset + 3] == 'a') {
+                return offset + CHUNK_HEADER_SIZE;
+            }
+            // chunks are word aligned
+            long next = offset + CHUNK_HEADER_SIZE + chunkSize + (chunkSize & 1);
+            if (next > audio.length) {
+                break;
+            }
+            offset = (int) next;
+        }
+        return 0;
+    }
+
+    private static int readInt(byte[] buffer, int offset) {
+        return (buffer[offset] & 0xff) | (buffer[offset + 1] & 0xff) << 8 | (buffer[offset + 2] & 0xff) << 16
+                | (buffer[offset + 3] & 0xff) << 24;
+    }
+
+    private static void writeInt(byte[] buffer, int offset, int value) {
+        buffer[offset] = (byte) value;
+        buffer[offset + 1] = (byte) (value >> 8);
+        buffer[offset + 2] = (byte) (value >> 16);
+        buffer[offset + 3] = (byte) (value >> 24);
+    }
+
+    /**
+     * Splits a text into sentences. Each sentence is synthesized and cached on its own, so sentences repeated in
+     * other texts are not requested again. SSML documents are not split.
+     *
+     * @param text The text
+     * @param locale The locale of the text
+     * @return The non-empty list of sentences
+     */
+    private List<String> splitSentences(String text, Locale locale) {
+        List<String> sentences = new ArrayList<>();
+        if (!text.startsWith("<speak>")) {
+            BreakIterator iterator = BreakIterator.getSentenceInstance(locale);
+            iterator.setText(text);
+            int start = iterator.first();
+            for (int end = iterator.next(); end != BreakIterator.DONE; start = end, end = iterator.next()) {
+                String sentence = text.substring(start, end).trim();
+                if (!sentence.isEmpty()) {
+                    sentences.add(sentence);
+                }
+            }
+        }
+        if (sentences.isEmpty()) {
+            sentences.add(text);
+        }
+        return sentences;
+    }
 }
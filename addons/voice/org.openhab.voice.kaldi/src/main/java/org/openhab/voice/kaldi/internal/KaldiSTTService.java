@@ -12,15 +12,28 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.HashSet;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 
+import org.eclipse.smarthome.config.core.ConfigurableService;
 import org.eclipse.smarthome.core.audio.AudioFormat;
 import org.eclipse.smarthome.core.audio.AudioStream;
+import org.eclipse.smarthome.core.audio.FixedLengthAudioStream;
 import org.eclipse.smarthome.core.voice.STTException;
 import org.eclipse.smarthome.core.voice.STTListener;
 import org.eclipse.smarthome.core.voice.STTService;
 import org.eclipse.smarthome.core.voice.STTServiceHandle;
+import org.osgi.framework.Constants;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import ee.ioc.phon.netspeechapi.duplex.WsDuplexRecognitionSession;
 
@@ -30,13 +43,60 @@ import ee.ioc.phon.netspeechapi.duplex.WsDuplexRecognitionSession;
  * @author Kelly Davis - Initial contribution and API
  *
  */
-@Component
+@Component(configurationPid = KaldiSTTService.SERVICE_PID, property = {
+        Constants.SERVICE_PID + "=" + KaldiSTTService.SERVICE_PID,
+        ConfigurableService.SERVICE_PROPERTY_LABEL + "=Kaldi Speech-to-Text",
+        ConfigurableService.SERVICE_PROPERTY_DESCRIPTION_URI + "=voice:" + KaldiSTTService.SERVICE_ID,
+        ConfigurableService.SERVICE_PROPERTY_CATEGORY + "=voice" })
 public class KaldiSTTService implements STTService {
 
+    /**
+     * Service id
+     */
+    static final String SERVICE_ID = "kaldi";
+
+    /**
+     * Service pid
+     */
+    static final String SERVICE_PID = "org.openhab.voice." + SERVICE_ID;
+
+    /**
+     * Default WebSocket URL to the head node of the Kaldi server cluster
+     */
+    private static final String DEFAULT_URL = "ws://52.37.26.79:8888/client/ws/speech";
+
+    /**
+     * Configuration parameters
+     */
+    private static final String PARAM_URL = "url";
+    private static final String PARAM_MAX_SESSIONS = "maxSessions";
+
+    /**
+     * Default number of recognitions running at the same time
+     */
+    private static final int DEFAULT_MAX_SESSIONS = 2;
+
+    private final Logger logger = LoggerFactory.getLogger(KaldiSTTService.class);
+
     /**
      * WebSocket URL to the head node of the Kaldi server cluster
      */
-    private static final String kaldiWebSocketURL = "ws://52.37.26.79:8888/client/ws/speech";
+    private volatile String kaldiWebSocketURL = DEFAULT_URL;
+
+    /**
+     * Runs the recognition sessions
+     */
+    private ExecutorService executor;
+
+    /**
+     * Free recognition sessions, a recognition is rejected if all sessions are busy
+     */
+    private Semaphore sessions;
+
+    /**
+     * Latency of the recognitions
+     */
+    private final RecognitionStatistics statistics = new RecognitionStatistics();
 
     /**
      * Set of supported locales
@@ -48,6 +108,52 @@ public class KaldiSTTService implements STTService {
      */
     private final HashSet<AudioFormat> audioFormats = initAudioFormats();
 
+    @Activate
+    protected void activate(Map<String, Object> config) {
+        modified(config);
+    }
+
+    @Modified
+    protected synchronized void modified(Map<String, Object> config) {
+        Object url = config == null ? null : config.get(PARAM_URL);
+        kaldiWebSocketURL = url == null || url.toString().trim().isEmpty() ? DEFAULT_URL : url.toString().trim();
+
+        int maxSessions = DEFAULT_MAX_SESSIONS;
+        Object param = config == null ? null : config.get(PARAM_MAX_SESSIONS);
+        if (param != null) {
+            try {
+                maxSessions = Math.max(1, Integer.parseInt(param.toString()));
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid value '{}' for {}, using {}", param, PARAM_MAX_SESSIONS, maxSessions);
+            }
+        }
+        if (executor != null) {
+            // running sessions are finished on the old executor
+            executor.shutdown();
+        }
+        executor = Executors.newFixedThreadPool(maxSessions);
+        sessions = new Semaphore(maxSessions);
+        logger.debug("Using Kaldi server {} with up to {} recognition sessions", kaldiWebSocketURL, maxSessions);
+    }
+
+    @Deactivate
+    protected synchronized void deactivate() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+            sessions = null;
+        }
+    }
+
+    /**
+     * Returns the latency statistics of the recognitions
+     *
+     * @return The statistics
+     */
+    public RecognitionStatistics getStatistics() {
+        return statistics;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -96,23 +202,49 @@ public class KaldiSTTService implements STTService {
         }
         // Note: Currently Kaldi doesn't use grammars. Thus grammars isn't validated
 
-        // Setup WsDuplexRecognitionSession
-        WsDuplexRecognitionSession recognitionSession;
-        try {
-            recognitionSession = new WsDuplexRecognitionSession(kaldiWebSocketURL);
-        } catch (IOException e) {
-            throw new STTException("Error connected to the server", e);
-        } catch (URISyntaxException e) {
-            throw new STTException("Invalid WebSocket URL", e);
+        // Reserve a session, queued recognitions would hold idle server connections and live audio would fall
+        // behind real time
+        ExecutorService executor;
+        Semaphore sessions;
+        synchronized (this) {
+            executor = this.executor;
+            sessions = this.sessions;
+        }
+        if (executor == null || sessions == null) {
+            throw new STTException("The Kaldi service is not active");
         }
-        // One need not call recognitionSession.setContentType(...) [See http://bit.ly/1TGvQzA]
-        recognitionSession.addRecognitionEventListener(new RecognitionEventListenerKaldi(sttListener));
+        if (!sessions.tryAcquire()) {
+            throw new STTException("All recognition sessions are busy");
+        }
+
+        STTServiceKaldiRunnable sttServiceKaldiRunnable;
+        try {
+            // Setup WsDuplexRecognitionSession
+            WsDuplexRecognitionSession recognitionSession;
+            try {
+                recognitionSession = new WsDuplexRecognitionSession(kaldiWebSocketURL);
+            } catch (IOException e) {
+                throw new STTException("Error connected to the server", e);
+            } catch (URISyntaxException e) {
+                throw new STTException("Invalid WebSocket URL", e);
+            }
+            // One need not call recognitionSession.setContentType(...) [See http://bit.ly/1TGvQzA]
+            recognitionSession.addRecognitionEventListener(new RecognitionEventListenerKaldi(sttListener));
 
-        // Start recognition
-        STTServiceKaldiRunnable sttServiceKaldiRunnable = new STTServiceKaldiRunnable(recognitionSession, sttListener,
-                audioStream);
-        Thread thread = new Thread(sttServiceKaldiRunnable);
-        thread.start();
+            // Start recognition, only live audio is sent at real time
+            boolean isLive = !(audioStream instanceof FixedLengthAudioStream);
+            // The permit is released by the runnable once the websocket is closed or failed
+            sttServiceKaldiRunnable = new STTServiceKaldiRunnable(recognitionSession, sttListener, audioStream, isLive,
+                    statistics, sessions);
+            executor.execute(sttServiceKaldiRunnable);
+        } catch (STTException | RuntimeException e) {
+            // The recognition did not start, so the session can not be closed
+            sessions.release();
+            if (e instanceof RejectedExecutionException) {
+                throw new STTException("Unable to start the recognition", e);
+            }
+            throw e;
+        }
 
         // Return STTServiceHandleKaldi
         return new STTServiceHandleKaldi(sttServiceKaldiRunnable);
@@ -154,13 +286,11 @@ public class KaldiSTTService implements STTService {
 
     @Override
     public String getId() {
-        // TODO Auto-generated method stub
-        return null;
+        return SERVICE_ID;
     }
 
     @Override
     public String getLabel(Locale locale) {
-        // TODO Auto-generated method stub
-        return null;
+        return "Kaldi";
     }
 }
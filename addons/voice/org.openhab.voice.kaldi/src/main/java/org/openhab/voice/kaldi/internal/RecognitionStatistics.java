@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.voice.kaldi.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects the latency of the recognitions of the {@link KaldiSTTService}
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class RecognitionStatistics {
+
+    private final Logger logger = LoggerFactory.getLogger(RecognitionStatistics.class);
+
+    private final AtomicLong recognitions = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+    private final AtomicLong totalResultLatency = new AtomicLong();
+
+    /**
+     * Records a finished recognition
+     *
+     * @param latency Milliseconds from the start of the recognition to the final result
+     * @param resultLatency Milliseconds from the last audio chunk sent to the final result
+     */
+    public void recordRecognition(long latency, long resultLatency) {
+        long count = recognitions.incrementAndGet();
+        totalLatency.addAndGet(latency);
+        maxLatency.accumulateAndGet(latency, Math::max);
+        totalResultLatency.addAndGet(resultLatency);
+        logger.debug("Recognition took {} ms, result {} ms after the last chunk "
+                + "(average: {} ms / {} ms, max: {} ms, recognitions: {}, failures: {})", latency, resultLatency,
+                totalLatency.get() / count, totalResultLatency.get() / count, maxLatency.get(), count, failures.get());
+    }
+
+    /**
+     * Records a recognition without result
+     */
+    public void recordFailure() {
+        failures.incrementAndGet();
+    }
+
+    public long getRecognitions() {
+        return recognitions.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    public long getAverageLatency() {
+        long count = recognitions.get();
+        return count == 0 ? 0 : totalLatency.get() / count;
+    }
+
+    public long getMaxLatency() {
+        return maxLatency.get();
+    }
+
+    public long getAverageResultLatency() {
+        long count = recognitions.get();
+        return count == 0 ? 0 : totalResultLatency.get() / count;
+    }
+}
@@ -10,6 +10,8 @@ package org.openhab.voice.kaldi.internal;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.smarthome.core.audio.AudioFormat;
 import org.eclipse.smarthome.core.audio.AudioStream;
@@ -24,6 +26,9 @@ import ee.ioc.phon.netspeechapi.duplex.WsDuplexRecognitionSession;
 /**
  * A Runnable that sends AudioStream data in a WsDuplexRecognitionSession
  *
+ * Live audio is sent at real time in quarter second chunks. Pre-recorded audio is sent as fast as the connection
+ * allows, as there is no point in waiting for audio that is already there.
+ *
  * @author Kelly Davis - Initial contribution and API
  *
  */
@@ -54,20 +59,62 @@ public class STTServiceKaldiRunnable implements Runnable, RecognitionEventListen
      */
     private final WsDuplexRecognitionSession recognitionSession;
 
+    /**
+     * Boolean indicating if the audio data is sent at real time
+     */
+    private final boolean isPaced;
+
+    /**
+     * The statistics the latency of this recognition is recorded in
+     */
+    private final RecognitionStatistics statistics;
+
+    /**
+     * Time the recognition was requested
+     */
+    private final long startTime;
+
+    /**
+     * Time the last audio chunk was sent, 0 if not yet sent
+     */
+    private volatile long lastChunkTime;
+
+    /**
+     * Time the last final result was received, 0 if none was received
+     */
+    private volatile long lastResultTime;
+
+    /**
+     * The recognition sessions a permit was acquired from for this recognition
+     */
+    private final Semaphore sessions;
+
+    /**
+     * Boolean indicating if the permit was already returned to the recognition sessions
+     */
+    private final AtomicBoolean isSessionReleased = new AtomicBoolean();
+
     /**
      * Constructs an instance targeting the passed WsDuplexRecognitionSession
      *
      * @param recognitionSession The WsDuplexRecognitionSession sesion
      * @param sttListener The STTListener targeted for STTEvents
      * @param audioStream The AudioSource data
+     * @param isPaced true to send the audio data at real time, false to send it as fast as possible
+     * @param statistics The statistics the latency is recorded in
+     * @param sessions The recognition sessions to release the acquired permit to when the session is closed
      */
     public STTServiceKaldiRunnable(WsDuplexRecognitionSession recognitionSession, STTListener sttListener,
-            AudioStream audioStream) {
+            AudioStream audioStream, boolean isPaced, RecognitionStatistics statistics, Semaphore sessions) {
         this.isClosed = false;
         this.isAborting = false;
         this.audioStream = audioStream;
         this.sttListener = sttListener;
         this.recognitionSession = recognitionSession;
+        this.isPaced = isPaced;
+        this.statistics = statistics;
+        this.startTime = System.currentTimeMillis();
+        this.sessions = sessions;
 
         this.recognitionSession.addRecognitionEventListener(this);
     }
@@ -90,11 +137,11 @@ public class STTServiceKaldiRunnable implements Runnable, RecognitionEventListen
             boolean sentLastChunk = false;
             while (!this.isAborting && !this.isClosed) {
                 long millisWithinChunkSecond = System.currentTimeMillis() % (1000 / chunkRate);
-                int size = audioStream.read(buffer);
+                int size = this.isPaced ? audioStream.read(buffer) : readFully(buffer);
                 if (size < 0) {
                     sentLastChunk = true;
                     byte buffer2[] = new byte[0];
-                    this.recognitionSession.sendChunk(buffer2, true);
+                    sendLastChunk(buffer2);
                     break;
                 }
                 if (size == (byteRate / chunkRate)) {
@@ -102,19 +149,23 @@ public class STTServiceKaldiRunnable implements Runnable, RecognitionEventListen
                 } else {
                     sentLastChunk = true;
                     byte buffer2[] = Arrays.copyOf(buffer, size);
-                    this.recognitionSession.sendChunk(buffer2, true);
+                    sendLastChunk(buffer2);
                     break;
                 }
-                Thread.sleep(1000 / chunkRate - millisWithinChunkSecond);
+                if (this.isPaced) {
+                    Thread.sleep(1000 / chunkRate - millisWithinChunkSecond);
+                }
             }
 
             if (this.isAborting && !this.isClosed && !sentLastChunk) {
                 byte buffer2[] = new byte[0];
-                this.recognitionSession.sendChunk(buffer2, true);
+                sendLastChunk(buffer2);
             }
         } catch (IOException e) {
+            releaseSession();
             sttListener.sttEventReceived(new SpeechRecognitionErrorEvent("Unable to send audio data to the server"));
         } catch (InterruptedException e) {
+            releaseSession();
             sttListener.sttEventReceived(
                     new SpeechRecognitionErrorEvent("Unable to send data to the server at the proper rate"));
         } catch (RuntimeException e) {
@@ -134,9 +185,48 @@ public class STTServiceKaldiRunnable implements Runnable, RecognitionEventListen
             // This temporary, but working, solution is to catch a RuntimeException
             // here and assume that it results from sendChunk() being called on a
             // closed session then proceede as if onClose() was called.
+            releaseSession();
         }
     }
 
+    /**
+     * Returns the permit of this recognition to the recognition sessions, only the first call has an effect
+     */
+    private void releaseSession() {
+        if (this.isSessionReleased.compareAndSet(false, true)) {
+            this.sessions.release();
+        }
+    }
+
+    /**
+     * Reads the passed buffer full, unless the end of the AudioStream is reached
+     *
+     * @param buffer The buffer to fill
+     * @return The number of bytes read or -1 if the end of the AudioStream was reached before any data was read
+     * @throws IOException If reading the AudioStream failed
+     */
+    private int readFully(byte[] buffer) throws IOException {
+        int size = 0;
+        while (size < buffer.length) {
+            int read = audioStream.read(buffer, size, buffer.length - size);
+            if (read < 0) {
+                return size == 0 ? -1 : size;
+            }
+            size += read;
+        }
+        return size;
+    }
+
+    /**
+     * Sends the last chunk of audio data in the WsDuplexRecognitionSession
+     *
+     * @param buffer The audio data
+     */
+    private void sendLastChunk(byte[] buffer) {
+        this.lastChunkTime = System.currentTimeMillis();
+        this.recognitionSession.sendChunk(buffer, true);
+    }
+
     /**
      * This method initiates the process of aborting this thread
      */
@@ -149,7 +239,10 @@ public class STTServiceKaldiRunnable implements Runnable, RecognitionEventListen
      */
     @Override
     public void onRecognitionEvent(RecognitionEvent recognitionEvent) {
-        // RecognitionEvent are ignored
+        // RecognitionEvent are only used for the statistics
+        if (recognitionEvent.getStatus() == RecognitionEvent.STATUS_SUCCESS && recognitionEvent.getResult().isFinal()) {
+            this.lastResultTime = System.currentTimeMillis();
+        }
     }
 
     /**
@@ -158,5 +251,14 @@ public class STTServiceKaldiRunnable implements Runnable, RecognitionEventListen
     @Override
     public void onClose() {
         this.isClosed = true;
+        releaseSession();
+        long resultTime = this.lastResultTime;
+        if (resultTime > 0) {
+            long chunkTime = this.lastChunkTime;
+            this.statistics.recordRecognition(resultTime - this.startTime,
+                    chunkTime > 0 ? Math.max(0, resultTime - chunkTime) : 0);
+        } else {
+            this.statistics.recordFailure();
+        }
     }
 }
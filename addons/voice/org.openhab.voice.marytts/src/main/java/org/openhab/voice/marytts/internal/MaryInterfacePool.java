@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.voice.marytts.internal;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.smarthome.core.voice.Voice;
+
+import marytts.LocalMaryInterface;
+import marytts.MaryInterface;
+import marytts.exceptions.MaryConfigurationException;
+
+/**
+ * Pool of {@link MaryInterface} instances per voice. Every instance is configured for its voice once, so
+ * syntheses for different voices (or several for the same voice) can run at the same time.
+ *
+ * @author agent - Initial contribution
+ */
+class MaryInterfacePool {
+
+    private final int maxInstancesPerVoice;
+
+    private final Map<String, BlockingQueue<MaryInterface>> idleInstances = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> instanceCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a pool
+     *
+     * @param maxInstancesPerVoice The maximum number of instances created for a single voice
+     */
+    MaryInterfacePool(int maxInstancesPerVoice) {
+        this.maxInstancesPerVoice = maxInstancesPerVoice;
+    }
+
+    /**
+     * Takes an instance configured for the voice from the pool. A new instance is created if all are in use and the
+     * maximum isn't reached, otherwise the call waits for an instance to be returned.
+     *
+     * @param voice The voice
+     * @return An instance configured for the voice
+     * @throws MaryConfigurationException If a new instance can't be created
+     * @throws InterruptedException If interrupted while waiting
+     */
+    MaryInterface acquire(Voice voice) throws MaryConfigurationException, InterruptedException {
+        BlockingQueue<MaryInterface> idle = idleInstances.computeIfAbsent(voice.getLabel(),
+                label -> new LinkedBlockingQueue<>());
+        MaryInterface marytts = idle.poll();
+        if (marytts != null) {
+            return marytts;
+        }
+
+        AtomicInteger count = instanceCounts.computeIfAbsent(voice.getLabel(), label -> new AtomicInteger());
+        if (count.incrementAndGet() <= maxInstancesPerVoice) {
+            try {
+                marytts = new LocalMaryInterface();
+                marytts.setLocale(voice.getLocale());
+                marytts.setVoice(voice.getLabel());
+                return marytts;
+            } catch (MaryConfigurationException | RuntimeException e) {
+                count.decrementAndGet();
+                throw e;
+            }
+        }
+        count.decrementAndGet();
+        return idle.take();
+    }
+
+    /**
+     * Returns an instance to the pool
+     *
+     * @param voice The voice the instance was acquired for
+     * @param marytts The instance
+     */
+    void release(Voice voice, MaryInterface marytts) {
+        idleInstances.computeIfAbsent(voice.getLabel(), label -> new LinkedBlockingQueue<>()).offer(marytts);
+    }
+
+    void clear() {
+        idleInstances.clear();
+        instanceCounts.clear();
+    }
+}
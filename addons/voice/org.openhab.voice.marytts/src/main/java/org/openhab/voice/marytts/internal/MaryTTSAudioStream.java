@@ -13,8 +13,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.SequenceInputStream;
 
-import javax.sound.sampled.AudioInputStream;
-
 import org.apache.commons.io.IOUtils;
 import org.eclipse.smarthome.core.audio.AudioException;
 import org.eclipse.smarthome.core.audio.AudioFormat;
@@ -45,15 +43,15 @@ class MaryTTSAudioStream extends FixedLengthAudioStream {
     /**
      * Constructs an instance with the passed properties
      *
-     * @param inputStream The InputStream of this instance
+     * @param rawAudio The synthesized raw audio data of this instance
      * @param audioFormat The AudioFormat of this instance
-     * @throws IOException
      */
-    public MaryTTSAudioStream(AudioInputStream inputStream, AudioFormat audioFormat) throws IOException {
-        rawAudio = IOUtils.toByteArray(inputStream);
+    public MaryTTSAudioStream(byte[] rawAudio, AudioFormat audioFormat) {
+        this.rawAudio = rawAudio;
         this.length = rawAudio.length + 36;
-        this.inputStream = new SequenceInputStream(getWavHeaderInputStream(length), new ByteArrayInputStream(rawAudio));
         this.audioFormat = audioFormat;
+        this.inputStream = new SequenceInputStream(getWavHeaderInputStream(audioFormat, length),
+                new ByteArrayInputStream(rawAudio));
     }
 
     @Override
@@ -81,7 +79,14 @@ class MaryTTSAudioStream extends FixedLengthAudioStream {
         return length;
     }
 
-    private InputStream getWavHeaderInputStream(int length) throws IOException {
+    /**
+     * Creates the WAVE header for raw audio data
+     *
+     * @param audioFormat The AudioFormat of the data
+     * @param length The length of the data plus 36 bytes
+     * @return The header
+     */
+    static InputStream getWavHeaderInputStream(AudioFormat audioFormat, long length) {
         // WAVE header
         // see http://www-mmsp.ece.mcgill.ca/Documents/AudioFormats/WAVE/WAVE.html
         byte[] header = new byte[44];
@@ -89,7 +94,7 @@ class MaryTTSAudioStream extends FixedLengthAudioStream {
         byte format = 0x10; // PCM
         byte bits = 16;
         byte channel = 1;
-        long srate = (this.audioFormat != null) ? this.audioFormat.getFrequency() : 48000l;
+        long srate = (audioFormat != null) ? audioFormat.getFrequency() : 48000l;
         long rawLength = length - 36;
         long bitrate = srate * channel * bits;
 
@@ -143,15 +148,12 @@ class MaryTTSAudioStream extends FixedLengthAudioStream {
     @Override
     public synchronized void reset() throws IOException {
         IOUtils.closeQuietly(inputStream);
-        this.inputStream = new SequenceInputStream(getWavHeaderInputStream(length), new ByteArrayInputStream(rawAudio));
+        this.inputStream = new SequenceInputStream(getWavHeaderInputStream(audioFormat, length),
+                new ByteArrayInputStream(rawAudio));
     }
 
     @Override
     public InputStream getClonedStream() throws AudioException {
-        try {
-            return new SequenceInputStream(getWavHeaderInputStream(length), new ByteArrayInputStream(rawAudio));
-        } catch (IOException e) {
-            throw new AudioException(e);
-        }
+        return new SequenceInputStream(getWavHeaderInputStream(audioFormat, length), new ByteArrayInputStream(rawAudio));
     }
 }
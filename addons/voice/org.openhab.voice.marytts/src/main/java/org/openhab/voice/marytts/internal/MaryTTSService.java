@@ -10,11 +10,27 @@ package org.openhab.voice.marytts.internal;
 
 import static javax.sound.sampled.AudioSystem.NOT_SPECIFIED;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.text.BreakIterator;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import javax.sound.sampled.AudioInputStream;
+
+import org.apache.commons.io.IOUtils;
 import org.eclipse.smarthome.core.audio.AudioFormat;
 import org.eclipse.smarthome.core.audio.AudioStream;
 import org.eclipse.smarthome.core.voice.TTSException;
@@ -40,8 +56,39 @@ public class MaryTTSService implements TTSService {
 
     private final Logger logger = LoggerFactory.getLogger(MaryTTSService.class);
 
+    /**
+     * Maximum number of MaryTTS instances synthesizing for the same voice at the same time
+     */
+    private static final int MAX_INSTANCES_PER_VOICE = 2;
+
+    /**
+     * Number of threads synthesizing the sentences of a text in parallel
+     */
+    private static final int SYNTHESIS_THREADS = 4;
+
+    /**
+     * Limits of the cache of recently synthesized texts
+     */
+    private static final int MAX_CACHE_ENTRIES = 50;
+    private static final long MAX_CACHE_BYTES = 16 * 1024 * 1024;
+
     private MaryInterface marytts;
 
+    private final MaryInterfacePool pool = new MaryInterfacePool(MAX_INSTANCES_PER_VOICE);
+
+    private ExecutorService executor;
+
+    /**
+     * Raw audio of recently synthesized texts, in access order
+     */
+    private final LinkedHashMap<String, byte[]> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long cacheBytes;
+
+    private final AtomicLong syntheses = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong totalSynthesisTime = new AtomicLong();
+    private final AtomicLong maxSynthesisTime = new AtomicLong();
+
     /**
      * Set of supported voices
      */
@@ -53,6 +100,7 @@ public class MaryTTSService implements TTSService {
     private Set<AudioFormat> audioFormats;
 
     protected void activate() {
+        executor = Executors.newFixedThreadPool(SYNTHESIS_THREADS);
         try {
             marytts = new LocalMaryInterface();
             voices = initVoices();
@@ -62,6 +110,18 @@ public class MaryTTSService implements TTSService {
         }
     }
 
+    protected void deactivate() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        pool.clear();
+        synchronized (cache) {
+            cache.clear();
+            cacheBytes = 0;
+        }
+    }
+
     @Override
     public Set<org.eclipse.smarthome.core.voice.Voice> getAvailableVoices() {
         return voices;
@@ -75,6 +135,11 @@ public class MaryTTSService implements TTSService {
     @Override
     public AudioStream synthesize(String text, org.eclipse.smarthome.core.voice.Voice voice,
             AudioFormat requestedFormat) throws TTSException {
+        ExecutorService executor = this.executor;
+        if (executor == null || voices == null || audioFormats == null) {
+            throw new TTSException("MaryTTS is not initialized");
+        }
+
         // Validate arguments
         if (text == null || text.isEmpty()) {
             throw new TTSException("The passed text is null or empty");
@@ -110,18 +175,154 @@ public class MaryTTSService implements TTSService {
         Voice maryTTSVoice = Voice.getVoice(voice.getLabel());
         AudioFormat maryTTSVoiceAudioFormat = getAudioFormat(maryTTSVoice.dbAudioFormat());
 
-        // Synchronize on marytts
-        synchronized (marytts) {
-            // Set voice (Each voice supports only a single AudioFormat)
-            marytts.setLocale(voice.getLocale());
-            marytts.setVoice(voice.getLabel());
+        long start = System.nanoTime();
+        String cacheKey = voice.getUID() + ":" + text;
+        byte[] cachedAudio = getCachedAudio(cacheKey);
+        if (cachedAudio != null) {
+            cacheHits.incrementAndGet();
+            recordSynthesisTime(start);
+            return new MaryTTSAudioStream(cachedAudio, maryTTSVoiceAudioFormat);
+        }
 
-            try {
-                return new MaryTTSAudioStream(marytts.generateAudio(text), maryTTSVoiceAudioFormat);
-            } catch (SynthesisException | IOException e) {
-                throw new TTSException("Error generating an AudioStream", e);
+        // Synthesize the sentences in parallel and join them, sinks need the total length of the stream
+        List<String> sentences = splitSentences(text, voice.getLocale());
+        byte[] audio;
+        if (sentences.size() == 1) {
+            audio = generateAudio(sentences.get(0), voice);
+        } else {
+            List<CompletableFuture<byte[]>> segments = new ArrayList<>(sentences.size());
+            for (String sentence : sentences) {
+                segments.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return generateAudio(sentence, voice);
+                    } catch (TTSException e) {
+                        throw new CompletionException(e);
+                    }
+                }, executor));
             }
+            audio = joinSegments(segments);
         }
+        putCachedAudio(cacheKey, audio);
+        recordSynthesisTime(start);
+        return new MaryTTSAudioStream(audio, maryTTSVoiceAudioFormat);
+    }
+
+    /**
+     * Waits for the synthesis of all sentences and concatenates their raw audio
+     *
+     * @param segments The synthesis of the sentences, in playback order
+     * @return The raw audio of the text
+     * @throws TTSException If the synthesis of a sentence failed
+     */
+    private byte[] joinSegments(List<CompletableFuture<byte[]>> segments) throws TTSException {
+        ByteArrayOutputStream audio = new ByteArrayOutputStream();
+        try {
+            for (CompletableFuture<byte[]> segment : segments) {
+                byte[] segmentAudio = segment.get();
+                audio.write(segmentAudio, 0, segmentAudio.length);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TTSException("Interrupted while waiting for MaryTTS", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof TTSException) {
+                throw (TTSException) cause;
+            }
+            throw new TTSException("Error generating an AudioStream", cause);
+        } finally {
+            segments.forEach(segment -> segment.cancel(false));
+        }
+        return audio.toByteArray();
+    }
+
+    /**
+     * Synthesizes a text with a pooled MaryTTS instance
+     *
+     * @param text The text
+     * @param voice The voice
+     * @return The raw audio data
+     * @throws TTSException If the synthesis failed
+     */
+    private byte[] generateAudio(String text, org.eclipse.smarthome.core.voice.Voice voice) throws TTSException {
+        MaryInterface instance;
+        try {
+            instance = pool.acquire(voice);
+        } catch (MaryConfigurationException e) {
+            throw new TTSException("Error initializing MaryTTS for the voice " + voice.getLabel(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TTSException("Interrupted while waiting for MaryTTS", e);
+        }
+
+        try (AudioInputStream audio = instance.generateAudio(text)) {
+            return IOUtils.toByteArray(audio);
+        } catch (SynthesisException | IOException e) {
+            throw new TTSException("Error generating an AudioStream", e);
+        } finally {
+            pool.release(voice, instance);
+        }
+    }
+
+    /**
+     * Splits a text into sentences
+     *
+     * @param text The text
+     * @param locale The locale of the text
+     * @return The non-empty list of sentences
+     */
+    private List<String> splitSentences(String text, Locale locale) {
+        List<String> sentences = new ArrayList<>();
+        BreakIterator iterator = BreakIterator.getSentenceInstance(locale);
+        iterator.setText(text);
+        int start = iterator.first();
+        for (int end = iterator.next(); end != BreakIterator.DONE; start = end, end = iterator.next()) {
+            String sentence = text.substring(start, end).trim();
+            if (!sentence.isEmpty()) {
+                sentences.add(sentence);
+            }
+        }
+        if (sentences.isEmpty()) {
+            sentences.add(text);
+        }
+        return sentences;
+    }
+
+    private byte[] getCachedAudio(String key) {
+        synchronized (cache) {
+            return cache.get(key);
+        }
+    }
+
+    private void putCachedAudio(String key, byte[] audio) {
+        if (audio.length > MAX_CACHE_BYTES) {
+            return;
+        }
+        synchronized (cache) {
+            byte[] previous = cache.put(key, audio);
+            if (previous != null) {
+                cacheBytes -= previous.length;
+            }
+            cacheBytes += audio.length;
+
+            Iterator<byte[]> iterator = cache.values().iterator();
+            while ((cacheBytes > MAX_CACHE_BYTES || cache.size() > MAX_CACHE_ENTRIES) && iterator.hasNext()) {
+                cacheBytes -= iterator.next().length;
+                iterator.remove();
+            }
+        }
+    }
+
+    private void recordSynthesisTime(long start) {
+        long synthesisTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long count = syntheses.incrementAndGet();
+        totalSynthesisTime.addAndGet(synthesisTime);
+        maxSynthesisTime.accumulateAndGet(synthesisTime, Math::max);
+        logger.debug("Synthesis time: {} ms (average: {} ms, max: {} ms, cache hits: {} of {})", synthesisTime,
+                totalSynthesisTime.get() / count, maxSynthesisTime.get(), cacheHits.get(), count);
     }
 
     /**
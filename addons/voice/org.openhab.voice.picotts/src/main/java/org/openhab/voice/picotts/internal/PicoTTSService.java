@@ -21,6 +21,7 @@ import org.eclipse.smarthome.core.voice.TTSException;
 import org.eclipse.smarthome.core.voice.TTSService;
 import org.eclipse.smarthome.core.voice.Voice;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 
 /**
  * @author Florian Schmidt - Initial Contribution
@@ -35,6 +36,13 @@ public class PicoTTSService implements TTSService {
     private final Set<AudioFormat> audioFormats = Collections.singleton(
             new AudioFormat(AudioFormat.CONTAINER_WAVE, AudioFormat.CODEC_PCM_SIGNED, false, 16, null, 16000L));
 
+    private final PicoTTSSynthesizer synthesizer = new PicoTTSSynthesizer();
+
+    @Deactivate
+    protected void deactivate() {
+        synthesizer.clear();
+    }
+
     @Override
     public Set<Voice> getAvailableVoices() {
         return this.voices;
@@ -64,7 +72,7 @@ public class PicoTTSService implements TTSService {
         }
 
         try {
-            return new PicoTTSAudioStream(text, voice, requestedFormat);
+            return new PicoTTSAudioStream(synthesizer.synthesize(text, voice), requestedFormat);
         } catch (AudioException e) {
             throw new TTSException(e);
         }
@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2010-2019 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.voice.picotts.internal;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.smarthome.core.audio.AudioException;
+import org.eclipse.smarthome.core.voice.Voice;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs pico2wave for the {@link PicoTTSService}. The rendered audio is cached by a hash of voice and text, the cache is
+ * bounded in size and evicts the least recently used audio first. The number of concurrent pico2wave processes is
+ * limited and the file written by pico2wave is read and deleted right after the process ends.
+ *
+ * @author agent - Initial contribution
+ */
+class PicoTTSSynthesizer {
+    private static final int MAX_CONCURRENT_PROCESSES = 2;
+    private static final long MAX_CACHE_BYTES = 8 * 1024 * 1024;
+    private static final long PROCESS_TIMEOUT = 30;
+
+    private final Logger logger = LoggerFactory.getLogger(PicoTTSSynthesizer.class);
+
+    private final Semaphore processes = new Semaphore(MAX_CONCURRENT_PROCESSES, true);
+
+    private final LinkedHashMap<String, byte[]> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long cacheBytes;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong syntheses = new AtomicLong();
+    private final AtomicLong totalSynthesisTime = new AtomicLong();
+    private final AtomicLong maxSynthesisTime = new AtomicLong();
+
+    /**
+     * Returns the WAVE audio of the text, from the cache or rendered by pico2wave
+     *
+     * @param text The text to speak
+     * @param voice The voice
+     * @return The audio data including the WAVE header
+     * @throws AudioException If pico2wave failed
+     */
+    public byte[] synthesize(String text, Voice voice) throws AudioException {
+        requests.incrementAndGet();
+        String key = getCacheKey(text, voice);
+
+        byte[] audio;
+        synchronized (cache) {
+            audio = cache.get(key);
+        }
+        if (audio != null) {
+            cacheHits.incrementAndGet();
+            logStatistics();
+            return audio;
+        }
+
+        long start = System.nanoTime();
+        audio = render(text, voice);
+        long synthesisTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        syntheses.incrementAndGet();
+        totalSynthesisTime.addAndGet(synthesisTime);
+        maxSynthesisTime.accumulateAndGet(synthesisTime, Math::max);
+
+        putCache(key, audio);
+        logStatistics();
+        return audio;
+    }
+
+    private byte[] render(String text, Voice voice) throws AudioException {
+        try {
+            processes.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AudioException("Interrupted while waiting for pico2wave", e);
+        }
+
+        Path outputFile = null;
+        Path messageFile = null;
+        try {
+            // pico2wave only writes to files with a .wav extension
+            outputFile = Files.createTempFile("picotts", ".wav");
+            // the console output goes to a file, so waiting for the process is not blocked by reading it
+            messageFile = Files.createTempFile("picotts", ".log");
+            String[] command = new String[] { "pico2wave", "-l=" + voice.getLabel(), "-w=" + outputFile, text };
+
+            Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                    .redirectOutput(messageFile.toFile()).start();
+            if (!process.waitFor(PROCESS_TIMEOUT, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new AudioException("pico2wave did not finish within " + PROCESS_TIMEOUT + " seconds");
+            }
+            String message = new String(Files.readAllBytes(messageFile), StandardCharsets.UTF_8);
+            if (!message.isEmpty()) {
+                logger.debug("pico2wave: {}", message.trim());
+            }
+            if (process.exitValue() != 0) {
+                throw new AudioException("pico2wave failed with exit value " + process.exitValue());
+            }
+            return Files.readAllBytes(outputFile);
+        } catch (IOException e) {
+            throw new AudioException("Error while executing pico2wave", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AudioException("pico2wave has been interrupted", e);
+        } finally {
+            processes.release();
+            deleteTempFile(outputFile);
+            deleteTempFile(messageFile);
+        }
+    }
+
+    private void deleteTempFile(Path file) {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.debug("Unable to delete temporary file {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private void putCache(String key, byte[] audio) {
+        if (audio.length > MAX_CACHE_BYTES) {
+            return;
+        }
+        synchronized (cache) {
+            byte[] previous = cache.put(key, audio);
+            if (previous != null) {
+                cacheBytes -= previous.length;
+            }
+            cacheBytes += audio.length;
+
+            Iterator<byte[]> iterator = cache.values().iterator();
+            while (cacheBytes > MAX_CACHE_BYTES && iterator.hasNext()) {
+                cacheBytes -= iterator.next().length;
+                iterator.remove();
+            }
+        }
+    }
+
+    private String getCacheKey(String text, Voice voice) {
+        String content = voice.getLabel() + '\n' + text;
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder key = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                key.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return content;
+        }
+    }
+
+    private void logStatistics() {
+        long count = syntheses.get();
+        logger.debug("Cache hits: {} of {} requests, pico2wave runs: {}, synthesis time average: {} ms, max: {} ms",
+                cacheHits.get(), requests.get(), count, count == 0 ? 0 : totalSynthesisTime.get() / count,
+                maxSynthesisTime.get());
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+            cacheBytes = 0;
+        }
+    }
+}